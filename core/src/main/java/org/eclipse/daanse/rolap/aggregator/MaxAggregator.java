@@ -31,6 +31,9 @@ public class MaxAggregator extends AbstractAggregator {
 
     @Override
     public Object aggregate( Evaluator evaluator, TupleList members, Calc<?> exp ) {
+      if ( PredicateAggregation.canAggregate( evaluator, members, exp, this ) ) {
+        return PredicateAggregation.aggregate( evaluator, members );
+      }
       return FunUtil.max( evaluator, members, exp );
     }
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.aggregator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.aggregator.Aggregator;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueUnknownCalc;
+import org.eclipse.daanse.olap.common.SystemWideProperties;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluatorRoot;
+import org.eclipse.daanse.rolap.element.RolapLevel;
+import org.eclipse.daanse.rolap.element.RolapStoredMeasure;
+
+/**
+ * Aggregates the current measure over a set of tuples with a single cell
+ * request, whose predicate restricts the fact table to the tuples, rather
+ * than with a cell request per tuple.
+ *
+ * The database then computes one aggregate over the facts of all tuples,
+ * which equals the rollup of the tuples' values only if the measure's
+ * aggregator is additive under the rollup, and if no fact belongs to two
+ * tuples. The tuples must therefore be distinct, and the members at each
+ * position must be stored members of the same level of a hierarchy that is
+ * not parent-child.
+ *
+ * The predicate lists the members, so sets with more members than
+ * {@code MaxConstraints}, which bounds the lists of members in SQL, are
+ * aggregated cell by cell.
+ */
+final class PredicateAggregation {
+
+    /**
+     * Key of the last {@link Disjointness} in the expression result cache.
+     */
+    private static final String LAST_DISJOINT_KEY =
+        PredicateAggregation.class.getName() + ".lastDisjoint";
+
+    private PredicateAggregation() {
+    }
+
+    /**
+     * Returns whether the values of a set of tuples may be rolled up in SQL.
+     *
+     * @param evaluator Evaluator
+     * @param members   Tuples to roll up
+     * @param calc      Expression that is rolled up
+     * @param rollup    Aggregator that rolls up the values
+     * @return whether {@link #aggregate} may be called
+     */
+    static boolean canAggregate(
+        Evaluator evaluator, TupleList members, Calc<?> calc, Aggregator rollup)
+    {
+        if (!(evaluator instanceof RolapEvaluator rolapEvaluator)
+            || !(calc instanceof CurrentValueUnknownCalc))
+        {
+            return false;
+        }
+        if (!rolapEvaluator.getCatalogReader().getContext().getConfigValue(
+                RolapConfigConstants.ENABLE_NATIVE_AGGREGATE,
+                RolapConfigConstants.ENABLE_NATIVE_AGGREGATE_DEFAULT_VALUE,
+                Boolean.class))
+        {
+            return false;
+        }
+        int threshold = rolapEvaluator.getCatalogReader().getContext().getConfigValue(
+            RolapConfigConstants.NATIVE_AGGREGATE_THRESHOLD,
+            RolapConfigConstants.NATIVE_AGGREGATE_THRESHOLD_DEFAULT_VALUE,
+            Integer.class);
+        if (members.size() < threshold || members.size() < 2
+            || members.size() > SystemWideProperties.instance().MaxConstraints)
+        {
+            return false;
+        }
+        if (!(evaluator.getMembers()[0] instanceof RolapStoredMeasure measure)
+            || !isAdditive(measure.getAggregator(), rollup))
+        {
+            return false;
+        }
+        // The same set is usually aggregated for many cells of a query, so
+        // the last set checked is remembered. Only that one is kept, so that
+        // sets built for a single cell do not pile up in the expression
+        // result cache until the query ends.
+        final RolapEvaluatorRoot root = rolapEvaluator.getRoot();
+        if (root.getCacheResult(LAST_DISJOINT_KEY) instanceof Disjointness last
+            && last.members() == members)
+        {
+            return last.disjoint();
+        }
+        final boolean disjoint = isDisjoint(members);
+        root.putCacheResult(
+            LAST_DISJOINT_KEY, new Disjointness(members, disjoint), true);
+        return disjoint;
+    }
+
+    /**
+     * Rolls up the current measure over a set of tuples in SQL.
+     *
+     * @param evaluator Evaluator
+     * @param members   Tuples to roll up
+     * @return Value of the current measure over all tuples
+     */
+    static Object aggregate(Evaluator evaluator, TupleList members) {
+        final Evaluator eval = evaluator.pushAggregation(members);
+        eval.setNonEmpty(false);
+        return eval.evaluateCurrent();
+    }
+
+    /**
+     * Returns whether aggregating the facts of several tuples with the
+     * measure's aggregator gives the rollup of the tuples' values.
+     * Distinct counts, averages and custom aggregators are not additive.
+     */
+    static boolean isAdditive(
+        Aggregator measureAggregator, Aggregator rollup)
+    {
+        if (rollup instanceof SumAggregator) {
+            return measureAggregator.getClass() == SumAggregator.class
+                || measureAggregator.getClass() == CountAggregator.class;
+        }
+        if (rollup instanceof MinAggregator || rollup instanceof MaxAggregator) {
+            return measureAggregator.getClass() == rollup.getClass();
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether no fact belongs to two of the tuples.
+     */
+    static boolean isDisjoint(TupleList members) {
+        final int arity = members.getArity();
+        final Level[] levels = new Level[arity];
+        final Set<List<Member>> seen = new HashSet<>();
+        for (List<Member> tuple : members) {
+            for (int i = 0; i < arity; i++) {
+                Member member = tuple.get(i);
+                if (member.isCalculated()
+                    || member.isNull()
+                    || !(member.getLevel() instanceof RolapLevel level)
+                    || level.isParentChild())
+                {
+                    return false;
+                }
+                if (levels[i] == null) {
+                    levels[i] = level;
+                } else if (!levels[i].equals(level)) {
+                    return false;
+                }
+            }
+            if (!seen.add(tuple)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Result of {@link #isDisjoint} for the last set checked in a query. The
+     * set is compared by identity, which is cheaper than comparing tuples.
+     */
+    private record Disjointness(TupleList members, boolean disjoint) {
+    }
+}
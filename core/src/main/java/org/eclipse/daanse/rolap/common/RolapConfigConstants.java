@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common;
+
+/**
+ * Configuration keys that are specific to the ROLAP engine. They are read
+ * through {@code Context#getConfigValue} just like the keys in
+ * {@link org.eclipse.daanse.olap.common.ConfigConstants}.
+ */
+public class RolapConfigConstants {
+
+    private RolapConfigConstants() {
+    }
+
+    /**
+     * Number of actor threads the segment cache manager partitions its
+     * indexes over. Each star is owned by one shard. The default of 1 keeps
+     * a single actor thread for all stars.
+     */
+    public static final String SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS = "segmentCacheManagerNumberActorShards";
+    public static final Integer SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS_DEFAULT_VALUE = 1;
+
+    /**
+     * Whether the segment loader fills the datasets of the measures of a
+     * query in parallel, one fork-join task per measure, once the rows have
+     * been read from JDBC.
+     */
+    public static final String ENABLE_PARALLEL_SEGMENT_POPULATION = "enableParallelSegmentPopulation";
+    public static final Boolean ENABLE_PARALLEL_SEGMENT_POPULATION_DEFAULT_VALUE = false;
+
+    /**
+     * Whether the segment loader reads the JDBC result of a segment query on
+     * a separate virtual thread, in chunks of {@link #SEGMENT_LOAD_CHUNK_SIZE}
+     * rows and {@link #SEGMENT_LOAD_BATCH_BYTES} bytes,
+     * while the loading thread processes the chunks already fetched.
+     */
+    public static final String ENABLE_SEGMENT_LOAD_PIPELINE = "enableSegmentLoadPipeline";
+    public static final Boolean ENABLE_SEGMENT_LOAD_PIPELINE_DEFAULT_VALUE = false;
+
+    /**
+     * Maximum number of rows in each chunk handed from the fetching thread to
+     * the loading thread when {@link #ENABLE_SEGMENT_LOAD_PIPELINE} is set.
+     */
+    public static final String SEGMENT_LOAD_CHUNK_SIZE = "segmentLoadChunkSize";
+    public static final Integer SEGMENT_LOAD_CHUNK_SIZE_DEFAULT_VALUE = 4096;
+
+    /**
+     * Approximate maximum size, in bytes, of each chunk handed from the
+     * fetching thread to the loading thread when
+     * {@link #ENABLE_SEGMENT_LOAD_PIPELINE} is set. A chunk ends at
+     * whichever of this and {@link #SEGMENT_LOAD_CHUNK_SIZE} is reached
+     * first; at most three chunks are held per query. If 0, only the number
+     * of rows is limited.
+     */
+    public static final String SEGMENT_LOAD_BATCH_BYTES = "segmentLoadBatchBytes";
+    public static final Long SEGMENT_LOAD_BATCH_BYTES_DEFAULT_VALUE = 1L << 20;
+
+    /**
+     * Whether segment queries pass member keys as bind parameters of a
+     * prepared statement instead of inlining them as SQL literals, so that
+     * queries of the same shape have the same SQL text.
+     */
+    public static final String ENABLE_SQL_BIND_PARAMETERS = "enableSqlBindParameters";
+    public static final Boolean ENABLE_SQL_BIND_PARAMETERS_DEFAULT_VALUE = false;
+
+    /**
+     * Maximum estimated size, in bytes, of the segment bodies in the local
+     * segment cache. If 0, segments are held via soft references and only
+     * the garbage collector removes them.
+     */
+    public static final String SEGMENT_CACHE_MAXIMUM_WEIGHT = "segmentCacheMaximumWeight";
+    public static final Long SEGMENT_CACHE_MAXIMUM_WEIGHT_DEFAULT_VALUE = 0L;
+
+    /**
+     * Capacity, in bytes, of the off-heap segment cache that backs the local
+     * segment cache. If 0, there is no off-heap tier.
+     */
+    public static final String OFF_HEAP_SEGMENT_CACHE_SIZE = "offHeapSegmentCacheSize";
+    public static final Long OFF_HEAP_SEGMENT_CACHE_SIZE_DEFAULT_VALUE = 0L;
+
+    /**
+     * Directory in which segments are persisted across restarts. If empty,
+     * segments are not written to disk.
+     */
+    public static final String SEGMENT_CACHE_DIRECTORY = "segmentCacheDirectory";
+    public static final String SEGMENT_CACHE_DIRECTORY_DEFAULT_VALUE = "";
+
+    /**
+     * Maximum total size, in bytes, of the segment bodies persisted in
+     * {@link #SEGMENT_CACHE_DIRECTORY}. The least recently used segments
+     * are removed beyond it. If 0, the size is not limited.
+     */
+    public static final String SEGMENT_CACHE_DIRECTORY_MAXIMUM_SIZE = "segmentCacheDirectoryMaximumSize";
+    public static final Long SEGMENT_CACHE_DIRECTORY_MAXIMUM_SIZE_DEFAULT_VALUE = 0L;
+
+    /**
+     * Whether the cells of a query are evaluated in parallel, in ranges of
+     * the positions of the outermost axis. The value of
+     * {@code NamedSet.CurrentOrdinal} is undefined in this mode.
+     */
+    public static final String ENABLE_PARALLEL_CELL_EVALUATION = "enableParallelCellEvaluation";
+    public static final Boolean ENABLE_PARALLEL_CELL_EVALUATION_DEFAULT_VALUE = false;
+
+    /**
+     * Minimum number of cells of a query for
+     * {@link #ENABLE_PARALLEL_CELL_EVALUATION} to take effect; smaller
+     * queries are not worth the overhead.
+     */
+    public static final String PARALLEL_CELL_EVALUATION_THRESHOLD = "parallelCellEvaluationThreshold";
+    public static final Integer PARALLEL_CELL_EVALUATION_THRESHOLD_DEFAULT_VALUE = 10000;
+
+    /**
+     * Maximum number of threads of a context that evaluate cells for
+     * {@link #ENABLE_PARALLEL_CELL_EVALUATION} at the same time; 0 or less
+     * means the number of processors.
+     */
+    public static final String PARALLEL_CELL_EVALUATION_THREADS = "parallelCellEvaluationThreads";
+    public static final Integer PARALLEL_CELL_EVALUATION_THREADS_DEFAULT_VALUE = 0;
+
+    /**
+     * Whether the number of cell requests after which a query stops to load
+     * them is adapted from one evaluation pass to the next, starting from
+     * {@code CELL_BATCH_SIZE}. If false, that size is used throughout.
+     */
+    public static final String ENABLE_ADAPTIVE_CELL_BATCH_SIZE = "enableAdaptiveCellBatchSize";
+    public static final Boolean ENABLE_ADAPTIVE_CELL_BATCH_SIZE_DEFAULT_VALUE = false;
+
+    /**
+     * Number of SQL statements of one query that may run at the same time.
+     * If positive, the statements of concurrent queries take turns on the
+     * SQL threads; if 0, they are run in the order they are issued.
+     */
+    public static final String SQL_STATEMENTS_PER_EXECUTION = "sqlStatementsPerExecution";
+    public static final Integer SQL_STATEMENTS_PER_EXECUTION_DEFAULT_VALUE = 0;
+
+    /**
+     * Whether queries, SQL statements and segment cache operations run on
+     * virtual threads. The configured thread counts then limit how many run
+     * at the same time.
+     */
+    public static final String ENABLE_VIRTUAL_THREADS = "enableVirtualThreads";
+    public static final Boolean ENABLE_VIRTUAL_THREADS_DEFAULT_VALUE = false;
+
+    /**
+     * Whether the cubes of a catalog are created in parallel, and the
+     * aggregate tables of its stars recognized in parallel, when the catalog
+     * is loaded.
+     */
+    public static final String ENABLE_PARALLEL_CATALOG_LOADING = "enableParallelCatalogLoading";
+    public static final Boolean ENABLE_PARALLEL_CATALOG_LOADING_DEFAULT_VALUE = false;
+
+    /**
+     * Whether Order, Head and Tail are evaluated in SQL where possible,
+     * sorting and limiting the tuples in the database.
+     */
+    public static final String ENABLE_NATIVE_ORDER = "enableNativeOrder";
+    public static final Boolean ENABLE_NATIVE_ORDER_DEFAULT_VALUE = false;
+
+    /**
+     * Whether natively evaluated sets are counted in SQL where possible, so
+     * that the Count of such a set runs a count(*) statement rather than
+     * reading the tuples. A set whose size is asked for before its tuples
+     * are read costs one more statement than without this option.
+     */
+    public static final String ENABLE_NATIVE_COUNT = "enableNativeCount";
+    public static final Boolean ENABLE_NATIVE_COUNT_DEFAULT_VALUE = false;
+
+    /**
+     * Whether Aggregate over a set of stored members of a sum, count, min or
+     * max measure is computed with a single cell request that restricts the
+     * fact table to the set, rather than with a cell request per member.
+     */
+    public static final String ENABLE_NATIVE_AGGREGATE = "enableNativeAggregate";
+    public static final Boolean ENABLE_NATIVE_AGGREGATE_DEFAULT_VALUE = false;
+
+    /**
+     * Smallest number of tuples that are aggregated with a single cell
+     * request if {@link #ENABLE_NATIVE_AGGREGATE} is set.
+     */
+    public static final String NATIVE_AGGREGATE_THRESHOLD = "nativeAggregateThreshold";
+    public static final Integer NATIVE_AGGREGATE_THRESHOLD_DEFAULT_VALUE = 100;
+
+    /**
+     * Whether natively evaluated crossjoins that are asked for as an iterable
+     * read their tuples from the open result set as they are traversed,
+     * rather than into a list.
+     */
+    public static final String ENABLE_STREAMING_TUPLES = "enableStreamingTuples";
+    public static final Boolean ENABLE_STREAMING_TUPLES_DEFAULT_VALUE = false;
+
+    /**
+     * Number of rows the JDBC driver is asked to fetch at a time when tuples
+     * are streamed, or 0 for the driver's default.
+     */
+    public static final String STREAMING_TUPLES_FETCH_SIZE = "streamingTuplesFetchSize";
+    public static final Integer STREAMING_TUPLES_FETCH_SIZE_DEFAULT_VALUE = 1000;
+
+    /**
+     * Maximum number of member key, caption and property values that a
+     * context pools, so that equal values read for members and segment axes
+     * share one instance; 0, the default, disables pooling. A few hundred
+     * thousand is a reasonable size for catalogs with large dimensions.
+     */
+    public static final String MEMBER_VALUE_POOL_SIZE = "memberValuePoolSize";
+    public static final Integer MEMBER_VALUE_POOL_SIZE_DEFAULT_VALUE = 0;
+
+}
@@ -69,6 +69,7 @@ import org.eclipse.daanse.olap.key.BitKey;
 import org.eclipse.daanse.rolap.api.element.RolapMember;
 import org.eclipse.daanse.rolap.common.connection.AbstractRolapConnection;
 import org.eclipse.daanse.rolap.common.member.MemberReader;
+import org.eclipse.daanse.rolap.common.sql.SqlQuery;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.eclipse.daanse.rolap.element.RolapCube;
 import org.eclipse.daanse.rolap.element.RolapCubeLevel;
@@ -323,10 +324,49 @@ public class RolapUtil {
         int resultSetType,
         int resultSetConcurrency,
         Consumer<java.sql.Statement> callback)
+    {
+        return executeQuery(
+            context, sql, null, types, maxRowCount, firstRowOrdinal,
+            executionContext, resultSetType, resultSetConcurrency, callback);
+    }
+
+    /**
+     * Executes a query whose SQL string may contain bind parameters.
+     *
+     * If {@code bindValues} is empty or null, the query is executed as a
+     * plain statement, as by
+     * {@link #executeQuery(Context, String, List, int, int, ExecutionContext, int, int, Consumer)};
+     * otherwise as a prepared statement, with one value for each '?' in the
+     * SQL string.
+     *
+     * @param context context
+     * @param sql SQL string
+     * @param bindValues Values of the bind parameters, in order, or null
+     * @param types Suggested types of columns, or null
+     * @param maxRowCount Maximum number of rows to retrieve, less or = 0 if unlimited
+     * @param firstRowOrdinal Ordinal of row to skip to (1-based), or 0 to
+     *   start from beginning
+     * @param executionContext Execution context of this statement
+     * @param resultSetType Result set type, or -1 to use default
+     * @param resultSetConcurrency Result set concurrency, or -1 to use default
+     * @param callback callback
+     * @return ResultSet
+     */
+    public static SqlStatement executeQuery(
+        Context context,
+        String sql,
+        List<SqlQuery.BindValue> bindValues,
+        List<BestFitColumnType> types,
+        int maxRowCount,
+        int firstRowOrdinal,
+        ExecutionContext executionContext,
+        int resultSetType,
+        int resultSetConcurrency,
+        Consumer<java.sql.Statement> callback)
     {
         SqlStatement stmt =
             new SqlStatement(
-                    context, sql, types, maxRowCount, firstRowOrdinal, executionContext,
+                    context, sql, bindValues, types, maxRowCount, firstRowOrdinal, executionContext,
                 resultSetType, resultSetConcurrency,
                 callback == null
                     ? getDefaultCallback(executionContext)
@@ -25,10 +25,9 @@
 
 package org.eclipse.daanse.rolap.common;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLDataException;
@@ -54,8 +53,8 @@ import org.eclipse.daanse.olap.api.monitor.event.SqlStatementExecuteEvent;
 import org.eclipse.daanse.olap.api.monitor.event.SqlStatementStartEvent;
 import org.eclipse.daanse.olap.api.sql.SqlStatementI;
 import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.rolap.common.sql.SqlQuery;
 import org.eclipse.daanse.rolap.util.Counters;
-import org.eclipse.daanse.rolap.util.DelegatingInvocationHandler;
 
 /**
  * SqlStatement contains a SQL statement and associated resources throughout its lifetime.
@@ -94,6 +93,7 @@ public class SqlStatement implements SqlStatementI {
   private Connection jdbcConnection;
   private ResultSet resultSet;
   private final String sql;
+  private final List<SqlQuery.BindValue> bindValues;
   private final List<BestFitColumnType> types;
   private final int maxRows;
   private final int firstRowOrdinal;
@@ -132,10 +132,42 @@ public class SqlStatement implements SqlStatementI {
     int resultSetType,
     int resultSetConcurrency,
     Consumer<Statement>  callback ) {
+    this( context, sql, null, types, maxRows, firstRowOrdinal, executionContext, resultSetType, resultSetConcurrency,
+      callback );
+  }
+
+  /**
+   * Creates a SqlStatement whose SQL may contain bind parameters.
+   *
+   * If there are bind values, the statement is executed as a {@link PreparedStatement}, with one value for each '?'
+   * in the SQL.
+   *
+   * @param context              Context
+   * @param sql                  SQL
+   * @param bindValues           Values of the bind parameters, in order, or null
+   * @param types                Suggested types of columns, or null
+   * @param maxRows              Maximum rows; less or = 0 means no maximum
+   * @param firstRowOrdinal      Ordinal of first row to skip to; less or = 0 do not skip
+   * @param executionContext                Execution context of this statement
+   * @param resultSetType        Result set type
+   * @param resultSetConcurrency Result set concurrency
+   */
+  public SqlStatement(
+    Context context,
+    String sql,
+    List<SqlQuery.BindValue> bindValues,
+    List<BestFitColumnType> types,
+    int maxRows,
+    int firstRowOrdinal,
+    ExecutionContext executionContext,
+    int resultSetType,
+    int resultSetConcurrency,
+    Consumer<Statement>  callback ) {
     this.callback = callback;
     this.id = ID_GENERATOR.getAndIncrement();
     this.context = context;
     this.sql = sql;
+    this.bindValues = bindValues == null || bindValues.isEmpty() ? null : bindValues;
     this.types = types;
     this.maxRows = maxRows;
     this.firstRowOrdinal = firstRowOrdinal;
@@ -177,6 +209,10 @@ public class SqlStatement implements SqlStatementI {
         }
         sqllog.append( sql );
         sqllog.append( ']' );
+        if ( bindValues != null ) {
+          sqllog.append( " with parameters " );
+          sqllog.append( bindValues );
+        }
         RolapUtil.SQL_LOGGER.debug( sqllog.toString() );
       }
 
@@ -192,12 +228,31 @@ public class SqlStatement implements SqlStatementI {
       startTimeNanos = System.nanoTime();
       startTime = Instant.now();
 
-      if ( resultSetType < 0 || resultSetConcurrency < 0 ) {
-        statement = jdbcConnection.createStatement();
+      final PreparedStatement preparedStatement;
+      if ( bindValues == null ) {
+        preparedStatement = null;
+        if ( resultSetType < 0 || resultSetConcurrency < 0 ) {
+          statement = jdbcConnection.createStatement();
+        } else {
+          statement = jdbcConnection.createStatement(
+            resultSetType,
+            resultSetConcurrency );
+        }
       } else {
-        statement = jdbcConnection.createStatement(
-          resultSetType,
-          resultSetConcurrency );
+        // The SQL of a parameterized query has the same text for each set
+        // of member keys, so the driver (or pool) can reuse its plan.
+        if ( resultSetType < 0 || resultSetConcurrency < 0 ) {
+          preparedStatement = jdbcConnection.prepareStatement( sql );
+        } else {
+          preparedStatement = jdbcConnection.prepareStatement(
+            sql,
+            resultSetType,
+            resultSetConcurrency );
+        }
+        statement = preparedStatement;
+        for ( int i = 0; i < bindValues.size(); i++ ) {
+          preparedStatement.setObject( i + 1, bindValues.get( i ).value() );
+        }
       }
       if ( maxRows > 0 ) {
         statement.setMaxRows( maxRows );
@@ -227,7 +282,9 @@ public class SqlStatement implements SqlStatementI {
 //          getCellRequestCount() )
 
 
-      this.resultSet = statement.executeQuery( sql );
+      this.resultSet = preparedStatement == null
+        ? statement.executeQuery( sql )
+        : preparedStatement.executeQuery();
 
       // skip to first row specified in request
       this.state = State.ACTIVE;
@@ -517,7 +574,7 @@ public class SqlStatement implements SqlStatementI {
   }
 
   /**
-   * Returns the result set in a proxy which automatically closes this SqlStatement (and hence also the statement and
+   * Returns the result set in a wrapper which automatically closes this SqlStatement (and hence also the statement and
    * result set) when the result set is closed.
    *
    * This helps to prevent connection leaks. The caller still has to
@@ -527,10 +584,7 @@ public class SqlStatement implements SqlStatementI {
    */
   @Override
   public ResultSet getWrappedResultSet() {
-    return (ResultSet) Proxy.newProxyInstance(
-      this.getClass().getClassLoader(),
-      new Class<?>[] { ResultSet.class },
-      new MyDelegatingInvocationHandler( this ) );
+    return new SqlStatementResultSet( this );
   }
 
   private Purpose getPurpose() {
@@ -581,46 +635,6 @@ public class SqlStatement implements SqlStatementI {
     Object get() throws SQLException;
   }
 
-  /**
-   * Reflectively implements the {@link ResultSet} interface by routing method calls to the result set inside a {@link
-   * org.eclipse.daanse.rolap.common.SqlStatement}. When the result set is closed, so is the SqlStatement, and hence the JDBC connection
-   * and statement also.
-   */
-  // must be public for reflection to work
-  public static class MyDelegatingInvocationHandler
-    extends DelegatingInvocationHandler {
-    private final SqlStatement sqlStatement;
-
-    /**
-     * Creates a MyDelegatingInvocationHandler.
-     *
-     * @param sqlStatement SQL statement
-     */
-    MyDelegatingInvocationHandler( SqlStatement sqlStatement ) {
-      this.sqlStatement = sqlStatement;
-    }
-
-    @Override
-    protected Object getTarget() throws InvocationTargetException {
-      final ResultSet resultSet = sqlStatement.getResultSet();
-      if ( resultSet == null ) {
-        throw new InvocationTargetException(
-          new SQLException(
-            "Invalid operation. Statement is closed." ) );
-      }
-      return resultSet;
-    }
-
-    /**
-     * Helper method to implement {@link java.sql.ResultSet#close()}.
-     *
-     * @throws SQLException on error
-     */
-    public void close() throws SQLException {
-      sqlStatement.close();
-    }
-  }
-
   private enum State {
     FRESH,
     ACTIVE,
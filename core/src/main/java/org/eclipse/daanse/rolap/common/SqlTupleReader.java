@@ -49,6 +49,7 @@ import java.util.TreeSet;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
 import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.element.Level;
 import org.eclipse.daanse.olap.api.element.Member;
@@ -73,7 +74,6 @@ import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
 import org.eclipse.daanse.olap.execution.ExecutionImpl;
 import org.eclipse.daanse.olap.function.def.crossjoin.CrossJoinFunDef;
 import org.eclipse.daanse.olap.key.BitKey;
-import  org.eclipse.daanse.olap.util.CancellationChecker;
 import  org.eclipse.daanse.olap.util.Pair;
 import org.eclipse.daanse.rolap.api.element.RolapMember;
 import org.eclipse.daanse.rolap.common.agg.AggregationManager;
@@ -88,6 +88,7 @@ import org.eclipse.daanse.rolap.common.member.MemberCache;
 import org.eclipse.daanse.rolap.common.member.SqlMemberSource;
 import org.eclipse.daanse.rolap.common.nativize.RolapNativeCrossJoin;
 import org.eclipse.daanse.rolap.common.nativize.RolapNativeFilter;
+import org.eclipse.daanse.rolap.common.result.RowCancellationChecker;
 import org.eclipse.daanse.rolap.common.sql.CrossJoinArg;
 import org.eclipse.daanse.rolap.common.sql.DescendantsCrossJoinArg;
 import org.eclipse.daanse.rolap.common.sql.MemberChildrenConstraint;
@@ -108,6 +109,7 @@ import org.eclipse.daanse.rolap.element.RolapPhysicalCube;
 import org.eclipse.daanse.rolap.element.RolapProperty;
 import org.eclipse.daanse.rolap.element.RolapStoredMeasure;
 import org.eclipse.daanse.rolap.element.RolapVirtualCube;
+import org.eclipse.daanse.rolap.util.ValuePool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -165,6 +167,13 @@ public class SqlTupleReader implements TupleReader {
   private int emptySets = 0;
   // allow hints by default
   private boolean allowHints = true;
+  // whether statements are generated to count the tuples rather than read
+  // them
+  private boolean counting = false;
+  // whether the tuples are returned as they are read rather than collected
+  private boolean streaming = false;
+  // pool of the context's member values
+  private Optional<Map<Object, Object>> valuePool = Optional.empty();
   private HashMap<RolapMember, Object> rolapToOrdinalMap = new HashMap<>();
 
   public boolean isAllowHints() {
@@ -184,6 +193,8 @@ public class SqlTupleReader implements TupleReader {
     List<RolapLevel> levels;
     int levelDepth;
     boolean parentChild;
+    // whether members are looked up by key as parents of later rows
+    boolean keepKeys;
     List<RolapMember> members;
     final HashMap<Object, RolapMember> keyToMember =
       new HashMap<>();
@@ -210,6 +221,7 @@ public class SqlTupleReader implements TupleReader {
       setList( new ArrayList<>() );
       levelDepth = level.getDepth();
       parentChild = level.isParentChild();
+      keepKeys = levels.stream().anyMatch( RolapLevel::isParentChild );
       // members[i] is the current member of level#i, and siblings[i]
       // is the current member of level#i plus its siblings
       members =
@@ -270,10 +282,13 @@ public class SqlTupleReader implements TupleReader {
           Object value = accessors.get( column++ ).get();
           if ( value == null ) {
             value = Util.sqlNullValue;
+          } else {
+            value = ValuePool.intern( valuePool, value );
           }
           Object captionValue;
           if ( childLevel.hasCaptionColumn() ) {
-            captionValue = accessors.get( column++ ).get();
+            captionValue =
+              ValuePool.intern( valuePool, accessors.get( column++ ).get() );
           } else {
             captionValue = null;
           }
@@ -308,6 +323,11 @@ public class SqlTupleReader implements TupleReader {
           for (SqlExpression oe : childLevel.getOrdinalExps()) {
               if ( !oe.equals(
                   childLevel.getKeyExp() ) ) {
+                  if ( streaming ) {
+                      // Don't hold on to the members read so far.
+                      column++;
+                      continue;
+                  }
                   Object ordinal = accessors.get( column++ ).get();
                   Object prevValue = rolapToOrdinalMap.put( member, ordinal );
                   if ( prevValue != null
@@ -322,7 +342,9 @@ public class SqlTupleReader implements TupleReader {
 
           // Cache in our intermediate map the key/member pair
           // for later lookups of children.
-          keyToMember.put( member.getKey(), member );
+          if ( keepKeys ) {
+            keyToMember.put( member.getKey(), member );
+          }
 
           if ( member != members.get( i ) ) {
             // Flush list we've been building.
@@ -504,6 +526,7 @@ public Object getCacheKey() {
     List<List<RolapMember>> newPartialResult, List<TargetBase> targetGroup ) {
     String message = "Populating member cache with members for "
       + targetGroup;
+    valuePool = context.getSqlMemberSourceValuePool();
     SqlStatement stmt = null;
     final ResultSet resultSet;
     boolean execQuery = ( partialResult == null );
@@ -563,11 +586,11 @@ public Object getCacheKey() {
         moreRows = currPartialResultIdx < partialResult.size();
       }
 
-      Execution execution = getExecution(context);
+      final RowCancellationChecker cancellationChecker =
+        new RowCancellationChecker( getExecution( context ) );
       while ( moreRows ) {
         // Check if the MDX query was canceled.
-        CancellationChecker.checkCancelOrTimeout(
-          stmt.rowCount, execution );
+        cancellationChecker.check( stmt.rowCount );
 
         if ( limit > 0 && limit < ++fetchCount ) {
           // result limit exceeded, throw an exception
@@ -770,6 +793,179 @@ public TupleList readTuples(
     return tupleList;
   }
 
+  /**
+   * Counts the tuples that {@link #readTuples} would read, with a single
+   * statement around the one that reads them. For example,
+   *
+   * SELECT count(*) FROM (
+   *   SELECT DISTINCT "country", "state_province", "city"
+   *   FROM "customer", "sales_fact"
+   *   WHERE ... ) AS "init"
+   *
+   * The tuples cannot be counted this way if some targets enumerate their
+   * members, if the targets are read in several groups, or if the dialect
+   * does not allow a query in the FROM clause.
+   *
+   * @param context Context
+   * @return Number of tuples, or -1 if they cannot be counted in SQL
+   */
+  public int countTuples( Context<?> context ) {
+    if ( getEnumTargetCount() > 0 || emptySets > 0 ) {
+      return -1;
+    }
+    List<List<TargetBase>> targetGroups = groupTargets(
+      targets,
+      constraint.getEvaluator().getQuery() );
+    if ( targetGroups.size() != 1
+      || targetGroups.getFirst().stream().anyMatch( t -> t.getLevel().isAll() ) ) {
+      return -1;
+    }
+    final SqlQuery countQuery =
+      SqlQuery.newQuery( context, "while counting tuples of " + targets );
+    if ( !countQuery.getDialect().allowsFromQuery() ) {
+      return -1;
+    }
+    final String sql;
+    counting = true;
+    try {
+      sql = makeLevelMembersSql( context, targetGroups.getFirst() ).left;
+    } finally {
+      counting = false;
+    }
+    countQuery.addSelect( "count(*)", null );
+    // Note: the "init" is for Postgres, which requires
+    // FROM-queries to have an alias
+    countQuery.addFromQuery( sql, "init", true );
+
+    ExecutionMetadata metadata = ExecutionMetadata.of(
+      "SqlTupleReader.countTuples " + targets,
+      "while counting tuples",
+      Purpose.TUPLES,
+      0
+    );
+    ExecutionContext execContext = getExecution( context ).asContext().createChild( metadata, Optional.empty() );
+    final SqlStatement stmt =
+      RolapUtil.executeQuery( context, countQuery.toString(), execContext );
+    try {
+      ResultSet resultSet = stmt.getResultSet();
+      Util.assertTrue( resultSet.next() );
+      ++stmt.rowCount;
+      return resultSet.getInt( 1 );
+    } catch ( SQLException e ) {
+      throw stmt.handle( e );
+    } finally {
+      stmt.close();
+    }
+  }
+
+  /**
+   * Returns whether {@link #streamTuples} can read the tuples, which is the
+   * case if they are read with a single statement of which each row makes
+   * one tuple: the targets are of one group, none enumerates its members,
+   * and none is of a parent-child hierarchy, whose members may take several
+   * passes to read.
+   *
+   * A single level's members are not streamed, because a null member is
+   * moved to the front only after all of them are read.
+   *
+   * @return whether the tuples can be streamed
+   */
+  public boolean canStreamTuples() {
+    if ( targets.size() < 2 || getEnumTargetCount() > 0 || emptySets > 0 ) {
+      return false;
+    }
+    for ( TargetBase target : targets ) {
+      RolapLevel level = target.getLevel();
+      if ( level.isAll()
+        || level.getHierarchy().getLevels().stream()
+          .anyMatch( l -> ( (RolapLevel) l ).isParentChild() ) ) {
+        return false;
+      }
+    }
+    return groupTargets(
+      targets,
+      constraint.getEvaluator().getQuery() ).size() == 1;
+  }
+
+  /**
+   * Reads the tuples that {@link #readTuples} would read, one by one from
+   * the open result set, rather than all of them into a list. Members are
+   * made and cached as in {@link #readTuples}, but the reader keeps none of
+   * them.
+   *
+   * The statement is closed when the cursor is exhausted or closed, if
+   * reading fails, or when the execution ends; see
+   * {@link StreamingTupleCursor}.
+   *
+   * @param context   Context
+   * @param fetchSize Number of rows the driver is asked to fetch at a time,
+   *                  or 0 for the driver's default
+   * @return Cursor over the tuples
+   * @see #canStreamTuples()
+   */
+  public TupleCursor streamTuples( Context<?> context, int fetchSize ) {
+    assert canStreamTuples();
+    final Pair<String, List<BestFitColumnType>> pair =
+      makeLevelMembersSql( context, targets );
+    ExecutionMetadata metadata = ExecutionMetadata.of(
+      "SqlTupleReader.streamTuples " + targets,
+      "Streaming tuples for " + targets,
+      Purpose.TUPLES,
+      0
+    );
+    final Execution execution = getExecution( context );
+    ExecutionContext execContext = execution.asContext().createChild( metadata, Optional.empty() );
+    final SqlStatement stmt = RolapUtil.executeQuery(
+      context, pair.left, pair.right, maxRows, 0,
+      execContext,
+      -1, -1, null );
+    try {
+      if ( fetchSize > 0 ) {
+        stmt.getResultSet().setFetchSize( fetchSize );
+      }
+    } catch ( SQLException e ) {
+      RuntimeException re = stmt.handle( e );
+      stmt.close();
+      throw re;
+    }
+    streaming = true;
+    valuePool = context.getSqlMemberSourceValuePool();
+    for ( TargetBase target : targets ) {
+      target.open();
+    }
+    return new StreamingTupleCursor(
+      targets.size(), stmt, execution, this::readStreamedRow,
+      () -> {
+        // Let the targets put the children they have seen into the
+        // member cache.
+        for ( TargetBase target : targets ) {
+          target.close();
+        }
+        streaming = false;
+      } );
+  }
+
+  /**
+   * Returns the tuple of the current row of a streaming statement, or null
+   * if the row makes none.
+   */
+  private List<Member> readStreamedRow( SqlStatement stmt ) throws SQLException {
+    int column = 0;
+    for ( TargetBase target : targets ) {
+      target.setCurrMember( null );
+      column = target.addRow( stmt, column );
+    }
+    final List<Member> tuple = new ArrayList<>( targets.size() );
+    for ( TargetBase target : targets ) {
+      final List<RolapMember> list = target.getList();
+      if ( list.size() == 1 ) {
+        tuple.add( list.get( 0 ) );
+      }
+      list.clear();
+    }
+    return tuple.size() == targets.size() ? tuple : null;
+  }
+
   /**
    * Projects the attributes using the original ordering in targets, then copies to a ArrayTupleList (the .project
    * method returns a basic TupleList without support for methods like .remove, which may be needed downstream).
@@ -1128,7 +1324,7 @@ public TupleList readTuples(
         // Sort the union of the cubes.
         // The order by columns need to be numbers,
         // not column name strings or expressions.
-        if ( fullyJoiningBaseCubes.size() > 1 ) {
+        if ( fullyJoiningBaseCubes.size() > 1 && !counting ) {
           for ( int i = 0; i < types.size(); i++ ) {
             unionQuery.addOrderBy(
               new StringBuilder().append(i + 1),
@@ -1285,6 +1481,12 @@ public TupleList readTuples(
 
     constraint.addConstraint( sqlQuery, baseCube, aggStar );
 
+    if ( counting ) {
+      // Only the number of distinct rows matters.
+      sqlQuery.setDistinct( true );
+      sqlQuery.clearOrderBy();
+    }
+
     return sqlQuery.toSqlAndTypes();
   }
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common;
+
+import java.lang.ref.Cleaner;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractTupleCursor;
+import org.eclipse.daanse.olap.common.SystemWideProperties;
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
+import org.eclipse.daanse.rolap.common.result.RowCancellationChecker;
+
+/**
+ * Cursor over the rows of an open SQL statement, each of which makes a
+ * tuple. Used for tuples that are read as they are consumed rather than
+ * into a list; see {@link SqlTupleReader#streamTuples}.
+ *
+ * The statement is closed when the cursor is exhausted or closed, if
+ * reading fails, and when the execution that opened it ends
+ * ({@link #closeAll}). A cursor that is dropped before any of these closes
+ * its statement once it is garbage-collected.
+ *
+ * The row cancellation check, the row limit and the crossjoin result limit
+ * apply as the rows are read.
+ */
+public final class StreamingTupleCursor extends AbstractTupleCursor {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Closers of the open cursors, by the execution that opened them.
+     */
+    private static final Map<Execution, Set<Closer>> OPEN_CURSORS =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Makes the tuple of the current row of a statement.
+     */
+    @FunctionalInterface
+    interface RowReader {
+        /**
+         * Returns the tuple of the current row, or null if the row makes
+         * none.
+         */
+        List<Member> read(SqlStatement stmt) throws SQLException;
+    }
+
+    private final RowReader rowReader;
+    private final Runnable onExhausted;
+    private final Closer closer;
+    private final Cleaner.Cleanable cleanable;
+    private final RowCancellationChecker cancellationChecker;
+    private final int limit = SystemWideProperties.instance().ResultLimit;
+    private long tupleCount;
+    private List<Member> current;
+
+    /**
+     * Creates a StreamingTupleCursor.
+     *
+     * @param arity Arity of the tuples
+     * @param stmt Executed statement; closed by the cursor
+     * @param execution Execution that runs the statement, or null
+     * @param rowReader Makes the tuple of each row
+     * @param onExhausted Called once the last row is read
+     */
+    StreamingTupleCursor(
+        int arity,
+        SqlStatement stmt,
+        Execution execution,
+        RowReader rowReader,
+        Runnable onExhausted)
+    {
+        super(arity);
+        this.rowReader = rowReader;
+        this.onExhausted = onExhausted;
+        this.closer = new Closer(stmt, execution);
+        this.cleanable = CLEANER.register(this, closer);
+        this.cancellationChecker = new RowCancellationChecker(execution);
+        if (execution != null) {
+            OPEN_CURSORS.compute(execution, (e, closers) -> {
+                if (closers == null) {
+                    closers = ConcurrentHashMap.newKeySet();
+                }
+                closers.add(closer);
+                return closers;
+            });
+        }
+    }
+
+    /**
+     * Closes the statements of the cursors opened by an execution that are
+     * still open. Called when the execution ends, whether it completed,
+     * failed or was canceled.
+     *
+     * @param execution Execution
+     */
+    public static void closeAll(Execution execution) {
+        final Set<Closer> closers = OPEN_CURSORS.remove(execution);
+        if (closers != null) {
+            for (Closer closer : closers) {
+                closer.run();
+            }
+        }
+    }
+
+    @Override
+    public boolean forward() {
+        if (closer.closed.get()) {
+            return false;
+        }
+        final SqlStatement stmt = closer.stmt;
+        try {
+            final ResultSet resultSet = stmt.getResultSet();
+            while (resultSet.next()) {
+                ++stmt.rowCount;
+                // Check if the MDX query was canceled.
+                cancellationChecker.check(stmt.rowCount);
+                if (limit > 0 && limit < stmt.rowCount) {
+                    // result limit exceeded, throw an exception
+                    throw new ResourceLimitExceededException((long) limit);
+                }
+                final List<Member> tuple = rowReader.read(stmt);
+                if (tuple != null) {
+                    Util.checkCJResultLimit(++tupleCount);
+                    current = tuple;
+                    return true;
+                }
+            }
+        } catch (SQLException e) {
+            final RuntimeException re = stmt.handle(e);
+            close();
+            throw re;
+        } catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+        onExhausted.run();
+        close();
+        return false;
+    }
+
+    @Override
+    public List<Member> current() {
+        return current;
+    }
+
+    /**
+     * Closes the statement before the cursor is exhausted. Does nothing if
+     * it is closed already.
+     */
+    public void close() {
+        current = null;
+        cleanable.clean();
+    }
+
+    /**
+     * Closes the statement of a cursor at most once. Must not refer to the
+     * cursor, or the cleaner would never run.
+     */
+    private static final class Closer implements Runnable {
+        private final SqlStatement stmt;
+        private final Execution execution;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Closer(SqlStatement stmt, Execution execution) {
+            this.stmt = stmt;
+            this.execution = execution;
+        }
+
+        @Override
+        public void run() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            if (execution != null) {
+                OPEN_CURSORS.computeIfPresent(execution, (e, closers) -> {
+                    closers.remove(this);
+                    return closers.isEmpty() ? null : closers;
+                });
+            }
+            stmt.close();
+        }
+    }
+}
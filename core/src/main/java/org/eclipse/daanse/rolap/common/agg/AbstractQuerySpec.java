@@ -204,7 +204,23 @@ public abstract class AbstractQuerySpec implements QuerySpec {
 
     @Override
 	public Pair<String, List<BestFitColumnType>> generateSqlQuery() {
+        return generateSqlQuery(null);
+    }
+
+    /**
+     * Generates a SQL query, passing the values of column predicates as
+     * bind parameters if {@code bindValues} is not null.
+     *
+     * @param bindValues List to receive the values of the bind parameters,
+     *     in order, or null to inline all values as literals
+     * @return A pair consisting of a SQL statement and a list of suggested
+     *     types of columns
+     */
+    public Pair<String, List<BestFitColumnType>> generateSqlQuery(
+        List<SqlQuery.BindValue> bindValues)
+    {
         SqlQuery sqlQuery = newSqlQuery();
+        sqlQuery.setParameterized(bindValues != null);
 
         int k = getDistinctMeasureCount();
         final Dialect dialect = sqlQuery.getDialect();
@@ -222,7 +238,7 @@ public abstract class AbstractQuerySpec implements QuerySpec {
             addGroupingFunction(sqlQuery);
             addGroupingSets(sqlQuery, groupingSetsAliases);
         }
-        return sqlQuery.toSqlAndTypes();
+        return sqlQuery.toSqlAndTypes(bindValues);
     }
 
     protected void addGroupingFunction(SqlQuery sqlQuery) {
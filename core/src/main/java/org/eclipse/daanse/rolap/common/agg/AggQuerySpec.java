@@ -125,9 +125,23 @@ class AggQuerySpec {
     }
 
     public Pair<String, List<BestFitColumnType>> generateSqlQuery() {
+        return generateSqlQuery(null);
+    }
+
+    /**
+     * Generates a SQL query, passing the values of column predicates as
+     * bind parameters if {@code bindValues} is not null.
+     *
+     * @param bindValues List to receive the values of the bind parameters,
+     *     in order, or null to inline all values as literals
+     */
+    public Pair<String, List<BestFitColumnType>> generateSqlQuery(
+        List<SqlQuery.BindValue> bindValues)
+    {
         SqlQuery sqlQuery = newSqlQuery();
+        sqlQuery.setParameterized(bindValues != null);
         generateSql(sqlQuery);
-        return sqlQuery.toSqlAndTypes();
+        return sqlQuery.toSqlAndTypes(bindValues);
     }
 
     private void addGroupingSets(SqlQuery sqlQuery) {
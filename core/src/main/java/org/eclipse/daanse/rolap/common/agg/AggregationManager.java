@@ -28,13 +28,16 @@
 package org.eclipse.daanse.rolap.common.agg;
 
 import java.io.PrintWriter;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
@@ -53,6 +56,7 @@ import org.eclipse.daanse.rolap.common.CacheControlImpl;
 import org.eclipse.daanse.rolap.common.RolapAggregationManager;
 import org.eclipse.daanse.rolap.common.aggmatcher.AggStar;
 import org.eclipse.daanse.rolap.common.result.GroupingSetsCollector;
+import org.eclipse.daanse.rolap.common.sql.SqlQuery;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.eclipse.daanse.rolap.common.star.StarColumnPredicate;
 import org.eclipse.daanse.rolap.common.star.StarPredicate;
@@ -249,6 +253,25 @@ public class AggregationManager extends RolapAggregationManager implements OlapA
     public static Pair<String, List<BestFitColumnType>> generateSql(
         GroupingSetsList groupingSetsList,
         List<StarPredicate> compoundPredicateList, boolean useAggregates)
+    {
+        return generateSql(
+            groupingSetsList, compoundPredicateList, useAggregates, null);
+    }
+
+    /**
+     * Generates the query to retrieve the cells for a list of segments,
+     * passing the values of column predicates as bind parameters if
+     * {@code bindValues} is not null.
+     *
+     * @param bindValues List to receive the values of the bind parameters,
+     *     in order, or null to inline all values as literals
+     * @return A pair consisting of a SQL statement and a list of suggested
+     *     types of columns
+     */
+    public static Pair<String, List<BestFitColumnType>> generateSql(
+        GroupingSetsList groupingSetsList,
+        List<StarPredicate> compoundPredicateList, boolean useAggregates,
+        List<SqlQuery.BindValue> bindValues)
     {
         final RolapStar star = groupingSetsList.getStar();
         BitKey levelBitKey = groupingSetsList.getDefaultLevelBitKey();
@@ -299,7 +322,7 @@ public class AggregationManager extends RolapAggregationManager implements OlapA
                 AggQuerySpec aggQuerySpec =
                     new AggQuerySpec(
                         aggStar, rollup[0], groupingSetsList);
-                Pair<String, List<BestFitColumnType>> sql = aggQuerySpec.generateSqlQuery();
+                Pair<String, List<BestFitColumnType>> sql = aggQuerySpec.generateSqlQuery(bindValues);
 
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug(
@@ -338,7 +361,8 @@ public class AggregationManager extends RolapAggregationManager implements OlapA
         SegmentArrayQuerySpec spec =
             new SegmentArrayQuerySpec(groupingSetsList, compoundPredicateList);
 
-        Pair<String, List<BestFitColumnType>> pair = spec.generateSqlQuery();
+        Pair<String, List<BestFitColumnType>> pair =
+            spec.generateSqlQuery(bindValues);
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(
@@ -543,12 +567,44 @@ public class AggregationManager extends RolapAggregationManager implements OlapA
 
     /**
      * Implementation of {@link org.eclipse.daanse.rolap.common.RolapAggregationManager.PinSet}
-     * using a {@link HashSet}.
+     * using a concurrent set, because the threads that evaluate the cells of
+     * a query in parallel pin segments in the same set.
      */
     public static class PinSetImpl
-        extends HashSet<Segment>
+        extends AbstractSet<Segment>
         implements RolapAggregationManager.PinSet
     {
+        private final Set<Segment> segments = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean add(Segment segment) {
+            return segments.add(segment);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return segments.remove(o);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return segments.contains(o);
+        }
+
+        @Override
+        public void clear() {
+            segments.clear();
+        }
+
+        @Override
+        public Iterator<Segment> iterator() {
+            return segments.iterator();
+        }
+
+        @Override
+        public int size() {
+            return segments.size();
+        }
     }
 
     //TODO: Free SegmentCacheManager if connection closed
@@ -195,7 +195,7 @@ public class AndPredicate extends ListPredicate {
             } else {
                 buf.append(", ");
             }
-            sqlQuery.getDialect().quote(
+            sqlQuery.appendLiteral(
                 buf, predicate.getValue(),
                 predicate.getConstrainedColumn().getDatatype());
         }
@@ -167,6 +167,13 @@ public class CellRequest {
      */
     private boolean isDirty = true;
 
+    /**
+     * Aggregation key of this request, created on first use and discarded
+     * when a constraint is added. Cached so that repeated cache lookups for
+     * the same cell do not allocate a new key each time.
+     */
+    private AggregationKey aggregationKey;
+
     /**
      * Creates a {@link CellRequest}.
      *
@@ -201,6 +208,7 @@ public class CellRequest {
         StarColumnPredicate predicate)
     {
         assert columnsCache == null;
+        aggregationKey = null;
 
         // Sanity check; we should never be adding column constraints
         // from more than one star
@@ -255,6 +263,7 @@ public class CellRequest {
             compoundPredicateMap = new TreeMap<>();
         }
         compoundPredicateMap.put(compoundBitKey, compoundPredicate);
+        aggregationKey = null;
     }
 
 
@@ -267,6 +276,19 @@ public class CellRequest {
         compoundPredicateStrings.add(predicateString);
     }
 
+    /**
+     * Returns the aggregation key of this cell request. The key is created on
+     * first call and reused until the request is modified.
+     *
+     * @return Aggregation key
+     */
+    public AggregationKey getAggregationKey() {
+        if (aggregationKey == null) {
+            aggregationKey = new AggregationKey(this);
+        }
+        return aggregationKey;
+    }
+
     /**
      * Returns the measure of this cell request.
      *
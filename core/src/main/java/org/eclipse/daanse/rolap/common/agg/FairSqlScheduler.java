@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.agg;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands the SQL statements of concurrent executions to the SQL executor in
+ * turn, so that one query with many statements cannot starve the others.
+ *
+ * Each execution has a queue of statements, of which at most
+ * {@code executionLimit} run at the same time. The scheduler passes at
+ * most {@code threadCount} statements to the executor, one per thread, and
+ * keeps the others queued. When a thread becomes free, the next statement
+ * comes from the execution that was served least recently, so executions
+ * take turns regardless of how many statements each has queued.
+ *
+ * The time each statement waited in its queue is added to the
+ * {@code SqlQueueWait} timing of its execution, and to totals that the
+ * scheduler exposes.
+ */
+public class FairSqlScheduler {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(FairSqlScheduler.class);
+
+    static final String TIMING_NAME = "SqlQueueWait";
+
+    private final Executor executor;
+
+    private final int threadCount;
+
+    private final int executionLimit;
+
+    private final Map<Execution, Lane> lanes = new HashMap<>();
+
+    private int running;
+
+    private long sequence;
+
+    private final LongAdder dispatchCount = new LongAdder();
+
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    /**
+     * Statements of one execution.
+     */
+    private static class Lane {
+        private final ArrayDeque<Task<?>> queue = new ArrayDeque<>();
+        private int running;
+        private long lastServed;
+    }
+
+    /**
+     * A statement, which remembers when it was queued.
+     */
+    private static class Task<T> extends FutureTask<T> {
+        private final Execution execution;
+        private final long queuedNanos = System.nanoTime();
+
+        Task(Execution execution, Callable<T> callable) {
+            super(callable);
+            this.execution = execution;
+        }
+
+        void fail(Throwable throwable) {
+            setException(throwable);
+        }
+    }
+
+    /**
+     * Creates a FairSqlScheduler.
+     *
+     * @param executor       Executor that runs the statements
+     * @param threadCount    Number of threads of the executor
+     * @param executionLimit Number of statements of one execution that may
+     *                       run at the same time
+     */
+    public FairSqlScheduler(
+        Executor executor,
+        int threadCount,
+        int executionLimit)
+    {
+        this.executor = executor;
+        this.threadCount = Math.max(1, threadCount);
+        this.executionLimit = Math.max(1, executionLimit);
+    }
+
+    /**
+     * Queues a statement of an execution.
+     *
+     * @param execution Execution the statement belongs to
+     * @param callable  Statement
+     * @return Future of the result of the statement
+     */
+    public <T> Future<T> submit(Execution execution, Callable<T> callable) {
+        final Task<T> task = new Task<>(execution, callable);
+        synchronized (this) {
+            lanes.computeIfAbsent(execution, e -> new Lane()).queue.add(task);
+            dispatch();
+        }
+        return task;
+    }
+
+    /**
+     * Returns the number of statements that have been passed to the
+     * executor.
+     */
+    public long getDispatchCount() {
+        return dispatchCount.sum();
+    }
+
+    /**
+     * Returns the total time statements have waited in their queues.
+     */
+    public Duration getQueueWait() {
+        return Duration.ofNanos(queueWaitNanos.sum());
+    }
+
+    /**
+     * Returns the number of statements waiting in queues.
+     */
+    public synchronized int getQueuedCount() {
+        int count = 0;
+        for (Lane lane : lanes.values()) {
+            count += lane.queue.size();
+        }
+        return count;
+    }
+
+    /**
+     * Passes statements to the executor while it has free threads. Must be
+     * called while holding the lock.
+     */
+    private void dispatch() {
+        while (running < threadCount) {
+            Lane next = null;
+            for (Lane lane : lanes.values()) {
+                if (!lane.queue.isEmpty()
+                    && lane.running < executionLimit
+                    && (next == null || lane.lastServed < next.lastServed))
+                {
+                    next = lane;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            final Lane lane = next;
+            final Task<?> task = lane.queue.poll();
+            lane.lastServed = ++sequence;
+            lane.running++;
+            running++;
+            try {
+                executor.execute(() -> run(lane, task));
+            } catch (RejectedExecutionException e) {
+                lane.running--;
+                running--;
+                removeIfIdle(task.execution, lane);
+                task.fail(e);
+            }
+        }
+    }
+
+    private void run(Lane lane, Task<?> task) {
+        try {
+            final long waitNanos = System.nanoTime() - task.queuedNanos;
+            dispatchCount.increment();
+            queueWaitNanos.add(waitNanos);
+            final Duration wait = Duration.ofNanos(waitNanos);
+            if (task.execution != null) {
+                task.execution.getQueryTiming().markFull(TIMING_NAME, wait);
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                    "SQL statement waited {} ms in queue", wait.toMillis());
+            }
+            task.run();
+        } finally {
+            synchronized (this) {
+                lane.running--;
+                running--;
+                removeIfIdle(task.execution, lane);
+                dispatch();
+            }
+        }
+    }
+
+    private void removeIfIdle(Execution execution, Lane lane) {
+        if (lane.running == 0 && lane.queue.isEmpty()) {
+            lanes.remove(execution, lane);
+        }
+    }
+}
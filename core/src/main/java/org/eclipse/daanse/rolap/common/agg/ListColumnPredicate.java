@@ -364,7 +364,7 @@ public class ListColumnPredicate extends AbstractColumnPredicate {
                 firstNotNull = predicate2;
             }
             ++notNullCount;
-            sqlQuery.getDialect().quote(buf, key, column.getDatatype());
+            sqlQuery.appendLiteral(buf, key, column.getDatatype());
         }
         buf.append(')');
 
@@ -393,7 +393,7 @@ public class ListColumnPredicate extends AbstractColumnPredicate {
             buf.append('(');
             buf.append(expr);
             buf.append(" = ");
-            sqlQuery.getDialect().quote(
+            sqlQuery.appendLiteral(
                 buf,
                 firstNotNull.getValue(),
                 column.getDatatype());
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common.agg;
+
+import java.util.Arrays;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+
+/**
+ * Collects the distinct values of an int, long or double axis column while a
+ * segment is loaded.
+ *
+ * Values are stored as longs (doubles by their bits) in an open-addressing
+ * hash set, so adding a row allocates nothing. The values are sorted and
+ * boxed once, by {@link #toSortedSet()}, when the axis is built.
+ */
+final class PrimitiveValueCollector {
+
+    /**
+     * Java type of the values of a column.
+     */
+    enum Kind {
+        INT, LONG, DOUBLE
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Kind kind;
+
+    /**
+     * Hash table. 0 marks a free slot; the value 0 itself is recorded in
+     * {@link #hasZero}.
+     */
+    private long[] table = new long[INITIAL_CAPACITY];
+
+    private boolean hasZero;
+
+    /** Number of non-zero values in the table. */
+    private int count;
+
+    PrimitiveValueCollector(Kind kind) {
+        this.kind = kind;
+    }
+
+    void add(int value) {
+        addBits(value);
+    }
+
+    void add(long value) {
+        addBits(value);
+    }
+
+    void add(double value) {
+        addBits(Double.doubleToLongBits(value));
+    }
+
+    private void addBits(long bits) {
+        if (bits == 0) {
+            hasZero = true;
+            return;
+        }
+        final int mask = table.length - 1;
+        int i = hash(bits) & mask;
+        for (;;) {
+            final long slot = table[i];
+            if (slot == bits) {
+                return;
+            }
+            if (slot == 0) {
+                table[i] = bits;
+                if (++count * 2 > table.length) {
+                    rehash();
+                }
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void rehash() {
+        final long[] old = table;
+        table = new long[old.length * 2];
+        final int mask = table.length - 1;
+        for (long bits : old) {
+            if (bits != 0) {
+                int i = hash(bits) & mask;
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = bits;
+            }
+        }
+    }
+
+    private static int hash(long bits) {
+        final long h = bits * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Returns the number of distinct values collected.
+     */
+    int size() {
+        return count + (hasZero ? 1 : 0);
+    }
+
+    /**
+     * Returns the distinct values, boxed to the Java type of the column and
+     * in the same order as a {@link java.util.TreeSet} would hold them.
+     */
+    @SuppressWarnings({"unchecked"})
+    SortedSet<Comparable> toSortedSet() {
+        final long[] values = new long[size()];
+        int n = 0;
+        for (long bits : table) {
+            if (bits != 0) {
+                values[n++] = bits;
+            }
+        }
+        // The value 0 (and, for doubles, +0.0) is in the zero slot.
+        if (hasZero) {
+            values[n] = 0;
+        }
+        final Comparable[] keys = new Comparable[values.length];
+        switch (kind) {
+        case INT:
+            Arrays.sort(values);
+            for (int i = 0; i < values.length; i++) {
+                keys[i] = (int) values[i];
+            }
+            break;
+        case LONG:
+            Arrays.sort(values);
+            for (int i = 0; i < values.length; i++) {
+                keys[i] = values[i];
+            }
+            break;
+        default:
+            final double[] doubles = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                doubles[i] = Double.longBitsToDouble(values[i]);
+            }
+            Arrays.sort(doubles);
+            for (int i = 0; i < doubles.length; i++) {
+                keys[i] = doubles[i];
+            }
+        }
+        return new ArraySortedSet(keys);
+    }
+}
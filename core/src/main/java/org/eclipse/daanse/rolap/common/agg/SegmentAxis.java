@@ -26,6 +26,7 @@
 
 package org.eclipse.daanse.rolap.common.agg;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -70,6 +71,17 @@ public class SegmentAxis {
      */
     private final Comparable[] keys;
 
+    /**
+     * The keys of an axis of int, long or double values, unboxed in the
+     * order of {@link #keys}, so that {@link SegmentLoader} can find the
+     * offset of a row's value by binary search without boxing it. A
+     * trailing {@link Util#sqlNullValue} key is not included. Null unless
+     * all other keys have that type.
+     */
+    private final int[] intKeys;
+    private final long[] longKeys;
+    private final double[] doubleKeys;
+
     private static final Integer ZERO = Integer.valueOf(0);
     private static final Integer ONE = Integer.valueOf(1);
     private static final Comparable[] NO_COMPARABLES = new Comparable[0];
@@ -101,6 +113,14 @@ public class SegmentAxis {
                 mapKeyToOffset.put(keys[i], i);
             }
         }
+        int n = this.keys.length;
+        if (n > 0 && this.keys[n - 1] == Util.sqlNullValue) {
+            --n;
+        }
+        this.intKeys = intKeys(this.keys, n);
+        this.longKeys = intKeys == null ? longKeys(this.keys, n) : null;
+        this.doubleKeys = intKeys == null && longKeys == null
+            ? doubleKeys(this.keys, n) : null;
         assert predicate != null;
         assert safe || isSorted(keys);
     }
@@ -119,6 +139,54 @@ public class SegmentAxis {
         return true;
     }
 
+    private static int[] intKeys(Comparable[] keys, int n) {
+        if (n == 0) {
+            return null;
+        }
+        final int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (!(keys[i] instanceof Integer value)
+                || (i > 0 && value < values[i - 1]))
+            {
+                return null;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static long[] longKeys(Comparable[] keys, int n) {
+        if (n == 0) {
+            return null;
+        }
+        final long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            if (!(keys[i] instanceof Long value)
+                || (i > 0 && value < values[i - 1]))
+            {
+                return null;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static double[] doubleKeys(Comparable[] keys, int n) {
+        if (n == 0) {
+            return null;
+        }
+        final double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (!(keys[i] instanceof Double value)
+                || (i > 0 && Double.compare(value, values[i - 1]) < 0))
+            {
+                return null;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
     private static Set<Object> predicateValueSet(
         StarColumnPredicate predicate)
     {
@@ -208,6 +276,42 @@ public class SegmentAxis {
         return ordinal;
     }
 
+    /**
+     * Returns the offset of an int key, or -1 if the axis does not contain
+     * it.
+     */
+    final int getOffset(int key) {
+        if (intKeys == null) {
+            return getOffset((Comparable) Integer.valueOf(key));
+        }
+        final int offset = Arrays.binarySearch(intKeys, key);
+        return offset < 0 ? -1 : offset;
+    }
+
+    /**
+     * Returns the offset of a long key, or -1 if the axis does not contain
+     * it.
+     */
+    final int getOffset(long key) {
+        if (longKeys == null) {
+            return getOffset((Comparable) Long.valueOf(key));
+        }
+        final int offset = Arrays.binarySearch(longKeys, key);
+        return offset < 0 ? -1 : offset;
+    }
+
+    /**
+     * Returns the offset of a double key, or -1 if the axis does not
+     * contain it.
+     */
+    final int getOffset(double key) {
+        if (doubleKeys == null) {
+            return getOffset((Comparable) Double.valueOf(key));
+        }
+        final int offset = Arrays.binarySearch(doubleKeys, key);
+        return offset < 0 ? -1 : offset;
+    }
+
     /**
      * Returns whether this axis contains a given key, or would contain it
      * if it existed.
@@ -53,6 +53,9 @@ import org.eclipse.daanse.olap.spi.SegmentColumn;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
 import  org.eclipse.daanse.olap.util.ArraySortedSet;
 import  org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.aggregator.MaxAggregator;
+import org.eclipse.daanse.rolap.aggregator.MinAggregator;
+import org.eclipse.daanse.rolap.aggregator.SumAggregator;
 import org.eclipse.daanse.rolap.common.EnumConvertor;
 import org.eclipse.daanse.rolap.common.RolapUtil;
 import org.eclipse.daanse.rolap.common.agg.Segment.ExcludedRegion;
@@ -338,111 +341,135 @@ public class SegmentBuilder {
                 axis.valueSet.toArray(Comparable[]::new);
         }
 
+        // Build the axis list.
+        final List<Pair<SortedSet<Comparable>, Boolean>> axisList =
+            new ArrayList<>();
+        BigInteger bigValueCount = BigInteger.ONE;
+        for (AxisInfo axis : axes) {
+            axisList.add(Pair.of(axis.valueSet, axis.hasNull));
+            int size = axis.values.length;
+            bigValueCount = bigValueCount.multiply(
+                BigInteger.valueOf(axis.hasNull ? size + 1 : size));
+        }
+
+        // Try the primitive fast path first. If every source is a dense int
+        // or double body, the aggregator is sum, min or max and the sources
+        // do not overlap, cells are accumulated straight into a primitive
+        // array without boxing or building cell keys.
+        final int[] axisSources = new int[axes.size()];
+        final Comparable[][] axisValues = new Comparable[axes.size()][];
+        for (int i = 0; i < axes.size(); i++) {
+            axisSources[i] = axes.get(i).src;
+            axisValues[i] = axes.get(i).values;
+        }
+        final SegmentBody denseBody =
+            bigValueCount.compareTo(
+                BigInteger.valueOf(Integer.MAX_VALUE)) > 0
+                ? null
+                : rollupDense(
+                    segments,
+                    axisSources,
+                    axisValues,
+                    axisList,
+                    bigValueCount.intValue(),
+                    rollupAggregator,
+                    datatype,
+                    sparseSegmentCountThreshold,
+                    sparseSegmentDensityThreshold);
+
         // Populate cells.
         //
-        // (This is a rough implementation, very inefficient. It makes all
-        // segment types pretend to be sparse, for purposes of reading. It
-        // maps all axis ordinals to a value, then back to an axis ordinal,
-        // even if this translation were not necessary, say if the source and
-        // target axes had the same set of values. And it always creates a
-        // sparse segment.
-        //
-        // We should do really efficient rollup if the source is an array: we
-        // should box values (e.g double to Double and back), and we should read
-        // a stripe of values from the and add them up into a single cell.
+        // (This is the general implementation, used when the fast path above
+        // does not apply. It makes all segment types pretend to be sparse,
+        // for purposes of reading. It maps all axis ordinals to a value, then
+        // back to an axis ordinal, even if this translation were not
+        // necessary, say if the source and target axes had the same set of
+        // values. It also boxes every value and de-duplicates cells of
+        // overlapping segments.)
         final Map<CellKey, List<Object>> cellValues =
             new HashMap<>();
         TreeSet<ColumnValues> addedIntersections =
             new TreeSet <>();
 
-        for (Map.Entry<SegmentHeader, SegmentBody> entry : map.entrySet()) {
-            final int[] pos = new int[axes.size()];
-            final Comparable[][] valueArrays =
-                new Comparable[firstHeaderConstrainedColumns.size()][];
-            final SegmentBody body = entry.getValue();
-            ArrayList<List<Comparable>> axisValueSetsAsArrays = null;
-
-            // Copy source value sets into arrays. For axes that are being
-            // projected away, store null.
-            z = 0;
-            for (SortedSet<Comparable> set : body.getAxisValueSets()) {
-                    valueArrays[z] = keepColumns.contains(
-                        firstHeaderConstrainedColumns.get(z).columnExpression)
-                        ? set.toArray(Comparable[]::new)
-                        : null;
-                ++z;
-            }
-            Map<CellKey, Object> v = body.getValueMap();
-            entryLoop:
-            for (Map.Entry<CellKey, Object> vEntry : v.entrySet()) {
+        if (denseBody == null) {
+            for (Map.Entry<SegmentHeader, SegmentBody> entry : map.entrySet()) {
+                final int[] pos = new int[axes.size()];
+                final Comparable[][] valueArrays =
+                    new Comparable[firstHeaderConstrainedColumns.size()][];
+                final SegmentBody body = entry.getValue();
+                ArrayList<List<Comparable>> axisValueSetsAsArrays = null;
+
+                // Copy source value sets into arrays. For axes that are being
+                // projected away, store null.
                 z = 0;
-                for (int i = 0; i < vEntry.getKey().size(); i++) {
-                    final Comparable[] valueArray = valueArrays[i];
-                    if (valueArray == null) {
-                        continue;
-                    }
-                    final int ordinal = vEntry.getKey().getOrdinals()[i];
-                    final int targetOrdinal;
-                    if (axes.get(z).hasNull && ordinal == valueArray.length) {
-                        targetOrdinal = axes.get(z).valueSet.size();
-                    } else {
-                        final Comparable value = valueArray[ordinal];
-                        if (value == null) {
+                for (SortedSet<Comparable> set : body.getAxisValueSets()) {
+                        valueArrays[z] = keepColumns.contains(
+                            firstHeaderConstrainedColumns.get(z).columnExpression)
+                            ? set.toArray(Comparable[]::new)
+                            : null;
+                    ++z;
+                }
+                Map<CellKey, Object> v = body.getValueMap();
+                entryLoop:
+                for (Map.Entry<CellKey, Object> vEntry : v.entrySet()) {
+                    z = 0;
+                    for (int i = 0; i < vEntry.getKey().size(); i++) {
+                        final Comparable[] valueArray = valueArrays[i];
+                        if (valueArray == null) {
+                            continue;
+                        }
+                        final int ordinal = vEntry.getKey().getOrdinals()[i];
+                        final int targetOrdinal;
+                        if (axes.get(z).hasNull && ordinal == valueArray.length) {
                             targetOrdinal = axes.get(z).valueSet.size();
                         } else {
-                            targetOrdinal =
-                                Util.binarySearch(
-                                    axes.get(z).values,
-                                    0, axes.get(z).values.length,
-                                    value);
+                            final Comparable value = valueArray[ordinal];
+                            if (value == null) {
+                                targetOrdinal = axes.get(z).valueSet.size();
+                            } else {
+                                targetOrdinal =
+                                    Util.binarySearch(
+                                        axes.get(z).values,
+                                        0, axes.get(z).values.length,
+                                        value);
+                            }
+                        }
+                        if (targetOrdinal >= 0) {
+                            pos[z++] = targetOrdinal;
+                        } else {
+                            // This happens when one of the rollup candidate doesn't
+                            // contain the requested cell.
+                            continue entryLoop;
                         }
                     }
-                    if (targetOrdinal >= 0) {
-                        pos[z++] = targetOrdinal;
-                    } else {
-                        // This happens when one of the rollup candidate doesn't
-                        // contain the requested cell.
-                        continue entryLoop;
-                    }
-                }
-                final CellKey ck = CellKey.Generator.newCellKey(pos);
-                if (!cellValues.containsKey(ck)) {
-                    cellValues.put(ck, new ArrayList<>());
-                }
-                if ( map.size() == 1 ) {
-                  // No de-duping needed when rolling up only 1 segment
-                  cellValues.get(ck).add(vEntry.getValue());
-                } else {
-                  if ( axisValueSetsAsArrays == null ) {
-                    // Cache segment axis values as lists for fast lookup
-                    axisValueSetsAsArrays = new ArrayList<>();
-                    for ( int i = 0; i < body.getAxisValueSets().length; i++ ) {
-                      List<Comparable> columnVals = new ArrayList<>(body.getAxisValueSets()[i]);
-                      axisValueSetsAsArrays.add( columnVals );
+                    final CellKey ck = CellKey.Generator.newCellKey(pos);
+                    if (!cellValues.containsKey(ck)) {
+                        cellValues.put(ck, new ArrayList<>());
                     }
-                  }
-                  ColumnValues colValues = new ColumnValues(body, vEntry.getKey(), axisValueSetsAsArrays);
-                  if (!addedIntersections.contains(colValues)) {
-                      // only add the cell value if we haven't already.
-                      // there is a potential double add if segments overlap
+                    if ( map.size() == 1 ) {
+                      // No de-duping needed when rolling up only 1 segment
                       cellValues.get(ck).add(vEntry.getValue());
-                      addedIntersections.add(colValues);
-                  }
+                    } else {
+                      if ( axisValueSetsAsArrays == null ) {
+                        // Cache segment axis values as lists for fast lookup
+                        axisValueSetsAsArrays = new ArrayList<>();
+                        for ( int i = 0; i < body.getAxisValueSets().length; i++ ) {
+                          List<Comparable> columnVals = new ArrayList<>(body.getAxisValueSets()[i]);
+                          axisValueSetsAsArrays.add( columnVals );
+                        }
+                      }
+                      ColumnValues colValues = new ColumnValues(body, vEntry.getKey(), axisValueSetsAsArrays);
+                      if (!addedIntersections.contains(colValues)) {
+                          // only add the cell value if we haven't already.
+                          // there is a potential double add if segments overlap
+                          cellValues.get(ck).add(vEntry.getValue());
+                          addedIntersections.add(colValues);
+                      }
+                    }
                 }
             }
         }
 
-        // Build the axis list.
-        final List<Pair<SortedSet<Comparable>, Boolean>> axisList =
-            new ArrayList<>();
-        BigInteger bigValueCount = BigInteger.ONE;
-        for (AxisInfo axis : axes) {
-            axisList.add(Pair.of(axis.valueSet, axis.hasNull));
-            int size = axis.values.length;
-            bigValueCount = bigValueCount.multiply(
-                BigInteger.valueOf(axis.hasNull ? size + 1 : size));
-        }
-
         // The logic used here for the sparse check follows
         // SegmentLoader.setAxisDataAndDecideSparseUse.
         // The two methods use different data structures (AxisInfo/SegmentAxis)
@@ -461,7 +488,9 @@ public class SegmentBuilder {
         final SegmentBody body;
         // Peak at the values and determine the best way to store them
         // (whether to use a dense native dataset or a sparse one.
-        if (cellValues.isEmpty()) {
+        if (denseBody != null) {
+            body = denseBody;
+        } else if (cellValues.isEmpty()) {
             // Just store the data into an empty dense object dataset.
             body =
                 new DenseObjectSegmentBody(
@@ -636,6 +665,300 @@ public class SegmentBuilder {
         return true;
     }
 
+    /**
+     * Rolls up dense int and double segment bodies without boxing values.
+     *
+     * <p>For every source axis, an array maps each source ordinal to its
+     * contribution to the offset of the target cell (or -1 if the value is
+     * not in the target), so each source cell is placed with a few array
+     * lookups. Values are accumulated into a primitive array plus a bit set
+     * of the target cells that are still null.
+     *
+     * <p>Returns null, so that the caller falls back to the general
+     * implementation, if the aggregator is not sum, min or max, if a source
+     * body is not a {@link DenseIntSegmentBody} or
+     * {@link DenseDoubleSegmentBody} compatible with the datatype, if the
+     * target is larger than the sources, or if two sources overlap (the
+     * general implementation de-duplicates their common cells).
+     *
+     * @param segments Source segment headers and bodies
+     * @param axisSources For each target axis, the ordinal of its source axis
+     * @param axisValues For each target axis, its sorted values
+     * @param axisList Target axes
+     * @param valueCount Number of cells in the target
+     * @param rollupAggregator The aggregator to use to rollup
+     * @param datatype The data type to use
+     * @return Rolled up body, or null if the fast path does not apply
+     */
+    private static SegmentBody rollupDense(
+        List<Map.Entry<SegmentHeader, SegmentBody>> segments,
+        int[] axisSources,
+        Comparable[][] axisValues,
+        List<Pair<SortedSet<Comparable>, Boolean>> axisList,
+        int valueCount,
+        Aggregator rollupAggregator,
+        Datatype datatype,
+        int sparseSegmentCountThreshold,
+        double sparseSegmentDensityThreshold)
+    {
+        final DenseRollup rollup = DenseRollup.of(rollupAggregator);
+        if (rollup == null
+            || (datatype != Datatype.INTEGER && datatype != Datatype.NUMERIC))
+        {
+            return null;
+        }
+        final List<SegmentBody> bodies = new ArrayList<>(segments.size());
+        long sourceSize = 0;
+        for (Map.Entry<SegmentHeader, SegmentBody> entry : segments) {
+            final SegmentBody body = entry.getValue();
+            if (body instanceof DenseIntSegmentBody intBody) {
+                sourceSize += intBody.getSize();
+            } else if (body instanceof DenseDoubleSegmentBody doubleBody
+                && datatype == Datatype.NUMERIC)
+            {
+                sourceSize += doubleBody.getSize();
+            } else {
+                return null;
+            }
+            bodies.add(body);
+        }
+        if (valueCount > sourceSize || anyOverlap(bodies)) {
+            return null;
+        }
+
+        final int[] axisMultipliers = computeAxisMultipliers(axisList);
+        final boolean integral = datatype == Datatype.INTEGER;
+        final long[] longs = integral ? new long[valueCount] : null;
+        final double[] doubles = integral ? null : new double[valueCount];
+        final BitSet nullValues = Util.bitSetBetween(0, valueCount);
+        for (SegmentBody body : bodies) {
+            final int[][] offsets =
+                targetOffsets(
+                    body, axisSources, axisValues, axisList, axisMultipliers);
+            final int[] srcInts =
+                body instanceof DenseIntSegmentBody
+                    ? (int[]) body.getValueArray()
+                    : null;
+            final double[] srcDoubles =
+                srcInts == null ? (double[]) body.getValueArray() : null;
+            final BitSet srcNulls = body.getNullValueIndicators();
+            final int size =
+                srcInts != null ? srcInts.length : srcDoubles.length;
+            final int[] ordinals = new int[offsets.length];
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    // Move to the next source cell; last axis is fastest.
+                    int k = ordinals.length - 1;
+                    while (k >= 0 && ++ordinals[k] == offsets[k].length) {
+                        ordinals[k--] = 0;
+                    }
+                }
+                int offset = 0;
+                for (int k = 0; k < ordinals.length; k++) {
+                    final int o = offsets[k][ordinals[k]];
+                    if (o < 0) {
+                        offset = -1;
+                        break;
+                    }
+                    offset += o;
+                }
+                if (offset < 0) {
+                    continue;
+                }
+                final boolean first = nullValues.get(offset);
+                if (srcInts != null) {
+                    final int value = srcInts[i];
+                    if (value == 0 && srcNulls.get(i)) {
+                        continue;
+                    }
+                    if (integral) {
+                        longs[offset] =
+                            first ? value : rollup.apply(longs[offset], value);
+                    } else {
+                        doubles[offset] =
+                            first
+                                ? value
+                                : rollup.apply(doubles[offset], value);
+                    }
+                } else {
+                    final double value = srcDoubles[i];
+                    if (value == 0 && srcNulls.get(i)) {
+                        continue;
+                    }
+                    doubles[offset] =
+                        first ? value : rollup.apply(doubles[offset], value);
+                }
+                if (first) {
+                    nullValues.clear(offset);
+                }
+            }
+        }
+
+        final int cellCount = valueCount - nullValues.cardinality();
+        if (cellCount == 0) {
+            return new DenseObjectSegmentBody(new Object[0], axisList);
+        }
+        if (SegmentLoader.useSparse(
+            valueCount,
+            cellCount,
+            sparseSegmentCountThreshold,
+            sparseSegmentDensityThreshold))
+        {
+            final Map<CellKey, Object> data = new HashMap<>();
+            final int[] pos = new int[axisList.size()];
+            for (int offset = nullValues.nextClearBit(0);
+                offset < valueCount;
+                offset = nullValues.nextClearBit(offset + 1))
+            {
+                for (int k = 0; k < pos.length; k++) {
+                    pos[k] = offset / axisMultipliers[k]
+                        % (axisList.get(k).left.size()
+                            + (axisList.get(k).right ? 1 : 0));
+                }
+                data.put(
+                    CellKey.Generator.newCellKey(pos),
+                    integral
+                        ? (Object) (int) longs[offset]
+                        : (Object) doubles[offset]);
+            }
+            return new SparseSegmentBody(data, axisList);
+        }
+        if (integral) {
+            final int[] ints = new int[valueCount];
+            for (int i = 0; i < valueCount; i++) {
+                ints[i] = (int) longs[i];
+            }
+            return new DenseIntSegmentBody(nullValues, ints, axisList);
+        }
+        return new DenseDoubleSegmentBody(nullValues, doubles, axisList);
+    }
+
+    /**
+     * Computes, for each axis of a source body, the contribution of each of
+     * its ordinals to the offset of the target cell. Axes that are projected
+     * away contribute 0; values that are not in the target are -1.
+     */
+    private static int[][] targetOffsets(
+        SegmentBody body,
+        int[] axisSources,
+        Comparable[][] axisValues,
+        List<Pair<SortedSet<Comparable>, Boolean>> axisList,
+        int[] axisMultipliers)
+    {
+        final SortedSet<Comparable>[] valueSets = body.getAxisValueSets();
+        final boolean[] nullFlags = body.getNullAxisFlags();
+        final int[][] offsets = new int[valueSets.length][];
+        for (int k = 0; k < valueSets.length; k++) {
+            offsets[k] =
+                new int[valueSets[k].size() + (nullFlags[k] ? 1 : 0)];
+        }
+        for (int t = 0; t < axisSources.length; t++) {
+            final int[] axisOffsets = offsets[axisSources[t]];
+            final Comparable[] values = axisValues[t];
+            int ordinal = 0;
+            for (Comparable value : valueSets[axisSources[t]]) {
+                final int targetOrdinal =
+                    Util.binarySearch(values, 0, values.length, value);
+                axisOffsets[ordinal++] =
+                    targetOrdinal < 0
+                        ? -1
+                        : targetOrdinal * axisMultipliers[t];
+            }
+            if (ordinal < axisOffsets.length) {
+                // The source null value maps to the target null value.
+                axisOffsets[ordinal] =
+                    axisList.get(t).right
+                        ? values.length * axisMultipliers[t]
+                        : -1;
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Returns whether any two bodies have at least one value in common on
+     * every axis, and so may contain the same cell.
+     */
+    private static boolean anyOverlap(List<SegmentBody> bodies) {
+        for (int i = 0; i < bodies.size(); i++) {
+            for (int j = i + 1; j < bodies.size(); j++) {
+                if (overlap(bodies.get(i), bodies.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlap(SegmentBody body1, SegmentBody body2) {
+        final SortedSet<Comparable>[] valueSets1 = body1.getAxisValueSets();
+        final SortedSet<Comparable>[] valueSets2 = body2.getAxisValueSets();
+        for (int k = 0; k < valueSets1.length; k++) {
+            if (!(body1.getNullAxisFlags()[k] && body2.getNullAxisFlags()[k])
+                && Collections.disjoint(valueSets1[k], valueSets2[k]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Aggregators that {@link #rollupDense} can apply one value at a time.
+     */
+    private enum DenseRollup {
+        SUM {
+            @Override
+            long apply(long acc, long value) {
+                return acc + value;
+            }
+
+            @Override
+            double apply(double acc, double value) {
+                return acc + value;
+            }
+        },
+        MIN {
+            @Override
+            long apply(long acc, long value) {
+                return Math.min(acc, value);
+            }
+
+            @Override
+            double apply(double acc, double value) {
+                return Math.min(acc, value);
+            }
+        },
+        MAX {
+            @Override
+            long apply(long acc, long value) {
+                return Math.max(acc, value);
+            }
+
+            @Override
+            double apply(double acc, double value) {
+                return Math.max(acc, value);
+            }
+        };
+
+        abstract long apply(long acc, long value);
+
+        abstract double apply(double acc, double value);
+
+        static DenseRollup of(Aggregator aggregator) {
+            if (aggregator instanceof SumAggregator) {
+                return SUM;
+            }
+            if (aggregator instanceof MinAggregator) {
+                return MIN;
+            }
+            if (aggregator instanceof MaxAggregator) {
+                return MAX;
+            }
+            return null;
+        }
+    }
+
     private static int[] computeAxisMultipliers(
         List<Pair<SortedSet<Comparable>, Boolean>> axes)
     {
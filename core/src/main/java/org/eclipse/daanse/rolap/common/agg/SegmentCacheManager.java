@@ -24,7 +24,9 @@
  */
 package org.eclipse.daanse.rolap.common.agg;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,14 +35,18 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.daanse.olap.api.Context;
 import org.eclipse.daanse.olap.api.Message;
@@ -68,15 +74,20 @@ import org.eclipse.daanse.olap.spi.SegmentBody;
 import org.eclipse.daanse.olap.spi.SegmentCache;
 import org.eclipse.daanse.olap.spi.SegmentColumn;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.ByteString;
 import  org.eclipse.daanse.olap.util.Pair;
 import org.eclipse.daanse.rolap.api.RolapContext;
 import org.eclipse.daanse.rolap.common.CacheControlImpl;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.RolapUtil;
+import org.eclipse.daanse.rolap.common.cache.DiskSegmentCache;
 import org.eclipse.daanse.rolap.common.cache.MemorySegmentCache;
+import org.eclipse.daanse.rolap.common.cache.OffHeapSegmentCache;
 import org.eclipse.daanse.rolap.common.cache.SegmentCacheIndex;
 import org.eclipse.daanse.rolap.common.cache.SegmentCacheIndexImpl;
 import org.eclipse.daanse.rolap.common.catalog.RolapCatalogCache;
 import org.eclipse.daanse.rolap.common.catalog.RolapCatalogKey;
+import org.eclipse.daanse.rolap.util.VirtualThreadExecutor;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.eclipse.daanse.rolap.element.RolapCatalog;
 import org.eclipse.daanse.rolap.element.RolapStoredMeasure;
@@ -263,12 +274,31 @@ import org.slf4j.LoggerFactory;
  *
  * 24. Obsolete {@link #handler}. Indirection doesn't win anything.
  *
+ * Sharding
+ *
+ * If {@link RolapConfigConstants#SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS}
+ * is greater than 1, the manager runs one actor per shard, and each star's
+ * index is owned by the shard its fact table alias hashes to. Commands that
+ * implement {@link StarCacheCommand} run on their star's shard, concurrently
+ * with commands for other stars. Any other command (for example a flush that
+ * spans several stars) runs on shard 0 while all other shards are parked.
+ * {@link #peek} first looks the segment up in the star's index directly and
+ * only enqueues a command if that fails.
+ *
  * @author jhyde
  */
 public class SegmentCacheManager implements OlapSegmentCacheManager {
   private final Handler handler = new Handler();
-  private final Actor actor;
+  private final Actor[] actors;
+  private final Thread[] threads;
   public final Thread thread;
+
+  /**
+   * Thread of shard 0 while it executes a command that spans shards,
+   * otherwise null. Lets that thread act on indexes owned by other shards.
+   */
+  private volatile Thread exclusiveThread;
+  private final ReentrantLock exclusiveLock = new ReentrantLock();
   private final Set<String> starFactTablesToSync;
 
   /**
@@ -284,6 +314,18 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
    */
   public ExecutorService sqlExecutor;
 
+  /**
+   * Executor with which to evaluate the cells of queries in parallel. Cells
+   * may read members by SQL, so this is not a fork-join pool.
+   */
+  public final ExecutorService cellExecutor;
+
+  /**
+   * Schedules the statements of concurrent executions on {@link #sqlExecutor}, or null if they are submitted
+   * directly.
+   */
+  private final FairSqlScheduler sqlScheduler;
+
   // NOTE: This list is only mutable for testing purposes. Would rather it
   // were immutable.
   public final List<SegmentCacheWorker> segmentCacheWorkers =
@@ -305,12 +347,25 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     public SegmentCacheManager( RolapContext context ) {
     this.context = context;
     this.sqlExecutor = createSqlExecutor(context);
+    this.sqlScheduler = createSqlScheduler(context, sqlExecutor);
     this.cacheExecutor = createCacheExecutor(context);
-    actor = new Actor();
-    thread = new Thread(
-      actor, "daanse.rolap.agg.SegmentCacheManager$ACTOR" );
-    thread.setDaemon( true );
-    thread.start();
+    this.cellExecutor = createCellExecutor(context);
+    final int shardCount = Math.max( 1,
+      context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS,
+        RolapConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS_DEFAULT_VALUE, Integer.class) );
+    actors = new Actor[shardCount];
+    threads = new Thread[shardCount];
+    for ( int i = 0; i < shardCount; i++ ) {
+      actors[i] = new Actor();
+      threads[i] = new Thread(
+        actors[i],
+        i == 0
+          ? "daanse.rolap.agg.SegmentCacheManager$ACTOR"
+          : "daanse.rolap.agg.SegmentCacheManager$ACTOR-" + i );
+      threads[i].setDaemon( true );
+      threads[i].start();
+    }
+    thread = threads[0];
 
     // Create the index registry.
     this.indexRegistry = new SegmentCacheIndexRegistry();
@@ -318,9 +373,41 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     // Add a local cache, if needed.
     if ( !context.getConfigValue(ConfigConstants.DISABLE_LOCAL_SEGMENT_CACHE, ConfigConstants.DISABLE_LOCAL_SEGMENT_CACHE_DEFAULT_VALUE, Boolean.class)
       && !context.getConfigValue(ConfigConstants.DISABLE_CACHING, ConfigConstants.DISABLE_CACHING_DEFAULT_VALUE, Boolean.class) ) {
-      final MemorySegmentCache cache = new MemorySegmentCache();
+      final long maximumWeight = context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_MAXIMUM_WEIGHT,
+        RolapConfigConstants.SEGMENT_CACHE_MAXIMUM_WEIGHT_DEFAULT_VALUE, Long.class);
+      final long offHeapSize = context.getConfigValue(RolapConfigConstants.OFF_HEAP_SEGMENT_CACHE_SIZE,
+        RolapConfigConstants.OFF_HEAP_SEGMENT_CACHE_SIZE_DEFAULT_VALUE, Long.class);
+      final MemorySegmentCache cache = new MemorySegmentCache( maximumWeight );
       segmentCacheWorkers.add(
-        new SegmentCacheWorker( cache, thread ) );
+        new SegmentCacheWorker( cache, threads ) );
+      // Evictions arrive as non-local deletions; the listener removes
+      // the evicted segments from the index. Only the last local tier
+      // reports them: a segment evicted from the heap may still be
+      // served off-heap.
+      if ( offHeapSize > 0 ) {
+        final OffHeapSegmentCache offHeapCache = new OffHeapSegmentCache( offHeapSize );
+        segmentCacheWorkers.add(
+          new SegmentCacheWorker( offHeapCache, threads ) );
+        offHeapCache.addListener(
+          new AsyncCacheListener( this, context ) );
+      } else if ( maximumWeight > 0 ) {
+        cache.addListener(
+          new AsyncCacheListener( this, context ) );
+      }
+      // Persist segments so that they survive a restart. The headers on
+      // disk are synced per star, like those of an external cache.
+      final String directory = context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_DIRECTORY,
+        RolapConfigConstants.SEGMENT_CACHE_DIRECTORY_DEFAULT_VALUE, String.class);
+      if ( directory != null && !directory.isEmpty() ) {
+        final long maximumSize = context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_DIRECTORY_MAXIMUM_SIZE,
+          RolapConfigConstants.SEGMENT_CACHE_DIRECTORY_MAXIMUM_SIZE_DEFAULT_VALUE, Long.class);
+        try {
+          segmentCacheWorkers.add(
+            new SegmentCacheWorker( new DiskSegmentCache( Path.of( directory ), maximumSize ), threads ) );
+        } catch ( IOException e ) {
+          LOGGER.warn( "Cannot open segment cache directory " + directory, e );
+        }
+      }
     }
 
     // Add an external cache, if configured.
@@ -329,7 +416,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     for ( SegmentCache cache : externalCache ) {
       // Create a worker for this external cache
       segmentCacheWorkers.add(
-        new SegmentCacheWorker( cache, thread ) );
+        new SegmentCacheWorker( cache, threads ) );
       // Hook up a listener so it can update
       // the segment index.
       cache.addListener(
@@ -347,7 +434,17 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     }
   }
 
+    private static boolean useVirtualThreads(Context<?> context) {
+        return context.getConfigValue(RolapConfigConstants.ENABLE_VIRTUAL_THREADS,
+            RolapConfigConstants.ENABLE_VIRTUAL_THREADS_DEFAULT_VALUE, Boolean.class);
+    }
+
     private ExecutorService createCacheExecutor(Context<?> context) {
+        if (useVirtualThreads(context)) {
+            return new VirtualThreadExecutor(
+                "daanse.rolap.agg.SegmentCacheManager$cacheExecutor",
+                context.getConfigValue(ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_CACHE_THREADS, ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_CACHE_THREADS_DEFAULT_VALUE, Integer.class));
+        }
         return Util.getExecutorService(
             // We use the same value for coreSize and maxSize
             // because that's the behavior we want. All extra
@@ -361,7 +458,31 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
             } );
     }
 
+    private ExecutorService createCellExecutor(Context<?> context) {
+        final int configuredThreads = context.getConfigValue(RolapConfigConstants.PARALLEL_CELL_EVALUATION_THREADS,
+            RolapConfigConstants.PARALLEL_CELL_EVALUATION_THREADS_DEFAULT_VALUE, Integer.class);
+        final int threads = configuredThreads <= 0
+            ? Runtime.getRuntime().availableProcessors()
+            : configuredThreads;
+        if (useVirtualThreads(context)) {
+            return new VirtualThreadExecutor(
+                "daanse.rolap.agg.SegmentCacheManager$cellExecutor", threads);
+        }
+        return Util.getExecutorService(
+            threads,
+            threads,
+            1,
+            "daanse.rolap.agg.SegmentCacheManager$cellExecutor",
+            new ThreadPoolExecutor.AbortPolicy() );
+    }
+
     private ExecutorService createSqlExecutor(Context<?> context) {
+        if (useVirtualThreads(context)) {
+            return new VirtualThreadExecutor(
+                "daanse.rolap.agg.SegmentCacheManager$sqlExecutor",
+                context.getConfigValue(ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_SQL_THREADS,
+                    ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_SQL_THREADS_DEFAULT_VALUE, Integer.class));
+        }
         return Util.getExecutorService(
             // We use the same value for coreSize and maxSize
             // because that's the behavior we want. All extra
@@ -379,6 +500,52 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
             } );
     }
 
+    private static FairSqlScheduler createSqlScheduler(Context<?> context, ExecutorService sqlExecutor) {
+        final int executionLimit = context.getConfigValue(RolapConfigConstants.SQL_STATEMENTS_PER_EXECUTION,
+            RolapConfigConstants.SQL_STATEMENTS_PER_EXECUTION_DEFAULT_VALUE, Integer.class);
+        if ( executionLimit <= 0 ) {
+            return null;
+        }
+        return new FairSqlScheduler(
+            sqlExecutor,
+            context.getConfigValue(ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_SQL_THREADS,
+                ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_SQL_THREADS_DEFAULT_VALUE, Integer.class),
+            executionLimit );
+    }
+
+  /**
+   * Submits a SQL statement of the current execution.
+   *
+   * @param callable Statement
+   * @return Future of the result of the statement
+   */
+  public <T> Future<T> submitSql( Callable<T> callable ) {
+    if ( sqlScheduler == null ) {
+      return sqlExecutor.submit( callable );
+    }
+    return sqlScheduler.submit( ExecutionContext.current().getExecution(), callable );
+  }
+
+  /**
+   * Returns the scheduler of SQL statements, or null if statements are submitted directly to {@link #sqlExecutor}.
+   */
+  public FairSqlScheduler getSqlScheduler() {
+    return sqlScheduler;
+  }
+
+  /**
+   * Returns the hit rate, eviction count and weight of the local segment cache, or null if the local cache is
+   * disabled.
+   */
+  public MemorySegmentCache.Statistics getLocalCacheStatistics() {
+    for ( SegmentCacheWorker worker : segmentCacheWorkers ) {
+      if ( worker.cache instanceof MemorySegmentCache memoryCache ) {
+        return memoryCache.getStatistics();
+      }
+    }
+    return null;
+  }
+
     /**
    * Load external cached elements for received star. Similar to {@link #externalSegmentCreated(SegmentHeader,
    * MondrianServer) externalSegmentCreated} but the index is created if not there.
@@ -392,8 +559,17 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
       // make sure the index is created,
       // using get with star instead of header
       SegmentCacheIndex index = indexRegistry.getIndex( star );
+      final RolapCatalog catalog = star.getCatalog();
       for ( SegmentHeader header : compositeCache.getSegmentHeaders() ) {
         if ( header.rolapStarFactTableName.equals( starFactTableAlias ) ) {
+          if ( header.schemaName.equals( catalog.getName() )
+            && !Objects.equals( header.schemaChecksum, catalog.getChecksum() )
+            && !isChecksumInUse( header.schemaChecksum ) ) {
+            // Persisted for an earlier version of the schema, before a
+            // restart, and no loaded catalog can request it again.
+            removeFromDiskCache( header );
+            continue;
+          }
           if ( index != null ) {
             index.add( header, null, false );
 			CellCacheSegmentCreateEvent cacheSegmentCreateEvent = new CellCacheSegmentCreateEvent(
@@ -420,7 +596,76 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
 
   @Override
   public <T> T execute( CacheCommand<T> command ) {
-    return actor.execute( handler, command );
+    if ( actors.length == 1 ) {
+      return actors[0].execute( handler, command );
+    }
+    if ( command instanceof StarCacheCommand<T> starCommand ) {
+      final RolapStar star = starCommand.getStar();
+      if ( star != null ) {
+        return actorFor( star ).execute( handler, command );
+      }
+    }
+    return executeExclusive( command );
+  }
+
+  /**
+   * Returns the number of actor shards.
+   */
+  public int getShardCount() {
+    return actors.length;
+  }
+
+  private int shardOf( RolapStar star ) {
+    if ( star == null || actors.length == 1 ) {
+      return 0;
+    }
+    return Math.floorMod(
+      star.getFactTable().getAlias().hashCode(), actors.length );
+  }
+
+  private Actor actorFor( RolapStar star ) {
+    return actors[shardOf( star )];
+  }
+
+  /**
+   * Executes a command that may touch the indexes of several shards. Parks
+   * every shard but the first, runs the command on shard 0, then releases
+   * the other shards.
+   */
+  private <T> T executeExclusive( final CacheCommand<T> command ) {
+    exclusiveLock.lock();
+    final CountDownLatch parked = new CountDownLatch( actors.length - 1 );
+    final CountDownLatch release = new CountDownLatch( 1 );
+    try {
+      for ( int i = 1; i < actors.length; i++ ) {
+        actors[i].event( handler, new ParkEvent( parked, release ) );
+      }
+      parked.await();
+      return actors[0].execute(
+        handler,
+        new CacheCommand<T>() {
+          @Override
+          public T call() throws Exception {
+            exclusiveThread = Thread.currentThread();
+            try {
+              return command.call();
+            } finally {
+              exclusiveThread = null;
+            }
+          }
+
+          @Override
+          public ExecutionContext getExecutionContext() {
+            return command.getExecutionContext();
+          }
+        } );
+    } catch ( InterruptedException e ) {
+      Thread.currentThread().interrupt();
+      throw Util.newError( e, "Exception while executing " + command );
+    } finally {
+      release.countDown();
+      exclusiveLock.unlock();
+    }
   }
 
   public OlapSegmentCacheIndex getIndexRegistry() {
@@ -443,7 +688,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     SegmentHeader header,
     SegmentBody body ) {
     final ExecutionContext executionContext = ExecutionContext.current();
-    actor.event(
+    actorFor( star ).event(
       handler,
       new SegmentLoadSucceededEvent(
     	Instant.now(),
@@ -472,7 +717,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     SegmentHeader header,
     Throwable throwable ) {
     final ExecutionContext executionContext = ExecutionContext.current();
-    actor.event(
+    actorFor( star ).event(
       handler,
       new SegmentLoadFailedEvent(
         System.currentTimeMillis(),
@@ -500,7 +745,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     RolapStar star,
     SegmentHeader header ) {
     final ExecutionContext executionContext = ExecutionContext.current();
-    actor.event(
+    actorFor( star ).event(
       handler,
       new SegmentRemoveEvent(
 	    Instant.now(),
@@ -525,7 +770,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
       // Ignore cache requests.
       return;
     }
-    actor.event(
+    actorFor( actors.length == 1 ? null : getStar( header ) ).event(
       handler,
       new ExternalSegmentCreatedEvent(
     	Instant.now(),
@@ -548,7 +793,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
       // Ignore cache requests.
       return;
     }
-    actor.event(
+    actorFor( actors.length == 1 ? null : getStar( header ) ).event(
       handler,
       new ExternalSegmentDeletedEvent(
     	Instant.now(),
@@ -566,9 +811,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     CellRegion region,
     PrintWriter pw,
     ExecutionContext executionContext ) {
-    actor.execute(
-      handler,
-      new PrintCacheStateCommand( region, pw, executionContext) );
+    execute( new PrintCacheStateCommand( region, pw, executionContext) );
   }
 
   /**
@@ -576,9 +819,15 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
    */
   @Override
   public void shutdown() {
-    execute( new ShutdownCommand() );
+    if ( LOGGER.isDebugEnabled() ) {
+      LOGGER.debug( "Local segment cache statistics at shutdown: {}", getLocalCacheStatistics() );
+    }
+    for ( int i = actors.length - 1; i >= 0; i-- ) {
+      actors[i].execute( handler, new ShutdownCommand() );
+    }
     cacheExecutor.shutdown();
     sqlExecutor.shutdown();
+    cellExecutor.shutdown();
   }
 
   public SegmentBuilder.SegmentConverter getConverter(
@@ -608,10 +857,21 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
    *
    * Client is responsible for adding the segment to its private cache.
    *
+   * If the actor is sharded, segments whose body is already in cache are
+   * found without going through the actor, using
+   * {@link SegmentCacheIndex#locateConcurrently}. With one shard, every
+   * peek goes through the actor, as before.
+   *
    * @param request Cell request
    * @return Segment with data, or null if not in cache
    */
   public SegmentWithData peek( final CellRequest request ) {
+    if ( actors.length > 1 ) {
+      final SegmentWithData segment = peekConcurrently( request );
+      if ( segment != null ) {
+        return segment;
+      }
+    }
     // Use currentOrNull() as peek may be called from contexts without execution context
     // (e.g., virtual cubes, background cache operations)
     ExecutionContext executionContext = ExecutionContext.currentOrNull();
@@ -649,6 +909,51 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     return null;
   }
 
+  /**
+   * Looks for a segment whose body is in cache, reading the index
+   * of the request's star rather than sending a command to the actor.
+   *
+   * @param request Cell request
+   * @return Segment with data, or null if the lookup needs the actor
+   */
+  private SegmentWithData peekConcurrently( final CellRequest request ) {
+    final RolapStar.Measure measure = request.getMeasure();
+    final RolapStar star = measure.getStar();
+    final RolapCatalog catalog = star.getCatalog();
+    final SegmentCacheIndex index = indexRegistry.getIndex( star );
+    final List<SegmentHeader> headers =
+      index.locateConcurrently(
+        catalog.getName(),
+        catalog.getChecksum(),
+        measure.getCubeName(),
+        measure.getName(),
+        star.getFactTable().getAlias(),
+        request.getConstrainedColumnsBitKey(),
+        request.getMappedCellValues(),
+        request.getCompoundPredicateStrings() );
+    if ( headers.isEmpty() ) {
+      return null;
+    }
+    final SegmentBuilder.SegmentConverter converter =
+      index.getConverterConcurrently(
+        catalog.getName(),
+        catalog.getChecksum(),
+        measure.getCubeName(),
+        star.getFactTable().getAlias(),
+        measure.getName(),
+        request.getCompoundPredicateStrings() );
+    if ( converter == null ) {
+      return null;
+    }
+    for ( SegmentHeader header : headers ) {
+      final SegmentBody body = compositeCache.get( header );
+      if ( body != null ) {
+        return converter.convert( header, body );
+      }
+    }
+    return null;
+  }
+
   /**
    * Visitor for messages (commands and events).
    */
@@ -1074,6 +1379,21 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     }
   }
 
+  /**
+   * Command that only reads and writes the index of a single star. In sharded
+   * mode it runs on that star's shard, concurrently with commands for stars
+   * owned by other shards.
+   *
+   * @param <T> Result type
+   */
+  public interface StarCacheCommand<T> extends CacheCommand<T> {
+    /**
+     * Returns the star whose index the command uses, or null if it may use
+     * several.
+     */
+    RolapStar getStar();
+  }
+
   private abstract static class Event implements Message {
 
 
@@ -1219,6 +1539,30 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     }
   }
 
+  /**
+   * Event that blocks a shard's actor thread until a command spanning several
+   * shards has completed on shard 0.
+   */
+  private static class ParkEvent extends Event {
+    private final CountDownLatch parked;
+    private final CountDownLatch release;
+
+    ParkEvent( CountDownLatch parked, CountDownLatch release ) {
+      this.parked = parked;
+      this.release = release;
+    }
+
+    @Override
+    void acceptWithoutResponse( Visitor visitor ) {
+      parked.countDown();
+      try {
+        release.await();
+      } catch ( InterruptedException e ) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
   private static class SegmentLoadSucceededEvent extends Event {
     private final SegmentHeader header;
     private final SegmentBody body;
@@ -1432,49 +1776,19 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
       if ( e.isLocal() ) {
         return;
       }
-      // Async cache handlers may run in background threads without an execution context
-      final CacheCommand<Void> command;
-      final ExecutionContext executionContext = ExecutionContext.currentOrNull();
+      // The index is only updated by an event, which is posted to the
+      // shard that owns the header's star; no command needs to run, so
+      // an eviction does not park the other shards.
       switch ( e.getEventType() ) {
         case ENTRY_CREATED:
-          command =
-            new CacheCommand<>() {
-              @Override
-              public Void call() {
-                cacheMgr.externalSegmentCreated(
-                  e.getSource(),
-                  context );
-                return null;
-              }
-
-              @Override
-              public ExecutionContext getExecutionContext() {
-                return executionContext;
-              }
-            };
+          cacheMgr.externalSegmentCreated( e.getSource(), context );
           break;
         case ENTRY_DELETED:
-          command =
-            new CacheCommand<>() {
-              @Override
-              public Void call() {
-                cacheMgr.externalSegmentDeleted(
-                  e.getSource(),
-                  context );
-                return null;
-              }
-
-              @Override
-              public ExecutionContext getExecutionContext() {
-                return executionContext;
-              }
-            };
+          cacheMgr.externalSegmentDeleted( e.getSource(), context );
           break;
         default:
           throw new UnsupportedOperationException();
       }
-      cacheMgr.execute( command );
-  }
   }
 
   /**
@@ -1498,9 +1812,17 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
 
     @Override
 	public SegmentBody get( SegmentHeader header ) {
-      for ( SegmentCacheWorker worker : workers ) {
+      for ( int i = 0; i < workers.size(); i++ ) {
+        final SegmentCacheWorker worker = workers.get( i );
         final SegmentBody body = worker.get( header );
         if ( body != null ) {
+          if ( i > 0
+            && worker.cache instanceof OffHeapSegmentCache
+            && workers.get( 0 ).cache instanceof MemorySegmentCache ) {
+            // Keep the decoded body on the heap, so that the next hit
+            // does not decode it again.
+            workers.get( 0 ).put( header, body );
+          }
           return body;
         }
       }
@@ -1600,7 +1922,7 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
    * segment header; it is possible that there is no body in the cache. For (b), the client will have to wait for the
    * segment to arrive.
    */
-  private class PeekCommand implements CacheCommand<PeekResponse> {
+  private class PeekCommand implements StarCacheCommand<PeekResponse> {
     private final CellRequest request;
     private final ExecutionContext executionContext;
 
@@ -1617,12 +1939,17 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
       this.executionContext = executionContext;
     }
 
+    @Override
+    public RolapStar getStar() {
+      return request.getMeasure().getStar();
+    }
+
     @Override
 	public PeekResponse call() {
       final RolapStar.Measure measure = request.getMeasure();
       final RolapStar star = measure.getStar();
       final RolapCatalog catalog = star.getCatalog();
-      final AggregationKey key = new AggregationKey( request );
+      final AggregationKey key = request.getAggregationKey();
       final List<SegmentHeader> headers =
         indexRegistry.getIndex( star )
           .locate(
@@ -1682,10 +2009,12 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
   /**
    * Registry of all the indexes that were created for this cache manager, per {@link RolapStar}.
    * 
-   * The index is based off the checksum of the schema.
+   * The index is based off the checksum of the schema. If the manager has
+   * several shards, there is one index per schema and fact table, owned by
+   * the shard of that star.
    */
   public class SegmentCacheIndexRegistry implements OlapSegmentCacheIndex{
-    private final Map<RolapCatalogKey, SegmentCacheIndex> indexes =
+    private final Map<Object, SegmentCacheIndex> indexes =
       Collections.synchronizedMap(
         new HashMap<>() );
 
@@ -1697,22 +2026,38 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
         "SegmentCacheManager.SegmentCacheIndexRegistry.getIndex:"
           + System.identityHashCode( star ) );
 
-      if ( !indexes.containsKey( star.getCatalog().getKey() ) ) {
-        final SegmentCacheIndexImpl index =
-          new SegmentCacheIndexImpl( thread );
-        LOGGER.trace(
-          "SegmentCacheManager.SegmentCacheIndexRegistry.getIndex:Creating New Index {}"
-            + System.identityHashCode( index ) );
-        indexes.put( star.getCatalog().getKey(), index );
-      }
+      final Object key = indexKey( star );
       final SegmentCacheIndex index =
-        indexes.get( star.getCatalog().getKey() );
+        indexes.computeIfAbsent( key, k -> createIndex( star ) );
       LOGGER.trace(
         "SegmentCacheManager.SegmentCacheIndexRegistry.getIndex:Returning Index {}",
           System.identityHashCode( index ) );
       return index;
     }
 
+    private Object indexKey( RolapStar star ) {
+      final RolapCatalogKey catalogKey = star.getCatalog().getKey();
+      if ( actors.length == 1 ) {
+        return catalogKey;
+      }
+      return List.of( catalogKey, star.getFactTable().getAlias() );
+    }
+
+    private SegmentCacheIndex createIndex( RolapStar star ) {
+      final SegmentCacheIndexImpl index;
+      if ( actors.length == 1 ) {
+        index = new SegmentCacheIndexImpl( thread );
+      } else {
+        final Thread owner = threads[shardOf( star )];
+        index = new SegmentCacheIndexImpl(
+          t -> t == owner || t == exclusiveThread, owner );
+      }
+      LOGGER.trace(
+        "SegmentCacheManager.SegmentCacheIndexRegistry.getIndex:Creating New Index {}",
+          System.identityHashCode( index ) );
+      return index;
+    }
+
     /**
      * Returns the {@link SegmentCacheIndex} for a given {@link SegmentHeader}.
      */
@@ -1736,6 +2081,30 @@ public class SegmentCacheManager implements OlapSegmentCacheManager {
     }
   }
 
+  /**
+   * Returns whether a catalog with a given checksum is loaded.
+   */
+  private boolean isChecksumInUse( ByteString checksum ) {
+    for ( RolapCatalog catalog : ((RolapCatalogCache)context.getCatalogCache()).getCachedCatalogs() ) {
+      if ( Objects.equals( catalog.getChecksum(), checksum ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes a segment from the persistent tiers only. Segments in the other
+   * tiers were loaded by this server and are evicted as usual.
+   */
+  private void removeFromDiskCache( SegmentHeader header ) {
+    for ( SegmentCacheWorker worker : compositeCache.workers ) {
+      if ( worker.cache instanceof DiskSegmentCache ) {
+        worker.remove( header );
+      }
+    }
+  }
+
   RolapStar getStar(SegmentHeader header ) {
     for ( RolapCatalog schema : ((RolapCatalogCache)context.getCatalogCache()).getCachedCatalogs() ) {
       if ( !schema.getChecksum().equals( header.schemaChecksum ) ) {
@@ -60,7 +60,7 @@ public final class SegmentCacheWorker {
     """;
 
     final SegmentCache cache;
-    private final Thread cacheMgrThread;
+    private final Thread[] cacheMgrThreads;
     private final boolean supportsRichIndex;
     private final static String segmentCacheFailedToDeleteSegment =
         "An exception was encountered while deleting a segment from the SegmentCache.";
@@ -71,14 +71,15 @@ public final class SegmentCacheWorker {
      * Creates a worker.
      *
      * @param cache Cache managed by this worker
-     * @param cacheMgrThread Thread that the cache manager actor is running on,
-     *                       and which therefore should not be used for
-     *                       potentially long-running calls this this cache.
-     *                       Pass null if methods can be called from any thread.
+     * @param cacheMgrThreads Threads that the shards of the cache manager
+     *                       actor are running on, and which therefore should
+     *                       not be used for potentially long-running calls
+     *                       this this cache. Pass none if methods can be
+     *                       called from any thread.
      */
-    public SegmentCacheWorker(SegmentCache cache, Thread cacheMgrThread) {
+    public SegmentCacheWorker(SegmentCache cache, Thread... cacheMgrThreads) {
         this.cache = cache;
-        this.cacheMgrThread = cacheMgrThread;
+        this.cacheMgrThreads = cacheMgrThreads.clone();
 
         // no need to call checkThread(): supportsRichIndex is a fast call
         this.supportsRichIndex = cache.supportsRichIndex();
@@ -231,8 +232,10 @@ public final class SegmentCacheWorker {
     }
 
     private void checkThread() {
-        assert cacheMgrThread != Thread.currentThread()
-            : new StringBuilder("this method is potentially slow; you should not call it from ")
-            .append("the cache manager thread, ").append(cacheMgrThread);
+        for (Thread cacheMgrThread : cacheMgrThreads) {
+            assert cacheMgrThread != Thread.currentThread()
+                : new StringBuilder("this method is potentially slow; you should not call it from ")
+                .append("the cache manager thread, ").append(cacheMgrThread);
+        }
     }
 }
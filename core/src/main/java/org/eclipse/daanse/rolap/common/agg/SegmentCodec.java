@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.agg;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentColumn;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.ArraySortedSet;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.eclipse.daanse.olap.util.Pair;
+
+/**
+ * Binary encoding of segment headers and bodies, for segment caches that
+ * hold segments outside the Java heap or the process.
+ *
+ * An encoding starts with the format {@link #VERSION} and the kind of
+ * object, followed by a dictionary of the strings it contains and then the
+ * object itself. Strings, which make up most axis values and header fields,
+ * are written once and referred to by their index in the dictionary. Null
+ * indicators are written as the words of a {@link BitSet}, and the cells of
+ * dense int and double bodies as raw arrays. All numbers are little-endian.
+ *
+ * Every value is written with its own type tag; no reflection is involved.
+ * Values other than null, numbers, strings, booleans and JDBC dates make
+ * the encoder throw {@link IllegalArgumentException}, and so do body
+ * classes other than the four in this package. Callers can then fall back
+ * to Java serialization.
+ *
+ * Decoding reads straight from the given buffer, which may be direct or
+ * memory-mapped, and copies each array of the body with a single bulk get.
+ */
+public final class SegmentCodec {
+    /**
+     * Version of the format. Buffers of another version are rejected.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte HEADER = 1;
+    private static final byte DENSE_DOUBLE_BODY = 2;
+    private static final byte DENSE_INT_BODY = 3;
+    private static final byte DENSE_OBJECT_BODY = 4;
+    private static final byte SPARSE_BODY = 5;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte INT_VALUE = 1;
+    private static final byte LONG_VALUE = 2;
+    private static final byte DOUBLE_VALUE = 3;
+    private static final byte STRING_VALUE = 4;
+    private static final byte DECIMAL_VALUE = 5;
+    private static final byte TRUE_VALUE = 6;
+    private static final byte FALSE_VALUE = 7;
+    private static final byte FLOAT_VALUE = 8;
+    private static final byte SHORT_VALUE = 9;
+    private static final byte BYTE_VALUE = 10;
+    private static final byte DATE_VALUE = 11;
+    private static final byte TIME_VALUE = 12;
+    private static final byte TIMESTAMP_VALUE = 13;
+
+    private SegmentCodec() {
+    }
+
+    /**
+     * Encodes a segment header.
+     *
+     * @param header Header
+     * @return Little-endian buffer, positioned at the start of the encoding
+     * @throws IllegalArgumentException if a column value cannot be encoded
+     */
+    public static ByteBuffer encode(SegmentHeader header) {
+        final Writer writer = new Writer();
+        writer.string(header.schemaName);
+        writer.bytes(
+            header.schemaChecksum == null
+                ? null
+                : header.schemaChecksum.getBytes());
+        writer.string(header.cubeName);
+        writer.string(header.measureName);
+        writer.columns(header.getConstrainedColumns());
+        writer.strings(header.compoundPredicates);
+        writer.string(header.rolapStarFactTableName);
+        writer.bits(header.constrainedColsBitKey.toBitSet());
+        writer.columns(header.getExcludedRegions());
+        return writer.finish(HEADER);
+    }
+
+    /**
+     * Decodes a segment header written by {@link #encode(SegmentHeader)}.
+     * Reads from the position of the buffer but does not move it.
+     *
+     * @param buffer Buffer
+     * @return Header
+     * @throws IllegalArgumentException if the buffer holds another version
+     *   or kind of object
+     */
+    public static SegmentHeader decodeHeader(ByteBuffer buffer) {
+        final Reader reader = new Reader(buffer);
+        if (reader.kind != HEADER) {
+            throw new IllegalArgumentException(
+                "Not a segment header: " + reader.kind);
+        }
+        final String schemaName = reader.string();
+        final byte[] checksum = reader.bytes();
+        final String cubeName = reader.string();
+        final String measureName = reader.string();
+        final List<SegmentColumn> constrainedColumns = reader.columns();
+        final List<String> compoundPredicates = reader.strings();
+        final String factTableName = reader.string();
+        final BitKey bitKey = BitKey.Factory.makeBitKey(reader.bits());
+        final List<SegmentColumn> excludedRegions = reader.columns();
+        return new SegmentHeader(
+            schemaName,
+            checksum == null ? null : new ByteString(checksum),
+            cubeName,
+            measureName,
+            constrainedColumns,
+            compoundPredicates,
+            factTableName,
+            bitKey,
+            excludedRegions);
+    }
+
+    /**
+     * Encodes a segment body.
+     *
+     * @param body Body
+     * @return Little-endian buffer, positioned at the start of the encoding
+     * @throws IllegalArgumentException if the body class or one of its
+     *   values cannot be encoded
+     */
+    public static ByteBuffer encode(SegmentBody body) {
+        final byte kind;
+        if (body instanceof DenseDoubleSegmentBody) {
+            kind = DENSE_DOUBLE_BODY;
+        } else if (body instanceof DenseIntSegmentBody) {
+            kind = DENSE_INT_BODY;
+        } else if (body instanceof DenseObjectSegmentBody) {
+            kind = DENSE_OBJECT_BODY;
+        } else if (body instanceof SparseSegmentBody) {
+            kind = SPARSE_BODY;
+        } else {
+            throw new IllegalArgumentException(
+                "Cannot encode " + body.getClass().getName());
+        }
+        final Writer writer = new Writer();
+        final SortedSet<Comparable>[] axisValueSets = body.getAxisValueSets();
+        final boolean[] nullAxisFlags = body.getNullAxisFlags();
+        writer.ensure(4);
+        writer.buffer.putInt(axisValueSets.length);
+        for (int i = 0; i < axisValueSets.length; i++) {
+            writer.ensure(1 + 4);
+            writer.buffer.put(nullAxisFlags[i] ? (byte) 1 : (byte) 0);
+            writer.buffer.putInt(axisValueSets[i].size());
+            for (Comparable value : axisValueSets[i]) {
+                writer.value(value);
+            }
+        }
+        switch (kind) {
+        case DENSE_DOUBLE_BODY:
+            writer.bits(body.getNullValueIndicators());
+            writer.doubles((double[]) body.getValueArray());
+            break;
+        case DENSE_INT_BODY:
+            writer.bits(body.getNullValueIndicators());
+            writer.ints((int[]) body.getValueArray());
+            break;
+        case DENSE_OBJECT_BODY:
+            final Object[] values = (Object[]) body.getValueArray();
+            writer.ensure(4);
+            writer.buffer.putInt(values.length);
+            for (Object value : values) {
+                writer.value(value);
+            }
+            break;
+        default:
+            final SparseSegmentBody sparse = (SparseSegmentBody) body;
+            writer.ensure(4);
+            writer.buffer.putInt(sparse.keys.length);
+            final int[] ordinals =
+                new int[sparse.keys.length * axisValueSets.length];
+            for (int i = 0; i < sparse.keys.length; i++) {
+                System.arraycopy(
+                    sparse.keys[i].getOrdinals(), 0,
+                    ordinals, i * axisValueSets.length,
+                    axisValueSets.length);
+            }
+            writer.ints(ordinals);
+            for (Object value : sparse.data) {
+                writer.value(value);
+            }
+        }
+        return writer.finish(kind);
+    }
+
+    /**
+     * Decodes a segment body written by {@link #encode(SegmentBody)}.
+     * Reads from the position of the buffer but does not move it.
+     *
+     * @param buffer Buffer
+     * @return Body
+     * @throws IllegalArgumentException if the buffer holds another version
+     *   or kind of object
+     */
+    public static SegmentBody decodeBody(ByteBuffer buffer) {
+        final Reader reader = new Reader(buffer);
+        final int axisCount = reader.buffer.getInt();
+        final List<Pair<SortedSet<Comparable>, Boolean>> axes =
+            new ArrayList<>(axisCount);
+        for (int i = 0; i < axisCount; i++) {
+            final boolean hasNull = reader.buffer.get() != 0;
+            final Comparable[] values = new Comparable[reader.buffer.getInt()];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = (Comparable) reader.value();
+            }
+            axes.add(Pair.of(new ArraySortedSet(values), hasNull));
+        }
+        switch (reader.kind) {
+        case DENSE_DOUBLE_BODY: {
+            final BitSet nullValues = reader.bits();
+            return new DenseDoubleSegmentBody(
+                nullValues, reader.doubles(), axes);
+        }
+        case DENSE_INT_BODY: {
+            final BitSet nullValues = reader.bits();
+            return new DenseIntSegmentBody(nullValues, reader.ints(), axes);
+        }
+        case DENSE_OBJECT_BODY: {
+            final Object[] values = new Object[reader.buffer.getInt()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = reader.value();
+            }
+            return new DenseObjectSegmentBody(values, axes);
+        }
+        case SPARSE_BODY: {
+            final int cellCount = reader.buffer.getInt();
+            final int[] ordinals = reader.ints();
+            final Map<CellKey, Object> cells =
+                new HashMap<>(cellCount * 3 / 2);
+            for (int i = 0; i < cellCount; i++) {
+                final int[] key = new int[axisCount];
+                System.arraycopy(ordinals, i * axisCount, key, 0, axisCount);
+                cells.put(CellKey.Generator.newCellKey(key), reader.value());
+            }
+            return new SparseSegmentBody(cells, axes);
+        }
+        default:
+            throw new IllegalArgumentException(
+                "Not a segment body: " + reader.kind);
+        }
+    }
+
+    /**
+     * Writes the object into a growing heap buffer and the strings into the
+     * dictionary; {@link #finish} puts the two together.
+     */
+    private static class Writer {
+        private ByteBuffer buffer =
+            ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<byte[]> dictionaryBytes = new ArrayList<>();
+
+        void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                final int capacity = Math.max(
+                    buffer.capacity() * 2, buffer.position() + bytes);
+                final ByteBuffer grown =
+                    ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+                grown.put(buffer.flip());
+                buffer = grown;
+            }
+        }
+
+        void string(String s) {
+            ensure(4);
+            if (s == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            Integer index = dictionary.get(s);
+            if (index == null) {
+                index = dictionaryBytes.size();
+                dictionary.put(s, index);
+                dictionaryBytes.add(s.getBytes(StandardCharsets.UTF_8));
+            }
+            buffer.putInt(index);
+        }
+
+        void strings(List<String> strings) {
+            ensure(4);
+            if (strings == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            buffer.putInt(strings.size());
+            for (String s : strings) {
+                string(s);
+            }
+        }
+
+        void bytes(byte[] bytes) {
+            ensure(4 + (bytes == null ? 0 : bytes.length));
+            if (bytes == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void bits(BitSet bits) {
+            final long[] words = bits.toLongArray();
+            ensure(4 + 8 * words.length);
+            buffer.putInt(words.length);
+            buffer.asLongBuffer().put(words);
+            buffer.position(buffer.position() + 8 * words.length);
+        }
+
+        void ints(int[] values) {
+            ensure(4 + 4 * values.length);
+            buffer.putInt(values.length);
+            buffer.asIntBuffer().put(values);
+            buffer.position(buffer.position() + 4 * values.length);
+        }
+
+        void doubles(double[] values) {
+            ensure(4 + 8 * values.length);
+            buffer.putInt(values.length);
+            buffer.asDoubleBuffer().put(values);
+            buffer.position(buffer.position() + 8 * values.length);
+        }
+
+        void columns(List<SegmentColumn> columns) {
+            ensure(4);
+            if (columns == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            buffer.putInt(columns.size());
+            for (SegmentColumn column : columns) {
+                string(column.getColumnExpression());
+                ensure(4 + 4);
+                buffer.putInt(column.getValueCount());
+                final SortedSet<Comparable> values = column.getValues();
+                if (values == null) {
+                    buffer.putInt(-1);
+                    continue;
+                }
+                buffer.putInt(values.size());
+                for (Comparable value : values) {
+                    value(value);
+                }
+            }
+        }
+
+        void value(Object value) {
+            ensure(1 + 8 + 4);
+            if (value == null) {
+                buffer.put(NULL_VALUE);
+            } else if (value instanceof Integer i) {
+                buffer.put(INT_VALUE).putInt(i);
+            } else if (value instanceof Long l) {
+                buffer.put(LONG_VALUE).putLong(l);
+            } else if (value instanceof Double d) {
+                buffer.put(DOUBLE_VALUE).putDouble(d);
+            } else if (value instanceof String s) {
+                buffer.put(STRING_VALUE);
+                string(s);
+            } else if (value instanceof BigDecimal d) {
+                buffer.put(DECIMAL_VALUE).putInt(d.scale());
+                bytes(d.unscaledValue().toByteArray());
+            } else if (value instanceof Boolean b) {
+                buffer.put(b ? TRUE_VALUE : FALSE_VALUE);
+            } else if (value instanceof Float f) {
+                buffer.put(FLOAT_VALUE).putFloat(f);
+            } else if (value instanceof Short s) {
+                buffer.put(SHORT_VALUE).putShort(s);
+            } else if (value instanceof Byte b) {
+                buffer.put(BYTE_VALUE).put(b);
+            } else if (value instanceof Timestamp t) {
+                buffer.put(TIMESTAMP_VALUE).putLong(t.getTime())
+                    .putInt(t.getNanos());
+            } else if (value instanceof java.sql.Date d) {
+                buffer.put(DATE_VALUE).putLong(d.getTime());
+            } else if (value instanceof Time t) {
+                buffer.put(TIME_VALUE).putLong(t.getTime());
+            } else {
+                throw new IllegalArgumentException(
+                    "Cannot encode value of " + value.getClass().getName());
+            }
+        }
+
+        ByteBuffer finish(byte kind) {
+            int size = 1 + 1 + 4 + buffer.position();
+            for (byte[] bytes : dictionaryBytes) {
+                size += 4 + bytes.length;
+            }
+            final ByteBuffer result =
+                ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            result.put(VERSION).put(kind).putInt(dictionaryBytes.size());
+            for (byte[] bytes : dictionaryBytes) {
+                result.putInt(bytes.length).put(bytes);
+            }
+            result.put(buffer.flip());
+            return result.flip();
+        }
+    }
+
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private final byte kind;
+        private final String[] dictionary;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final byte version = this.buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(
+                    "Unsupported segment encoding version " + version);
+            }
+            this.kind = this.buffer.get();
+            this.dictionary = new String[this.buffer.getInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = new String(
+                    bytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        String string() {
+            final int index = buffer.getInt();
+            return index < 0 ? null : dictionary[index];
+        }
+
+        List<String> strings() {
+            final int size = buffer.getInt();
+            if (size < 0) {
+                return null;
+            }
+            final List<String> strings = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                strings.add(string());
+            }
+            return strings;
+        }
+
+        byte[] bytes() {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        BitSet bits() {
+            final long[] words = new long[buffer.getInt()];
+            buffer.asLongBuffer().get(words);
+            buffer.position(buffer.position() + 8 * words.length);
+            return BitSet.valueOf(words);
+        }
+
+        int[] ints() {
+            final int[] values = new int[buffer.getInt()];
+            buffer.asIntBuffer().get(values);
+            buffer.position(buffer.position() + 4 * values.length);
+            return values;
+        }
+
+        double[] doubles() {
+            final double[] values = new double[buffer.getInt()];
+            buffer.asDoubleBuffer().get(values);
+            buffer.position(buffer.position() + 8 * values.length);
+            return values;
+        }
+
+        List<SegmentColumn> columns() {
+            final int size = buffer.getInt();
+            if (size < 0) {
+                return null;
+            }
+            final List<SegmentColumn> columns = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final String expression = string();
+                final int valueCount = buffer.getInt();
+                final int count = buffer.getInt();
+                SortedSet<Comparable> values = null;
+                if (count >= 0) {
+                    final Comparable[] array = new Comparable[count];
+                    for (int j = 0; j < count; j++) {
+                        array[j] = (Comparable) value();
+                    }
+                    values = new ArraySortedSet(array);
+                }
+                columns.add(new SegmentColumn(expression, valueCount, values));
+            }
+            return columns;
+        }
+
+        Object value() {
+            final byte tag = buffer.get();
+            switch (tag) {
+            case NULL_VALUE:
+                return null;
+            case INT_VALUE:
+                return buffer.getInt();
+            case LONG_VALUE:
+                return buffer.getLong();
+            case DOUBLE_VALUE:
+                return buffer.getDouble();
+            case STRING_VALUE:
+                return string();
+            case DECIMAL_VALUE:
+                final int scale = buffer.getInt();
+                return new BigDecimal(new BigInteger(bytes()), scale);
+            case TRUE_VALUE:
+                return Boolean.TRUE;
+            case FALSE_VALUE:
+                return Boolean.FALSE;
+            case FLOAT_VALUE:
+                return buffer.getFloat();
+            case SHORT_VALUE:
+                return buffer.getShort();
+            case BYTE_VALUE:
+                return buffer.get();
+            case DATE_VALUE:
+                return new java.sql.Date(buffer.getLong());
+            case TIME_VALUE:
+                return new Time(buffer.getLong());
+            case TIMESTAMP_VALUE:
+                final Timestamp timestamp = new Timestamp(buffer.getLong());
+                timestamp.setNanos(buffer.getInt());
+                return timestamp;
+            default:
+                throw new IllegalArgumentException(
+                    "Unknown value tag " + tag);
+            }
+        }
+    }
+}
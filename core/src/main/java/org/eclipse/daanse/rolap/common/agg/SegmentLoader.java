@@ -30,6 +30,7 @@ import static org.eclipse.daanse.rolap.common.SqlStatement.javaDoubleOverflow;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -46,13 +47,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
-import org.eclipse.daanse.olap.api.cache.CacheCommand;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.api.execution.Execution.Purpose;
@@ -66,15 +73,18 @@ import org.eclipse.daanse.olap.key.BitKey;
 import org.eclipse.daanse.olap.spi.SegmentBody;
 import org.eclipse.daanse.olap.spi.SegmentColumn;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
-import  org.eclipse.daanse.olap.util.CancellationChecker;
 import  org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.RolapUtil;
 import org.eclipse.daanse.rolap.common.SqlStatement;
 import org.eclipse.daanse.rolap.common.agg.SegmentCacheManager.AbortException;
 import org.eclipse.daanse.rolap.common.agg.SegmentCacheManager.SegmentCacheIndexRegistry;
 import org.eclipse.daanse.rolap.common.cache.SegmentCacheIndex;
+import org.eclipse.daanse.rolap.common.result.RowCancellationChecker;
+import org.eclipse.daanse.rolap.common.sql.SqlQuery;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.eclipse.daanse.rolap.common.star.StarPredicate;
+import org.eclipse.daanse.rolap.util.ValuePool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -161,7 +171,7 @@ public class SegmentLoader {
       }
     }
     try {
-      segmentFutures.add( cacheMgr.sqlExecutor.submit( new SegmentLoadCommand( ExecutionContext.current(), this, cellRequestCount,
+      segmentFutures.add( cacheMgr.submitSql( new SegmentLoadCommand( ExecutionContext.current(), this, cellRequestCount,
           groupingSets, compoundPredicateList ) ) );
     } catch (RejectedExecutionException e) {
       throw new OlapRuntimeException(e);
@@ -226,7 +236,9 @@ public class SegmentLoader {
           createDataSetsForGroupingSets( groupingSetsList, sparse, rows.getTypes().subList( arity, rows.getTypes()
               .size() ) );
 
-      loadDataToDataSets( groupingSetsList, rows, groupingDataSetsMap );
+      loadDataToDataSets( groupingSetsList, rows, groupingDataSetsMap,
+          cacheMgr.getContext().getConfigValue( RolapConfigConstants.ENABLE_PARALLEL_SEGMENT_POPULATION,
+              RolapConfigConstants.ENABLE_PARALLEL_SEGMENT_POPULATION_DEFAULT_VALUE, Boolean.class ) );
 
       setDataToSegments( groupingSetsList, groupingDataSetsMap, segmentMap );
 
@@ -291,59 +303,145 @@ public class SegmentLoader {
    * Loads data to the datasets. If the grouping sets is used, dataset is fetched from groupingDataSetMap using grouping
    * bit keys of the row data. If grouping sets is not used, data is loaded on to nonGroupingDataSets.
    */
-  private void loadDataToDataSets( GroupingSetsList groupingSetsList, RowList rows,
-      Map<BitKey, GroupingSetsList.Cohort> groupingDataSetMap ) {
+  void loadDataToDataSets( GroupingSetsList groupingSetsList, RowList rows,
+      Map<BitKey, GroupingSetsList.Cohort> groupingDataSetMap, boolean parallel ) {
     int arity = groupingSetsList.getDefaultColumns().length;
-    SegmentAxis[] axes = groupingSetsList.getDefaultAxes();
     int segmentLength = groupingSetsList.getDefaultSegments().size();
+    if ( parallel && segmentLength > 1 ) {
+      loadDataToDataSetsInParallel( groupingSetsList, rows, groupingDataSetMap );
+      return;
+    }
 
-    final List<BestFitColumnType> types = rows.getTypes();
-    final boolean useGroupingSet = groupingSetsList.useGroupingSets();
+    final List<BestFitColumnType> types = rows.getTypes().subList( 0, arity );
     for ( rows.first(); rows.next(); ) {
-      final BitKey groupingBitKey;
-      final GroupingSetsList.Cohort cohort;
-      if ( useGroupingSet ) {
-        groupingBitKey = (BitKey) rows.getObject( groupingSetsList.getGroupingBitKeyIndex() );
-        cohort = groupingDataSetMap.get( groupingBitKey );
-      } else {
-        groupingBitKey = null;
-        cohort = groupingDataSetMap.get( BitKey.EMPTY );
+      final GroupingSetsList.Cohort cohort = locateRow( groupingSetsList, rows, groupingDataSetMap, types );
+      for ( int j = 0; j < segmentLength; j++ ) {
+        cohort.segmentDatasetList.get( j ).populateFrom( cohort.pos, rows, arity + j );
       }
-      final int[] pos = cohort.pos;
-      for ( int j = 0, k = 0; j < arity; j++ ) {
-        final BestFitColumnType type = types.get( j );
-        switch ( type ) {
-          // TODO: different treatment for INT, LONG, DOUBLE
-          case OBJECT:
-          case STRING:
-          case INT:
-          case LONG:
-          case DOUBLE:
-          case DECIMAL:
-            Object o = rows.getObject( j );
-            if ( useGroupingSet && ( o == null || o == Util.sqlNullValue ) && groupingBitKey.get( groupingSetsList
-                .findGroupingFunctionIndex( j ) ) ) {
+    }
+  }
+
+  /**
+   * Loads data to the datasets with one fork-join task per measure, in the common pool.
+   *
+   * The cohort and the axis offsets of every row are computed once, up front. Then each task reads the rows through
+   * its own cursor and writes only to the datasets of its measure, so the tasks share no mutable state.
+   */
+  private void loadDataToDataSetsInParallel( GroupingSetsList groupingSetsList, RowList rows,
+      Map<BitKey, GroupingSetsList.Cohort> groupingDataSetMap ) {
+    final int arity = groupingSetsList.getDefaultColumns().length;
+    final int segmentLength = groupingSetsList.getDefaultSegments().size();
+    final int rowCount = rows.size();
+
+    final List<GroupingSetsList.Cohort> cohorts = new ArrayList<>( groupingDataSetMap.values() );
+    final Map<GroupingSetsList.Cohort, Integer> cohortOrdinals = new HashMap<>();
+    for ( GroupingSetsList.Cohort cohort : cohorts ) {
+      cohortOrdinals.put( cohort, cohortOrdinals.size() );
+    }
+    final int[] rowCohorts = new int[rowCount];
+    final int[] rowPositions = new int[rowCount * arity];
+    final List<BestFitColumnType> types = rows.getTypes().subList( 0, arity );
+    int r = 0;
+    for ( rows.first(); rows.next(); r++ ) {
+      final GroupingSetsList.Cohort cohort = locateRow( groupingSetsList, rows, groupingDataSetMap, types );
+      rowCohorts[r] = cohortOrdinals.get( cohort );
+      System.arraycopy( cohort.pos, 0, rowPositions, r * arity, cohort.pos.length );
+    }
+
+    final List<ForkJoinTask<?>> tasks = new ArrayList<>( segmentLength );
+    for ( int j = 0; j < segmentLength; j++ ) {
+      final int segmentOrdinal = j;
+      tasks.add( ForkJoinTask.adapt( () -> {
+        final RowList cursor = rows.cursor();
+        final int[][] positions = new int[cohorts.size()][];
+        for ( int c = 0; c < positions.length; c++ ) {
+          positions[c] = new int[cohorts.get( c ).pos.length];
+        }
+        int row = 0;
+        for ( cursor.first(); cursor.next(); row++ ) {
+          final int c = rowCohorts[row];
+          final int[] pos = positions[c];
+          System.arraycopy( rowPositions, row * arity, pos, 0, pos.length );
+          cohorts.get( c ).segmentDatasetList.get( segmentOrdinal )
+              .populateFrom( pos, cursor, arity + segmentOrdinal );
+        }
+      } ) );
+    }
+    // Runs the tasks in the common fork-join pool, the calling thread takes part.
+    ForkJoinTask.invokeAll( tasks );
+  }
+
+  /**
+   * Finds the cohort of the current row and fills in its position workspace with the row's axis offsets.
+   *
+   * @param types
+   *          Types of the axis columns
+   */
+  private GroupingSetsList.Cohort locateRow( GroupingSetsList groupingSetsList, RowList rows,
+      Map<BitKey, GroupingSetsList.Cohort> groupingDataSetMap, List<BestFitColumnType> types ) {
+    int arity = types.size();
+    SegmentAxis[] axes = groupingSetsList.getDefaultAxes();
+    final boolean useGroupingSet = groupingSetsList.useGroupingSets();
+    final BitKey groupingBitKey;
+    final GroupingSetsList.Cohort cohort;
+    if ( useGroupingSet ) {
+      groupingBitKey = (BitKey) rows.getObject( groupingSetsList.getGroupingBitKeyIndex() );
+      cohort = groupingDataSetMap.get( groupingBitKey );
+    } else {
+      groupingBitKey = null;
+      cohort = groupingDataSetMap.get( BitKey.EMPTY );
+    }
+    final int[] pos = cohort.pos;
+    for ( int j = 0, k = 0; j < arity; j++ ) {
+      final BestFitColumnType type = types.get( j );
+      final SegmentAxis axis = axes[j];
+      final int offset;
+      switch ( type ) {
+        case OBJECT:
+        case STRING:
+          Object o = rows.getObject( j );
+          if ( o == null || o == Util.sqlNullValue ) {
+            if ( isRolledUp( groupingSetsList, groupingBitKey, j ) ) {
               continue;
             }
-            SegmentAxis axis = axes[j];
-            if ( o == null ) {
-              o = Util.sqlNullValue;
+            o = Util.sqlNullValue;
+          }
+          // Note: We believe that all value types are Comparable.
+          // In JDK 1.4, Boolean did not implement Comparable, but
+          // that's too minor/long ago to worry about.
+          offset = axis.getOffset( (Comparable) o );
+          break;
+        case INT:
+        case LONG:
+        case DOUBLE:
+        case DECIMAL:
+          // Native columns are looked up unboxed; decimals are held as doubles.
+          if ( rows.isNull( j ) ) {
+            if ( isRolledUp( groupingSetsList, groupingBitKey, j ) ) {
+              continue;
             }
-            // Note: We believe that all value types are Comparable.
-            // In JDK 1.4, Boolean did not implement Comparable, but
-            // that's too minor/long ago to worry about.
-            int offset = axis.getOffset( (Comparable) o );
-            pos[k++] = offset;
-            break;
-          default:
-            throw Util.unexpected( type );
-        }
-      }
-
-      for ( int j = 0; j < segmentLength; j++ ) {
-        cohort.segmentDatasetList.get( j ).populateFrom( pos, rows, arity + j );
+            offset = axis.getOffset( Util.sqlNullValue );
+          } else if ( type == BestFitColumnType.INT ) {
+            offset = axis.getOffset( rows.getInt( j ) );
+          } else if ( type == BestFitColumnType.LONG ) {
+            offset = axis.getOffset( rows.getLong( j ) );
+          } else {
+            offset = axis.getOffset( rows.getDouble( j ) );
+          }
+          break;
+        default:
+          throw Util.unexpected( type );
       }
+      pos[k++] = offset;
     }
+    return cohort;
+  }
+
+  /**
+   * Returns whether a null in the given axis column of the current row marks a value rolled up by its grouping set.
+   */
+  private static boolean isRolledUp( GroupingSetsList groupingSetsList, BitKey groupingBitKey, int column ) {
+    return groupingBitKey != null && groupingBitKey.get( groupingSetsList.findGroupingFunctionIndex( column ) );
   }
 
   private boolean setAxisDataAndDecideSparseUse( SortedSet<Comparable>[] axisValueSets, boolean[] axisContainsNull,
@@ -485,8 +583,12 @@ public class SegmentLoader {
   public SqlStatement createExecuteSql( int cellRequestCount, final GroupingSetsList groupingSetsList,
       List<StarPredicate> compoundPredicateList, boolean useAggregates ) {
     RolapStar star = groupingSetsList.getStar();
+    final List<SqlQuery.BindValue> bindValues =
+        cacheMgr.getContext().getConfigValue( RolapConfigConstants.ENABLE_SQL_BIND_PARAMETERS,
+            RolapConfigConstants.ENABLE_SQL_BIND_PARAMETERS_DEFAULT_VALUE, Boolean.class )
+            ? new ArrayList<>() : null;
     Pair<String, List<BestFitColumnType>> pair =
-        AggregationManager.generateSql( groupingSetsList, compoundPredicateList, useAggregates );
+        AggregationManager.generateSql( groupingSetsList, compoundPredicateList, useAggregates, bindValues );
     ExecutionMetadata metadata = ExecutionMetadata.of(
         "Segment.load",
         "Error while loading segment",
@@ -501,7 +603,12 @@ public class SegmentLoader {
     final Consumer<Statement>  callbackWithCaching = new Consumer<> () {
       @Override
 	public void accept( final Statement stmt ) {
-        cacheMgr.execute( new CacheCommand<Void>() {
+        cacheMgr.execute( new SegmentCacheManager.StarCacheCommand<Void>() {
+          @Override
+          public RolapStar getStar() {
+            return groupingSetsList.getStar();
+          }
+
           @Override
 		public Void call() throws Exception {
             boolean atLeastOneActive = false;
@@ -543,7 +650,7 @@ public class SegmentLoader {
     };
 
     try {
-      return RolapUtil.executeQuery( star.getContext(), pair.left, pair.right, 0, 0, executionContext, -1, -1,
+      return RolapUtil.executeQuery( star.getContext(), pair.left, bindValues, pair.right, 0, 0, executionContext, -1, -1,
           // Only one of the two callbacks are required, depending if we
           // cache the segments or not.
           cacheMgr.getContext().getConfigValue(ConfigConstants.DISABLE_CACHING, ConfigConstants.DISABLE_CACHING_DEFAULT_VALUE, Boolean.class) ? callbackNoCaching : callbackWithCaching );
@@ -560,7 +667,7 @@ public class SegmentLoader {
       final SortedSet<Comparable>[] axisValueSets, final GroupingSetsList groupingSetsList ) throws SQLException {
     List<Segment> segments = groupingSetsList.getDefaultSegments();
     int measureCount = segments.size();
-    ResultSet rawRows = loadData( stmt, groupingSetsList );
+    ResultSet resultSet = loadData( stmt, groupingSetsList );
     assert stmt != null;
     final List<BestFitColumnType> types = stmt.guessTypes();
     int arity = axisValueSets.length;
@@ -578,186 +685,232 @@ public class SegmentLoader {
     }
     final RowList processedRows = new RowList( processedTypes, 100 );
 
-    Execution execution = ExecutionContext.current().getExecution();
-    while ( rawRows.next() ) {
-      // Check if the MDX query was canceled.
-      CancellationChecker.checkCancelOrTimeout( ++stmt.rowCount, execution );
+    // Distinct values of int, long and double axes are collected unboxed and
+    // only turned into sorted sets of Comparable once all rows are read.
+    final PrimitiveValueCollector[] collectors = new PrimitiveValueCollector[arity];
+    for ( int axisIndex = 0; axisIndex < arity; axisIndex++ ) {
+      switch ( types.get( axisIndex ) ) {
+        case INT:
+          collectors[axisIndex] = new PrimitiveValueCollector( PrimitiveValueCollector.Kind.INT );
+          break;
+        case LONG:
+          collectors[axisIndex] = new PrimitiveValueCollector( PrimitiveValueCollector.Kind.LONG );
+          break;
+        case DOUBLE:
+        case DECIMAL:
+          collectors[axisIndex] = new PrimitiveValueCollector( PrimitiveValueCollector.Kind.DOUBLE );
+          break;
+        default:
+          break;
+      }
+    }
 
-      checkResultLimit( stmt.rowCount );
-      processedRows.createRow();
+    // pre-compute which measures are numeric
+    final boolean[] numeric = new boolean[measureCount];
+    int k = 0;
+    for ( Segment segment : segments ) {
+      numeric[k++] = segment.measure.getDatatype().isNumeric();
+    }
 
-      // get the columns
-      int columnIndex = 0;
-      for ( int axisIndex = 0; axisIndex < arity; axisIndex++, columnIndex++ ) {
-        final BestFitColumnType type = types.get( columnIndex );
-        switch ( type ) {
-          case OBJECT:
-          case STRING:
-            Object o = rawRows.getObject( columnIndex + 1 );
-            if ( o == null ) {
-              o = Util.sqlNullValue;
-              if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
-                  groupingSetsList, axisIndex ) ) {
-                axisContainsNull[axisIndex] = true;
+    Execution execution = ExecutionContext.current().getExecution();
+    final RowSource rawRows = cacheMgr.getContext().getConfigValue( RolapConfigConstants.ENABLE_SEGMENT_LOAD_PIPELINE,
+        RolapConfigConstants.ENABLE_SEGMENT_LOAD_PIPELINE_DEFAULT_VALUE, Boolean.class )
+            ? new PipelinedRowSource( resultSet, types, cacheMgr.getContext().getConfigValue(
+                RolapConfigConstants.SEGMENT_LOAD_CHUNK_SIZE, RolapConfigConstants.SEGMENT_LOAD_CHUNK_SIZE_DEFAULT_VALUE,
+                Integer.class ), cacheMgr.getContext().getConfigValue(
+                RolapConfigConstants.SEGMENT_LOAD_BATCH_BYTES, RolapConfigConstants.SEGMENT_LOAD_BATCH_BYTES_DEFAULT_VALUE,
+                Long.class ) )
+            : new ResultSetRowSource( resultSet );
+    final RowCancellationChecker cancellationChecker = new RowCancellationChecker( execution );
+    final Optional<Map<Object, Object>> valuePool = cacheMgr.getContext().getSqlMemberSourceValuePool();
+    try {
+      while ( rawRows.next() ) {
+        // Check if the MDX query was canceled.
+        cancellationChecker.check( ++stmt.rowCount );
+
+        checkResultLimit( stmt.rowCount );
+        processedRows.createRow();
+
+        // get the columns
+        int columnIndex = 0;
+        for ( int axisIndex = 0; axisIndex < arity; axisIndex++, columnIndex++ ) {
+          final BestFitColumnType type = types.get( columnIndex );
+          switch ( type ) {
+            case OBJECT:
+            case STRING:
+              Object o = rawRows.getObject( columnIndex + 1 );
+              if ( o == null ) {
+                o = Util.sqlNullValue;
+                if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
+                    groupingSetsList, axisIndex ) ) {
+                  axisContainsNull[axisIndex] = true;
+                }
+              } else {
+                // We assume that all values are Comparable. Boolean
+                // wasn't Comparable until JDK 1.5, but we can live with
+                // that bug because JDK 1.4 is no longer important.
+
+                // byte [] is not Comparable.
+                // For our case it can be binary array. It was typed as String.
+                // So it can be processing (comparing and displaying) correctly as String
+                if ( o instanceof byte[] ) {
+                  o = new String( (byte[]) o );
+                }
+                // Share the instance with the members of the same key.
+                o = ValuePool.intern( valuePool, o );
+                axisValueSets[axisIndex].add( (Comparable) o );
               }
-            } else {
-              // We assume that all values are Comparable. Boolean
-              // wasn't Comparable until JDK 1.5, but we can live with
-              // that bug because JDK 1.4 is no longer important.
-
-              // byte [] is not Comparable.
-              // For our case it can be binary array. It was typed as String.
-              // So it can be processing (comparing and displaying) correctly as String
-              if ( o instanceof byte[] ) {
-                o = new String( (byte[]) o );
+              processedRows.setObject( columnIndex, o );
+              break;
+            case INT:
+              final int intValue = rawRows.getInt( columnIndex + 1 );
+              if ( intValue == 0 && rawRows.wasNull() ) {
+                if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
+                    groupingSetsList, axisIndex ) ) {
+                  axisContainsNull[axisIndex] = true;
+                }
+                processedRows.setNull( columnIndex, true );
+              } else {
+                collectors[axisIndex].add( intValue );
+                processedRows.setInt( columnIndex, intValue );
               }
-              axisValueSets[axisIndex].add( (Comparable) o );
-            }
-            processedRows.setObject( columnIndex, o );
-            break;
-          case INT:
-            final int intValue = rawRows.getInt( columnIndex + 1 );
-            if ( intValue == 0 && rawRows.wasNull() ) {
-              if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
-                  groupingSetsList, axisIndex ) ) {
-                axisContainsNull[axisIndex] = true;
+              break;
+            case LONG:
+              final long longValue = rawRows.getLong( columnIndex + 1 );
+              if ( longValue == 0 && rawRows.wasNull() ) {
+                if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
+                    groupingSetsList, axisIndex ) ) {
+                  axisContainsNull[axisIndex] = true;
+                }
+                processedRows.setNull( columnIndex, true );
+              } else {
+                collectors[axisIndex].add( longValue );
+                processedRows.setLong( columnIndex, longValue );
               }
-              processedRows.setNull( columnIndex, true );
-            } else {
-              axisValueSets[axisIndex].add( intValue );
+              break;
+            case DOUBLE:
+              final double doubleValue = rawRows.getDouble( columnIndex + 1 );
+              if ( doubleValue == 0 && rawRows.wasNull() ) {
+                if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
+                    groupingSetsList, axisIndex ) ) {
+                  axisContainsNull[axisIndex] = true;
+                }
+                processedRows.setNull( columnIndex, true );
+              } else {
+                collectors[axisIndex].add( doubleValue );
+                processedRows.setDouble( columnIndex, doubleValue );
+              }
+              break;
+            case DECIMAL:
+              final BigDecimal decimal = rawRows.getBigDecimal( columnIndex + 1 );
+              if ( decimal == null && rawRows.wasNull() ) {
+                if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
+                    groupingSetsList, axisIndex ) ) {
+                  axisContainsNull[axisIndex] = true;
+                }
+                processedRows.setNull( columnIndex, true );
+              } else {
+                final double val = rawRows.getBigDecimal( columnIndex + 1 ).doubleValue();
+                if ( val == Double.NEGATIVE_INFINITY || val == Double.POSITIVE_INFINITY ) {
+                  throw new SQLDataException(MessageFormat.format(javaDoubleOverflow, rawRows.getColumnName(
+                      columnIndex + 1 ) ));
+                }
+                collectors[axisIndex].add( val );
+                processedRows.setDouble( columnIndex, val );
+              }
+              break;
+            default:
+              throw Util.unexpected( type );
+          }
+        }
+
+        // get the measure
+        for ( int i = 0; i < measureCount; i++, columnIndex++ ) {
+          final BestFitColumnType type = types.get( columnIndex );
+          switch ( type ) {
+            case OBJECT:
+            case STRING:
+              Object o = rawRows.getObject( columnIndex + 1 );
+              if ( o == null ) {
+                o = Util.nullValue; // convert to placeholder
+              } else if ( numeric[i] ) {
+                if ( o instanceof Double ) {
+                  // nothing to do
+                } else if ( o instanceof BigDecimal ) {
+                  // nothing to do // PDI-16761 if we cast it to double type we lose precision
+                } else if ( o instanceof Number ) {
+                  o = ( (Number) o ).doubleValue();
+                } else if ( o instanceof byte[] ) {
+                  // On MySQL 5.0 in German locale, values can come
+                  // out as byte arrays. Don't know why. Bug 1594119.
+                  o = Double.parseDouble( new String( (byte[]) o ) );
+                } else {
+                    try {
+                        o = Double.parseDouble( o.toString() );
+                    }
+                    catch (NumberFormatException e) {
+                        LOGGER.warn("Failed to parse numeric value: {}", o, e);
+                    }
+                }
+              }
+              processedRows.setObject( columnIndex, o );
+              break;
+            case INT:
+              final int intValue = rawRows.getInt( columnIndex + 1 );
               processedRows.setInt( columnIndex, intValue );
-            }
-            break;
-          case LONG:
-            final long longValue = rawRows.getLong( columnIndex + 1 );
-            if ( longValue == 0 && rawRows.wasNull() ) {
-              if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
-                  groupingSetsList, axisIndex ) ) {
-                axisContainsNull[axisIndex] = true;
+              if ( intValue == 0 && rawRows.wasNull() ) {
+                processedRows.setNull( columnIndex, true );
               }
-              processedRows.setNull( columnIndex, true );
-            } else {
-              axisValueSets[axisIndex].add( longValue );
+              break;
+            case LONG:
+              final long longValue = rawRows.getLong( columnIndex + 1 );
               processedRows.setLong( columnIndex, longValue );
-            }
-            break;
-          case DOUBLE:
-            final double doubleValue = rawRows.getDouble( columnIndex + 1 );
-            if ( doubleValue == 0 && rawRows.wasNull() ) {
-              if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
-                  groupingSetsList, axisIndex ) ) {
-                axisContainsNull[axisIndex] = true;
+              if ( longValue == 0 && rawRows.wasNull() ) {
+                processedRows.setNull( columnIndex, true );
               }
-              processedRows.setNull( columnIndex, true );
-            } else {
-              axisValueSets[axisIndex].add( doubleValue );
+              break;
+            case DOUBLE:
+              final double doubleValue = rawRows.getDouble( columnIndex + 1 );
               processedRows.setDouble( columnIndex, doubleValue );
-            }
-            break;
-          case DECIMAL:
-            final BigDecimal decimal = rawRows.getBigDecimal( columnIndex + 1 );
-            if ( decimal == null && rawRows.wasNull() ) {
-              if ( !groupingSetsList.useGroupingSets() || !isAggregateNull( rawRows, groupingColumnStartIndex,
-                  groupingSetsList, axisIndex ) ) {
-                axisContainsNull[axisIndex] = true;
+              if ( doubleValue == 0 && rawRows.wasNull() ) {
+                processedRows.setNull( columnIndex, true );
               }
-              processedRows.setNull( columnIndex, true );
-            } else {
-              final double val = rawRows.getBigDecimal( columnIndex + 1 ).doubleValue();
-              if ( val == Double.NEGATIVE_INFINITY || val == Double.POSITIVE_INFINITY ) {
-                throw new SQLDataException(MessageFormat.format(javaDoubleOverflow, rawRows.getMetaData().getColumnName(
-                    columnIndex + 1 ) ));
+              break;
+            case DECIMAL:
+              final BigDecimal decimal = rawRows.getBigDecimal( columnIndex + 1 );
+              if ( decimal == null && rawRows.wasNull() ) {
+                // processedRows.setDouble( columnIndex, 0 );
+                processedRows.setNull( columnIndex, true );
+              } else {
+                final double val = rawRows.getBigDecimal( columnIndex + 1 ).doubleValue();
+                if ( val == Double.NEGATIVE_INFINITY || val == Double.POSITIVE_INFINITY ) {
+                  throw new SQLDataException(MessageFormat.format(javaDoubleOverflow, rawRows.getColumnName(
+                      columnIndex + 1 ) ));
+                }
+                processedRows.setDouble( columnIndex, val );
               }
-              axisValueSets[axisIndex].add( val );
-              processedRows.setDouble( columnIndex, val );
-            }
-            break;
-          default:
-            throw Util.unexpected( type );
+              break;
+            default:
+              throw Util.unexpected( type );
+          }
         }
-      }
-
-      // pre-compute which measures are numeric
-      final boolean[] numeric = new boolean[measureCount];
-      int k = 0;
-      for ( Segment segment : segments ) {
-        numeric[k++] = segment.measure.getDatatype().isNumeric();
-      }
 
-      // get the measure
-      for ( int i = 0; i < measureCount; i++, columnIndex++ ) {
-        final BestFitColumnType type = types.get( columnIndex );
-        switch ( type ) {
-          case OBJECT:
-          case STRING:
-            Object o = rawRows.getObject( columnIndex + 1 );
-            if ( o == null ) {
-              o = Util.nullValue; // convert to placeholder
-            } else if ( numeric[i] ) {
-              if ( o instanceof Double ) {
-                // nothing to do
-              } else if ( o instanceof BigDecimal ) {
-                // nothing to do // PDI-16761 if we cast it to double type we lose precision
-              } else if ( o instanceof Number ) {
-                o = ( (Number) o ).doubleValue();
-              } else if ( o instanceof byte[] ) {
-                // On MySQL 5.0 in German locale, values can come
-                // out as byte arrays. Don't know why. Bug 1594119.
-                o = Double.parseDouble( new String( (byte[]) o ) );
-              } else {
-                  try {
-                      o = Double.parseDouble( o.toString() );
-                  }
-                  catch (NumberFormatException e) {
-                      LOGGER.warn("Failed to parse numeric value: {}", o, e);
-                  }
-              }
-            }
-            processedRows.setObject( columnIndex, o );
-            break;
-          case INT:
-            final int intValue = rawRows.getInt( columnIndex + 1 );
-            processedRows.setInt( columnIndex, intValue );
-            if ( intValue == 0 && rawRows.wasNull() ) {
-              processedRows.setNull( columnIndex, true );
-            }
-            break;
-          case LONG:
-            final long longValue = rawRows.getLong( columnIndex + 1 );
-            processedRows.setLong( columnIndex, longValue );
-            if ( longValue == 0 && rawRows.wasNull() ) {
-              processedRows.setNull( columnIndex, true );
-            }
-            break;
-          case DOUBLE:
-            final double doubleValue = rawRows.getDouble( columnIndex + 1 );
-            processedRows.setDouble( columnIndex, doubleValue );
-            if ( doubleValue == 0 && rawRows.wasNull() ) {
-              processedRows.setNull( columnIndex, true );
-            }
-            break;
-          case DECIMAL:
-            final BigDecimal decimal = rawRows.getBigDecimal( columnIndex + 1 );
-            if ( decimal == null && rawRows.wasNull() ) {
-              // processedRows.setDouble( columnIndex, 0 );
-              processedRows.setNull( columnIndex, true );
-            } else {
-              final double val = rawRows.getBigDecimal( columnIndex + 1 ).doubleValue();
-              if ( val == Double.NEGATIVE_INFINITY || val == Double.POSITIVE_INFINITY ) {
-                throw new SQLDataException(MessageFormat.format(javaDoubleOverflow, rawRows.getMetaData().getColumnName(
-                    columnIndex + 1 ) ));
-              }
-              processedRows.setDouble( columnIndex, val );
-            }
-            break;
-          default:
-            throw Util.unexpected( type );
+        if ( groupingSetsList.useGroupingSets() ) {
+          processedRows.setObject( columnIndex, getRollupBitKey( groupingSetsList.getRollupColumns().size(), rawRows,
+              columnIndex ) );
         }
       }
-
-      if ( groupingSetsList.useGroupingSets() ) {
-        processedRows.setObject( columnIndex, getRollupBitKey( groupingSetsList.getRollupColumns().size(), rawRows,
-            columnIndex ) );
+    } finally {
+      rawRows.close();
+    }
+    for ( int axisIndex = 0; axisIndex < arity; axisIndex++ ) {
+      if ( collectors[axisIndex] == null ) {
+        continue;
+      }
+      if ( axisValueSets[axisIndex].isEmpty() ) {
+        axisValueSets[axisIndex] = collectors[axisIndex].toSortedSet();
+      } else {
+        axisValueSets[axisIndex].addAll( collectors[axisIndex].toSortedSet() );
       }
     }
     return processedRows;
@@ -774,6 +927,10 @@ public class SegmentLoader {
    * Generates bit key representing roll up columns
    */
   public BitKey getRollupBitKey( int arity, ResultSet rowList, int k ) throws SQLException {
+    return getRollupBitKey( arity, new ResultSetRowSource( rowList ), k );
+  }
+
+  private BitKey getRollupBitKey( int arity, RowSource rowList, int k ) throws SQLException {
     BitKey groupingBitKey = BitKey.Factory.makeBitKey( arity );
     for ( int i = 0; i < arity; i++ ) {
       int o = rowList.getInt( k + i + 1 );
@@ -784,7 +941,7 @@ public class SegmentLoader {
     return groupingBitKey;
   }
 
-  private boolean isAggregateNull( ResultSet rowList, int groupingColumnStartIndex, GroupingSetsList groupingSetsList,
+  private boolean isAggregateNull( RowSource rowList, int groupingColumnStartIndex, GroupingSetsList groupingSetsList,
       int axisIndex ) throws SQLException {
     int groupingFunctionIndex = groupingSetsList.findGroupingFunctionIndex( axisIndex );
     if ( groupingFunctionIndex == -1 ) {
@@ -876,6 +1033,314 @@ public class SegmentLoader {
     }
   }
 
+  /**
+   * Rows of the result of a segment query, read one at a time. Column indexes are 1-based, as in {@link ResultSet}.
+   */
+  interface RowSource {
+    boolean next() throws SQLException;
+
+    Object getObject( int column ) throws SQLException;
+
+    int getInt( int column ) throws SQLException;
+
+    long getLong( int column ) throws SQLException;
+
+    double getDouble( int column ) throws SQLException;
+
+    BigDecimal getBigDecimal( int column ) throws SQLException;
+
+    boolean wasNull() throws SQLException;
+
+    String getColumnName( int column ) throws SQLException;
+
+    /**
+     * Releases the resources of this source. Does not close the underlying result set.
+     */
+    void close() throws SQLException;
+  }
+
+  /**
+   * Row source that reads directly from a result set.
+   */
+  private static class ResultSetRowSource implements RowSource {
+    private final ResultSet resultSet;
+
+    ResultSetRowSource( ResultSet resultSet ) {
+      this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+      return resultSet.next();
+    }
+
+    @Override
+    public Object getObject( int column ) throws SQLException {
+      return resultSet.getObject( column );
+    }
+
+    @Override
+    public int getInt( int column ) throws SQLException {
+      return resultSet.getInt( column );
+    }
+
+    @Override
+    public long getLong( int column ) throws SQLException {
+      return resultSet.getLong( column );
+    }
+
+    @Override
+    public double getDouble( int column ) throws SQLException {
+      return resultSet.getDouble( column );
+    }
+
+    @Override
+    public BigDecimal getBigDecimal( int column ) throws SQLException {
+      return resultSet.getBigDecimal( column );
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+      return resultSet.wasNull();
+    }
+
+    @Override
+    public String getColumnName( int column ) throws SQLException {
+      return resultSet.getMetaData().getColumnName( column );
+    }
+
+    @Override
+    public void close() {
+      // nothing to release
+    }
+  }
+
+  /**
+   * Row source that fetches the result set on a separate virtual thread, so that reading from the network overlaps
+   * with processing the rows.
+   *
+   * The fetching thread reads rows into columnar batches of at most {@code batchRows} rows and about
+   * {@code batchBytes} bytes, and hands them over through a queue. There are only {@value #BATCHES} batches: the
+   * loader gives each batch back once it has read it, and the fetching thread refills it rather than allocating a new
+   * one, so at most that many batches of raw rows are held at a time. Closing the source stops the fetching thread
+   * after the row it is reading.
+   */
+  static class PipelinedRowSource implements RowSource {
+    private static final int BATCHES = 3;
+    private static final RowList END = new RowList( List.of(), 1 );
+    private static final Executor FETCH_EXECUTOR =
+      Executors.newThreadPerTaskExecutor( Thread.ofVirtual().name( "daanse.rolap.agg.SegmentLoader$fetch-", 0 ).factory() );
+
+    private final ResultSet resultSet;
+    private final List<BestFitColumnType> chunkTypes;
+    private final int batchRows;
+    private final long batchBytes;
+    private final long fixedRowBytes;
+    private final int[] objectColumns;
+    private final BlockingQueue<RowList> free = new ArrayBlockingQueue<>( BATCHES );
+    // Never blocks: there are only BATCHES batches, and END.
+    private final BlockingQueue<RowList> full = new ArrayBlockingQueue<>( BATCHES + 1 );
+    private final CountDownLatch fetched = new CountDownLatch( 1 );
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private RowList chunk;
+    private boolean lastNull;
+    // Read by the fetching thread before its first batch, as the result set must not be used by two threads at once;
+    // handing over the batch publishes them to the loader.
+    private String[] columnNames;
+
+    PipelinedRowSource( ResultSet resultSet, List<BestFitColumnType> types, int batchRows, long batchBytes ) {
+      this( resultSet, types, batchRows, batchBytes, FETCH_EXECUTOR );
+    }
+
+    PipelinedRowSource( ResultSet resultSet, List<BestFitColumnType> types, int batchRows, long batchBytes,
+        Executor executor ) {
+      this.resultSet = resultSet;
+      // Decimals are kept as objects so that they reach the loader unconverted.
+      this.chunkTypes = new ArrayList<>( types );
+      chunkTypes.replaceAll( type -> type == BestFitColumnType.DECIMAL ? BestFitColumnType.OBJECT : type );
+      this.batchRows = Math.max( 1, batchRows );
+      this.batchBytes = batchBytes;
+      long rowBytes = 0;
+      final List<Integer> objects = new ArrayList<>();
+      for ( int i = 0; i < chunkTypes.size(); i++ ) {
+        switch ( chunkTypes.get( i ) ) {
+          case INT:
+            rowBytes += Integer.BYTES;
+            break;
+          case LONG:
+          case DOUBLE:
+            rowBytes += Long.BYTES;
+            break;
+          default:
+            // the reference; the object is counted as it is read
+            rowBytes += Long.BYTES;
+            objects.add( i );
+            break;
+        }
+      }
+      this.fixedRowBytes = rowBytes;
+      this.objectColumns = objects.stream().mapToInt( Integer::intValue ).toArray();
+      for ( int i = 0; i < BATCHES; i++ ) {
+        free.add( new RowList( chunkTypes, this.batchRows ) );
+      }
+      executor.execute( this::fetch );
+    }
+
+    private void fetch() {
+      try {
+        columnNames = columnNames( resultSet.getMetaData() );
+        boolean more = true;
+        while ( more && !closed ) {
+          final RowList rows = free.poll( 100, TimeUnit.MILLISECONDS );
+          if ( rows == null ) {
+            // wait for the loader to give a batch back, or to give up
+            continue;
+          }
+          rows.clear();
+          long bytes = 0;
+          while ( !closed && rows.size() < batchRows && ( batchBytes <= 0 || bytes < batchBytes )
+            && ( more = resultSet.next() ) ) {
+            rows.createRow( resultSet );
+            bytes += fixedRowBytes;
+            for ( int column : objectColumns ) {
+              bytes += estimateSize( rows.getObject( column ) );
+            }
+          }
+          if ( rows.size() > 0 ) {
+            rows.first();
+            full.add( rows );
+          } else {
+            free.add( rows );
+          }
+        }
+      } catch ( Throwable t ) {
+        failure = t;
+      } finally {
+        full.add( END );
+        fetched.countDown();
+      }
+    }
+
+    private static String[] columnNames( ResultSetMetaData metaData ) throws SQLException {
+      final String[] names = new String[metaData.getColumnCount()];
+      for ( int i = 0; i < names.length; i++ ) {
+        names[i] = metaData.getColumnName( i + 1 );
+      }
+      return names;
+    }
+
+    /**
+     * Returns the approximate number of bytes an object read from the result set takes on the heap.
+     */
+    private static long estimateSize( Object o ) {
+      if ( o == null ) {
+        return 0;
+      } else if ( o instanceof String string ) {
+        return 40L + 2L * string.length();
+      } else if ( o instanceof byte[] bytes ) {
+        return 16L + bytes.length;
+      } else if ( o instanceof BigDecimal ) {
+        return 64;
+      } else {
+        return 24;
+      }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+      if ( chunk == END ) {
+        return false;
+      }
+      if ( chunk != null ) {
+        if ( chunk.next() ) {
+          return true;
+        }
+        // Give the batch back to be refilled.
+        free.add( chunk );
+        chunk = null;
+      }
+      try {
+        chunk = full.take();
+      } catch ( InterruptedException e ) {
+        Thread.currentThread().interrupt();
+        throw new SQLException( e );
+      }
+      if ( chunk == END ) {
+        final Throwable t = failure;
+        if ( t instanceof SQLException e ) {
+          throw e;
+        } else if ( t instanceof RuntimeException e ) {
+          throw e;
+        } else if ( t instanceof Error e ) {
+          throw e;
+        } else if ( t != null ) {
+          throw new SQLException( t );
+        }
+        return false;
+      }
+      return chunk.next();
+    }
+
+    @Override
+    public Object getObject( int column ) {
+      final Object o = chunk.getObject( column - 1 );
+      lastNull = o == null;
+      return o;
+    }
+
+    @Override
+    public int getInt( int column ) {
+      if ( chunkTypes.get( column - 1 ) != BestFitColumnType.INT ) {
+        final Object o = getObject( column );
+        return o == null ? 0 : ( (Number) o ).intValue();
+      }
+      lastNull = chunk.isNull( column - 1 );
+      return chunk.getInt( column - 1 );
+    }
+
+    @Override
+    public long getLong( int column ) {
+      lastNull = chunk.isNull( column - 1 );
+      return chunk.getLong( column - 1 );
+    }
+
+    @Override
+    public double getDouble( int column ) {
+      lastNull = chunk.isNull( column - 1 );
+      return chunk.getDouble( column - 1 );
+    }
+
+    @Override
+    public BigDecimal getBigDecimal( int column ) {
+      final Object o = getObject( column );
+      return o == null || o instanceof BigDecimal ? (BigDecimal) o : new BigDecimal( o.toString() );
+    }
+
+    @Override
+    public boolean wasNull() {
+      return lastNull;
+    }
+
+    @Override
+    public String getColumnName( int column ) {
+      return columnNames[column - 1];
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      try {
+        fetched.await();
+      } catch ( InterruptedException e ) {
+        Thread.currentThread().interrupt();
+      }
+      free.clear();
+      full.clear();
+      chunk = END;
+    }
+  }
+
   /**
    * Collection of rows, each with a set of columns of type Object, double, or int. Native types are not boxed.
    */
@@ -911,6 +1376,25 @@ public class SegmentLoader {
       }
     }
 
+    /**
+     * Creates a cursor over the rows of another RowList.
+     */
+    private RowList( RowList rows ) {
+      this.columns = rows.columns;
+      this.rowCount = rows.rowCount;
+      this.capacity = rows.capacity;
+    }
+
+    /**
+     * Returns a read-only view of this list with its own current row. Several threads can each read the rows through
+     * their own cursor; the view must not be used to add or modify rows.
+     *
+     * @return Cursor over the rows of this list
+     */
+    public RowList cursor() {
+      return new RowList( this );
+    }
+
     public void createRow() {
       currentRow = rowCount++;
       if ( rowCount > capacity ) {
@@ -941,6 +1425,17 @@ public class SegmentLoader {
       return rowCount;
     }
 
+    /**
+     * Removes all rows, keeping the capacity, so that the list can be filled again.
+     */
+    void clear() {
+      for ( Column column : columns ) {
+        column.clear( rowCount );
+      }
+      rowCount = 0;
+      currentRow = -1;
+    }
+
     public void createRow( ResultSet resultSet ) throws SQLException {
       createRow();
       for ( Column column : columns ) {
@@ -1021,6 +1516,10 @@ public class SegmentLoader {
       return columns[columnIndex].getDouble( currentRow );
     }
 
+    public long getLong( int columnIndex ) {
+      return columns[columnIndex].getLong( currentRow );
+    }
+
     public boolean isNull( int columnIndex ) {
       return columns[columnIndex].isNull( currentRow );
     }
@@ -1057,6 +1556,13 @@ public class SegmentLoader {
 
       public abstract void resize( int newSize );
 
+      /**
+       * Releases the values of the first rows. Values of native columns, and their null indicators, are overwritten
+       * when rows are added again.
+       */
+      public void clear( int rowCount ) {
+      }
+
       public void setObject( int row, Object value ) {
         throw new UnsupportedOperationException();
       }
@@ -1091,6 +1597,10 @@ public class SegmentLoader {
         throw new UnsupportedOperationException();
       }
 
+      public long getLong( int row ) {
+        throw new UnsupportedOperationException();
+      }
+
       protected abstract int getCapacity();
 
       public abstract boolean isNull( int row );
@@ -1119,6 +1629,11 @@ public class SegmentLoader {
         objects = Arrays.copyOf( objects, newSize );
       }
 
+      @Override
+      public void clear( int rowCount ) {
+        Arrays.fill( objects, 0, rowCount, null );
+      }
+
       @Override
 	public void populateFrom( int row, ResultSet resultSet ) throws SQLException {
         objects[row] = resultSet.getObject( ordinal + 1 );
@@ -1228,7 +1743,8 @@ public class SegmentLoader {
         longs[row] = value;
       }
 
-      public long getLong( int row ) {
+      @Override
+	public long getLong( int row ) {
         return longs[row];
       }
 
@@ -188,7 +188,7 @@ public class ValueColumnPredicate
             buf.append(" is null");
         } else {
             buf.append(" = ");
-            sqlQuery.getDialect().quote(buf, key, column.getDatatype());
+            sqlQuery.appendLiteral(buf, key, column.getDatatype());
         }
     }
 
@@ -210,7 +210,7 @@ public class ValueColumnPredicate
     }
 
     public void toInListSql(SqlQuery sqlQuery, StringBuilder buf) {
-        sqlQuery.getDialect().quote(
+        sqlQuery.appendLiteral(
             buf, value, getConstrainedColumn().getDatatype());
     }
 }
@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.daanse.olap.api.Context;
 import org.eclipse.daanse.olap.api.connection.ConnectionProps;
@@ -39,6 +40,7 @@ import org.eclipse.daanse.olap.common.ConfigConstants;
 import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.rolap.api.RolapContext;
 import org.eclipse.daanse.rolap.api.aggmatch.AggregationMatchRulesSupplier;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.eclipse.daanse.rolap.common.util.PojoUtil;
 import org.eclipse.daanse.rolap.element.RolapCatalog;
@@ -172,6 +174,8 @@ public class AggTableManager {
         throws SQLException
     {
         ListRecorder msgRecorder = new ListRecorder();
+        List<ListRecorder> recorders = new ArrayList<>();
+        recorders.add(msgRecorder);
         try {
             Optional<AggregationMatchRulesSupplier> optSupplier =
                 ((RolapContext) context).getAggMatchRulesSupplier();
@@ -201,115 +205,177 @@ public class AggTableManager {
             // we may end up getting a Concurrency exception due to
             // calls to other instances of AggTableManager.finalCleanUp()
             synchronized (db) {
-
-                for (RolapStar star : getStars()) {
-                    // This removes any AggStars from any previous invocation of
-                    // this method (if any)
-                    star.prepareToLoadAggregates();
-
-                    List<ExplicitRules.Group> aggGroups = getAggGroups(star);
-                    for (ExplicitRules.Group group : aggGroups) {
-                        group.validate(msgRecorder);
-                    }
-
-                    String factTableName = getFactTableName(star);
-
-                    JdbcSchema.Table dbFactTable = db.getTable(factTableName);
-                    if (dbFactTable == null) {
-                        msgRecorder.reportWarning(
-                            "No Table found for fact name="
-                                + factTableName);
-                        continue;
-                    }
-
-                    // For each column in the dbFactTable, figure out it they
-                    // are measure or foreign key columns
-
-                    bindToStar(dbFactTable, star, msgRecorder);
-
-                    // Now look at all tables in the database and per table,
-                    // first see if it is a match for an aggregate table for
-                    // this fact table and second see if its columns match
-                    // foreign key and level columns.
-
-                    for (JdbcSchema.Table dbTable : db.getTables()) {
-                        String name = dbTable.getName();
-                        org.eclipse.daanse.cwm.model.cwm.resource.relational.NamedColumnSet t = dbTable.getModelTable();
-                        // Do the catalog schema aggregate excludes, exclude
-                        // this table name.
-                        if (ExplicitRules.excludeTable(name, aggGroups)) {
-                            continue;
-                        }
-
-                        // First see if there is an ExplicitRules match. If so,
-                        // then if all of the columns match up, then make an
-                        // AggStar. On the other hand, if there is no
-                        // ExplicitRules match, see if there is a Default
-                        // match. If so and if all the columns match up, then
-                        // also make an AggStar.
-                        ExplicitRules.TableDef tableDef =
-                            ExplicitRules.getIncludeByTableDef(name, aggGroups);
-
-                        boolean makeAggStar = false;
-                        int approxRowCount = Integer.MIN_VALUE;
-                        // Is it handled by the ExplicitRules
-                        if (tableDef != null) {
-                            makeAggStar = tableDef.columnsOK(
-                                star,
-                                dbFactTable,
-                                dbTable,
-                                msgRecorder);
-                            approxRowCount = tableDef.getApproxRowCount();
-                        }
-                        // Is it handled by the PatternbasedRules
-                        if (! makeAggStar
-                            && rules != null
-                            && context.getConfigValue(ConfigConstants.READ_AGGREGATES, ConfigConstants.READ_AGGREGATES_DEFAULT_VALUE ,Boolean.class)
-                            && rules.matchesTableName(factTableName, name)) {
-                            makeAggStar = rules.columnsOK(
-                                star,
-                                dbFactTable,
-                                dbTable,
-                                msgRecorder);
-                        }
-
-                        if (makeAggStar) {
-                            dbTable.setTableUsageType(
-                                JdbcSchema.TableUsageType.AGG);
-                            org.eclipse.daanse.rolap.mapping.model.database.source.TableSource q = SourceFactory.eINSTANCE.createTableSource();
-                            q.setTable(t);
-                            dbTable.table = q;
-                            AggStar aggStar = AggStar.makeAggStar(
-                                star,
-                                dbTable,
-                                approxRowCount);
-                            if (aggStar.getSize(context.getConfigValue(ConfigConstants.CHOOSE_AGGREGATE_BY_VOLUME, ConfigConstants.CHOOSE_AGGREGATE_BY_VOLUME_DEFAULT_VALUE ,Boolean.class)) > 0) {
-                                star.addAggStar(aggStar);
-                            } else {
-                                String msg = MessageFormat.format(aggTableZeroSize,
-                                    aggStar.getFactTable().getName(),
-                                    factTableName);
-                                getLogger().warn(msg);
+                // The tables are looked up here, as the lock on db is held
+                // while the stars are processed.
+                final Collection<JdbcSchema.Table> dbTables =
+                    new ArrayList<>(db.getTables());
+                if (context.getConfigValue(RolapConfigConstants.ENABLE_PARALLEL_CATALOG_LOADING, RolapConfigConstants.ENABLE_PARALLEL_CATALOG_LOADING_DEFAULT_VALUE, Boolean.class)) {
+                    final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                    for (RolapStar star : getStars()) {
+                        final String factTableName = getFactTableName(star);
+                        final JdbcSchema.Table dbFactTable =
+                            db.getTable(factTableName);
+                        final ListRecorder starRecorder = new ListRecorder();
+                        recorders.add(starRecorder);
+                        tasks.add(ForkJoinTask.adapt(() -> {
+                            try {
+                                loadAggregates(
+                                    star, factTableName, dbFactTable, dbTables,
+                                    rules, starRecorder);
+                            } catch (RecorderException ex) {
+                                throw new OlapRuntimeException(ex);
                             }
-                        }
-                        // Note: if the dbTable name matches but the columnsOK
-                        // does not, then this is an error and the aggregate
-                        // tables can not be loaded.
-                        // We do not "reset" the column usages in the dbTable
-                        // allowing it maybe to match another rule.
+                        }));
+                    }
+                    ForkJoinTask.invokeAll(tasks);
+                } else {
+                    for (RolapStar star : getStars()) {
+                        String factTableName = getFactTableName(star);
+                        loadAggregates(
+                            star, factTableName, db.getTable(factTableName),
+                            dbTables, rules, msgRecorder);
                     }
                 }
             }
         } catch (RecorderException ex) {
             throw new OlapRuntimeException(ex);
         } finally {
-            msgRecorder.logInfoMessage(getLogger());
-            msgRecorder.logWarningMessage(getLogger());
-            msgRecorder.logErrorMessage(getLogger());
-            if (msgRecorder.hasErrors()) {
+            int errorCount = 0;
+            for (ListRecorder recorder : recorders) {
+                recorder.logInfoMessage(getLogger());
+                recorder.logWarningMessage(getLogger());
+                recorder.logErrorMessage(getLogger());
+                errorCount += recorder.getErrorCount();
+            }
+            if (errorCount > 0) {
                 throw new OlapRuntimeException(MessageFormat.format(aggLoadingExceededErrorCount,
-                    msgRecorder.getErrorCount()));
+                    errorCount));
+            }
+        }
+    }
+
+    /**
+     * Recognizes the aggregate tables of a star.
+     *
+     * @param star          Star
+     * @param factTableName Name of the fact table of the star
+     * @param dbFactTable   Fact table, or null if the database has none of
+     *                      that name
+     * @param dbTables      Tables of the database
+     * @param rules         Pattern based rules, or null
+     * @param msgRecorder   Recorder of the messages for this star
+     */
+    private void loadAggregates(
+        RolapStar star,
+        String factTableName,
+        JdbcSchema.Table dbFactTable,
+        Collection<JdbcSchema.Table> dbTables,
+        PatternbasedRules rules,
+        MessageRecorder msgRecorder)
+        throws RecorderException
+    {
+        // This removes any AggStars from any previous invocation of
+        // this method (if any)
+        star.prepareToLoadAggregates();
+
+        List<ExplicitRules.Group> aggGroups = getAggGroups(star);
+        for (ExplicitRules.Group group : aggGroups) {
+            group.validate(msgRecorder);
+        }
+
+        if (dbFactTable == null) {
+            msgRecorder.reportWarning(
+                "No Table found for fact name="
+                    + factTableName);
+            return;
+        }
+
+        // For each column in the dbFactTable, figure out it they
+        // are measure or foreign key columns
+
+        synchronized (dbFactTable) {
+            bindToStar(dbFactTable, star, msgRecorder);
+        }
+
+        // Now look at all tables in the database and per table,
+        // first see if it is a match for an aggregate table for
+        // this fact table and second see if its columns match
+        // foreign key and level columns.
+
+        for (JdbcSchema.Table dbTable : dbTables) {
+            String name = dbTable.getName();
+            org.eclipse.daanse.cwm.model.cwm.resource.relational.NamedColumnSet t = dbTable.getModelTable();
+            // Do the catalog schema aggregate excludes, exclude
+            // this table name.
+            if (ExplicitRules.excludeTable(name, aggGroups)) {
+                continue;
+            }
+
+            // First see if there is an ExplicitRules match. If so,
+            // then if all of the columns match up, then make an
+            // AggStar. On the other hand, if there is no
+            // ExplicitRules match, see if there is a Default
+            // match. If so and if all the columns match up, then
+            // also make an AggStar.
+            ExplicitRules.TableDef tableDef =
+                ExplicitRules.getIncludeByTableDef(name, aggGroups);
+
+            // Matching records column usages in the table, which may
+            // also be a candidate for the stars of other threads.
+            final AggStar aggStar;
+            synchronized (dbTable) {
+                boolean makeAggStar = false;
+                int approxRowCount = Integer.MIN_VALUE;
+                // Is it handled by the ExplicitRules
+                if (tableDef != null) {
+                    makeAggStar = tableDef.columnsOK(
+                        star,
+                        dbFactTable,
+                        dbTable,
+                        msgRecorder);
+                    approxRowCount = tableDef.getApproxRowCount();
+                }
+                // Is it handled by the PatternbasedRules
+                if (! makeAggStar
+                    && rules != null
+                    && context.getConfigValue(ConfigConstants.READ_AGGREGATES, ConfigConstants.READ_AGGREGATES_DEFAULT_VALUE ,Boolean.class)
+                    && rules.matchesTableName(factTableName, name)) {
+                    makeAggStar = rules.columnsOK(
+                        star,
+                        dbFactTable,
+                        dbTable,
+                        msgRecorder);
+                }
+
+                if (makeAggStar) {
+                    dbTable.setTableUsageType(
+                        JdbcSchema.TableUsageType.AGG);
+                    org.eclipse.daanse.rolap.mapping.model.database.source.TableSource q = SourceFactory.eINSTANCE.createTableSource();
+                    q.setTable(t);
+                    dbTable.table = q;
+                    aggStar = AggStar.makeAggStar(
+                        star,
+                        dbTable,
+                        approxRowCount);
+                } else {
+                    aggStar = null;
+                }
+            }
+            if (aggStar != null) {
+                if (aggStar.getSize(context.getConfigValue(ConfigConstants.CHOOSE_AGGREGATE_BY_VOLUME, ConfigConstants.CHOOSE_AGGREGATE_BY_VOLUME_DEFAULT_VALUE ,Boolean.class)) > 0) {
+                    star.addAggStar(aggStar);
+                } else {
+                    String msg = MessageFormat.format(aggTableZeroSize,
+                        aggStar.getFactTable().getName(),
+                        factTableName);
+                    getLogger().warn(msg);
+                }
             }
+            // Note: if the dbTable name matches but the columnsOK
+            // does not, then this is an error and the aggregate
+            // tables can not be loaded.
+            // We do not "reset" the column usages in the dbTable
+            // allowing it maybe to match another rule.
         }
     }
 
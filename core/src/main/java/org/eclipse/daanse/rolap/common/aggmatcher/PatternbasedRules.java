@@ -25,8 +25,8 @@
  */
 package org.eclipse.daanse.rolap.common.aggmatcher;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.daanse.rolap.api.aggmatch.AggregationFactCountMatch;
 import org.eclipse.daanse.rolap.api.aggmatch.AggregationForeignKeyMatch;
@@ -50,16 +50,19 @@ public class PatternbasedRules {
     private static final Logger LOGGER = LoggerFactory.getLogger(PatternbasedRules.class);
 
     private final AggregationMatchRules rules;
+    // Matchers are created lazily, possibly by several threads recognizing
+    // the aggregate tables of different stars; creating one twice is
+    // harmless.
     private final Map<String, Recognizer.Matcher> factToPattern;
     private final Map<String, Recognizer.Matcher> foreignKeyMatcherMap;
-    private Recognizer.Matcher ignoreMatcherMap;
-    private Recognizer.Matcher factCountMatcher;
+    private volatile Recognizer.Matcher ignoreMatcherMap;
+    private volatile Recognizer.Matcher factCountMatcher;
     private String tag;
 
     PatternbasedRules(final AggregationMatchRules rules, String aggregateRuleTag) {
         this.rules = rules;
-        this.factToPattern = new HashMap<>();
-        this.foreignKeyMatcherMap = new HashMap<>();
+        this.factToPattern = new ConcurrentHashMap<>();
+        this.foreignKeyMatcherMap = new ConcurrentHashMap<>();
         this.tag = aggregateRuleTag;
     }
 
@@ -0,0 +1,554 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.cache;
+
+
+
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentCache;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.rolap.common.agg.SegmentCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of org.eclipse.daanse.olap.spi.SegmentCache that persists
+ * segments in a local directory, so that a restarted server does not start
+ * with an empty cache.
+ *
+ * The directory holds two append-only files. {@value #DATA_FILE} holds the
+ * bodies and {@value #INDEX_FILE} a record per put (header, offset and
+ * length of the body) and per remove. Headers and bodies are written by
+ * {@link SegmentCodec}; segments it cannot encode are skipped by
+ * {@link #put} and served by the other tiers only. When the cache is
+ * opened, the index is replayed to rebuild the set of headers; the bodies
+ * stay on disk until {@link #get} maps them. A record cut short by a crash
+ * ends the replay and is truncated, and records of an unknown format are
+ * skipped. Since a body is written before its index record, a crash can at
+ * worst leave an unreferenced body, which the next compaction drops.
+ *
+ * If the cache has a maximum size and the live bodies exceed it, the least
+ * recently used segments are removed and announced to the listeners as
+ * non-local
+ * {@link SegmentCacheListener.SegmentCacheEvent.EventType#ENTRY_DELETED}
+ * events. The files are compacted when they are opened and whenever the
+ * space held by removed bodies exceeds both the live bodies and
+ * {@link #COMPACTION_MINIMUM}, so they stay within about twice the live
+ * size.
+ *
+ * The headers carry the checksum of the schema they were loaded for; the
+ * segment cache manager removes the headers of a schema version that no
+ * loaded catalog uses when it syncs the star.
+ */
+public class DiskSegmentCache implements SegmentCache {
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(DiskSegmentCache.class);
+
+    static final String INDEX_FILE = "segments.idx";
+    static final String DATA_FILE = "segments.dat";
+
+    /**
+     * Number of bytes held by removed bodies below which the files are not
+     * compacted while the cache is open.
+     */
+    static final long COMPACTION_MINIMUM = 1L << 20;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private static final byte ENCODED = 1;
+
+    private final Path directory;
+    private final long maximumSize;
+    /**
+     * Stored segments, least recently used first; guarded by this.
+     */
+    private final LinkedHashMap<SegmentHeader, Location> locations =
+        new LinkedHashMap<>(16, 0.75f, true);
+    /** Total length of the bodies in {@link #locations}; guarded by this. */
+    private long liveBytes;
+    private final List<SegmentCacheListener> listeners =
+        new CopyOnWriteArrayList<>();
+    /** Channels of the index and data files; guarded by this. */
+    private FileChannel indexChannel;
+    private FileChannel dataChannel;
+
+    /**
+     * Position and length of a body in the data file.
+     */
+    record Location(long offset, int length) {
+    }
+
+    /**
+     * Opens a cache without a maximum size.
+     *
+     * @param directory Directory of the cache files
+     * @throws IOException if the files cannot be opened or read
+     */
+    public DiskSegmentCache(Path directory) throws IOException {
+        this(directory, 0L);
+    }
+
+    /**
+     * Opens the cache in a directory, creating the directory if needed, and
+     * reloads the headers written by previous runs.
+     *
+     * @param directory Directory of the cache files
+     * @param maximumSize Maximum total size of the stored bodies, in bytes,
+     *     or 0 if the size is not limited
+     * @throws IOException if the files cannot be opened or read
+     */
+    public DiskSegmentCache(Path directory, long maximumSize)
+        throws IOException
+    {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        Files.createDirectories(directory);
+        synchronized (this) {
+            open();
+            evict(new ArrayList<>());
+            if (needsCompaction(0L)) {
+                compact();
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        dataChannel = FileChannel.open(
+            directory.resolve(DATA_FILE),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        indexChannel = FileChannel.open(
+            directory.resolve(INDEX_FILE),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        replay();
+    }
+
+    /**
+     * Rebuilds {@link #locations} from the index file, and truncates the
+     * index after the last complete record.
+     */
+    private void replay() throws IOException {
+        locations.clear();
+        final long dataSize = dataChannel.size();
+        long validSize = 0;
+        final InputStream in =
+            Channels.newInputStream(indexChannel.position(0));
+        final DataInputStream data =
+            new DataInputStream(new BufferedInputStream(in));
+        try {
+            for (;;) {
+                final byte type = data.readByte();
+                final int headerLength = data.readInt();
+                if (headerLength < 1) {
+                    break;
+                }
+                final byte[] headerBytes = new byte[headerLength];
+                data.readFully(headerBytes);
+                long recordSize = 1 + 4 + headerBytes.length;
+                Location location = null;
+                if (type == PUT) {
+                    location = new Location(data.readLong(), data.readInt());
+                    recordSize += 8 + 4;
+                } else if (type != REMOVE) {
+                    break;
+                }
+                validSize += recordSize;
+                final SegmentHeader header = readHeader(headerBytes);
+                if (header == null) {
+                    continue;
+                }
+                if (location == null) {
+                    locations.remove(header);
+                } else if (location.offset() + location.length() <= dataSize) {
+                    locations.put(header, location);
+                }
+            }
+        } catch (EOFException e) {
+            // End of the index, or a record cut short.
+        }
+        if (validSize < indexChannel.size()) {
+            LOGGER.warn(
+                "Truncating segment cache index {} after {} bytes",
+                directory.resolve(INDEX_FILE), validSize);
+            indexChannel.truncate(validSize);
+        }
+        indexChannel.position(validSize);
+        liveBytes = 0;
+        for (Location location : locations.values()) {
+            liveBytes += location.length();
+        }
+    }
+
+    /**
+     * Returns whether the removed bodies take more space than the live ones
+     * and than a given minimum. Must hold the lock.
+     */
+    private boolean needsCompaction(long minimumGarbage) throws IOException {
+        final long garbage = dataChannel.size() - liveBytes;
+        return garbage > liveBytes && garbage > minimumGarbage;
+    }
+
+    /**
+     * Rewrites the files with only the live segments. Must hold the lock.
+     */
+    private void compact() throws IOException {
+        final Path dataTmp = directory.resolve(DATA_FILE + ".tmp");
+        final Path indexTmp = directory.resolve(INDEX_FILE + ".tmp");
+        try (FileChannel newData = FileChannel.open(
+                dataTmp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+            FileChannel newIndex = FileChannel.open(
+                indexTmp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE))
+        {
+            for (Map.Entry<SegmentHeader, Location> entry
+                : locations.entrySet())
+            {
+                final Location location = entry.getValue();
+                final long offset = newData.position();
+                long copied = 0;
+                while (copied < location.length()) {
+                    copied += dataChannel.transferTo(
+                        location.offset() + copied,
+                        location.length() - copied,
+                        newData);
+                }
+                writeFully(
+                    newIndex,
+                    indexRecord(
+                        PUT, toBytes(entry.getKey()),
+                        new Location(offset, location.length())));
+            }
+            newData.force(true);
+            newIndex.force(true);
+        }
+        indexChannel.close();
+        dataChannel.close();
+        // The old index goes first, so that a crash part way through
+        // leaves an empty cache rather than an index into the wrong data.
+        Files.deleteIfExists(directory.resolve(INDEX_FILE));
+        Files.move(
+            dataTmp, directory.resolve(DATA_FILE),
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        Files.move(
+            indexTmp, directory.resolve(INDEX_FILE),
+            StandardCopyOption.ATOMIC_MOVE);
+        open();
+    }
+
+    /**
+     * Compacts the files if enough of the data file is garbage. A failure is
+     * logged and does not fail the put or remove that triggered it. Must
+     * hold the lock.
+     */
+    private void compactIfNeeded() {
+        try {
+            if (needsCompaction(COMPACTION_MINIMUM)) {
+                compact();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to compact disk cache", e);
+        }
+    }
+
+    /**
+     * Removes the least recently used segments until the live bodies fit
+     * the maximum size, and adds their headers to a list. Must hold the
+     * lock.
+     */
+    private void evict(List<SegmentHeader> evicted) throws IOException {
+        if (maximumSize <= 0) {
+            return;
+        }
+        final Iterator<Map.Entry<SegmentHeader, Location>> iterator =
+            locations.entrySet().iterator();
+        while (liveBytes > maximumSize && iterator.hasNext()) {
+            final Map.Entry<SegmentHeader, Location> eldest = iterator.next();
+            writeFully(
+                indexChannel,
+                indexRecord(REMOVE, toBytes(eldest.getKey()), null));
+            iterator.remove();
+            liveBytes -= eldest.getValue().length();
+            evicted.add(eldest.getKey());
+        }
+    }
+
+    @Override
+    public SegmentBody get(SegmentHeader header) {
+        final ByteBuffer buffer;
+        synchronized (this) {
+            final Location location = locations.get(header);
+            if (location == null) {
+                return null;
+            }
+            try {
+                // The mapping stays valid when a compaction replaces the
+                // file, so the body is decoded outside the lock.
+                buffer = dataChannel
+                    .map(
+                        FileChannel.MapMode.READ_ONLY,
+                        location.offset(),
+                        location.length())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to read segment from disk cache", e);
+                return null;
+            }
+        }
+        try {
+            if (buffer.get() != ENCODED) {
+                return null;
+            }
+            return SegmentCodec.decodeBody(buffer);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to read segment from disk cache", e);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized List<SegmentHeader> getSegmentHeaders() {
+        return new ArrayList<>(locations.keySet());
+    }
+
+    @Override
+    public boolean put(final SegmentHeader header, SegmentBody body) {
+        final ByteBuffer buffer;
+        final byte[] headerBytes;
+        try {
+            buffer = SegmentCodec.encode(body);
+            headerBytes = toBytes(header);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+        if (maximumSize > 0 && 1 + buffer.capacity() > maximumSize) {
+            return true;
+        }
+        final List<SegmentHeader> evicted = new ArrayList<>();
+        try {
+            synchronized (this) {
+                final long offset = dataChannel.size();
+                dataChannel.position(offset);
+                writeFully(dataChannel, ByteBuffer.wrap(new byte[] {ENCODED}));
+                writeFully(dataChannel, buffer);
+                final Location location =
+                    new Location(offset, 1 + buffer.capacity());
+                writeFully(
+                    indexChannel, indexRecord(PUT, headerBytes, location));
+                final Location previous = locations.put(header, location);
+                if (previous != null) {
+                    liveBytes -= previous.length();
+                }
+                liveBytes += location.length();
+                evict(evicted);
+                compactIfNeeded();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write segment to disk cache", e);
+            return false;
+        }
+        fireSegmentCacheEvent(
+            new SegmentEvent(
+                header, true,
+                SegmentCacheListener.SegmentCacheEvent.EventType.ENTRY_CREATED));
+        for (SegmentHeader eldest : evicted) {
+            fireSegmentCacheEvent(
+                new SegmentEvent(
+                    eldest, false,
+                    SegmentCacheListener.SegmentCacheEvent.EventType.ENTRY_DELETED));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(final SegmentHeader header) {
+        try {
+            synchronized (this) {
+                final Location location = locations.get(header);
+                if (location == null) {
+                    return false;
+                }
+                writeFully(
+                    indexChannel,
+                    indexRecord(REMOVE, toBytes(header), null));
+                locations.remove(header);
+                liveBytes -= location.length();
+                compactIfNeeded();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to remove segment from disk cache", e);
+            return false;
+        }
+        fireSegmentCacheEvent(
+            new SegmentEvent(
+                header, true,
+                SegmentCacheListener.SegmentCacheEvent.EventType.ENTRY_DELETED));
+        return true;
+    }
+
+    @Override
+    public synchronized void tearDown() {
+        locations.clear();
+        liveBytes = 0;
+        listeners.clear();
+        try {
+            indexChannel.close();
+            dataChannel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close disk cache", e);
+        }
+    }
+
+    @Override
+    public void addListener(SegmentCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(SegmentCacheListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public boolean supportsRichIndex() {
+        return true;
+    }
+
+    /**
+     * Returns the total size of the stored bodies, in bytes.
+     */
+    public synchronized long getUsedBytes() {
+        return liveBytes;
+    }
+
+    private void fireSegmentCacheEvent(
+        SegmentCache.SegmentCacheListener.SegmentCacheEvent evt)
+    {
+        for (SegmentCacheListener listener : listeners) {
+            listener.handle(evt);
+        }
+    }
+
+    private static ByteBuffer indexRecord(
+        byte type, byte[] headerBytes, Location location)
+    {
+        final ByteBuffer record = ByteBuffer.allocate(
+            1 + 4 + headerBytes.length + (location == null ? 0 : 8 + 4));
+        record.put(type);
+        record.putInt(headerBytes.length);
+        record.put(headerBytes);
+        if (location != null) {
+            record.putLong(location.offset());
+            record.putInt(location.length());
+        }
+        return record.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer)
+        throws IOException
+    {
+        buffer.rewind();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Encodes a header, prefixed by its format.
+     *
+     * @throws IllegalArgumentException if the codec cannot encode the header
+     */
+    private static byte[] toBytes(SegmentHeader header) {
+        final ByteBuffer buffer = SegmentCodec.encode(header);
+        final byte[] tagged = new byte[1 + buffer.remaining()];
+        tagged[0] = ENCODED;
+        buffer.get(tagged, 1, tagged.length - 1);
+        return tagged;
+    }
+
+    /**
+     * Reads a header, or returns null if it was written in another format,
+     * such as the serialized headers of earlier versions.
+     */
+    private static SegmentHeader readHeader(byte[] bytes) {
+        if (bytes[0] != ENCODED) {
+            return null;
+        }
+        try {
+            return SegmentCodec.decodeHeader(
+                ByteBuffer.wrap(bytes, 1, bytes.length - 1));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Skipping unreadable segment header", e);
+            return null;
+        }
+    }
+
+    private static class SegmentEvent
+        implements SegmentCache.SegmentCacheListener.SegmentCacheEvent
+    {
+        private final SegmentHeader header;
+        private final boolean local;
+        private final EventType eventType;
+
+        SegmentEvent(SegmentHeader header, boolean local, EventType eventType) {
+            this.header = header;
+            this.local = local;
+            this.eventType = eventType;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return local;
+        }
+
+        @Override
+        public SegmentHeader getSource() {
+            return header;
+        }
+
+        @Override
+        public EventType getEventType() {
+            return eventType;
+        }
+    }
+}
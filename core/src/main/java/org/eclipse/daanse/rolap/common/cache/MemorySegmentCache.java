@@ -25,63 +25,122 @@
 
 package org.eclipse.daanse.rolap.common.cache;
 
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.SortedSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.daanse.olap.spi.SegmentBody;
 import org.eclipse.daanse.olap.spi.SegmentCache;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.rolap.common.agg.AbstractSegmentBody;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 /**
  * Implementation of org.eclipse.daanse.olap.spi.SegmentCache that stores segments
  * in memory.
  *
- * Segments are held via soft references, so the garbage collector can remove
- * them if it sees fit.
+ * By default, segments are held via soft references, so the garbage
+ * collector can remove them if it sees fit. If a maximum weight is given,
+ * segments are held strongly and the cache evicts the least valuable
+ * segments (by frequency and recency of use) once the estimated size of the
+ * bodies exceeds that weight. Each eviction is announced to the listeners as
+ * a non-local {@link SegmentCacheListener.SegmentCacheEvent.EventType#ENTRY_DELETED}
+ * event, so that the segment index forgets the segment.
  *
  * @author Julian Hyde
  */
 public class MemorySegmentCache implements SegmentCache {
-    // Use a thread-safe map because the SegmentCache
-    // interface requires thread safety.
-    private final Map<SegmentHeader, SoftReference<SegmentBody>> map =
-        new ConcurrentHashMap<>();
+    /**
+     * Estimated number of bytes per cell or axis value; as in
+     * SegmentDataset.getBytes(), a slot, key, and value are each 4 bytes.
+     */
+    private static final int BYTES_PER_VALUE = 12;
+
+    // Caffeine caches are thread-safe, as the SegmentCache
+    // interface requires.
+    private final Cache<SegmentHeader, SegmentBody> map;
     private final List<SegmentCacheListener> listeners =
         new CopyOnWriteArrayList<>();
 
-    @Override
-	public SegmentBody get(SegmentHeader header) {
-        final SoftReference<SegmentBody> ref = map.get(header);
-        if (ref == null) {
-            return null;
-        }
-        final SegmentBody body = ref.get();
-        if (body == null) {
-            map.remove(header);
+    /**
+     * Creates an unbounded cache that holds segments via soft references.
+     */
+    public MemorySegmentCache() {
+        this(0);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumWeight Maximum estimated size of the cached segment
+     *     bodies, in bytes, or 0 to hold segments via soft references
+     */
+    public MemorySegmentCache(long maximumWeight) {
+        this(maximumWeight, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a cache whose maintenance, such as eviction and the events it
+     * fires, runs on the given executor.
+     */
+    MemorySegmentCache(long maximumWeight, Executor executor) {
+        final Caffeine<Object, Object> builder =
+            Caffeine.newBuilder().executor(executor).recordStats();
+        if (maximumWeight > 0) {
+            this.map = builder
+                .maximumWeight(maximumWeight)
+                .weigher((SegmentHeader header, SegmentBody body) -> weigh(body))
+                .removalListener(
+                    (SegmentHeader header, SegmentBody body, RemovalCause cause) -> {
+                        if (header != null && cause.wasEvicted()) {
+                            fireSegmentCacheEvent(
+                                new SegmentDeletedEvent(header, false));
+                        }
+                    })
+                .build();
+        } else {
+            this.map = builder.softValues().build();
         }
-        return body;
     }
 
-    public boolean contains(SegmentHeader header) {
-        final SoftReference<SegmentBody> ref = map.get(header);
-        if (ref == null) {
-            return false;
+    /**
+     * Returns the estimated size of a segment body, in bytes.
+     *
+     * @param body Segment body
+     * @return Estimated size
+     */
+    public static int weigh(SegmentBody body) {
+        long values;
+        if (body instanceof AbstractSegmentBody abstractBody) {
+            values = abstractBody.getSize();
+        } else {
+            values = body.getValueMap().size();
         }
-        final SegmentBody body = ref.get();
-        if (body == null) {
-            map.remove(header);
-            return false;
+        for (SortedSet<Comparable> axisValues : body.getAxisValueSets()) {
+            values += axisValues.size();
         }
-        return true;
+        return (int) Math.min(Integer.MAX_VALUE, values * BYTES_PER_VALUE);
+    }
+
+    @Override
+	public SegmentBody get(SegmentHeader header) {
+        return map.getIfPresent(header);
+    }
+
+    public boolean contains(SegmentHeader header) {
+        return map.asMap().containsKey(header);
     }
 
     @Override
 	public List<SegmentHeader> getSegmentHeaders() {
-        return new ArrayList<>(map.keySet());
+        return new ArrayList<>(map.asMap().keySet());
     }
 
     @Override
@@ -90,7 +149,7 @@ public class MemorySegmentCache implements SegmentCache {
         // and throwing an exception?
         assert header != null;
         assert body != null;
-        map.put(header, new SoftReference<>(body));
+        map.put(header, body);
         fireSegmentCacheEvent(
             new SegmentCache.SegmentCacheListener.SegmentCacheEvent() {
                 @Override
@@ -113,33 +172,17 @@ public class MemorySegmentCache implements SegmentCache {
     @Override
 	public boolean remove(final SegmentHeader header) {
         final boolean result =
-            map.remove(header) != null;
+            map.asMap().remove(header) != null;
         if (result) {
-            fireSegmentCacheEvent(
-                new SegmentCache.SegmentCacheListener.SegmentCacheEvent() {
-                    @Override
-					public boolean isLocal() {
-                        return true;
-                    }
-                    @Override
-					public SegmentHeader getSource() {
-                        return header;
-                    }
-                    @Override
-					public EventType getEventType() {
-                        return
-                            SegmentCacheListener.SegmentCacheEvent
-                                .EventType.ENTRY_DELETED;
-                    }
-                });
+            fireSegmentCacheEvent(new SegmentDeletedEvent(header, true));
         }
         return result;
     }
 
     @Override
 	public void tearDown() {
-        map.clear();
         listeners.clear();
+        map.invalidateAll();
     }
 
     @Override
@@ -164,4 +207,73 @@ public class MemorySegmentCache implements SegmentCache {
             listener.handle(evt);
         }
     }
+
+    /**
+     * Returns the hit, miss and eviction counts and the current estimated
+     * size of this cache.
+     */
+    public Statistics getStatistics() {
+        final CacheStats stats = map.stats();
+        final long weightedSize = map.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+        return new Statistics(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.evictionCount(),
+            map.estimatedSize(),
+            weightedSize);
+    }
+
+    /**
+     * Statistics of a {@link MemorySegmentCache}.
+     *
+     * @param hitCount Number of lookups that found a segment
+     * @param missCount Number of lookups that found no segment
+     * @param evictionCount Number of segments evicted by size or by the
+     *     garbage collector
+     * @param segmentCount Approximate number of cached segments
+     * @param weightedSize Estimated size of the cached bodies in bytes, or 0
+     *     if the cache is not bounded
+     */
+    public record Statistics(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long segmentCount,
+        long weightedSize)
+    {
+        public double hitRate() {
+            final long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1d : (double) hitCount / requestCount;
+        }
+    }
+
+    private static class SegmentDeletedEvent
+        implements SegmentCache.SegmentCacheListener.SegmentCacheEvent
+    {
+        private final SegmentHeader header;
+        private final boolean local;
+
+        SegmentDeletedEvent(SegmentHeader header, boolean local) {
+            this.header = header;
+            this.local = local;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return local;
+        }
+
+        @Override
+        public SegmentHeader getSource() {
+            return header;
+        }
+
+        @Override
+        public EventType getEventType() {
+            return SegmentCacheListener.SegmentCacheEvent
+                .EventType.ENTRY_DELETED;
+        }
+    }
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.cache;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentCache;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.rolap.common.agg.SegmentCodec;
+
+/**
+ * Implementation of org.eclipse.daanse.olap.spi.SegmentCache that stores
+ * segment bodies outside the Java heap.
+ *
+ * Each body is written by {@link SegmentCodec} to a {@link MemorySegment}
+ * allocated from an {@link Arena} of its own: the axis values, the null
+ * indicators as raw words and the cell values of dense bodies as a raw
+ * primitive array. The heap holds only the headers and the segment
+ * handles, so large segments add nothing to the old generation. The arena
+ * is closed as soon as its body is removed or evicted and no
+ * {@link #get} is reading it, so the memory in use never exceeds the
+ * capacity by more than the bodies being read.
+ *
+ * {@link #get} decodes a body into heap arrays, which is what the segment
+ * datasets are built from. The cache manager puts a body it got from this
+ * cache back into the heap tier, so that only the first hit after the
+ * heap tier dropped the body pays for decoding.
+ *
+ * Bodies the codec cannot encode are skipped by {@link #put} and served by
+ * the other tiers only. (Returning false would make the
+ * {@code SegmentCacheWorker} report a failure.) When the bodies exceed the
+ * capacity, the least recently used segments are evicted and announced to
+ * the listeners as non-local
+ * {@link SegmentCacheListener.SegmentCacheEvent.EventType#ENTRY_DELETED}
+ * events.
+ */
+public class OffHeapSegmentCache implements SegmentCache {
+    private final long capacity;
+    /**
+     * Stored bodies, least recently used first; guarded by this.
+     */
+    private final LinkedHashMap<SegmentHeader, Entry> map =
+        new LinkedHashMap<>(16, 0.75f, true);
+    /** Total size of the bodies in {@link #map}; guarded by this. */
+    private long usedBytes;
+    /**
+     * Total size of the bodies whose memory is not freed yet, including
+     * removed bodies that are still being read; guarded by this.
+     */
+    private long allocatedBytes;
+    private final List<SegmentCacheListener> listeners =
+        new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an OffHeapSegmentCache.
+     *
+     * @param capacity Maximum total size of the stored bodies, in bytes
+     */
+    public OffHeapSegmentCache(long capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public SegmentBody get(SegmentHeader header) {
+        final Entry entry;
+        synchronized (this) {
+            entry = map.get(header);
+            if (entry == null) {
+                return null;
+            }
+            ++entry.readers;
+        }
+        try {
+            return SegmentCodec.decodeBody(entry.segment.asByteBuffer());
+        } finally {
+            release(entry);
+        }
+    }
+
+    public synchronized boolean contains(SegmentHeader header) {
+        return map.containsKey(header);
+    }
+
+    @Override
+    public synchronized List<SegmentHeader> getSegmentHeaders() {
+        return new ArrayList<>(map.keySet());
+    }
+
+    @Override
+    public boolean put(final SegmentHeader header, SegmentBody body) {
+        final ByteBuffer encoded = encode(body);
+        if (encoded == null || encoded.remaining() > capacity) {
+            return true;
+        }
+        final Entry entry = new Entry(encoded);
+        final List<SegmentHeader> evicted = new ArrayList<>();
+        synchronized (this) {
+            final Entry previous = map.put(header, entry);
+            if (previous != null) {
+                discard(previous);
+            }
+            usedBytes += entry.size();
+            allocatedBytes += entry.size();
+            final Iterator<Map.Entry<SegmentHeader, Entry>> iterator =
+                map.entrySet().iterator();
+            while (usedBytes > capacity) {
+                final Map.Entry<SegmentHeader, Entry> eldest = iterator.next();
+                iterator.remove();
+                discard(eldest.getValue());
+                evicted.add(eldest.getKey());
+            }
+        }
+        fireSegmentCacheEvent(
+            new SegmentEvent(
+                header, true,
+                SegmentCacheListener.SegmentCacheEvent.EventType.ENTRY_CREATED));
+        for (SegmentHeader eldest : evicted) {
+            fireSegmentCacheEvent(
+                new SegmentEvent(
+                    eldest, false,
+                    SegmentCacheListener.SegmentCacheEvent.EventType.ENTRY_DELETED));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(final SegmentHeader header) {
+        synchronized (this) {
+            final Entry entry = map.remove(header);
+            if (entry == null) {
+                return false;
+            }
+            discard(entry);
+        }
+        fireSegmentCacheEvent(
+            new SegmentEvent(
+                header, true,
+                SegmentCacheListener.SegmentCacheEvent.EventType.ENTRY_DELETED));
+        return true;
+    }
+
+    @Override
+    public synchronized void tearDown() {
+        for (Entry entry : map.values()) {
+            discard(entry);
+        }
+        map.clear();
+        listeners.clear();
+    }
+
+    @Override
+    public void addListener(SegmentCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(SegmentCacheListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public boolean supportsRichIndex() {
+        return true;
+    }
+
+    /**
+     * Returns the total size of the stored bodies, in bytes.
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the total size of the bodies whose memory is not freed yet.
+     */
+    synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Forgets a body that has been removed from the map, and frees its
+     * memory unless it is being read. Must hold the lock.
+     */
+    private void discard(Entry entry) {
+        usedBytes -= entry.size();
+        entry.removed = true;
+        if (entry.readers == 0) {
+            free(entry);
+        }
+    }
+
+    private synchronized void release(Entry entry) {
+        if (--entry.readers == 0 && entry.removed) {
+            free(entry);
+        }
+    }
+
+    private void free(Entry entry) {
+        entry.arena.close();
+        allocatedBytes -= entry.size();
+    }
+
+    private void fireSegmentCacheEvent(
+        SegmentCache.SegmentCacheListener.SegmentCacheEvent evt)
+    {
+        for (SegmentCacheListener listener : listeners) {
+            listener.handle(evt);
+        }
+    }
+
+    /**
+     * Encodes a body, or returns null if the body cannot be encoded.
+     */
+    static ByteBuffer encode(SegmentBody body) {
+        try {
+            return SegmentCodec.encode(body);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encoded body in native memory.
+     */
+    private static class Entry {
+        private final Arena arena;
+        private final MemorySegment segment;
+        private final long size;
+        /** Number of gets reading the body; guarded by the cache. */
+        private int readers;
+        /** Whether the body has left the cache; guarded by the cache. */
+        private boolean removed;
+
+        Entry(ByteBuffer encoded) {
+            this.arena = Arena.ofShared();
+            this.size = encoded.remaining();
+            this.segment = arena.allocate(size);
+            MemorySegment.copy(
+                MemorySegment.ofBuffer(encoded), 0L, segment, 0L, size);
+        }
+
+        long size() {
+            return size;
+        }
+    }
+
+    private static class SegmentEvent
+        implements SegmentCache.SegmentCacheListener.SegmentCacheEvent
+    {
+        private final SegmentHeader header;
+        private final boolean local;
+        private final EventType eventType;
+
+        SegmentEvent(SegmentHeader header, boolean local, EventType eventType) {
+            this.header = header;
+            this.local = local;
+            this.eventType = eventType;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return local;
+        }
+
+        @Override
+        public SegmentHeader getSource() {
+            return header;
+        }
+
+        @Override
+        public EventType getEventType() {
+            return eventType;
+        }
+    }
+}
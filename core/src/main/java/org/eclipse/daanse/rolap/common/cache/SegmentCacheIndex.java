@@ -43,7 +43,8 @@ import org.eclipse.daanse.rolap.common.agg.SegmentBuilder;
 /**
  * Data structure that identifies which segments contain cells.
  *
- * Not thread-safe.
+ * Not thread-safe, except for the methods whose name ends in
+ * {@code Concurrently}.
  *
  * @author Julian Hyde
  */
@@ -71,6 +72,35 @@ public interface SegmentCacheIndex {
         Map<String, Comparable> coordinates,
         List<String> compoundPredicates);
 
+    /**
+     * Identifies the segment headers that contain a given cell, like
+     * {@link #locate}, but may be called from any thread.
+     *
+     * Reads the index under a lock rather than on the owning thread, so
+     * the caller does not need to go through the cache manager's actor.
+     * The result may miss headers that are being added concurrently; it
+     * never contains a header that was not in the index at some point.
+     *
+     * @param catalogName Schema name
+     * @param catalogChecksum Schema checksum
+     * @param cubeName Cube name
+     * @param measureName Measure name
+     * @param rolapStarFactTableName Fact table table
+     * @param constrainedColsBitKey Bit key
+     * @param coordinates Coordinates
+     * @param compoundPredicates Compound predicates
+     * @return Empty list if not found; never null
+     */
+    List<SegmentHeader> locateConcurrently(
+        String catalogName,
+        ByteString catalogChecksum,
+        String cubeName,
+        String measureName,
+        String rolapStarFactTableName,
+        BitKey constrainedColsBitKey,
+        Map<String, Comparable> coordinates,
+        List<String> compoundPredicates);
+
     /**
      * Returns a list of segments that can be rolled up to satisfy a given
      * cell request.
@@ -253,6 +283,26 @@ public interface SegmentCacheIndex {
         String measureName,
         List<String> compoundPredicates);
 
+    /**
+     * Returns a converter, like {@link #getConverter}, but may be called from
+     * any thread.
+     *
+     * @param schemaName Schema name
+     * @param schemaChecksum Schema checksum
+     * @param cubeName Cube name
+     * @param rolapStarFactTableName Fact table
+     * @param measureName Measure name
+     * @param compoundPredicates Compound predicates
+     * @return Converter, or null
+     */
+    SegmentBuilder.SegmentConverter getConverterConcurrently(
+        String schemaName,
+        ByteString schemaChecksum,
+        String cubeName,
+        String rolapStarFactTableName,
+        String measureName,
+        List<String> compoundPredicates);
+
     /**
      * Sets a converter that can convert headers in for a given measure to
      * internal format.
@@ -42,8 +42,13 @@ import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.exceptions.QueryCanceledException;
@@ -67,7 +72,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Data structure that identifies which segments contain cells.
  *
- * Not thread safe.
+ * Not thread safe, with the exception of {@link #locateConcurrently} and
+ * {@link #getConverterConcurrently}. The former reads the coordinate index
+ * under a read lock, which the owning thread holds for writing only while
+ * it modifies the coordinate index.
  *
  * @author Julian Hyde
  */
@@ -80,6 +88,21 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
     private final Map<List, List<SegmentHeader>> bitkeyMap =
         new HashMap<>();
 
+    /**
+     * Inverted index of the headers in each list of {@link #bitkeyMap}, by
+     * the values of their constrained columns.
+     */
+    private final Map<List, CoordinateIndex> coordinateIndexMap =
+        new HashMap<>();
+
+    /**
+     * Guards {@link #coordinateIndexMap} against reads by other threads
+     * while the owning thread modifies it. The owning thread reads it
+     * without locking.
+     */
+    private final ReadWriteLock coordinateLock =
+        new ReentrantReadWriteLock();
+
     /**
      * The fact map allows us to spot quickly which
      * segments have facts relating to a given header.
@@ -102,7 +125,14 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
     private final Map<SegmentHeader, HeaderInfo> headerMap =
         new HashMap<>();
 
-    private final Thread thread;
+    /**
+     * Converters per fact key, readable from any thread.
+     */
+    private final Map<List, SegmentBuilder.SegmentConverter>
+        converterSnapshot = new ConcurrentHashMap<>();
+
+    private final Predicate<Thread> ownerCheck;
+    private final Object owner;
 
     /**
      * Creates a SegmentCacheIndexImpl.
@@ -110,10 +140,28 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
      * @param thread Thread that must be used to execute commands.
      */
     public SegmentCacheIndexImpl(Thread thread) {
-        this.thread = thread;
         if (thread == null) {
             throw new IllegalArgumentException("SegmentCacheIndexImpl: thread should be not null");
         }
+        this.ownerCheck = t -> t == thread;
+        this.owner = thread;
+    }
+
+    /**
+     * Creates a SegmentCacheIndexImpl whose owning thread is decided by a
+     * predicate. Used when the cache manager runs several actor shards and a
+     * command that spans stars may temporarily act on behalf of another
+     * shard.
+     *
+     * @param ownerCheck Returns whether a thread may execute commands
+     * @param owner Description of the owner, for diagnostics
+     */
+    public SegmentCacheIndexImpl(Predicate<Thread> ownerCheck, Object owner) {
+        if (ownerCheck == null) {
+            throw new IllegalArgumentException("SegmentCacheIndexImpl: ownerCheck should be not null");
+        }
+        this.ownerCheck = ownerCheck;
+        this.owner = owner;
     }
 
     public static List makeConverterKey(SegmentHeader header) {
@@ -165,7 +213,6 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
                     .append("\ncompoundPredicates:").append(compoundPredicates).toString());
         }
 
-        List<SegmentHeader> list = Collections.emptyList();
         final List starKey =
             makeBitkeyKey(
                 schemaName,
@@ -175,24 +222,17 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
                 constrainedColsBitKey,
                 measureName,
                 compoundPredicates);
-        final List<SegmentHeader> headerList = bitkeyMap.get(starKey);
-        if (headerList == null) {
+        final CoordinateIndex coordinateIndex =
+            coordinateIndexMap.get(starKey);
+        if (coordinateIndex == null) {
             String msg = new StringBuilder(SEGMENT_CACHE_INDEX_IMPL)
                 .append(System.identityHashCode(this))
                 .append(").locate:NOMATCH").toString();
             LOGGER.trace(msg);
             return Collections.emptyList();
         }
-        for (SegmentHeader header : headerList) {
-            if (matches(header, coordinates, compoundPredicates)) {
-                // Be lazy. Don't allocate a list unless there is at least one
-                // entry.
-                if (list.isEmpty()) {
-                    list = new ArrayList<>();
-                }
-                list.add(header);
-            }
-        }
+        final List<SegmentHeader> list =
+            locate(coordinateIndex, coordinates, compoundPredicates);
         if (LOGGER.isTraceEnabled()) {
             final StringBuilder sb =
                 new StringBuilder(
@@ -208,6 +248,69 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
         return list;
     }
 
+    @Override
+    public List<SegmentHeader> locateConcurrently(
+        String schemaName,
+        ByteString schemaChecksum,
+        String cubeName,
+        String measureName,
+        String rolapStarFactTableName,
+        BitKey constrainedColsBitKey,
+        Map<String, Comparable> coordinates,
+        List<String> compoundPredicates)
+    {
+        final List bitkeyKey =
+            makeBitkeyKey(
+                schemaName,
+                schemaChecksum,
+                cubeName,
+                rolapStarFactTableName,
+                constrainedColsBitKey,
+                measureName,
+                compoundPredicates);
+        final Lock lock = coordinateLock.readLock();
+        lock.lock();
+        try {
+            final CoordinateIndex coordinateIndex =
+                coordinateIndexMap.get(bitkeyKey);
+            if (coordinateIndex == null) {
+                return Collections.emptyList();
+            }
+            return locate(coordinateIndex, coordinates, compoundPredicates);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the headers of a coordinate index that contain the cells at
+     * the given coordinates.
+     */
+    private List<SegmentHeader> locate(
+        CoordinateIndex coordinateIndex,
+        Map<String, Comparable> coordinates,
+        List<String> compoundPredicates)
+    {
+        List<SegmentHeader> list = Collections.emptyList();
+        // The index narrows the headers down to those whose constrained
+        // columns admit the coordinates; matches() checks the rest.
+        final BitSet candidates = coordinateIndex.candidates(coordinates);
+        for (int i = candidates.nextSetBit(0); i >= 0;
+            i = candidates.nextSetBit(i + 1))
+        {
+            final SegmentHeader header = coordinateIndex.get(i);
+            if (matches(header, coordinates, compoundPredicates)) {
+                // Be lazy. Don't allocate a list unless there is at least one
+                // entry.
+                if (list.isEmpty()) {
+                    list = new ArrayList<>();
+                }
+                list.add(header);
+            }
+        }
+        return list;
+    }
+
     @Override
 	public void add(
         SegmentHeader header,
@@ -236,6 +339,15 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
         List<SegmentHeader> headerList = bitkeyMap.computeIfAbsent(bitkeyKey, k -> new ArrayList<>());
         if (!headerList.contains(header)) {
             headerList.add(header);
+            final Lock lock = coordinateLock.writeLock();
+            lock.lock();
+            try {
+                coordinateIndexMap
+                    .computeIfAbsent(bitkeyKey, k -> new CoordinateIndex())
+                    .add(header);
+            } finally {
+                lock.unlock();
+            }
         }
 
         final List factKey = makeFactKey(header);
@@ -251,6 +363,7 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
         }
         if (converter != null) {
             factInfo.converter = converter;
+            converterSnapshot.put(factKey, converter);
         }
 
         final List fuzzyFactKey = makeFuzzyFactKey(header);
@@ -280,6 +393,16 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
         List<SegmentHeader> headerList = bitkeyMap.get(oldBitkeyKey);
         headerList.remove(oldHeader);
         headerList.add(newHeader);
+        final CoordinateIndex coordinateIndex =
+            coordinateIndexMap.get(oldBitkeyKey);
+        final Lock lock = coordinateLock.writeLock();
+        lock.lock();
+        try {
+            coordinateIndex.remove(oldHeader);
+            coordinateIndex.add(newHeader);
+        } finally {
+            lock.unlock();
+        }
 
         final List oldFactKey = makeFactKey(oldHeader);
         final FactInfo factInfo = factMap.get(oldFactKey);
@@ -381,6 +504,7 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
             factInfo.bitkeyPoset.remove(header.getConstrainedColumnsBitKey());
             if (factInfo.headerList.isEmpty()) {
                 factMap.remove(factKey);
+                converterSnapshot.remove(factKey);
             }
         }
 
@@ -396,14 +520,23 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
         final List bitkeyKey = makeBitkeyKey(header);
         final List<SegmentHeader> headerList = bitkeyMap.get(bitkeyKey);
         headerList.remove(header);
-        if (headerList.isEmpty()) {
-            bitkeyMap.remove(bitkeyKey);
+        final Lock lock = coordinateLock.writeLock();
+        lock.lock();
+        try {
+            if (headerList.isEmpty()) {
+                bitkeyMap.remove(bitkeyKey);
+                coordinateIndexMap.remove(bitkeyKey);
+            } else {
+                coordinateIndexMap.get(bitkeyKey).remove(header);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     private void checkThread() {
-        assert thread == Thread.currentThread()
-            : new StringBuilder("expected ").append(thread).append(", but was ")
+        assert ownerCheck.test(Thread.currentThread())
+            : new StringBuilder("expected ").append(owner).append(", but was ")
             .append(Thread.currentThread())
             .toString();
     }
@@ -666,6 +799,28 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
             throw new IllegalArgumentException("setConverter: should have called 'add' first");
         }
         factInfo.converter = converter;
+        if (converter != null) {
+            converterSnapshot.put(factKey, converter);
+        }
+    }
+
+    @Override
+    public SegmentBuilder.SegmentConverter getConverterConcurrently(
+        String schemaName,
+        ByteString schemaChecksum,
+        String cubeName,
+        String rolapStarFactTableName,
+        String measureName,
+        List<String> compoundPredicates)
+    {
+        return converterSnapshot.get(
+            makeFactKey(
+                schemaName,
+                schemaChecksum,
+                cubeName,
+                rolapStarFactTableName,
+                measureName,
+                compoundPredicates));
     }
 
     private List makeBitkeyKey(SegmentHeader header) {
@@ -1078,6 +1233,173 @@ public class SegmentCacheIndexImpl implements SegmentCacheIndex {
         }
     }
 
+    /**
+     * Inverted index of the headers of one dimensionality.
+     *
+     * Headers are numbered in the order they were added, so that iterating
+     * over a bitmap of header numbers returns headers in the same order as
+     * the list in {@link #bitkeyMap}. Numbers of removed headers are reused
+     * only when the index is compacted.
+     */
+    private static class CoordinateIndex {
+        private final List<SegmentHeader> headers = new ArrayList<>();
+        private final Map<SegmentHeader, Integer> ordinals = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, ColumnIndex> columns = new HashMap<>();
+
+        void add(SegmentHeader header) {
+            final int ordinal = headers.size();
+            headers.add(header);
+            ordinals.put(header, ordinal);
+            live.set(ordinal);
+            for (SegmentColumn column : header.getConstrainedColumns()) {
+                columns.computeIfAbsent(
+                    column.columnExpression, k -> new ColumnIndex())
+                    .add(ordinal, column.getValues());
+            }
+        }
+
+        void remove(SegmentHeader header) {
+            final Integer ordinal = ordinals.remove(header);
+            if (ordinal == null) {
+                return;
+            }
+            headers.set(ordinal, null);
+            live.clear(ordinal);
+            for (SegmentColumn column : header.getConstrainedColumns()) {
+                final ColumnIndex columnIndex =
+                    columns.get(column.columnExpression);
+                if (columnIndex != null) {
+                    columnIndex.remove(ordinal, column.getValues());
+                }
+            }
+            if (ordinals.size() < headers.size() / 2) {
+                compact();
+            }
+        }
+
+        private void compact() {
+            final List<SegmentHeader> remaining =
+                new ArrayList<>(ordinals.size());
+            for (SegmentHeader header : headers) {
+                if (header != null) {
+                    remaining.add(header);
+                }
+            }
+            headers.clear();
+            ordinals.clear();
+            live.clear();
+            columns.clear();
+            for (SegmentHeader header : remaining) {
+                add(header);
+            }
+        }
+
+        SegmentHeader get(int ordinal) {
+            return headers.get(ordinal);
+        }
+
+        /**
+         * Returns the numbers of the headers whose constrained columns
+         * contain all of the given coordinates.
+         */
+        BitSet candidates(Map<String, Comparable> coordinates) {
+            final BitSet candidates = (BitSet) live.clone();
+            for (Map.Entry<String, Comparable> entry : coordinates.entrySet()) {
+                final ColumnIndex columnIndex = columns.get(entry.getKey());
+                if (columnIndex == null) {
+                    // No header of this dimensionality constrains the
+                    // column.
+                    candidates.clear();
+                    break;
+                }
+                columnIndex.retainMatches(candidates, entry.getValue());
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * Headers of one dimensionality by the values of one of their
+     * constrained columns.
+     */
+    private static class ColumnIndex {
+        /**
+         * Headers that constrain the column to a list of values, by value.
+         */
+        @SuppressWarnings("unchecked")
+        private final TreeMap<Comparable, BitSet> byValue =
+            new TreeMap<>(RolapUtil.ROLAP_COMPARATOR);
+        /**
+         * Headers that constrain the column to all of its values, or whose
+         * values could not be indexed.
+         */
+        private final BitSet wildcards = new BitSet();
+
+        void add(int ordinal, SortedSet<Comparable> values) {
+            if (values == null) {
+                wildcards.set(ordinal);
+                return;
+            }
+            for (Comparable value : values) {
+                try {
+                    byValue.computeIfAbsent(value, k -> new BitSet())
+                        .set(ordinal);
+                } catch (RuntimeException e) {
+                    // Not comparable with the other values of the column.
+                    // Treat the header as a wildcard; matches() decides.
+                    wildcards.set(ordinal);
+                }
+            }
+        }
+
+        void remove(int ordinal, SortedSet<Comparable> values) {
+            wildcards.clear(ordinal);
+            if (values == null) {
+                return;
+            }
+            for (Comparable value : values) {
+                final BitSet headers;
+                try {
+                    headers = byValue.get(value);
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                if (headers != null) {
+                    headers.clear(ordinal);
+                    if (headers.isEmpty()) {
+                        byValue.remove(value);
+                    }
+                }
+            }
+        }
+
+        void retainMatches(BitSet candidates, Comparable value) {
+            if (value == null) {
+                // Leave the decision to matches().
+                return;
+            }
+            final BitSet withValue;
+            try {
+                withValue = byValue.get(value);
+            } catch (RuntimeException e) {
+                // Not comparable with the values of the column; leave the
+                // decision to matches().
+                return;
+            }
+            if (withValue == null) {
+                candidates.and(wildcards);
+            } else {
+                final BitSet matching = (BitSet) withValue.clone();
+                matching.or(wildcards);
+                candidates.and(matching);
+            }
+        }
+    }
+
     private static class FuzzyFactInfo {
         private final List<SegmentHeader> headerList =
             new ArrayList<>();
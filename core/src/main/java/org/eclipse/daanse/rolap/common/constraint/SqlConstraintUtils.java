@@ -533,7 +533,7 @@ public class SqlConstraintUtils {
 
       // No extra slicers.... just use the = method
       final StringBuilder buf = new StringBuilder();
-      sqlQuery.getDialect().quote( buf, value, column.getDatatype() );
+      sqlQuery.appendLiteral( buf, value, column.getDatatype() );
       sqlQuery.addWhere( expr, " = ", buf.toString() );
     }
   }
@@ -1445,7 +1445,7 @@ public class SqlConstraintUtils {
 
         }
         final StringBuilder buf = new StringBuilder();
-        query.getDialect().quote( buf, columnValue, datatype );
+        query.appendLiteral( buf, columnValue, datatype );
         CharSequence value = buf;
         if ( caseSensitive && datatype == Datatype.VARCHAR) {
           // Some databases (like DB2) compare case-sensitive.
@@ -1519,7 +1519,7 @@ public class SqlConstraintUtils {
       final StringBuilder buf = new StringBuilder();
       buf.append( columnString );
       buf.append( " = " );
-      query.getDialect().quote( buf, columnValue, datatype );
+      query.appendLiteral( buf, columnValue, datatype );
       return buf.toString();
     }
   }
@@ -1626,7 +1626,7 @@ public class SqlConstraintUtils {
           memberBuf.append( ", " );
         }
 
-        sqlQuery.getDialect().quote( memberBuf, value, level.getDatatype() );
+        sqlQuery.appendLiteral( memberBuf, value, level.getDatatype() );
 
         // Only needs to compare up to the first(lowest) unique level.
         if ( p.getLevel() == fromLevel ) {
@@ -409,8 +409,9 @@ public final Member[] getMembers() {
   @Override
 public final Member[] getNonAllMembers() {
     if ( nonAllMembers == null ) {
-      nonAllMembers = new RolapMember[root.nonAllPositionCount];
-      for ( int i = 0; i < root.nonAllPositionCount; i++ ) {
+      final int nonAllPositionCount = root.nonAllPositionCount;
+      nonAllMembers = new RolapMember[nonAllPositionCount];
+      for ( int i = 0; i < nonAllPositionCount; i++ ) {
         int nonAllPosition = root.nonAllPositions[i];
         nonAllMembers[i] = currentMembers[nonAllPosition];
       }
@@ -678,9 +679,8 @@ public final Member setContext( Member member ) {
       removeCalculation( previous, false );
     }
     currentMembers[ordinal] = m;
-    if ( previous.isAll() && !m.isAll() && isNewPosition( ordinal ) ) {
-      root.nonAllPositions[root.nonAllPositionCount] = ordinal;
-      root.nonAllPositionCount++;
+    if ( previous.isAll() && !m.isAll() ) {
+      root.addNonAllPosition( ordinal );
     }
     if ( m.isEvaluated() ) {
       addCalculation( m, false );
@@ -716,9 +716,8 @@ public final void setContext( Member member, boolean safe ) {
       removeCalculation( previous, false );
     }
     currentMembers[ordinal] = m;
-    if ( previous.isAll() && !m.isAll() && isNewPosition( ordinal ) ) {
-      root.nonAllPositions[root.nonAllPositionCount] = ordinal;
-      root.nonAllPositionCount++;
+    if ( previous.isAll() && !m.isAll() ) {
+      root.addNonAllPosition( ordinal );
     }
     if ( m.isEvaluated() ) {
       addCalculation( m, false );
@@ -753,15 +752,6 @@ public final void setContext( Member member, boolean safe ) {
     }
   }
 
-  private boolean isNewPosition( int ordinal ) {
-    for ( int nonAllPosition : root.nonAllPositions ) {
-      if ( ordinal == nonAllPosition ) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   @Override
 public final void setContext( List<Member> memberList ) {
     for (Member member : memberList) {
@@ -25,11 +25,10 @@ package org.eclipse.daanse.rolap.common.evaluator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
@@ -62,12 +61,16 @@ import org.eclipse.daanse.rolap.element.RolapMemberBase;
  * @since Nov 11, 2008
  */
 public class RolapEvaluatorRoot {
-  final Map<Object, Object> expResultCache = new HashMap<>();
-  final Map<Object, Object> tmpExpResultCache = new HashMap<>();
+  // The root is shared by the evaluators of all threads when cells are
+  // evaluated in parallel, so its caches are concurrent. Two threads may
+  // evaluate the same expression before either has cached it; both results
+  // are equal, so the later put is harmless.
+  final Map<Object, Object> expResultCache = new ConcurrentHashMap<>();
+  final Map<Object, Object> tmpExpResultCache = new ConcurrentHashMap<>();
   final RolapCube cube;
   final Connection connection;
   final CatalogReader schemaReader;
-  final Map<CompiledExpKey, Calc> compiledExps = new HashMap<>();
+  final Map<CompiledExpKey, Calc> compiledExps = new ConcurrentHashMap<>();
   public final Statement statement;
   final Query query;
   private final LocalDateTime queryStartTime;
@@ -81,11 +84,11 @@ public class RolapEvaluatorRoot {
    */
   public final RolapMember[] defaultMembers;
   final int[] nonAllPositions;
-  int nonAllPositionCount;
+  volatile int nonAllPositionCount;
 
   SolveOrderMode solveOrderMode;
 
-  final Set<Expression> activeNativeExpansions = new HashSet<>();
+  final Set<Expression> activeNativeExpansions = ConcurrentHashMap.newKeySet();
 
   /**
    * The size of the command stack at which we will next check for recursion.
@@ -153,6 +156,22 @@ public RolapEvaluatorRoot( Statement statement ) {
     this.recursionCheckCommandCount = ( defaultMembers.length << 4 );
   }
 
+  /**
+   * Records that a hierarchy has a non-all member in the context of some evaluator, unless that is already known.
+   *
+   * @param ordinal
+   *          ordinal of the hierarchy in the cube
+   */
+  final synchronized void addNonAllPosition( int ordinal ) {
+    for ( int i = 0; i < nonAllPositionCount; i++ ) {
+      if ( nonAllPositions[i] == ordinal ) {
+        return;
+      }
+    }
+    nonAllPositions[nonAllPositionCount] = ordinal;
+    nonAllPositionCount++;
+  }
+
   /**
    * Implements a cheap-and-cheerful mapping from expressions to compiled expressions.
    *
@@ -168,13 +187,8 @@ public RolapEvaluatorRoot( Statement statement ) {
    * @return compiled expression
    */
   public final Calc getCompiled( Expression exp, boolean scalar, ResultStyle resultStyle ) {
-    CompiledExpKey key = new CompiledExpKey( exp, scalar, resultStyle );
-    Calc calc = compiledExps.get( key );
-    if ( calc == null ) {
-      calc = statement.getQuery().compileExpression( exp, scalar, resultStyle );
-      compiledExps.put( key, calc );
-    }
-    return calc;
+    return compiledExps.computeIfAbsent( new CompiledExpKey( exp, scalar, resultStyle ),
+        key -> statement.getQuery().compileExpression( exp, scalar, resultStyle ) );
   }
 
   /**
@@ -86,9 +86,10 @@ public TupleIterable evaluateTupleIterable( Evaluator evaluator ) {
   }
 
   /**
-   * Evaluates and saves the value of this named set, if it has not been evaluated already.
+   * Evaluates and saves the value of this named set, if it has not been evaluated already. Synchronized, because cells
+   * may be evaluated in parallel.
    */
-  private void ensureList( Evaluator evaluator ) {
+  private synchronized void ensureList( Evaluator evaluator ) {
     if ( list != null ) {
       if ( list == DUMMY_LIST ) {
         recursionCount++;
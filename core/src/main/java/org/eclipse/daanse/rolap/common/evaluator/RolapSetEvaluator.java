@@ -93,9 +93,10 @@ public class RolapSetEvaluator
 
     /**
      * Evaluates and saves the value of this named set, if it has not been
-     * evaluated already.
+     * evaluated already. Synchronized, because cells may be evaluated in
+     * parallel.
      */
-    private void ensureList() {
+    private synchronized void ensureList() {
         if (list != null) {
             if (list == DUMMY_LIST) {
                 throw rrer.result.slicerEvaluator.newEvalException(
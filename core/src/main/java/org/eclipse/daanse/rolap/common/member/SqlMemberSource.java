@@ -61,7 +61,6 @@ import org.eclipse.daanse.olap.common.SystemWideProperties;
 import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
 import org.eclipse.daanse.olap.key.BitKey;
-import  org.eclipse.daanse.olap.util.CancellationChecker;
 import  org.eclipse.daanse.olap.util.Pair;
 import org.eclipse.daanse.rolap.api.element.RolapMember;
 import org.eclipse.daanse.rolap.common.EnumConvertor;
@@ -77,6 +76,7 @@ import org.eclipse.daanse.rolap.common.aggmatcher.AggStar;
 import org.eclipse.daanse.rolap.common.constraint.SqlConstraintFactory;
 import org.eclipse.daanse.rolap.common.constraint.SqlConstraintUtils;
 import org.eclipse.daanse.rolap.common.constraint.SqlContextConstraint;
+import org.eclipse.daanse.rolap.common.result.RowCancellationChecker;
 import org.eclipse.daanse.rolap.common.sql.MemberChildrenConstraint;
 import org.eclipse.daanse.rolap.common.sql.MemberKeyConstraint;
 import org.eclipse.daanse.rolap.common.sql.SqlQuery;
@@ -91,6 +91,7 @@ import org.eclipse.daanse.rolap.element.RolapLevel;
 import org.eclipse.daanse.rolap.element.RolapMemberBase;
 import org.eclipse.daanse.rolap.element.RolapParentChildMemberNoClosure;
 import org.eclipse.daanse.rolap.element.RolapProperty;
+import org.eclipse.daanse.rolap.util.ValuePool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -415,11 +416,12 @@ public class SqlMemberSource
 
             int limit = SystemWideProperties.instance().ResultLimit;
             ResultSet resultSet = stmt.getResultSet();
-            Execution execution = ExecutionContext.current().getExecution();
+            final RowCancellationChecker cancellationChecker =
+                new RowCancellationChecker(
+                    ExecutionContext.current().getExecution());
             while (resultSet.next()) {
                 // Check if the MDX query was canceled.
-                CancellationChecker.checkCancelOrTimeout(
-                    ++stmt.rowCount, execution);
+                cancellationChecker.check(++stmt.rowCount);
 
                 if (limit > 0 && limit < stmt.rowCount) {
                     // result limit exceeded, throw an exception
@@ -436,6 +438,8 @@ public class SqlMemberSource
                     Object value = accessors.get(column).get();
                     if (value == null) {
                         value = Util.sqlNullValue;
+                    } else {
+                        value = getPooledValue(value);
                     }
                     RolapMember parent = member;
                     MemberKeyR key = new MemberKeyR(parent, value);
@@ -489,14 +493,9 @@ RME is this right
 
                     Property[] properties = level.getProperties();
                     for (Property property : properties) {
-                        // REVIEW emcdermid 9-Jul-2009:
-                        // Should we also look up the value in the
-                        // pool here, rather than setting it directly?
-                        // Presumably the value is already in the pool
-                        // as a result of makeMember().
                         member.setProperty(
                             property.getName(),
-                            accessors.get(column).get());
+                            getPooledValue(accessors.get(column).get()));
                         column++;
                     }
                 }
@@ -1105,10 +1104,11 @@ RME is this right
             final List<SqlStatement.Accessor> accessors = stmt.getAccessors();
             ResultSet resultSet = stmt.getResultSet();
             RolapMember parentMember2 = RolapUtil.strip(parentMember);
+            final RowCancellationChecker cancellationChecker =
+                new RowCancellationChecker(execution);
             while (resultSet.next()) {
                 // Check if the MDX query was canceled.
-                CancellationChecker.checkCancelOrTimeout(
-                    ++stmt.rowCount, execution);
+                cancellationChecker.check(++stmt.rowCount);
 
                 if (limit > 0 && limit < stmt.rowCount) {
                     // result limit exceeded, throw an exception
@@ -1118,13 +1118,16 @@ RME is this right
                 Object value = accessors.getFirst().get();
                 if (value == null) {
                     value = Util.sqlNullValue;
+                } else {
+                    value = getPooledValue(value);
                 }
                 Object captionValue;
                 int columnOffset = 1;
                 if (childLevel.hasCaptionColumn()) {
                     // The columnOffset needs to take into account
                     // the caption column if one exists
-                    captionValue = accessors.get(columnOffset++).get();
+                    captionValue =
+                        getPooledValue(accessors.get(columnOffset++).get());
                 } else {
                     captionValue = null;
                 }
@@ -1268,11 +1271,9 @@ RME is this right
      * is to allow the duplicate object to be garbage collected earlier, thus
      * keeping overall memory requirements down.
      *
-     * If
-     * {@link org.eclipse.daanse.olap.common.SystemWideProperties#SqlMemberSourceValuePoolFactoryClass}
-     * is not set, then valuePool will be null and no attempt to cache the
-     * value will be made.  The method will simply return the incoming
-     * object reference.
+     * If the context supplies no value pool, no attempt to cache the value
+     * will be made.  The method will simply return the incoming object
+     * reference. See {@link ValuePool}.
      *
      * @param incoming An object to look up.  Must be immutable in usage,
      *        even if not declared as such.
@@ -1281,18 +1282,7 @@ RME is this right
      *        or caching is disabled.
      */
     private Object getPooledValue(Object incoming) {
-        if (oValuePool.isEmpty()) {
-            return incoming;
-        } else {
-        	Map<Object,Object> valuePool=oValuePool.get();
-            Object ret = valuePool.get(incoming);
-            if (ret != null) {
-                return ret;
-            } else {
-                valuePool.put(incoming, incoming);
-                return incoming;
-            }
-        }
+        return ValuePool.intern(oValuePool, incoming);
     }
 
     /**
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common.nativize;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.evaluator.NativeEvaluator;
+import org.eclipse.daanse.olap.api.function.FunctionDefinition;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.NamedSetExpression;
+import org.eclipse.daanse.olap.api.query.component.NumericLiteral;
+import org.eclipse.daanse.olap.api.sql.SortingDirection;
+import org.eclipse.daanse.olap.query.component.ResolvedFunCallImpl;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
+import org.eclipse.daanse.rolap.common.nativize.RolapNativeTopCount.TopCountConstraint;
+import org.eclipse.daanse.rolap.common.sql.CrossJoinArg;
+
+/**
+ * Computes a Head or Tail in SQL.
+ *
+ * {@code Head(Order(<set>, <expr>, <flag>), <count>)} reads the first
+ * tuples of the order, and {@code Tail} reads the order and keeps the last
+ * tuples; see {@link RolapNativeOrder}. {@code Head} of a single level's
+ * members reads the first members in key order, which needs no join to the
+ * fact table. A set that only has the members with data, such as
+ * {@code NonEmpty} or {@code Filter} returns, is not computed in SQL.
+ */
+public class RolapNativeHeadTail extends RolapNativeOrder {
+
+    /**
+     * Functions whose sets have only the tuples with data, or that filter
+     * by value.
+     */
+    private static final Set<String> NON_EMPTY_FUNCTIONS =
+        Set.of("NONEMPTY", "NONEMPTYCROSSJOIN", "FILTER", "EXISTS");
+
+    public RolapNativeHeadTail(boolean enableNativeOrder) {
+        super(enableNativeOrder);
+    }
+
+    @Override
+    public NativeEvaluator createEvaluator(
+        RolapEvaluator evaluator,
+        FunctionDefinition fun,
+        Expression[] args,
+        boolean enableNativeFilter)
+    {
+        if (!isEnabled() || !isValidContext(evaluator)) {
+            return null;
+        }
+
+        // is this "Head(<set>[, <count>])" or "Tail(<set>[, <count>])"
+        String funName = fun.getFunctionMetaData().operationAtom().name();
+        boolean fromEnd;
+        if ("Head".equalsIgnoreCase(funName)) {
+            fromEnd = false;
+        } else if ("Tail".equalsIgnoreCase(funName)) {
+            fromEnd = true;
+        } else {
+            return null;
+        }
+        if (args.length < 1 || args.length > 2) {
+            return null;
+        }
+
+        // extract count
+        int count = 1;
+        if (args.length == 2) {
+            if (!(args[1] instanceof NumericLiteral numericLiteral)) {
+                alertNonNative(
+                    funName, "Count cannot be determined.", evaluator);
+                return null;
+            }
+            count = numericLiteral.getIntValue();
+        }
+        if (count <= 0) {
+            // The set is empty; nothing to read.
+            return null;
+        }
+
+        if (args[0] instanceof ResolvedFunCallImpl call
+            && "Order".equalsIgnoreCase(
+                call.getFunDef().getFunctionMetaData().operationAtom().name()))
+        {
+            return createOrderEvaluator(
+                funName, evaluator, call.getArgs(), count, fromEnd,
+                enableNativeFilter);
+        }
+        if (fromEnd) {
+            alertNonNative(funName, "Set is not ordered.", evaluator);
+            return null;
+        }
+        return createHeadEvaluator(
+            funName, evaluator, args[0], count, enableNativeFilter);
+    }
+
+    /**
+     * Creates an evaluator that reads the first members of a set in key
+     * order.
+     */
+    private NativeEvaluator createHeadEvaluator(
+        String funName,
+        RolapEvaluator evaluator,
+        Expression setExpr,
+        int count,
+        boolean enableNativeFilter)
+    {
+        if (isNonEmptyConstrained(setExpr)) {
+            alertNonNative(
+                funName,
+                "Set in 1st argument only has members with data.",
+                evaluator);
+            return null;
+        }
+        List<CrossJoinArg[]> allArgs =
+            crossJoinArgFactory().checkCrossJoinArg(
+                evaluator, setExpr, enableNativeFilter);
+        if (allArgs == null || allArgs.isEmpty() || allArgs.getFirst() == null
+            || allArgs.size() > 1)
+        {
+            alertNonNative(
+                funName,
+                "Set in 1st argument does not support native eval.",
+                evaluator);
+            return null;
+        }
+        CrossJoinArg[] cjArgs = allArgs.getFirst();
+        if (isPreferInterpreter(cjArgs, false)) {
+            alertNonNative(
+                funName, "One or more args prefer non-native.", evaluator);
+            return null;
+        }
+
+        // Without a sort expression, the constraint joins no fact table,
+        // so members without data are read as well.
+        TopCountConstraint constraint =
+            new TopCountConstraint(
+                count, cjArgs, evaluator, null, SortingDirection.ASC);
+        if (!constraint.isValid()) {
+            alertNonNative(
+                funName,
+                "Constraint constructed cannot be used for native eval.",
+                evaluator);
+            return null;
+        }
+        LOGGER.debug("using native {}", funName);
+        SetEvaluator sev =
+            new SetEvaluator(cjArgs, evaluator.getCatalogReader(), constraint);
+        sev.setMaxRows(count);
+        return sev;
+    }
+
+    /**
+     * Returns whether a set expression drops members that have no data,
+     * which reading members without joining the fact table would not.
+     */
+    private static boolean isNonEmptyConstrained(Expression exp) {
+        if (exp instanceof NamedSetExpression namedSetExpr) {
+            return isNonEmptyConstrained(namedSetExpr.getNamedSet().getExp());
+        }
+        if (!(exp instanceof ResolvedFunCallImpl call)) {
+            return false;
+        }
+        String name =
+            call.getFunDef().getFunctionMetaData().operationAtom().name();
+        if (NON_EMPTY_FUNCTIONS.contains(name.toUpperCase())) {
+            return true;
+        }
+        for (Expression arg : call.getArgs()) {
+            if (isNonEmptyConstrained(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
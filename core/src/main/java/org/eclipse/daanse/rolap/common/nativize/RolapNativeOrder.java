@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common.nativize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleIterable;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.evaluator.NativeEvaluator;
+import org.eclipse.daanse.olap.api.function.FunctionDefinition;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Literal;
+import org.eclipse.daanse.olap.api.sql.SortingDirection;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.DelegatingTupleList;
+import org.eclipse.daanse.olap.common.ConfigConstants;
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.rolap.common.RolapUtil;
+import org.eclipse.daanse.rolap.common.SqlTupleReader;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
+import org.eclipse.daanse.rolap.common.nativize.RolapNativeTopCount.TopCountConstraint;
+import org.eclipse.daanse.rolap.common.sql.CrossJoinArg;
+import org.eclipse.daanse.rolap.common.sql.SqlQuery;
+import org.eclipse.daanse.rolap.common.sql.TupleConstraint;
+import org.eclipse.daanse.rolap.element.RolapLevel;
+
+/**
+ * Computes an Order in SQL.
+ *
+ * The tuples are read ordered by the sort expression, ahead of the level
+ * keys, so tuples with equal values keep the order of the set. Break
+ * ordering ({@code BASC}, {@code BDESC}) sorts all tuples by value.
+ * Hierarchical ordering ({@code ASC}, {@code DESC}) sorts each parent's
+ * children, which is the same only for members of a single level right
+ * below the top of its hierarchy; only that case is computed in SQL.
+ *
+ * Only tuples that have data are read, so the whole set is computed in SQL
+ * only in a non-empty context.
+ */
+public class RolapNativeOrder extends RolapNativeSet {
+
+    public RolapNativeOrder(boolean enableNativeOrder) {
+        super.setEnabled(enableNativeOrder);
+    }
+
+    @Override
+    protected boolean restrictMemberTypes() {
+        return true;
+    }
+
+    @Override
+    public NativeEvaluator createEvaluator(
+        RolapEvaluator evaluator,
+        FunctionDefinition fun,
+        Expression[] args,
+        boolean enableNativeFilter)
+    {
+        if (!isEnabled() || !isValidContext(evaluator)) {
+            return null;
+        }
+        String funName = fun.getFunctionMetaData().operationAtom().name();
+        if (!"Order".equalsIgnoreCase(funName)) {
+            return null;
+        }
+        return createOrderEvaluator(
+            "Order", evaluator, args, 0, false, enableNativeFilter);
+    }
+
+    /**
+     * Creates an evaluator that reads the set of an Order call in the order
+     * the call defines.
+     *
+     * @param funName            Name of the function to evaluate
+     * @param evaluator          Evaluator
+     * @param orderArgs          Arguments of the Order call
+     * @param count              Number of tuples to return, or 0 to return
+     *                           all
+     * @param fromEnd            Whether to return the last tuples rather
+     *                           than the first
+     * @param enableNativeFilter Whether Filter may be evaluated in SQL
+     * @return Evaluator, or null if the call cannot be computed in SQL
+     */
+    protected NativeEvaluator createOrderEvaluator(
+        String funName,
+        RolapEvaluator evaluator,
+        Expression[] orderArgs,
+        int count,
+        boolean fromEnd,
+        boolean enableNativeFilter)
+    {
+        if (orderArgs.length < 2 || orderArgs.length > 3) {
+            return null;
+        }
+
+        // extract the sort flag
+        SortingDirection sortingDirection = SortingDirection.ASC;
+        boolean breakHierarchy = false;
+        if (orderArgs.length == 3) {
+            if (!(orderArgs[2] instanceof Literal literal)) {
+                alertNonNative(
+                    funName, "Sort flag cannot be determined.", evaluator);
+                return null;
+            }
+            switch (String.valueOf(literal.getValue()).toUpperCase()) {
+            case "ASC":
+                break;
+            case "DESC":
+                sortingDirection = SortingDirection.DESC;
+                break;
+            case "BASC":
+                breakHierarchy = true;
+                break;
+            case "BDESC":
+                sortingDirection = SortingDirection.DESC;
+                breakHierarchy = true;
+                break;
+            default:
+                alertNonNative(
+                    funName, "Sort flag cannot be determined.", evaluator);
+                return null;
+            }
+        }
+
+        // Empty tuples sort lowest. They can only be added after the tuples
+        // that have data, and only up to a row limit. The last tuples are
+        // those of the whole order, so they need all tuples to have data.
+        if (!evaluator.isNonEmpty()
+            && (count == 0 || fromEnd
+                || sortingDirection == SortingDirection.ASC))
+        {
+            alertNonNative(
+                funName,
+                "Set may contain empty tuples, which SQL does not return.",
+                evaluator);
+            return null;
+        }
+
+        // extract the set expression
+        List<CrossJoinArg[]> allArgs =
+            crossJoinArgFactory().checkCrossJoinArg(
+                evaluator, orderArgs[0], enableNativeFilter);
+        if (allArgs == null || allArgs.isEmpty() || allArgs.getFirst() == null) {
+            alertNonNative(
+                funName,
+                "Set in 1st argument does not support native eval.",
+                evaluator);
+            return null;
+        }
+        CrossJoinArg[] cjArgs = allArgs.getFirst();
+        if (isPreferInterpreter(cjArgs, false)) {
+            alertNonNative(
+                funName, "One or more args prefer non-native.", evaluator);
+            return null;
+        }
+        if (!breakHierarchy && !isTopLevel(cjArgs)) {
+            alertNonNative(
+                funName,
+                "Hierarchical order of a set below the top level.",
+                evaluator);
+            return null;
+        }
+
+        // Generate the ORDER BY clause to find out whether it can be.
+        CatalogReader schemaReader = evaluator.getCatalogReader();
+        SqlQuery sqlQuery =
+            SqlQuery.newQuery(schemaReader.getContext(), "NativeOrder");
+        RolapNativeSql sql =
+            new RolapNativeSql(sqlQuery, null, evaluator, null);
+        if (sql.generateTopCountOrderBy(orderArgs[1]) == null) {
+            alertNonNative(
+                funName,
+                "Cannot convert order by expression to SQL.",
+                evaluator);
+            return null;
+        }
+
+        final int savepoint = evaluator.savepoint();
+        try {
+            overrideContext(evaluator, cjArgs, sql.getStoredMeasure());
+
+            CrossJoinArg[] combinedArgs = cjArgs;
+            if (allArgs.size() == 2) {
+                combinedArgs = Util.appendArrays(cjArgs, allArgs.get(1));
+            }
+            // The last tuples are read in the order itself, and kept at the
+            // end. Reading the reverse order would also reverse the level
+            // keys that order tied tuples.
+            TopCountConstraint constraint =
+                new TopCountConstraint(
+                    fromEnd ? 0 : count, combinedArgs, evaluator,
+                    orderArgs[1], sortingDirection);
+            LOGGER.debug("using native {}", funName);
+            if (fromEnd) {
+                return new TailSetEvaluator(
+                    cjArgs, schemaReader, constraint, count);
+            }
+            SetEvaluator sev =
+                new SetEvaluator(cjArgs, schemaReader, constraint);
+            sev.setMaxRows(count);
+            sev.setCompleteWithNullValues(count > 0 && !evaluator.isNonEmpty());
+            return sev;
+        } finally {
+            evaluator.restore(savepoint);
+        }
+    }
+
+    /**
+     * Returns whether the set is the members of a single level that has no
+     * parent other than the all level.
+     */
+    private static boolean isTopLevel(CrossJoinArg[] cjArgs) {
+        if (cjArgs.length != 1) {
+            return false;
+        }
+        RolapLevel level = cjArgs[0].getLevel();
+        return level != null
+            && !(level.getParentLevel() instanceof RolapLevel parent
+                && !parent.isAll());
+    }
+
+    protected void alertNonNative(
+        String funName, String msg, RolapEvaluator evaluator)
+    {
+        RolapUtil.alertNonNative(
+            funName,
+            msg,
+            evaluator.getCatalogReader().getContext().getConfigValue(ConfigConstants.ALERT_NATIVE_EVALUATION_UNSUPPORTED, ConfigConstants.ALERT_NATIVE_EVALUATION_UNSUPPORTED_DEFAULT_VALUE, String.class));
+    }
+
+    // public visibility for testing purposes
+    public boolean isValidContext(RolapEvaluator evaluator) {
+        return TopCountConstraint.isValidContext(
+            evaluator, restrictMemberTypes());
+    }
+
+    /**
+     * Evaluator that returns the last tuples it reads. The tuples are never
+     * streamed, because the last ones are only known once all are read.
+     */
+    protected class TailSetEvaluator extends SetEvaluator {
+        private final TupleConstraint constraint;
+        private final int count;
+
+        public TailSetEvaluator(
+            CrossJoinArg[] args,
+            CatalogReader schemaReader,
+            TupleConstraint constraint,
+            int count)
+        {
+            super(args, schemaReader, constraint);
+            this.constraint = constraint;
+            this.count = count;
+        }
+
+        @Override
+        protected TupleIterable executeIterable() {
+            return executeList(new SqlTupleReader(constraint));
+        }
+
+        @Override
+        protected TupleList executeList(final SqlTupleReader tr) {
+            return lastTuples(super.executeList(tr), count);
+        }
+    }
+
+    /**
+     * Returns the last tuples of a list, in the order of the list.
+     */
+    static TupleList lastTuples(TupleList tupleList, int count) {
+        final int size = tupleList.size();
+        if (size <= count) {
+            return tupleList;
+        }
+        return new DelegatingTupleList(
+            tupleList.getArity(),
+            new ArrayList<>(tupleList.subList(size - count, size)));
+    }
+}
@@ -51,12 +51,21 @@ public class RolapNativeRegistry extends RolapNative {
     private final Lock writeLock = readWriteLock.writeLock();
 
     public RolapNativeRegistry(boolean enableNativeFilter, boolean enableNativeCrossJoin, boolean enableNativeTopCount) {
+        this(enableNativeFilter, enableNativeCrossJoin, enableNativeTopCount, false);
+    }
+
+    public RolapNativeRegistry(boolean enableNativeFilter, boolean enableNativeCrossJoin, boolean enableNativeTopCount,
+            boolean enableNativeOrder) {
         super.setEnabled(true);
         // Mondrian functions which might be evaluated natively.
         register("NonEmptyCrossJoin".toUpperCase(), new RolapNativeCrossJoin(enableNativeCrossJoin));
         register("CrossJoin".toUpperCase(), new RolapNativeCrossJoin(enableNativeCrossJoin));
         register("TopCount".toUpperCase(), new RolapNativeTopCount(enableNativeTopCount));
+        register("BottomCount".toUpperCase(), new RolapNativeTopCount(enableNativeTopCount));
         register("Filter".toUpperCase(), new RolapNativeFilter(enableNativeFilter));
+        register("Order".toUpperCase(), new RolapNativeOrder(enableNativeOrder));
+        register("Head".toUpperCase(), new RolapNativeHeadTail(enableNativeOrder));
+        register("Tail".toUpperCase(), new RolapNativeHeadTail(enableNativeOrder));
     }
 
     /**
@@ -27,24 +27,32 @@
 
 package org.eclipse.daanse.rolap.common.nativize;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
 import org.eclipse.daanse.olap.api.Context;
 import org.eclipse.daanse.olap.api.access.AccessHierarchy;
 import org.eclipse.daanse.olap.api.access.Role;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleIterable;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.catalog.CatalogReader;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
 import org.eclipse.daanse.olap.api.element.Level;
 import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.NativeEvaluator;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractTupleIterable;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.DelegatingTupleList;
 import org.eclipse.daanse.olap.common.ConfigConstants;
 import org.eclipse.daanse.olap.common.DelegatingCatalogReader;
@@ -52,6 +60,7 @@ import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.exceptions.ResultStyleException;
 import org.eclipse.daanse.rolap.api.element.RolapMember;
 import org.eclipse.daanse.rolap.common.RolapAggregationManager;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.SqlTupleReader;
 import org.eclipse.daanse.rolap.common.TupleReader;
 import org.eclipse.daanse.rolap.common.TupleReader.MemberBuilder;
@@ -94,6 +103,9 @@ public abstract class RolapNativeSet extends RolapNative {
   private SmartCache<Object, TupleList> cache =
     new SoftSmartCache<>();
 
+  private SmartCache<Object, Integer> countCache =
+    new SoftSmartCache<>();
+
   /**
    * Returns whether certain member types (e.g. calculated members) should disable native SQL evaluation for
    * expressions
@@ -228,15 +240,101 @@ public abstract class RolapNativeSet extends RolapNative {
     @Override
 	public Object execute( ResultStyle desiredResultStyle ) {
       return switch (desiredResultStyle) {
-      case ITERABLE -> executeList(
-                  new SqlTupleReader( constraint ) );
-      case MUTABLE_LIST, LIST -> executeList( new SqlTupleReader( constraint ) );
+      case ITERABLE -> executeIterable();
+      case LIST -> isCountable() ? countableList() : executeList( new SqlTupleReader( constraint ) );
+      case MUTABLE_LIST -> executeList( new SqlTupleReader( constraint ) );
       default -> throw ResultStyleException.generate(
           ResultStyle.ITERABLE_MUTABLELIST_LIST,
           Collections.singletonList( desiredResultStyle ) );
       };
     }
 
+    /**
+     * Returns the tuples as an iterable that streams them from the database
+     * on its first traversal, without holding on to them, if
+     * {@link RolapConfigConstants#ENABLE_STREAMING_TUPLES} is set; see
+     * {@link SqlTupleReader#streamTuples}. The tuples are read into a list,
+     * as by {@link #executeList}, if they are cached already, if they must be
+     * checked for access rights or hidden members, or if they cannot be read
+     * row by row.
+     *
+     * Callers cannot declare that they traverse an iterable only once, so
+     * a later traversal does not run the statement again for itself: it
+     * reads the tuples into a list, as if they had never been streamed, and
+     * every further traversal uses that list.
+     *
+     * Streamed tuples are not cached.
+     *
+     * If the tuples may be counted in SQL, they are returned as a list
+     * that is read when first accessed instead; see {@link #countableList}.
+     */
+    protected TupleIterable executeIterable() {
+      if ( isCountable() ) {
+        return countableList();
+      }
+      final Context context = schemaReader.getContext();
+      if ( !context.getConfigValue(RolapConfigConstants.ENABLE_STREAMING_TUPLES, RolapConfigConstants.ENABLE_STREAMING_TUPLES_DEFAULT_VALUE, Boolean.class)
+        || completeWithNullValues
+        || Arrays.stream( args ).anyMatch( this::mayFilterTuples ) ) {
+        return executeList( new SqlTupleReader( constraint ) );
+      }
+      final SqlTupleReader tr = newStreamingReader();
+      if ( !tr.canStreamTuples() || cache.get( makeCacheKey( tr ) ) != null ) {
+        return executeList( new SqlTupleReader( constraint ) );
+      }
+      final int fetchSize =
+        context.getConfigValue(RolapConfigConstants.STREAMING_TUPLES_FETCH_SIZE, RolapConfigConstants.STREAMING_TUPLES_FETCH_SIZE_DEFAULT_VALUE, Integer.class);
+      return new AbstractTupleIterable( args.length ) {
+        private boolean streamed;
+        private TupleList list;
+
+        @Override
+        public synchronized TupleCursor tupleCursor() {
+          if ( streamed ) {
+            if ( list == null ) {
+              list = executeList( new SqlTupleReader( constraint ) );
+            }
+            return list.tupleCursor();
+          }
+          streamed = true;
+          final SqlTupleReader reader = newStreamingReader();
+          if ( listener != null ) {
+            TupleEvent e = new TupleEvent( SetEvaluator.this, reader );
+            listener.executingSql( e );
+          }
+          return reader.streamTuples( context, fetchSize );
+        }
+      };
+    }
+
+    private SqlTupleReader newStreamingReader() {
+      final SqlTupleReader tr = new SqlTupleReader( constraint );
+      tr.setMaxRows( maxRows );
+      for ( CrossJoinArg arg : args ) {
+        addLevel( tr, arg );
+      }
+      return tr;
+    }
+
+    /**
+     * Returns whether the tuples of an argument must be checked for access
+     * rights or hidden members after they are read.
+     */
+    private boolean mayFilterTuples( CrossJoinArg arg ) {
+      RolapLevel level = arg.getLevel();
+      return level != null
+        && ( isRaggedLevel( level ) || isCustomAccess( level.getHierarchy() ) );
+    }
+
+    private List<Object> makeCacheKey( final SqlTupleReader tr ) {
+      List<Object> key = new ArrayList<>();
+      key.add( tr.getCacheKey() );
+      key.addAll( Arrays.asList( args ) );
+      key.add( maxRows );
+      key.add( schemaReader.getRole() );
+      return key;
+    }
+
     protected TupleList executeList( final SqlTupleReader tr ) {
       tr.setMaxRows( maxRows );
       for ( CrossJoinArg arg : args ) {
@@ -258,11 +356,7 @@ public abstract class RolapNativeSet extends RolapNative {
       // [MONDRIAN-2411] adds the roles to the key. Normally, the
       // schemaReader would apply the roles, but we cache the lists over
       // its head.
-      List<Object> key = new ArrayList<>();
-      key.add( tr.getCacheKey() );
-      key.addAll( Arrays.asList( args ) );
-      key.add( maxRows );
-      key.add( schemaReader.getRole() );
+      List<Object> key = makeCacheKey( tr );
 
       TupleList result = cache.get( key );
       boolean hasEnumTargets = ( tr.getEnumTargetCount() > 0 );
@@ -344,6 +438,69 @@ public abstract class RolapNativeSet extends RolapNative {
       return filterInaccessibleTuples( result );
     }
 
+    /**
+     * Returns whether the tuples may be counted in SQL rather than read, see
+     * {@link #countableList}: if {@link RolapConfigConstants#ENABLE_NATIVE_COUNT}
+     * is set, and if no tuple is added to or removed from the result of the
+     * statement, for a row limit, for access rights or hidden members, or by
+     * the members of a parent-child hierarchy.
+     */
+    private boolean isCountable() {
+      return schemaReader.getContext().getConfigValue(RolapConfigConstants.ENABLE_NATIVE_COUNT, RolapConfigConstants.ENABLE_NATIVE_COUNT_DEFAULT_VALUE, Boolean.class)
+        && maxRows == 0
+        && !completeWithNullValues
+        && Arrays.stream( args ).noneMatch(
+          arg -> mayFilterTuples( arg ) || ( arg.getLevel() != null && arg.getLevel().isParentChild() ) );
+    }
+
+    /**
+     * Returns the tuples as a list that reads them, as {@link #executeList} does, when one of them is first accessed.
+     * Until then, the size of the list is counted in SQL, so that Count of a set, which takes only the size of the
+     * list, runs a single count(*) statement rather than reading the tuples.
+     */
+    private TupleList countableList() {
+      return new DelegatingTupleList( args.length, new CountableList(
+        () -> executeCount( new SqlTupleReader( constraint ) ),
+        () -> executeList( new SqlTupleReader( constraint ) ) ) );
+    }
+
+    /**
+     * Counts the tuples that {@link #executeList} would return, with a single statement; see
+     * {@link SqlTupleReader#countTuples}. The count is cached under the key of the tuple list, and the size of a
+     * cached tuple list is returned without a statement.
+     *
+     * The caller must make sure that none of the tuples would be filtered
+     * out for access rights or hidden members, as SQL cannot tell.
+     *
+     * @return Number of tuples, or -1 if they cannot be counted in SQL
+     */
+    protected int executeCount( final SqlTupleReader tr ) {
+      for ( CrossJoinArg arg : args ) {
+        addLevel( tr, arg );
+      }
+      List<Object> key = makeCacheKey( tr );
+
+      TupleList list = tr.getEnumTargetCount() == 0 ? cache.get( key ) : null;
+      Integer count = list != null ? Integer.valueOf( list.size() ) : countCache.get( key );
+      if ( count != null ) {
+        if ( listener != null ) {
+          TupleEvent e = new TupleEvent( this, tr );
+          listener.foundInCache( e );
+        }
+        return count;
+      }
+      if ( listener != null ) {
+        TupleEvent e = new TupleEvent( this, tr );
+        listener.executingSql( e );
+      }
+
+      int n = tr.countTuples( schemaReader.getContext() );
+      if ( n >= 0 && !schemaReader.getContext().getConfigValue(ConfigConstants.DISABLE_CACHING, ConfigConstants.DISABLE_CACHING_DEFAULT_VALUE, Boolean.class) ) {
+        countCache.put( key, n );
+      }
+      return n;
+    }
+
     /**
      * Checks access rights and hidden status on the members in each tuple in tupleList.
      */
@@ -480,6 +637,64 @@ public abstract class RolapNativeSet extends RolapNative {
     return true;
   }
 
+  /**
+   * Tuples of a set that are read when one of them is first accessed. If the size is asked for first, the tuples are
+   * counted instead; the counter returns -1 if they cannot be counted without reading them.
+   */
+  static class CountableList extends AbstractList<List<Member>> {
+    private final IntSupplier counter;
+    private final Supplier<TupleList> reader;
+    private TupleList list;
+    private int size = -1;
+
+    CountableList( IntSupplier counter, Supplier<TupleList> reader ) {
+      this.counter = counter;
+      this.reader = reader;
+    }
+
+    private synchronized TupleList list() {
+      if ( list == null ) {
+        list = reader.get();
+      }
+      return list;
+    }
+
+    @Override
+    public synchronized int size() {
+      if ( list != null ) {
+        return list.size();
+      }
+      if ( size < 0 ) {
+        size = counter.getAsInt();
+        if ( size < 0 ) {
+          // The tuples cannot be counted; read them.
+          return list().size();
+        }
+      }
+      return size;
+    }
+
+    @Override
+    public List<Member> get( int index ) {
+      return list().get( index );
+    }
+
+    @Override
+    public Iterator<List<Member>> iterator() {
+      return list().iterator();
+    }
+
+    @Override
+    public ListIterator<List<Member>> listIterator( int index ) {
+      return list().listIterator( index );
+    }
+
+    @Override
+    public List<List<Member>> subList( int fromIndex, int toIndex ) {
+      return list().subList( fromIndex, toIndex );
+    }
+  }
+
   /**
    * disable garbage collection for test
    */
@@ -488,8 +703,10 @@ public abstract class RolapNativeSet extends RolapNative {
   void useHardCache( boolean hard ) {
     if ( hard ) {
       cache = new HardSmartCache();
+      countCache = new HardSmartCache();
     } else {
       cache = new SoftSmartCache();
+      countCache = new SoftSmartCache();
     }
   }
 
@@ -575,6 +792,7 @@ public abstract class RolapNativeSet extends RolapNative {
 
   public void flushCache() {
     cache.clear();
+    countCache.clear();
   }
 }
 
@@ -134,13 +134,15 @@ public class RolapNativeTopCount extends RolapNativeSet {
                     deduceNullability(orderByExpr);
                 final String orderByAlias =
                     sqlQuery.addSelect(orderBySql, null);
+                // Empty values sort lowest, so they come last in descending
+                // and first in ascending order.
                 sqlQuery.addOrderBy(
                     orderBySql,
                     orderByAlias,
                     sortingDirection,
                     true,
                     nullable,
-                    true);
+                    sortingDirection != SortingDirection.ASC);
             }
             if (isJoinRequired()) {
                 super.addConstraint(sqlQuery, baseCube, aggStar);
@@ -211,6 +213,16 @@ public class RolapNativeTopCount extends RolapNativeSet {
         if (args.length < 2 || args.length > 3) {
             return null;
         }
+        if (sortingDirection == SortingDirection.ASC
+            && !evaluator.isNonEmpty())
+        {
+            // The members without data would have to come first, but they
+            // can only be added after those that have data.
+            alertNonNativeTopCount(
+                "BottomCount of a set that may contain empty members.",
+                evaluator.getCatalogReader().getContext().getConfigValue(ConfigConstants.ALERT_NATIVE_EVALUATION_UNSUPPORTED, ConfigConstants.ALERT_NATIVE_EVALUATION_UNSUPPORTED_DEFAULT_VALUE, String.class));
+            return null;
+        }
 
         // extract the set expression
         List<CrossJoinArg[]> allArgs =
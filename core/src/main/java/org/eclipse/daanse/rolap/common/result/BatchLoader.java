@@ -30,7 +30,6 @@ import java.util.SortedSet;
 import java.util.concurrent.Future;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.Dialect;
-import org.eclipse.daanse.olap.api.cache.CacheCommand;
 import org.eclipse.daanse.olap.api.cache.OlapSegmentCacheManager;
 import org.eclipse.daanse.olap.api.execution.ExecutionContext;
 import org.eclipse.daanse.olap.common.ConfigConstants;
@@ -116,7 +115,7 @@ public class BatchLoader {
     private void recordCellRequest2(final CellRequest request) {
         // If there is a segment matching these criteria, write it to the list
         // of found segments, and remove the cell request from the list.
-        final AggregationKey key = new AggregationKey(request);
+        final AggregationKey key = request.getAggregationKey();
 
         final SegmentBuilder.SegmentConverterImpl converter =
                 new SegmentBuilder.SegmentConverterImpl(key, request);
@@ -511,7 +510,8 @@ public class BatchLoader {
      * Command that loads the segments required for a collection of cell
      * requests. Returns the collection of segments.
      */
-    public static class LoadBatchCommand implements CacheCommand<LoadBatchResponse>
+    public static class LoadBatchCommand
+        implements SegmentCacheManager.StarCacheCommand<LoadBatchResponse>
     {
         private final ExecutionContext executionContext;
         private final SegmentCacheManager cacheMgr;
@@ -533,6 +533,24 @@ public class BatchLoader {
             this.cellRequests = cellRequests;
         }
 
+        /**
+         * Returns the star of the cell requests if they all belong to the same
+         * star, otherwise null.
+         */
+        @Override
+        public RolapStar getStar() {
+            RolapStar star = null;
+            for (CellRequest request : cellRequests) {
+                final RolapStar requestStar = request.getMeasure().getStar();
+                if (star == null) {
+                    star = requestStar;
+                } else if (star != requestStar) {
+                    return null;
+                }
+            }
+            return star;
+        }
+
         @Override
         public LoadBatchResponse call() {
             return new BatchLoader(executionContext, cacheMgr, dialect, cube)
@@ -698,7 +716,7 @@ public class BatchLoader {
             for (int i = 0; i < valueSets.length; i++) {
                 valueSets[i] = new HashSet<>();
             }
-            batchKey = new AggregationKey(request);
+            batchKey = request.getAggregationKey();
         }
 
         @Override
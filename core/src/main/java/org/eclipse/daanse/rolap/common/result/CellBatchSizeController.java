@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import java.time.Duration;
+
+import org.eclipse.daanse.rolap.util.MemoryMonitor;
+
+/**
+ * Chooses the number of cell requests a {@link FastBatchingCellReader}
+ * collects before it makes the evaluator stop and load them.
+ *
+ * A small batch means many evaluation passes, a large one means large
+ * SQL statements and segments. After each batch has been loaded, the
+ * controller looks at how the batch went and adjusts the size for the next
+ * one:
+ *
+ *   if the heap is nearly full, the size is halved;
+ *   if loading took longer than {@link #TARGET_DURATION}, the size is
+ *   halved;
+ *   if the batch filled up and loaded quickly, the size is doubled, or
+ *   quadrupled if the cache answered most cells or the query has already
+ *   needed several passes.
+ *
+ * The size stays within 1/16 and 16 times the initial size.
+ */
+class CellBatchSizeController {
+
+    /**
+     * Time in which a batch should load. Slower batches are made smaller.
+     */
+    static final Duration TARGET_DURATION = Duration.ofSeconds(2);
+
+    /**
+     * Fraction of the heap that must remain free after garbage collection
+     * for a batch not to be made smaller.
+     */
+    static final double MIN_HEAP_HEADROOM = 0.2;
+
+    private static final int RANGE = 16;
+
+    private final MemoryMonitor memoryMonitor;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private int size;
+
+    private int passCount;
+
+    /**
+     * Why the size of a batch was changed, or not.
+     */
+    enum Reason {
+        HEAP, LATENCY, GROWTH, NONE
+    }
+
+    /**
+     * Outcome of {@link #batchLoaded}.
+     *
+     * @param pass     Number of the pass, starting at 1
+     * @param previous Size before the pass
+     * @param size     Size for the next pass
+     * @param hitRate  Fraction of the cells of the pass read from cache
+     * @param reason   Why the size was changed
+     */
+    record Decision(int pass, int previous, int size, double hitRate, Reason reason) {
+    }
+
+    /**
+     * Creates a CellBatchSizeController.
+     *
+     * @param initialSize   Size of the first batch
+     * @param memoryMonitor Source of the heap usage
+     */
+    CellBatchSizeController(int initialSize, MemoryMonitor memoryMonitor) {
+        this.size = initialSize;
+        this.minSize = Math.max(1, initialSize / RANGE);
+        this.maxSize = (int) Math.min(Integer.MAX_VALUE, (long) initialSize * RANGE);
+        this.memoryMonitor = memoryMonitor;
+    }
+
+    /**
+     * Returns the number of cell requests after which to load them.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adjusts the size after a batch has been loaded.
+     *
+     * @param requestCount Number of cell requests in the batch
+     * @param hitCount     Number of cells read from cache during the pass
+     * @param missCount    Number of cells not in cache during the pass
+     * @param duration     Time it took to load the batch
+     * @return The decision taken
+     */
+    Decision batchLoaded(int requestCount, int hitCount, int missCount, Duration duration) {
+        ++passCount;
+        final int previous = size;
+        final int cellCount = hitCount + missCount;
+        final double hitRate = cellCount == 0 ? 0d : (double) hitCount / cellCount;
+        final Reason reason;
+        if (heapHeadroom() < MIN_HEAP_HEADROOM) {
+            size = Math.max(minSize, size / 2);
+            reason = Reason.HEAP;
+        } else if (duration.compareTo(TARGET_DURATION) > 0) {
+            size = Math.max(minSize, size / 2);
+            reason = Reason.LATENCY;
+        } else if (requestCount >= size
+            && duration.compareTo(TARGET_DURATION.dividedBy(2)) <= 0)
+        {
+            final int factor = hitRate >= 0.9 || passCount >= 4 ? 4 : 2;
+            size = (int) Math.min(maxSize, (long) size * factor);
+            reason = Reason.GROWTH;
+        } else {
+            reason = Reason.NONE;
+        }
+        return new Decision(passCount, previous, size, hitRate, reason);
+    }
+
+    private double heapHeadroom() {
+        final long maxMemory = memoryMonitor.getMaxMemory();
+        if (maxMemory <= 0) {
+            return 1d;
+        }
+        return 1d - (double) memoryMonitor.getLiveMemory() / maxMemory;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+
+/**
+ * Cancels the task of an execution once the execution is canceled or times
+ * out.
+ *
+ * Each watched execution has its own check on a scheduler. The check
+ * runs at the deadline of the execution, so a timeout is detected when it
+ * happens rather than at the next poll. Before the deadline, the check runs
+ * every {@code period} milliseconds to detect explicit cancellation.
+ *
+ * A stopped execution is marked in its {@link Watch}, which
+ * {@link RowCancellationChecker} reads while SQL rows are fetched.
+ */
+public class ExecutionWatcher {
+
+    private final Map<Execution, Watch> watches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long periodNanos;
+
+    /**
+     * Watch over one execution.
+     */
+    public static final class Watch {
+        private final Execution execution;
+        private final Future<?> task;
+        private final long deadlineNanos;
+        private volatile boolean stopped;
+        private boolean unwatched;
+        private ScheduledFuture<?> check;
+
+        private Watch(Execution execution, Future<?> task, long deadlineNanos) {
+            this.execution = execution;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Returns whether the execution has been found canceled or timed
+         * out.
+         */
+        public boolean isStopped() {
+            return stopped;
+        }
+    }
+
+    /**
+     * Creates an ExecutionWatcher.
+     *
+     * @param name         Name of the thread that runs the checks
+     * @param periodMillis Interval at which executions are checked for
+     *                     cancellation
+     */
+    public ExecutionWatcher(String name, long periodMillis) {
+        this.periodNanos =
+            TimeUnit.MILLISECONDS.toNanos(Math.max(1, periodMillis));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts watching an execution.
+     *
+     * @param execution Execution
+     * @param task      Task that runs the execution, canceled when the
+     *                  execution is
+     * @return The watch, to pass to {@link #unwatch}
+     */
+    public Watch watch(Execution execution, Future<?> task) {
+        final Watch watch =
+            new Watch(execution, task, deadlineNanos(execution));
+        watches.put(execution, watch);
+        schedule(watch);
+        return watch;
+    }
+
+    /**
+     * Stops watching an execution.
+     */
+    public void unwatch(Watch watch) {
+        watches.remove(watch.execution, watch);
+        synchronized (watch) {
+            watch.unwatched = true;
+            if (watch.check != null) {
+                watch.check.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the watch over an execution, or null if the execution is not
+     * watched.
+     */
+    Watch watchOf(Execution execution) {
+        return execution == null ? null : watches.get(execution);
+    }
+
+    /**
+     * Stops the scheduler; watches are not checked any more.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static long deadlineNanos(Execution execution) {
+        final long timeoutMillis =
+            execution.getDaanseStatement().getQueryTimeoutMillis();
+        if (timeoutMillis <= 0) {
+            return Long.MAX_VALUE;
+        }
+        final long remainingMillis =
+            timeoutMillis - execution.getElapsedMillis().toMillis();
+        return System.nanoTime()
+            + TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+    }
+
+    private void schedule(Watch watch) {
+        final long untilDeadline =
+            watch.deadlineNanos == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : watch.deadlineNanos - System.nanoTime();
+        // At least a millisecond, in case the execution only considers
+        // itself timed out a little after the deadline.
+        final long delay = Math.max(
+            TimeUnit.MILLISECONDS.toNanos(1),
+            Math.min(periodNanos, untilDeadline));
+        synchronized (watch) {
+            if (!watch.unwatched && !scheduler.isShutdown()) {
+                watch.check = scheduler.schedule(
+                    () -> check(watch), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void check(Watch watch) {
+        if (watch.task.isDone()) {
+            return;
+        }
+        if (watch.execution.isCancelOrTimeout()) {
+            watch.stopped = true;
+            // The thread that waits for the task will call
+            // Execution.checkCancelOrTimeout and throw the exception.
+            watch.task.cancel(false);
+            return;
+        }
+        schedule(watch);
+    }
+}
@@ -28,18 +28,22 @@ package org.eclipse.daanse.rolap.common.result;
 
 import static org.eclipse.daanse.rolap.common.util.ExpressionUtil.genericExpression;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.Dialect;
 import org.eclipse.daanse.olap.api.agg.OlapAggregationManager;
-import org.eclipse.daanse.olap.api.cache.CacheCommand;
 import org.eclipse.daanse.olap.api.exception.CellRequestQuantumExceededException;
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.api.execution.ExecutionContext;
@@ -50,6 +54,7 @@ import org.eclipse.daanse.olap.spi.SegmentBody;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
 import  org.eclipse.daanse.olap.util.Pair;
 import org.eclipse.daanse.rolap.common.RolapAggregationManager;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.agg.AggregationManager;
 import org.eclipse.daanse.rolap.common.agg.CellRequest;
 import org.eclipse.daanse.rolap.common.agg.Segment;
@@ -62,6 +67,11 @@ import org.eclipse.daanse.rolap.common.cache.SegmentCacheIndexImpl;
 import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.eclipse.daanse.rolap.element.RolapCube;
+import org.eclipse.daanse.rolap.util.FauxMemoryMonitor;
+import org.eclipse.daanse.rolap.util.MemoryMonitor;
+import org.eclipse.daanse.rolap.util.NotificationMemoryMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A FastBatchingCellReader doesn't really Read cells: when asked
@@ -75,10 +85,41 @@ import org.eclipse.daanse.rolap.element.RolapCube;
  *
  * This class tries to minimize the amount of storage needed to record the
  * fact that a cell was requested.
+ *
+ * Cells may be read by several threads at once, so that the cells of a
+ * query can be evaluated in parallel: reading a cell and recording a request
+ * take no lock, and only the loading of aggregations is serialized. Segments
+ * are registered with the thread-local cache of the star, so a thread that
+ * evaluates cells calls {@link #registerLoadedSegments()} before it starts.
+ *
+ * If {@link RolapConfigConstants#ENABLE_ADAPTIVE_CELL_BATCH_SIZE} is set,
+ * the number of cell requests per batch is chosen after each batch by a
+ * {@link CellBatchSizeController}.
  */
 public class FastBatchingCellReader implements CellReader {
 
-    private final int cellRequestLimit;
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(FastBatchingCellReader.class);
+
+    private volatile int cellRequestLimit;
+
+    /**
+     * Adapts {@link #cellRequestLimit}, or null if the limit is fixed.
+     */
+    private final CellBatchSizeController batchSizeController;
+
+    /**
+     * Decisions of {@link #batchSizeController}, one per loaded batch.
+     */
+    private final List<CellBatchSizeController.Decision> batchSizeDecisions =
+        new CopyOnWriteArrayList<>();
+
+    /**
+     * Hit and miss counts when the last batch was loaded.
+     */
+    private int lastHitCount;
+
+    private int lastMissCount;
 
     private final RolapCube cube;
 
@@ -88,12 +129,12 @@ public class FastBatchingCellReader implements CellReader {
      * FastBatchingCellReader has not told any lies during that operation, and
      * therefore the result is true. The field is also useful for debugging.
      */
-    private int missCount;
+    private final AtomicInteger missCount = new AtomicInteger();
 
     /**
      * Number of occasions that a requested cell was already in cache.
      */
-    private int hitCount;
+    private final AtomicInteger hitCount = new AtomicInteger();
 
     /**
      * Number of occasions that requested cell was in the process of being
@@ -112,9 +153,23 @@ public class FastBatchingCellReader implements CellReader {
     /**
      * Indicates that the reader has given incorrect results.
      */
-    private boolean dirty;
+    private volatile boolean dirty;
 
-    private final List<CellRequest> cellRequests = new ArrayList<>();
+    private final Queue<CellRequest> cellRequests =
+        new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of requests in {@link #cellRequests}, whose size is not constant
+     * time.
+     */
+    private final AtomicInteger cellRequestCount = new AtomicInteger();
+
+    /**
+     * Segments that this reader has registered, so that other threads can
+     * register them with their own thread-local cache.
+     */
+    private final Queue<SegmentWithData> loadedSegments =
+        new ConcurrentLinkedQueue<>();
 
     private final Execution execution;
 
@@ -146,6 +201,29 @@ public class FastBatchingCellReader implements CellReader {
             cellBatchSize <= 0
                 ? 100000 // TODO Make this logic into a pluggable algorithm.
                 : cellBatchSize;
+        batchSizeController =
+            cube.getCatalog().getInternalConnection().getContext()
+                .getConfigValue(RolapConfigConstants.ENABLE_ADAPTIVE_CELL_BATCH_SIZE, RolapConfigConstants.ENABLE_ADAPTIVE_CELL_BATCH_SIZE_DEFAULT_VALUE, Boolean.class)
+                ? new CellBatchSizeController(cellRequestLimit,
+                    memoryMonitor(cube.getCatalog().getInternalConnection().getContext()
+                        .getConfigValue(ConfigConstants.MEMORY_MONITOR, ConfigConstants.MEMORY_MONITOR_DEFAULT_VALUE, Boolean.class)))
+                : null;
+    }
+
+    /**
+     * Returns the memory monitor that the batch size controller reads the
+     * heap usage from. The notification monitor registers itself with the
+     * JVM when it is created, so all readers share one.
+     */
+    private static MemoryMonitor memoryMonitor(boolean notification) {
+        if (!notification) {
+            return new FauxMemoryMonitor();
+        }
+        return SharedMemoryMonitor.INSTANCE;
+    }
+
+    private static class SharedMemoryMonitor {
+        static final MemoryMonitor INSTANCE = new NotificationMemoryMonitor();
     }
 
     @Override
@@ -163,7 +241,7 @@ public class FastBatchingCellReader implements CellReader {
 
         assert o != Boolean.TRUE : "getCellFromCache no longer returns TRUE";
         if (o != null) {
-            ++hitCount;
+            hitCount.incrementAndGet();
             return o;
         }
 
@@ -172,15 +250,15 @@ public class FastBatchingCellReader implements CellReader {
         // will be worth the wait, because we can avoid the effort of batching
         // up requests that could have been satisfied by the same segment.
         if (cacheEnabled
-            && missCount == 0)
+            && missCount.get() == 0)
         {
             SegmentWithData segmentWithData = cacheMgr.peek(request);
             if (segmentWithData != null) {
-                segmentWithData.getStar().register(segmentWithData);
+                register(segmentWithData);
                 final Object o2 =
                     aggMgr.getCellFromCache(request, pinnedSegments);
                 if (o2 != null) {
-                    ++hitCount;
+                    hitCount.incrementAndGet();
                     return o2;
                 }
             }
@@ -192,13 +270,21 @@ public class FastBatchingCellReader implements CellReader {
         return Util.valueNotReadyException;
     }
 
+    /**
+     * Returns how the size of the cell batches was chosen after each batch
+     * was loaded; empty if the size is fixed.
+     */
+    List<CellBatchSizeController.Decision> getBatchSizeDecisions() {
+        return Collections.unmodifiableList(batchSizeDecisions);
+    }
+
     @Override
 	public int getMissCount() {
-        return missCount;
+        return missCount.get();
     }
 
     public int getHitCount() {
-        return hitCount;
+        return hitCount.get();
     }
 
     public int getPendingCount() {
@@ -209,9 +295,9 @@ public class FastBatchingCellReader implements CellReader {
         if (request.isUnsatisfiable()) {
             throw new IllegalArgumentException("request.isUnsatisfiable is true");
         }
-        ++missCount;
+        missCount.incrementAndGet();
         cellRequests.add(request);
-        if (cellRequests.size() % cellRequestLimit == 0) {
+        if (cellRequestCount.incrementAndGet() % cellRequestLimit == 0) {
             // Signal that it's time to ask the cache manager if it has cells
             // we need in the cache. Not really an exception.
             throw CellRequestQuantumExceededException.INSTANCE;
@@ -225,7 +311,27 @@ public class FastBatchingCellReader implements CellReader {
      */
     @Override
 	public boolean isDirty() {
-        return dirty || !cellRequests.isEmpty();
+        return dirty || cellRequestCount.get() > 0;
+    }
+
+    /**
+     * Registers the segments that this reader has loaded with the
+     * thread-local cache of their star, so that the calling thread finds
+     * them. The thread that loaded them has them registered already.
+     */
+    public void registerLoadedSegments() {
+        for (SegmentWithData segmentWithData : loadedSegments) {
+            segmentWithData.getStar().register(segmentWithData);
+        }
+    }
+
+    /**
+     * Registers a segment with the thread-local cache of its star, and
+     * remembers it for {@link #registerLoadedSegments()}.
+     */
+    private void register(SegmentWithData segmentWithData) {
+        segmentWithData.getStar().register(segmentWithData);
+        loadedSegments.add(segmentWithData);
     }
 
     /**
@@ -262,13 +368,18 @@ public class FastBatchingCellReader implements CellReader {
      * should be able to fall back. Even if there are fall backs, only one call
      * needs to be made to the cache manager.
      *
+     * Only one thread loads aggregations at a time. Requests recorded
+     * while they load are left for the next batch.
+     *
      * @return Whether any aggregations were loaded.
      */
-    public boolean loadAggregations() {
+    public synchronized boolean loadAggregations() {
         if (!isDirty()) {
             return false;
         }
 
+        final long startNanos = System.nanoTime();
+
         // List of futures yielding segments populated by SQL statements. If
         // loading requires several iterations, we just append to the list. We
         // don't mind if it takes a while for SQL statements to return.
@@ -277,6 +388,7 @@ public class FastBatchingCellReader implements CellReader {
 
         final List<CellRequest> cellRequests1 =
             new ArrayList<>(cellRequests);
+        final int requestCount = cellRequests1.size();
 
         preloadColumnCardinality(cellRequests1);
 
@@ -316,7 +428,7 @@ public class FastBatchingCellReader implements CellReader {
                 headerBodies.put(header, body);
                 final SegmentWithData segmentWithData =
                     response.convert(header, body);
-                segmentWithData.getStar().register(segmentWithData);
+                register(segmentWithData);
             }
 
             // Perform each suggested rollup.
@@ -369,7 +481,7 @@ public class FastBatchingCellReader implements CellReader {
                     response.convert(header, body);
 
                 // Register this segment with the local star.
-                segmentWithData.getStar().register(segmentWithData);
+                register(segmentWithData);
 
                 // Make sure that the cache manager knows about this new
                 // segment. First thing we do is to add it to the index.
@@ -379,7 +491,12 @@ public class FastBatchingCellReader implements CellReader {
                 if (!cacheMgr.getContext().getConfigValue(ConfigConstants.DISABLE_CACHING, ConfigConstants.DISABLE_CACHING_DEFAULT_VALUE, Boolean.class)) {
                     final ExecutionContext executionContext = ExecutionContext.current();
                     cacheMgr.execute(
-                        new CacheCommand<Void>() {
+                        new SegmentCacheManager.StarCacheCommand<Void>() {
+                            @Override
+                            public RolapStar getStar() {
+                                return segmentWithData.getStar();
+                            }
+
                             @Override
 							public Void call() throws Exception {
                                 SegmentCacheIndex index =
@@ -427,7 +544,7 @@ public class FastBatchingCellReader implements CellReader {
                         "Waiting for someone else's segment to load via SQL");
                     final SegmentWithData segmentWithData =
                         response.convert(header, body);
-                    segmentWithData.getStar().register(segmentWithData);
+                    register(segmentWithData);
                 }
 
                 // Wait on segments being loaded by SQL statements we asked for.
@@ -440,7 +557,7 @@ public class FastBatchingCellReader implements CellReader {
                             "Waiting for segment to load via SQL");
                     for (SegmentWithData segmentWithData : segmentMap.values())
                     {
-                        segmentWithData.getStar().register(segmentWithData);
+                        register(segmentWithData);
                     }
                     // TODO: also pass back SegmentHeader and SegmentBody,
                     // and add these to headerBodies. Might help?
@@ -486,10 +603,46 @@ public class FastBatchingCellReader implements CellReader {
         }
 
         dirty = false;
-        cellRequests.clear();
+        for (int i = 0; i < requestCount; i++) {
+            cellRequests.poll();
+        }
+        cellRequestCount.addAndGet(-requestCount);
+        batchLoaded(requestCount, Duration.ofNanos(System.nanoTime() - startNanos));
         return true;
     }
 
+    /**
+     * Records the time a batch took to load, and lets the controller, if
+     * any, choose the size of the next batch.
+     */
+    private void batchLoaded(int requestCount, Duration duration) {
+        execution.getQueryTiming().markFull(
+            "FastBatchingCellReader.loadAggregations", duration);
+        if (batchSizeController != null) {
+            final CellBatchSizeController.Decision decision =
+                batchSizeController.batchLoaded(
+                    requestCount,
+                    hitCount.get() - lastHitCount,
+                    missCount.get() - lastMissCount,
+                    duration);
+            cellRequestLimit = decision.size();
+            batchSizeDecisions.add(decision);
+            // The query profile counts the batches by the reason of the
+            // decision that followed them.
+            execution.getQueryTiming().markFull(
+                "CellBatchSizeController." + decision.reason(), duration);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                    "Cell batch {} of {} requests loaded in {} ms, hit rate {}; batch size {} -> {} ({})",
+                    decision.pass(), requestCount, duration.toMillis(),
+                    decision.hitRate(), decision.previous(), decision.size(),
+                    decision.reason());
+            }
+        }
+        lastHitCount = hitCount.get();
+        lastMissCount = missCount.get();
+    }
+
     /**
      * Iterates through cell requests and makes sure .getCardinality has
      * been called on all constrained columns.  This is a  workaround
@@ -30,6 +30,8 @@ package org.eclipse.daanse.rolap.common.result;
 import java.io.PrintWriter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +42,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.InternalOperationAtom;
 import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
@@ -110,8 +117,10 @@ import  org.eclipse.daanse.olap.util.CancellationChecker;
 import org.eclipse.daanse.olap.util.format.Format;
 import org.eclipse.daanse.rolap.aggregator.DistinctCountAggregator;
 import org.eclipse.daanse.rolap.api.element.RolapMember;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.RolapRuntimeException;
 import org.eclipse.daanse.rolap.common.agg.AggregationManager;
+import org.eclipse.daanse.rolap.common.agg.SegmentCacheManager;
 import org.eclipse.daanse.rolap.common.evaluator.RolapDependencyTestingEvaluator;
 import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
 import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluatorRoot;
@@ -149,6 +158,8 @@ public class RolapResult extends ResultBase {
   private final CellReader aggregatingReader;
   private Modulos modulos = null;
   private final int maxEvalDepth;
+  private final boolean parallelCellEvaluation;
+  private final int parallelCellEvaluationThreshold;
   private final Map<Integer, Boolean> positionsHighCardinality = new HashMap<>();
   private final Map<Integer, TupleCursor> positionsIterators = new HashMap<>();
   private final Map<Integer, Integer> positionsIndexes = new HashMap<>();
@@ -165,6 +176,10 @@ public class RolapResult extends ResultBase {
   public RolapResult( final Execution execution, boolean execute ) {
     super( execution, null );
     this.maxEvalDepth = query.getConnection().getContext().getConfigValue(ConfigConstants.MAX_EVAL_DEPTH, ConfigConstants.MAX_EVAL_DEPTH_DEFAULT_VALUE, Integer.class);
+    this.parallelCellEvaluation = query.getConnection().getContext().getConfigValue(RolapConfigConstants.ENABLE_PARALLEL_CELL_EVALUATION,
+        RolapConfigConstants.ENABLE_PARALLEL_CELL_EVALUATION_DEFAULT_VALUE, Boolean.class);
+    this.parallelCellEvaluationThreshold = query.getConnection().getContext().getConfigValue(RolapConfigConstants.PARALLEL_CELL_EVALUATION_THRESHOLD,
+        RolapConfigConstants.PARALLEL_CELL_EVALUATION_THRESHOLD_DEFAULT_VALUE, Integer.class);
     int solveOrder = execution
         .getDaanseStatement().getDaanseConnection()
         .getContext().getConfigValue(ConfigConstants.COMPOUND_SLICER_MEMBER_SOLVE_ORDER, ConfigConstants.COMPOUND_SLICER_MEMBER_SOLVE_ORDER_DEFAULT_VALUE, Integer.class);
@@ -672,6 +687,20 @@ public class RolapResult extends ResultBase {
 
       evaluator.restore( savepoint );
 
+      // Now that the size of the grid is known, the cells can be stored
+      // in columns, unless several threads are to write them.
+      if ( isParallelEvaluation( query ) ) {
+        this.cellInfos = new ConcurrentCellInfoMap();
+      } else {
+        final int[] axisSizes = new int[axes.length];
+        for ( int i = 0; i < axes.length; i++ ) {
+          axisSizes[i] = ( (RolapAxis) axes[i] ).getTupleList().size();
+        }
+        if ( ColumnarCellInfoStore.fits( axisSizes ) ) {
+          this.cellInfos = new ColumnarCellInfoStore( axisSizes );
+        }
+      }
+
       // Get value for each Cell
       // Cells will not be calculated if only CELL_ORDINAL requested.
       QueryComponent[] cellProperties = query.getCellProperties();
@@ -1117,7 +1146,11 @@ public Cell getCell( int[] pos ) {
     while ( true ) {
       evaluator.setCellReader( batchingReader );
       try {
-        executeStripe( query.getAxes().length - 1, evaluator, pos );
+        if ( isParallelEvaluation( query ) ) {
+          executeStripeParallel( evaluator, pos );
+        } else {
+          executeStripe( query.getAxes().length - 1, evaluator, point, pos );
+        }
       } catch ( CellRequestQuantumExceededException e ) {
         // Safe to ignore. Need to call 'phase' and loop again.
         // Decrement count because it wasn't a recursive formula that
@@ -1231,7 +1264,7 @@ public Cell getCell( int[] pos ) {
     }
   }
 
-  private void executeStripe( int axisOrdinal, RolapEvaluator revaluator, final int[] pos ) {
+  private void executeStripe( int axisOrdinal, RolapEvaluator revaluator, CellKey point, final int[] pos ) {
     if ( axisOrdinal < 0 ) {
       RolapAxis axis = (RolapAxis) slicerAxis;
       TupleList tupleList = axis.getTupleList();
@@ -1304,6 +1337,9 @@ public Cell getCell( int[] pos ) {
         if (ci != null && o != Util.valueNotReadyException ) {
           ci.value = o;
         }
+        if ( ci != null ) {
+          cellInfos.store( ci );
+        }
       }
     } else {
       RolapAxis axis = (RolapAxis) axes[axisOrdinal];
@@ -1328,7 +1364,7 @@ public Cell getCell( int[] pos ) {
             revaluator.setEvalAxes( true );
             revaluator.setContext( tuple );
             execution.checkCancelOrTimeout();
-            executeStripe( axisOrdinal - 1, revaluator, pos );
+            executeStripe( axisOrdinal - 1, revaluator, point, pos );
           } finally {
             revaluator.restore( savepoint );
           }
@@ -1340,6 +1376,137 @@ public Cell getCell( int[] pos ) {
 
 
 
+  /**
+   * Returns whether the cells of a query are evaluated by {@link #executeStripeParallel}: if enabled, and if the
+   * query is big enough and has no distinct-count measures, which {@link #processDistinctMeasureExpr} prepares on the
+   * shared evaluator.
+   */
+  private boolean isParallelEvaluation( Query query ) {
+    if ( !parallelCellEvaluation || axes.length == 0 ) {
+      return false;
+    }
+    long cellCount = 1;
+    for ( Axis axis : axes ) {
+      cellCount *= ( (RolapAxis) axis ).getTupleList().size();
+    }
+    if ( cellCount < parallelCellEvaluationThreshold
+        || ( (RolapAxis) axes[axes.length - 1] ).getTupleList().size() < 2 ) {
+      return false;
+    }
+    for ( Member measure : query.getMeasuresMembers() ) {
+      if ( measure instanceof RolapBaseCubeMeasure baseCubeMeasure
+          && baseCubeMeasure.getAggregator() == DistinctCountAggregator.INSTANCE ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Evaluates the cells like {@link #executeStripe}, but splits the positions of the outermost axis into ranges, each
+   * evaluated by a task on the cell executor of the context, with its own evaluator and cell position. Evaluating a
+   * cell may read members by SQL, so the tasks do not run on a fork-join pool. The first position is evaluated on the
+   * calling thread, so that the named sets and compiled expressions it uses are cached before the tasks start.
+   * Returns when all tasks have finished, and rethrows the first exception thrown by any of them.
+   */
+  private void executeStripeParallel( RolapEvaluator revaluator, final int[] pos ) {
+    final int axisOrdinal = axes.length - 1;
+    final TupleList tupleList = ( (RolapAxis) axes[axisOrdinal] ).getTupleList();
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    executeRange( axisOrdinal, revaluator, point, pos, tupleList, 0, 1, failure );
+
+    executeRanges( cellExecutor(), 1, tupleList.size(), Runtime.getRuntime().availableProcessors() * 4, failure,
+        rangeTasks( revaluator, point, batchingReader, execution.asContext(),
+            ( rangeEvaluator, rangePoint, start, end ) ->
+                executeRange( axisOrdinal, rangeEvaluator, rangePoint, pos, tupleList, start, end, failure ) ) );
+  }
+
+  /**
+   * Evaluates the cells of a range of positions of the outermost axis.
+   */
+  @FunctionalInterface
+  interface RangeEvaluation {
+    void evaluate( RolapEvaluator evaluator, CellKey point, int start, int end );
+  }
+
+  /**
+   * Returns the factory of the range tasks of {@link #executeStripeParallel}. Each task gets an evaluator pushed from
+   * {@code revaluator}, which shares its root and thus its caches, and a copy of {@code point}; both are created on
+   * the calling thread, as the evaluator is not safe to push from several threads. The task registers the segments
+   * loaded so far with the star of its own thread, then evaluates its range in the execution context of the query.
+   */
+  static BiFunction<Integer, Integer, Runnable> rangeTasks( RolapEvaluator revaluator, CellKey point,
+      FastBatchingCellReader reader, ExecutionContext executionContext, RangeEvaluation evaluation ) {
+    return ( start, end ) -> {
+      final RolapEvaluator rangeEvaluator = revaluator.push();
+      final CellKey rangePoint = point.copy();
+      return () -> {
+        // The segments loaded so far are registered with the star of the
+        // thread that loaded them only.
+        reader.registerLoadedSegments();
+        ExecutionContext.where( executionContext, () ->
+            evaluation.evaluate( rangeEvaluator, rangePoint, start, end ) );
+      };
+    };
+  }
+
+  /**
+   * Splits the positions from {@code start} to {@code end} into at most {@code rangeCount} ranges, and runs the task
+   * of each range on an executor. The tasks are created on the calling thread. Returns when all tasks have finished,
+   * and rethrows the first exception thrown by any of them, which is also set in {@code failure} so that the other
+   * tasks can stop early.
+   */
+  static void executeRanges( ExecutorService executor, int start, int end, int rangeCount,
+      AtomicReference<Throwable> failure, BiFunction<Integer, Integer, Runnable> rangeTask ) {
+    final int size = end - start;
+    rangeCount = Math.min( size, rangeCount );
+    final List<Future<?>> tasks = new ArrayList<>( rangeCount );
+    for ( int i = 0; i < rangeCount; i++ ) {
+      final Runnable task = rangeTask.apply(
+          start + (int) ( (long) size * i / rangeCount ),
+          start + (int) ( (long) size * ( i + 1 ) / rangeCount ) );
+      tasks.add( executor.submit( () -> {
+        try {
+          task.run();
+        } catch ( RuntimeException | Error e ) {
+          failure.compareAndSet( null, e );
+        }
+      } ) );
+    }
+    for ( Future<?> task : tasks ) {
+      Util.safeGet( task, "Evaluating cells in parallel" );
+    }
+    final Throwable e = failure.get();
+    if ( e instanceof RuntimeException runtimeException ) {
+      throw runtimeException;
+    }
+    if ( e instanceof Error error ) {
+      throw error;
+    }
+  }
+
+  private ExecutorService cellExecutor() {
+    final AbstractBasicContext context =
+        (AbstractBasicContext) execution.getDaanseStatement().getDaanseConnection().getContext();
+    return ( (SegmentCacheManager) context.getAggregationManager().getCacheMgr() ).cellExecutor;
+  }
+
+  private void executeRange( int axisOrdinal, RolapEvaluator revaluator, CellKey point, final int[] pos,
+      TupleList tupleList, int start, int end, AtomicReference<Throwable> failure ) {
+    for ( int tupleIndex = start; tupleIndex < end && failure.get() == null; tupleIndex++ ) {
+      point.setAxis( axisOrdinal, tupleIndex );
+      final int savepoint = revaluator.savepoint();
+      try {
+        revaluator.setEvalAxes( true );
+        revaluator.setContext( tupleList.get( tupleIndex ) );
+        execution.checkCancelOrTimeout();
+        executeStripe( axisOrdinal - 1, revaluator, point, pos );
+      } finally {
+        revaluator.restore( savepoint );
+      }
+    }
+  }
+
   /**
    * Distinct counts are aggregated separately from other measures. We need to apply filters to each level in the query.
    *
@@ -1676,9 +1843,9 @@ public Cell getCell( int[] pos ) {
     /**
      * Maps the names of sets to their values. Populated on demand.
      */
-    private final Map<String, RolapSetEvaluator> setEvaluators = new HashMap<>();
+    private final Map<String, RolapSetEvaluator> setEvaluators = new ConcurrentHashMap<>();
     private final Map<String, RolapNamedSetEvaluator> namedSetEvaluators =
-        new HashMap<>();
+        new ConcurrentHashMap<>();
 
     public final RolapResult result;
     private static final Object CycleSentinel = new Object();
@@ -1998,6 +2165,16 @@ public Cell getCell( int[] pos ) {
      * @return the CellInfo found or null.
      */
     CellInfo lookup( int[] pos );
+
+    /**
+     * Saves the fields of a CellInfo object returned by {@link #create} once they have been set. Containers that hold
+     * the CellInfo objects themselves have nothing to do.
+     *
+     * @param ci
+     *          the CellInfo object.
+     */
+    default void store( CellInfo ci ) {
+    }
   }
 
   /**
@@ -2050,6 +2227,197 @@ public Cell getCell( int[] pos ) {
     }
   }
 
+  /**
+   * Implementation of {@link CellInfoContainer} which stores the cells of a grid of known size in columns instead of
+   * one CellInfo object per cell.
+   *
+   * 
+   * Double values are kept in a primitive array, null values in a bit set, and other values in an object array which
+   * is only allocated when the first such value is stored. A result has few distinct pairs of format string and
+   * formatter, so each cell only keeps the index of its pair in a dictionary. {@link #create} and {@link #lookup}
+   * return transient CellInfo objects, whose key is the offset of the cell; {@link #store} writes them to the
+   * columns.
+   */
+  static class ColumnarCellInfoStore implements CellInfoContainer {
+    /**
+     * Largest number of cells a store can hold, about the largest array the JVM allocates.
+     */
+    static final long MAX_CELL_COUNT = Integer.MAX_VALUE - 8;
+
+    private final int[] multipliers;
+    private final double[] doubles;
+    private final int[] formats;
+    private Object[] objects;
+    private final BitSet present;
+    private final BitSet doubleValues;
+    private final BitSet nullValues;
+    private final List<Format> formatList = new ArrayList<>();
+    private final Map<Format, Integer> formatCodes = new HashMap<>();
+    private int size;
+
+    private record Format( String formatString, ValueFormatter valueFormatter ) {
+    }
+
+    /**
+     * Creates a ColumnarCellInfoStore.
+     *
+     * @param axisSizes
+     *          Number of positions of each axis
+     */
+    ColumnarCellInfoStore( int[] axisSizes ) {
+      this.multipliers = new int[axisSizes.length];
+      int cellCount = 1;
+      for ( int i = 0; i < axisSizes.length; i++ ) {
+        multipliers[i] = cellCount;
+        cellCount = Math.multiplyExact( cellCount, axisSizes[i] );
+      }
+      this.doubles = new double[cellCount];
+      this.formats = new int[cellCount];
+      this.present = new BitSet( cellCount );
+      this.doubleValues = new BitSet( cellCount );
+      this.nullValues = new BitSet( cellCount );
+      // Code 0, which all cells start with, is the format of a new CellInfo.
+      formatCode( new Format( null, ValueFormatter.EMPTY ) );
+    }
+
+    /**
+     * Returns whether a grid with the given axis sizes is small enough for a store.
+     */
+    static boolean fits( int[] axisSizes ) {
+      long cellCount = 1;
+      for ( int axisSize : axisSizes ) {
+        cellCount *= axisSize;
+        if ( cellCount > MAX_CELL_COUNT ) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private int offset( int[] pos ) {
+      int offset = 0;
+      for ( int i = 0; i < pos.length; i++ ) {
+        offset += pos[i] * multipliers[i];
+      }
+      return offset;
+    }
+
+    private int formatCode( Format format ) {
+      return formatCodes.computeIfAbsent( format, f -> {
+        formatList.add( f );
+        return formatList.size() - 1;
+      } );
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public void trimToSize() {
+      // empty
+    }
+
+    @Override
+    public void clear() {
+      present.clear();
+      doubleValues.clear();
+      nullValues.clear();
+      if ( objects != null ) {
+        Arrays.fill( objects, null );
+      }
+      Arrays.fill( formats, 0 );
+      size = 0;
+    }
+
+    @Override
+    public CellInfo create( int[] pos ) {
+      return new CellInfo( offset( pos ) );
+    }
+
+    @Override
+    public CellInfo lookup( int[] pos ) {
+      final int offset = offset( pos );
+      final CellInfo ci = new CellInfo( offset );
+      if ( !present.get( offset ) ) {
+        return ci;
+      }
+      if ( doubleValues.get( offset ) ) {
+        ci.value = doubles[offset];
+      } else if ( nullValues.get( offset ) ) {
+        ci.value = Util.nullValue;
+      } else if ( objects != null ) {
+        ci.value = objects[offset];
+      }
+      final Format format = formatList.get( formats[offset] );
+      ci.formatString = format.formatString();
+      ci.valueFormatter = format.valueFormatter();
+      return ci;
+    }
+
+    @Override
+    public void store( CellInfo ci ) {
+      final int offset = (int) ci.key;
+      if ( !present.get( offset ) ) {
+        present.set( offset );
+        size++;
+      }
+      doubleValues.clear( offset );
+      nullValues.clear( offset );
+      if ( objects != null ) {
+        objects[offset] = null;
+      }
+      if ( ci.value instanceof Double d ) {
+        doubles[offset] = d;
+        doubleValues.set( offset );
+      } else if ( ci.value == Util.nullValue ) {
+        nullValues.set( offset );
+      } else if ( ci.value != null ) {
+        if ( objects == null ) {
+          objects = new Object[doubles.length];
+        }
+        objects[offset] = ci.value;
+      }
+      formats[offset] = formatCode( new Format( ci.formatString, ci.valueFormatter ) );
+    }
+  }
+
+  /**
+   * Implementation of {@link CellInfoContainer} which uses a {@link ConcurrentHashMap} to store CellInfo Objects, for
+   * when cells are evaluated in parallel. Unlike {@link CellInfoMap}, the key is made from the position passed to
+   * {@link #create}, since each thread has its own CellKey point.
+   */
+  static class ConcurrentCellInfoMap implements CellInfoContainer {
+    private final Map<CellKey, CellInfo> map = new ConcurrentHashMap<>();
+
+    @Override
+    public int size() {
+      return this.map.size();
+    }
+
+    @Override
+    public void trimToSize() {
+      // empty
+    }
+
+    @Override
+    public void clear() {
+      this.map.clear();
+    }
+
+    @Override
+    public CellInfo create( int[] pos ) {
+      CellKey key = CellKey.Generator.newCellKey( pos.clone() );
+      return map.computeIfAbsent( key, k -> new CellInfo( 0 ) );
+    }
+
+    @Override
+    public CellInfo lookup( int[] pos ) {
+      return create( pos );
+    }
+  }
+
   /**
    * Implementation of {@link CellInfoContainer} which uses an {@link ObjectPool} to store {@link CellInfo} Objects.
    *
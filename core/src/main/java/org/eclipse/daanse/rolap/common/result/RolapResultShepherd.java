@@ -26,11 +26,7 @@
 package org.eclipse.daanse.rolap.common.result;
 
 import java.text.MessageFormat;
-import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
@@ -46,7 +42,8 @@ import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.exceptions.QueryCanceledException;
 import org.eclipse.daanse.olap.exceptions.QueryTimeoutException;
 import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
-import  org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.common.StreamingTupleCursor;
+import org.eclipse.daanse.rolap.util.VirtualThreadExecutor;
 
 /**
  * A utility class for Connection. It specializes in
@@ -59,6 +56,10 @@ import  org.eclipse.daanse.olap.util.Pair;
  * Gracefully cancel all SQL statements and cleanup in the background.
  *
  *
+ * Each execution is watched by an {@link ExecutionWatcher}, which detects
+ * a timeout at the deadline of the execution. In virtual thread mode, each
+ * execution runs on its own virtual thread.
+ *
  * @author LBoudreau
  */
 public class RolapResultShepherd implements ResultShepherd {
@@ -70,17 +71,25 @@ public class RolapResultShepherd implements ResultShepherd {
     private final ExecutorService executor;
 
     /**
-     * List of tasks that should be monitored by the shepherd thread.
+     * Cancels the tasks of executions that are canceled or time out.
      */
-    private final List<Pair<FutureTask<Result>, Execution>> tasks =
-        new CopyOnWriteArrayList<>();
-
-    private final Timer timer =
-    		new Timer("daanse.rolap.RolapResultShepherd#timer", true);
+    private final ExecutionWatcher watcher;
 
     public RolapResultShepherd(final long rolapConnectionShepherdThreadPollingInterval, TimeUnit rolapConnectionShepherdThreadPollingIntervalUnit, final int rolapConnectionShepherdNbThreads) {
+        this(rolapConnectionShepherdThreadPollingInterval, rolapConnectionShepherdThreadPollingIntervalUnit, rolapConnectionShepherdNbThreads, false);
+    }
+
+    public RolapResultShepherd(final long rolapConnectionShepherdThreadPollingInterval, TimeUnit rolapConnectionShepherdThreadPollingIntervalUnit, final int rolapConnectionShepherdNbThreads, final boolean virtualThreads) {
 
         final int maximumPoolSize = rolapConnectionShepherdNbThreads;
+        watcher = new ExecutionWatcher(
+            "daanse.rolap.RolapResultShepherd#watcher",
+            rolapConnectionShepherdThreadPollingIntervalUnit.toMillis(rolapConnectionShepherdThreadPollingInterval));
+        if (virtualThreads) {
+            executor = new VirtualThreadExecutor(
+                "daanse.rolap.RolapResultShepherd$executor", maximumPoolSize);
+            return;
+        }
         executor =
             Util.getExecutorService(
                  // We use the same value for coreSize and maxSize
@@ -105,37 +114,6 @@ public class RolapResultShepherd implements ResultShepherd {
                             "rolapConnectionShepherdNbThreads"));
                     }
                 });
-
-        long period = rolapConnectionShepherdThreadPollingIntervalUnit.toMillis(rolapConnectionShepherdThreadPollingInterval);
-        timer.schedule(
-            new TimerTask() {
-                @Override
-				public void run() {
-                    for (final Pair<FutureTask<Result>, Execution> task
-                        : tasks)
-                    {
-                        if (task.left.isDone()) {
-                            tasks.remove(task);
-                            continue;
-                        }
-                        if (task.right.isCancelOrTimeout()) {
-                            // Remove it from the list so that we know
-                            // it was cleaned once.
-                            tasks.remove(task);
-
-                            // Cancel the FutureTask for which
-                            // the user thread awaits. The user
-                            // thread will call
-                            // Execution.checkCancelOrTimeout
-                            // later and take care of sending
-                            // an exception on the user thread.
-                            task.left.cancel(false);
-                        }
-                    }
-                }
-            },
-            period,
-            period);
     }
 
     /**
@@ -165,12 +143,8 @@ public class RolapResultShepherd implements ResultShepherd {
         // to monitor, cancel and detach from it.
         FutureTask<Result> task = new FutureTask<>(callable);
 
-        // Register this task with the shepherd thread
-        final Pair<FutureTask<Result>, Execution> pair =
-            new Pair<>(
-                task,
-                execution);
-        tasks.add(pair);
+        // Register this task with the watcher
+        final ExecutionWatcher.Watch watch = watcher.watch(execution, task);
 
         try {
             // Now run it.
@@ -227,14 +201,25 @@ public class RolapResultShepherd implements ResultShepherd {
             } else {
                 throw new OlapRuntimeException(node);
             }
+        } finally {
+            watcher.unwatch(watch);
+            // Tuples streamed by the execution are not read any more.
+            StreamingTupleCursor.closeAll(execution);
         }
     }
 
+    /**
+     * Returns the watch over an execution of this shepherd, or null if the
+     * execution is not running.
+     */
+    ExecutionWatcher.Watch watchOf(Execution execution) {
+        return watcher.watchOf(execution);
+    }
+
     @Override
 	public void shutdown() {
-        this.timer.cancel();
+        this.watcher.shutdown();
         this.executor.shutdown();
-        this.tasks.clear();
     }
 }
 
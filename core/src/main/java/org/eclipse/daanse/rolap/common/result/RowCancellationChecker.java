@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import org.eclipse.daanse.olap.api.execution.Statement;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.common.SystemWideProperties;
+
+/**
+ * Checks whether the execution that fetches SQL rows has been canceled or
+ * has timed out, cheaply enough to be called for every row.
+ *
+ * Only every {@code CheckCancelOrTimeoutInterval}th row is checked, as by
+ * the olap {@code CancellationChecker}. The execution is asked to throw if
+ * the {@link ExecutionWatcher} of its context has found it stopped, or if
+ * it is canceled or timed out by now, so that an explicit cancel does not
+ * wait for the watcher's next check.
+ */
+public final class RowCancellationChecker {
+
+    private final Execution execution;
+
+    private final ExecutionWatcher.Watch watch;
+
+    private final int interval;
+
+    /**
+     * Creates a RowCancellationChecker.
+     *
+     * @param execution Execution that fetches the rows, or null
+     */
+    public RowCancellationChecker(Execution execution) {
+        this(
+            execution,
+            watchOf(execution),
+            SystemWideProperties.instance().CheckCancelOrTimeoutInterval);
+    }
+
+    RowCancellationChecker(
+        Execution execution, ExecutionWatcher.Watch watch, int interval)
+    {
+        this.execution = execution;
+        this.watch = watch;
+        this.interval = interval;
+    }
+
+    /**
+     * Returns the watch over an execution, kept by the result shepherd of
+     * the execution's context, or null if the execution is not watched.
+     */
+    private static ExecutionWatcher.Watch watchOf(Execution execution) {
+        if (execution == null) {
+            return null;
+        }
+        final Statement statement = execution.getDaanseStatement();
+        if (statement == null
+            || statement.getDaanseConnection() == null
+            || !(statement.getDaanseConnection().getContext()
+                .getResultShepherd() instanceof RolapResultShepherd shepherd))
+        {
+            return null;
+        }
+        return shepherd.watchOf(execution);
+    }
+
+    /**
+     * Throws if the execution has been canceled or has timed out.
+     *
+     * @param row Number of the current row
+     */
+    public void check(long row) {
+        if (execution == null || interval <= 0 || row % interval != 0) {
+            return;
+        }
+        if ((watch != null && watch.isStopped())
+            || execution.isCancelOrTimeout())
+        {
+            execution.checkCancelOrTimeout();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -46,6 +47,7 @@ import java.util.stream.IntStream;
 
 import org.eclipse.daanse.jdbc.db.dialect.api.Dialect;
 import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
+import org.eclipse.daanse.jdbc.db.dialect.api.type.Datatype;
 import org.eclipse.daanse.olap.api.Context;
 import org.eclipse.daanse.olap.api.sql.SortingDirection;
 import org.eclipse.daanse.olap.common.ConfigConstants;
@@ -159,6 +161,15 @@ public class SqlQuery {
     private final Map<String, String> columnAliases =
         new HashMap<>();
 
+    /**
+     * Literals that {@link #appendLiteral} wrote as bind markers, or null if
+     * this query inlines all literals.
+     */
+    private List<BindValue> bindValues;
+
+    /** Ordinal of each value in {@link #bindValues}. */
+    private Map<BindValue, Integer> bindValueOrdinals;
+
     private static final String INDENT = "    ";
     private static final String ALIAS_EXISTS_ERROR = "query already contains alias '%s'";
     private static final String COLUMN_ALIAS_PREFIX = "c";
@@ -166,6 +177,18 @@ public class SqlQuery {
     private static final String EXPRESSION_NULL_OR_BLANK_ERROR = "expression must not be null or blank";
     private static final String ALIAS_NULL_OR_BLANK_ERROR = "alias must not be null or blank";
 
+    /**
+     * Delimits the ordinal of a bind value in the clauses of a parameterized
+     * query. It cannot occur in identifiers or quoted literals.
+     */
+    private static final char BIND_MARKER = '\u0000';
+
+    /**
+     * Number of bind parameters a statement may have if the dialect is not
+     * known to allow more; SQL Server allows 2100.
+     */
+    private static final int DEFAULT_MAX_BIND_PARAMETERS = 2000;
+
     /**
      * Validates that an expression is not null or blank.
      *
@@ -234,6 +257,55 @@ public class SqlQuery {
         return new SqlQuery(dialect, generateFormattedSql);
     }
 
+    /**
+     * Sets whether literals appended by {@link #appendLiteral} become bind
+     * parameters. Must be called before any clause is added.
+     *
+     * @param parameterized Whether to collect bind values
+     */
+    public void setParameterized(boolean parameterized) {
+        this.bindValues = parameterized ? new ArrayList<>() : null;
+        this.bindValueOrdinals = parameterized ? new HashMap<>() : null;
+    }
+
+    public boolean isParameterized() {
+        return bindValues != null;
+    }
+
+    /**
+     * Appends a literal value to a clause of this query.
+     *
+     * If the query is parameterized and the value can be bound without
+     * conversion, appends a marker that {@link #toSqlAndTypes(List)} turns
+     * into a bind parameter; otherwise quotes the value, as
+     * {@link Dialect#quote} does.
+     *
+     * @param buf Buffer holding the clause
+     * @param value Value
+     * @param datatype Datatype of the column the value is compared with
+     */
+    public void appendLiteral(StringBuilder buf, Object value, Datatype datatype) {
+        if (bindValues == null || !isBindable(value, datatype)) {
+            dialect.quote(buf, value, datatype);
+            return;
+        }
+        final BindValue bindValue = new BindValue(value, datatype);
+        Integer ordinal = bindValueOrdinals.get(bindValue);
+        if (ordinal == null) {
+            ordinal = bindValues.size();
+            bindValues.add(bindValue);
+            bindValueOrdinals.put(bindValue, ordinal);
+        }
+        buf.append(BIND_MARKER).append(ordinal).append(BIND_MARKER);
+    }
+
+    private static boolean isBindable(Object value, Datatype datatype) {
+        if (datatype.isNumeric()) {
+            return value instanceof Number;
+        }
+        return datatype == Datatype.VARCHAR && value instanceof String;
+    }
+
     public void setDistinct(final boolean distinct) {
         this.distinct = distinct;
     }
@@ -685,6 +757,13 @@ public class SqlQuery {
         }
     }
 
+    /**
+     * Removes all items from the ORDER BY clause.
+     */
+    public void clearOrderBy() {
+        orderBy.clear();
+    }
+
     /**
      * Adds an item to the ORDER BY clause with custom null value handling.
      *
@@ -733,6 +812,16 @@ public class SqlQuery {
      * @param prefix Prefix for each line
      */
     public void toBuffer(StringBuilder buf, String prefix) {
+        if (bindValues == null || bindValues.isEmpty()) {
+            clausesToBuffer(buf, prefix);
+        } else {
+            final StringBuilder sql = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+            clausesToBuffer(sql, prefix);
+            resolveBindMarkers(sql, buf, null);
+        }
+    }
+
+    private void clausesToBuffer(StringBuilder buf, String prefix) {
         final String first = distinct ? "select distinct " : "select ";
         select.toBuffer(buf, generateFormattedSql, prefix, first, ", ", "", "");
         groupingFunctionsToBuffer(buf, prefix);
@@ -815,10 +904,105 @@ public class SqlQuery {
      * @return a pair containing the SQL string and the list of column types
      */
     public Pair<String, List<BestFitColumnType>> toSqlAndTypes() {
+        return toSqlAndTypes(null);
+    }
+
+    /**
+     * Returns the SQL string and the list of column types for this query.
+     *
+     * If {@code parameters} is not null, the literals of a parameterized
+     * query are written as '?' and their values added to {@code parameters}
+     * in the order the parameters occur in the SQL string.
+     *
+     * @param parameters List to receive the bind values, or null to inline
+     *     all literals
+     * @return a pair containing the SQL string and the list of column types
+     */
+    public Pair<String, List<BestFitColumnType>> toSqlAndTypes(
+        List<BindValue> parameters)
+    {
         assert types.size() == select.size() + groupingFunctions.size()
             : "%d types, %d select items in query %s".formatted(
                 types.size(), select.size() + groupingFunctions.size(), this);
-        return Pair.of(toString(), types);
+        if (parameters == null || bindValues == null || bindValues.isEmpty()) {
+            return Pair.of(toString(), types);
+        }
+        final StringBuilder sql = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        clausesToBuffer(sql, "");
+        final StringBuilder resolved = new StringBuilder(sql.length());
+        final int start = parameters.size();
+        resolveBindMarkers(sql, resolved, parameters);
+        if (parameters.size() - start > maxBindParameters(dialect)) {
+            // Too many parameters for the database, e.g. a long IN-list;
+            // inline all literals instead.
+            parameters.subList(start, parameters.size()).clear();
+            return Pair.of(toString(), types);
+        }
+        return Pair.of(resolved.toString(), types);
+    }
+
+    /**
+     * Returns the maximum number of bind parameters in a statement for a
+     * dialect.
+     */
+    static int maxBindParameters(Dialect dialect) {
+        final String name = dialect.name();
+        if (name == null) {
+            return DEFAULT_MAX_BIND_PARAMETERS;
+        }
+        final String lowerName = name.toLowerCase(Locale.ROOT);
+        if (lowerName.contains("sqlite")) {
+            return 999;
+        }
+        if (lowerName.contains("postgres")
+            || lowerName.contains("greenplum")
+            || lowerName.contains("redshift")
+            || lowerName.contains("db2"))
+        {
+            return 32767;
+        }
+        if (lowerName.contains("oracle")
+            || lowerName.contains("mysql")
+            || lowerName.contains("mariadb")
+            || lowerName.contains("h2")
+            || lowerName.contains("hsql"))
+        {
+            return 65535;
+        }
+        return DEFAULT_MAX_BIND_PARAMETERS;
+    }
+
+    /**
+     * Copies SQL to a buffer, replacing each bind marker by '?' if
+     * {@code parameters} is not null, or else by the quoted literal.
+     */
+    private void resolveBindMarkers(
+        CharSequence sql,
+        StringBuilder buf,
+        List<BindValue> parameters)
+    {
+        final int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            final char c = sql.charAt(i++);
+            if (c != BIND_MARKER) {
+                buf.append(c);
+                continue;
+            }
+            int end = i;
+            while (sql.charAt(end) != BIND_MARKER) {
+                ++end;
+            }
+            final BindValue bindValue =
+                bindValues.get(Integer.parseInt(sql, i, end, 10));
+            i = end + 1;
+            if (parameters == null) {
+                dialect.quote(buf, bindValue.value(), bindValue.datatype());
+            } else {
+                buf.append('?');
+                parameters.add(bindValue);
+            }
+        }
     }
 
     public void registerRootRelation(org.eclipse.daanse.rolap.mapping.model.database.source.RelationalSource root) {
@@ -1082,6 +1266,13 @@ public class SqlQuery {
         }
     }
 
+    /**
+     * Value of a bind parameter, with the datatype of the column it is
+     * compared with.
+     */
+    public record BindValue(Object value, Datatype datatype) {
+    }
+
     /**
      * Collection of alternative code for alternative dialects.
      */
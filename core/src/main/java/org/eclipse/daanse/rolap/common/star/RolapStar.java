@@ -207,18 +207,13 @@ public class RolapStar {
         CellRequest request,
         RolapAggregationManager.PinSet pinSet)
     {
-        // REVIEW: Is it possible to optimize this so not every cell lookup
-        // causes an AggregationKey to be created?
-        AggregationKey aggregationKey = new AggregationKey(request);
-
-        final Bar bar = localBars.get();
-        for (SegmentWithData segment : Util.GcIterator.over(bar.segmentRefs)) {
-            if (!segment.getConstrainedColumnsBitKey().equals(
-                    request.getConstrainedColumnsBitKey()))
-            {
-                continue;
-            }
-
+        final List<SoftReference<SegmentWithData>> candidates =
+            localBars.get().candidates(request);
+        if (candidates == null) {
+            return null;
+        }
+        final AggregationKey aggregationKey = request.getAggregationKey();
+        for (SegmentWithData segment : Util.GcIterator.over(candidates)) {
             if (!segment.matches(aggregationKey, request.getMeasure())) {
                 continue;
             }
@@ -257,8 +252,7 @@ public class RolapStar {
     }
 
     public void register(SegmentWithData segment) {
-        localBars.get().segmentRefs.add(
-            new SoftReference<>(segment));
+        localBars.get().register(segment);
     }
 
     public RolapStatisticsCache getStatisticsCache() {
@@ -293,8 +287,40 @@ public class RolapStar {
 
         private final Cache<AggregationKey, Aggregation> aggregations =Caffeine.newBuilder().weakKeys().weakValues().build();
 
-        private final List<SoftReference<SegmentWithData>> segmentRefs =
-            new ArrayList<>();
+        /**
+         * Segments registered by this thread, indexed by measure and then by
+         * constrained columns bit key. A cell lookup only walks the segments
+         * that have the same dimensionality and measure as the request.
+         */
+        private final Map<Measure, Map<BitKey, List<SoftReference<SegmentWithData>>>>
+            segmentRefs = new HashMap<>();
+
+        private void register(SegmentWithData segment) {
+            segmentRefs
+                .computeIfAbsent(segment.measure, m -> new HashMap<>())
+                .computeIfAbsent(
+                    segment.getConstrainedColumnsBitKey(),
+                    k -> new ArrayList<>())
+                .add(new SoftReference<>(segment));
+        }
+
+        /**
+         * Returns the segments that may contain the cell of a request, or
+         * null if there are none.
+         */
+        private List<SoftReference<SegmentWithData>> candidates(
+            CellRequest request)
+        {
+            final Map<BitKey, List<SoftReference<SegmentWithData>>> byBitKey =
+                segmentRefs.get(request.getMeasure());
+            return byBitKey == null
+                ? null
+                : byBitKey.get(request.getConstrainedColumnsBitKey());
+        }
+
+        private void clear() {
+            segmentRefs.clear();
+        }
     }
 
     private final ThreadLocal<Bar> localBars = ThreadLocal.withInitial(Bar::new);
@@ -657,7 +683,7 @@ public class RolapStar {
 
             // Clear aggregation cache for the current thread context.
             localBars.get().aggregations.cleanUp();
-            localBars.get().segmentRefs.clear();
+            localBars.get().clear();
         }
     }
 
@@ -17,6 +17,7 @@ import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.execution.ExecutionImpl;
+import org.eclipse.daanse.rolap.common.StreamingTupleCursor;
 
 /**
  * A statement that can be used for all of the various internal
@@ -56,6 +57,7 @@ public class ReentrantInternalStatement extends InternalStatement {
 
   @Override
   public synchronized void end( Execution execution ) {
+    StreamingTupleCursor.closeAll( execution );
     execution.end();
   }
 
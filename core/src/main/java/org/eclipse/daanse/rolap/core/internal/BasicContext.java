@@ -57,6 +57,7 @@ import org.eclipse.daanse.olap.execution.ExecutionImpl;
 import org.eclipse.daanse.rolap.api.RolapContext;
 import org.eclipse.daanse.rolap.api.aggmatch.AggregationMatchRulesSupplier;
 import org.eclipse.daanse.rolap.common.AbstractRolapContext;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
 import org.eclipse.daanse.rolap.common.agg.AggregationManager;
 import org.eclipse.daanse.rolap.common.aggregator.AggregationFactoryImpl;
 import org.eclipse.daanse.rolap.common.catalog.RolapCatalogCache;
@@ -70,6 +71,7 @@ import org.eclipse.daanse.rolap.common.result.RolapResult;
 import org.eclipse.daanse.rolap.common.result.RolapResultShepherd;
 import org.eclipse.daanse.rolap.core.api.BasicContextOCD;
 import org.eclipse.daanse.rolap.mapping.model.provider.CatalogMappingSupplier;
+import org.eclipse.daanse.rolap.util.ValuePool;
 import org.eclipse.daanse.sql.guard.api.SqlGuardFactory;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -119,6 +121,8 @@ public class BasicContext extends AbstractRolapContext implements RolapContext {
 
     private Semaphore queryLimitSemaphore;
 
+    private ValuePool valuePool;
+
     private List<CustomAggregatorFactory> customAggregators = new ArrayList<CustomAggregatorFactory>();
 
     @Activate
@@ -143,6 +147,9 @@ public class BasicContext extends AbstractRolapContext implements RolapContext {
         schemaCache = new RolapCatalogCache(this);
         queryLimitSemaphore = new Semaphore(
                 getConfigValue(ConfigConstants.QUERY_LIMIT, ConfigConstants.QUERY_LIMIT_DEFAULT_VALUE, Integer.class));
+        int valuePoolSize = getConfigValue(RolapConfigConstants.MEMBER_VALUE_POOL_SIZE,
+                RolapConfigConstants.MEMBER_VALUE_POOL_SIZE_DEFAULT_VALUE, Integer.class);
+        valuePool = valuePoolSize > 0 ? new ValuePool(valuePoolSize) : null;
 
         try (Connection connection = dataSource.getConnection()) {
             dialect = dialectFactory.createDialect(connection);
@@ -158,7 +165,9 @@ public class BasicContext extends AbstractRolapContext implements RolapContext {
                         ConfigConstants.ROLAP_CONNECTION_SHEPHERD_THREAD_POLLING_INTERVAL_UNIT_DEFAULT_VALUE,
                         TimeUnit.class),
                 getConfigValue(ConfigConstants.ROLAP_CONNECTION_SHEPHERD_NB_THREADS,
-                        ConfigConstants.ROLAP_CONNECTION_SHEPHERD_NB_THREADS_DEFAULT_VALUE, Integer.class));
+                        ConfigConstants.ROLAP_CONNECTION_SHEPHERD_NB_THREADS_DEFAULT_VALUE, Integer.class),
+                getConfigValue(RolapConfigConstants.ENABLE_VIRTUAL_THREADS,
+                        RolapConfigConstants.ENABLE_VIRTUAL_THREADS_DEFAULT_VALUE, Boolean.class));
         aggMgr = new AggregationManager(this);
 
         if (LOGGER.isDebugEnabled()) {
@@ -168,6 +177,9 @@ public class BasicContext extends AbstractRolapContext implements RolapContext {
 
     @Deactivate
     public void deactivate(Map<String, Object> configuration) throws Exception {
+        if (valuePool != null) {
+            LOGGER.debug("Member value pool of {}: {}", getName(), valuePool);
+        }
         shutdown();
         updateConfiguration(null);
     }
@@ -228,7 +240,7 @@ public class BasicContext extends AbstractRolapContext implements RolapContext {
 
     @Override
     public Optional<Map<Object, Object>> getSqlMemberSourceValuePool() {
-        return Optional.empty(); // Caffein Cache is an option
+        return Optional.ofNullable(valuePool);
     }
 
     @Override
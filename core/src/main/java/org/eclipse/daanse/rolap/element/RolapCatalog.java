@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -46,6 +47,8 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import org.eclipse.daanse.olap.access.RoleImpl;
@@ -97,6 +100,8 @@ import org.eclipse.daanse.olap.query.component.FormulaImpl;
 import org.eclipse.daanse.olap.query.component.IdImpl;
 import org.eclipse.daanse.olap.util.ByteString;
 import org.eclipse.daanse.rolap.api.RolapContext;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
+import org.eclipse.daanse.rolap.common.RolapUtil;
 import org.eclipse.daanse.rolap.common.aggmatcher.AggTableManager;
 import org.eclipse.daanse.rolap.common.catalog.RolapCatalogKey;
 import org.eclipse.daanse.rolap.common.catalog.RolapCatalogParameter;
@@ -144,7 +149,7 @@ public class RolapCatalog implements Catalog {
 	/**
 	 * Holds cubes in this schema.
 	 */
-	private final Map<org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube, RolapCube> mapMappingToRolapCube = new HashMap<>();
+	private final Map<org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube, RolapCube> mapMappingToRolapCube = new ConcurrentHashMap<>();
 
 	private final Map<org.eclipse.daanse.cwm.model.cwm.resource.relational.Schema, RolapDatabaseSchema> mapMappingToRolapDatabaseSchema = new HashMap<>();
 
@@ -246,7 +251,8 @@ public class RolapCatalog implements Catalog {
 
 		this.aggTableManager = new AggTableManager(this, context);
 		this.nativeRegistry = new RolapNativeRegistry(context.getConfigValue(ConfigConstants.ENABLE_NATIVE_FILTER, ConfigConstants.ENABLE_NATIVE_FILTER_DEFAULT_VALUE, Boolean.class),
-				context.getConfigValue(ConfigConstants.ENABLE_NATIVE_CROSS_JOIN, ConfigConstants.ENABLE_NATIVE_CROSS_JOIN_DEFAULT_VALUE, Boolean.class), context.getConfigValue(ConfigConstants.ENABLE_NATIVE_TOP_COUNT, ConfigConstants.ENABLE_NATIVE_TOP_COUNT_DEFAULT_VALUE, Boolean.class));
+				context.getConfigValue(ConfigConstants.ENABLE_NATIVE_CROSS_JOIN, ConfigConstants.ENABLE_NATIVE_CROSS_JOIN_DEFAULT_VALUE, Boolean.class), context.getConfigValue(ConfigConstants.ENABLE_NATIVE_TOP_COUNT, ConfigConstants.ENABLE_NATIVE_TOP_COUNT_DEFAULT_VALUE, Boolean.class),
+				context.getConfigValue(RolapConfigConstants.ENABLE_NATIVE_ORDER, RolapConfigConstants.ENABLE_NATIVE_ORDER_DEFAULT_VALUE, Boolean.class));
 
 		load(context, rolapConnectionProps);
 	}
@@ -263,7 +269,8 @@ public class RolapCatalog implements Catalog {
 		this.internalConnection = internalConnection;
 		rolapStarRegistry = new RolapStarRegistry(this, context);
 		this.nativeRegistry = new RolapNativeRegistry(context.getConfigValue(ConfigConstants.ENABLE_NATIVE_FILTER, ConfigConstants.ENABLE_NATIVE_FILTER_DEFAULT_VALUE, Boolean.class),
-				context.getConfigValue(ConfigConstants.ENABLE_NATIVE_CROSS_JOIN, ConfigConstants.ENABLE_NATIVE_CROSS_JOIN_DEFAULT_VALUE, Boolean.class), context.getConfigValue(ConfigConstants.ENABLE_NATIVE_TOP_COUNT, ConfigConstants.ENABLE_NATIVE_TOP_COUNT_DEFAULT_VALUE, Boolean.class));
+				context.getConfigValue(ConfigConstants.ENABLE_NATIVE_CROSS_JOIN, ConfigConstants.ENABLE_NATIVE_CROSS_JOIN_DEFAULT_VALUE, Boolean.class), context.getConfigValue(ConfigConstants.ENABLE_NATIVE_TOP_COUNT, ConfigConstants.ENABLE_NATIVE_TOP_COUNT_DEFAULT_VALUE, Boolean.class),
+				context.getConfigValue(RolapConfigConstants.ENABLE_NATIVE_ORDER, RolapConfigConstants.ENABLE_NATIVE_ORDER_DEFAULT_VALUE, Boolean.class));
 
 	}
 
@@ -430,20 +437,8 @@ public class RolapCatalog implements Catalog {
 		}
 
 		// Create cubes.
-		for (org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube cubeMapping : mappingCatalog2.getCubes()) {
-//            if (cubeMapping.isEnabled()) {
-			RolapCube cube = null;
-			if (cubeMapping instanceof org.eclipse.daanse.rolap.mapping.model.olap.cube.PhysicalCube physicalCubeMapping) {
-				cube = new RolapPhysicalCube(this, mappingCatalog2, physicalCubeMapping, context);
-				// addCube(cubeMapping, cube);
-
-			}
-			if (cubeMapping instanceof org.eclipse.daanse.rolap.mapping.model.olap.cube.VirtualCube virtualCubeMapping) {
-				cube = new RolapVirtualCube(this, mappingCatalog2, virtualCubeMapping, context);
-				// addCube(cubeMapping, cube);
-			}
-//            }
-		}
+		createCubes(mappingCatalog2, context.getConfigValue(RolapConfigConstants.ENABLE_PARALLEL_CATALOG_LOADING,
+				RolapConfigConstants.ENABLE_PARALLEL_CATALOG_LOADING_DEFAULT_VALUE, Boolean.class));
 
 		// Create virtual cubes.
 		// handled with cubes above
@@ -822,6 +817,70 @@ public class RolapCatalog implements Catalog {
 		return mdxCube;
 	}
 
+	/**
+	 * Creates the cubes of a catalog mapping, one after another or in parallel.
+	 */
+	void createCubes(org.eclipse.daanse.rolap.mapping.model.catalog.Catalog mappingCatalog2, boolean parallel) {
+		if (parallel) {
+			createCubesInParallel(mappingCatalog2);
+		} else {
+			for (org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube cubeMapping : mappingCatalog2.getCubes()) {
+				createCube(mappingCatalog2, cubeMapping);
+			}
+		}
+	}
+
+	/**
+	 * Creates the cube of a cube mapping. The cube adds itself to the catalog.
+	 */
+	void createCube(org.eclipse.daanse.rolap.mapping.model.catalog.Catalog mappingCatalog2,
+			org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube cubeMapping) {
+		if (cubeMapping instanceof org.eclipse.daanse.rolap.mapping.model.olap.cube.PhysicalCube physicalCubeMapping) {
+			new RolapPhysicalCube(this, mappingCatalog2, physicalCubeMapping, context);
+		}
+		if (cubeMapping instanceof org.eclipse.daanse.rolap.mapping.model.olap.cube.VirtualCube virtualCubeMapping) {
+			new RolapVirtualCube(this, mappingCatalog2, virtualCubeMapping, context);
+		}
+	}
+
+	/**
+	 * Creates the cubes of a catalog mapping in parallel.
+	 *
+	 * Physical cubes on the same fact share a star, so they are created one
+	 * after another by the same task. Virtual cubes are created from their base
+	 * cubes, so they are created once all physical cubes exist.
+	 */
+	private void createCubesInParallel(org.eclipse.daanse.rolap.mapping.model.catalog.Catalog mappingCatalog2) {
+		final Map<List<String>, List<org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube>> physicalCubesByStar = new LinkedHashMap<>();
+		final List<org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube> virtualCubes = new ArrayList<>();
+		for (org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube cubeMapping : mappingCatalog2.getCubes()) {
+			if (cubeMapping instanceof org.eclipse.daanse.rolap.mapping.model.olap.cube.PhysicalCube physicalCubeMapping) {
+				List<String> starKey = physicalCubeMapping.getQuery() instanceof org.eclipse.daanse.rolap.mapping.model.database.source.RelationalSource fact
+						? RolapUtil.makeRolapStarKey(fact)
+						: List.of();
+				physicalCubesByStar.computeIfAbsent(starKey, k -> new ArrayList<>()).add(cubeMapping);
+			} else {
+				virtualCubes.add(cubeMapping);
+			}
+		}
+
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		for (List<org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube> cubeMappings : physicalCubesByStar.values()) {
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube cubeMapping : cubeMappings) {
+					createCube(mappingCatalog2, cubeMapping);
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+
+		tasks.clear();
+		for (org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube cubeMapping : virtualCubes) {
+			tasks.add(ForkJoinTask.adapt(() -> createCube(mappingCatalog2, cubeMapping)));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
 	/**
 	 * Finds a cube called 'cube' in the current catalog, or return null if no cube
 	 * exists.
@@ -900,7 +959,7 @@ public class RolapCatalog implements Catalog {
 		return new ArrayList<>(mapMappingToRolapCube.values());
 	}
 
-	RolapHierarchy getSharedHierarchy(final org.eclipse.daanse.rolap.mapping.model.olap.dimension.Dimension name) {
+	synchronized RolapHierarchy getSharedHierarchy(final org.eclipse.daanse.rolap.mapping.model.olap.dimension.Dimension name) {
 		return mapSharedHierarchyNameToHierarchy.get(name);
 	}
 
@@ -104,7 +104,6 @@ import org.eclipse.daanse.olap.execution.ExecutionImpl;
 import org.eclipse.daanse.olap.function.core.FunctionMetaDataR;
 import org.eclipse.daanse.olap.function.core.FunctionParameterR;
 import org.eclipse.daanse.olap.function.def.AbstractFunctionDefinition;
-import org.eclipse.daanse.olap.impl.StatementImpl;
 import org.eclipse.daanse.olap.key.BitKey;
 import org.eclipse.daanse.olap.query.component.FormulaImpl;
 import org.eclipse.daanse.olap.query.component.IdImpl;
@@ -126,6 +125,7 @@ import org.eclipse.daanse.rolap.common.member.SmartMemberReader;
 import org.eclipse.daanse.rolap.common.star.HierarchyUsage;
 import org.eclipse.daanse.rolap.common.star.RelNode;
 import org.eclipse.daanse.rolap.common.star.RolapStar;
+import org.eclipse.daanse.rolap.common.statement.InternalStatement;
 import org.eclipse.daanse.rolap.common.util.DimensionUtil;
 import org.eclipse.daanse.rolap.common.util.PojoUtil;
 import org.eclipse.daanse.rolap.common.writeback.RolapWritebackTable;
@@ -614,14 +614,22 @@ public abstract class RolapCube extends CubeBase {
         final String queryString = buf.toString();
         try {
             final Connection conn = catalog.getInternalConnection();
-            StatementImpl statement = (StatementImpl) conn.getInternalStatement();
-            ExecutionImpl execution = new ExecutionImpl(statement,
-                    ExecuteDurationUtil.executeDurationValue(conn.getContext()));
-            return ExecutionContext.where(execution.asContext(), () -> {
-                final Query queryExp = conn.parseQuery(queryString);
-                queryExp.resolve();
-                return queryExp;
-            });
+            // Cubes of a catalog may be created in parallel, so each one
+            // resolves its query in a statement of its own rather than in the
+            // shared statement of the internal connection.
+            final InternalStatement statement = new InternalStatement(conn);
+            conn.getContext().addStatement(statement);
+            try {
+                ExecutionImpl execution = new ExecutionImpl(statement,
+                        ExecuteDurationUtil.executeDurationValue(conn.getContext()));
+                return ExecutionContext.where(execution.asContext(), () -> {
+                    final Query queryExp = conn.parseQuery(queryString);
+                    queryExp.resolve();
+                    return queryExp;
+                });
+            } finally {
+                statement.close();
+            }
         } catch (Exception e) {
             throw new OlapRuntimeException(MessageFormat.format(unknownNamedSetHasBadFormula, getName()), e);
         }
@@ -60,6 +60,7 @@ public class FauxMemoryMonitor implements MemoryMonitor {
     }
     @Override
 	public long getUsedMemory() {
-        return Runtime.getRuntime().freeMemory();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
     }
 }
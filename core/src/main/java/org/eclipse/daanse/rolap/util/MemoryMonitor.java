@@ -130,6 +130,16 @@ public interface MemoryMonitor {
      */
     long getUsedMemory();
 
+    /**
+     * Returns the memory that was still in use after the last garbage
+     * collection, which unlike {@link #getUsedMemory()} does not count
+     * garbage that is yet to be collected.
+     *
+     * @return the memory used after the last collection.
+     */
+    default long getLiveMemory() {
+        return getUsedMemory();
+    }
 
     /**
      * A MemoryMonitor client implements the Listener
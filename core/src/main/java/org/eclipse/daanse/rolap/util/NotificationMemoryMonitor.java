@@ -170,4 +170,16 @@ public class NotificationMemoryMonitor extends AbstractMemoryMonitor {
 	public long getUsedMemory() {
         return TENURED_POOL.getUsage().getUsed();
     }
+
+    /**
+     * Get the memory usage of this JVM instance after the last collection
+     * of the tenured pool.
+     *
+     * @return memory used after the last collection.
+     */
+    @Override
+	public long getLiveMemory() {
+        final MemoryUsage usage = TENURED_POOL.getCollectionUsage();
+        return usage == null ? getUsedMemory() : usage.getUsed();
+    }
 }
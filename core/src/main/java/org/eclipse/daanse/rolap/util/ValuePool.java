@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of member key, caption and property values, so that members, cube
+ * members and segment axes that hold equal values share a single instance.
+ *
+ * Values are held weakly: a value stays in the pool only as long as
+ * something else refers to it. The pool holds at most a given number of
+ * values; once full, values that are not pooled yet are returned as they
+ * are. Only values of immutable types (strings, boxed primitives,
+ * {@link BigDecimal}, {@link BigInteger}) are pooled; others are returned as
+ * they are.
+ *
+ * The pool is a {@link Map} of each value to itself, so that it can be
+ * supplied as {@code Context.getSqlMemberSourceValuePool()}; use
+ * {@link #intern(Optional, Object)} to look values up.
+ */
+public class ValuePool extends AbstractMap<Object, Object> {
+
+    private static final Set<Class<?>> POOLED_TYPES = Set.of(
+        String.class, Integer.class, Long.class, Short.class, Byte.class,
+        Double.class, Float.class, Boolean.class, Character.class,
+        BigDecimal.class, BigInteger.class);
+
+    private final ConcurrentHashMap<ValueRef, ValueRef> map =
+        new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final int maxSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Creates a ValuePool.
+     *
+     * @param maxSize Maximum number of values in the pool
+     */
+    public ValuePool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled instance of a value, looking it up in a value pool
+     * if there is one. A pool that is not a {@link ValuePool} is used as a
+     * map of each value to itself.
+     *
+     * @param pool  Value pool, or empty
+     * @param value Value, must be immutable in usage
+     * @return Pooled instance equal to the value, or the value itself
+     */
+    public static Object intern(Optional<Map<Object, Object>> pool, Object value) {
+        if (value == null || pool.isEmpty()) {
+            return value;
+        }
+        Map<Object, Object> valuePool = pool.get();
+        if (valuePool instanceof ValuePool rolapValuePool) {
+            return rolapValuePool.intern(value);
+        }
+        Object ret = valuePool.get(value);
+        if (ret != null) {
+            return ret;
+        }
+        valuePool.put(value, value);
+        return value;
+    }
+
+    /**
+     * Returns the pooled instance of a value, adding the value to the pool if
+     * none is pooled and the pool is not full.
+     *
+     * @param value Value
+     * @return Pooled instance equal to the value, or the value itself
+     */
+    public Object intern(Object value) {
+        if (value == null || !POOLED_TYPES.contains(value.getClass())) {
+            return value;
+        }
+        expungeStaleRefs();
+        ValueRef ref = map.get(new ValueRef(value, null));
+        Object pooled = ref == null ? null : ref.get();
+        if (pooled != null) {
+            return hit(value, pooled);
+        }
+        if (map.size() >= maxSize) {
+            missCount.increment();
+            return value;
+        }
+        final ValueRef newRef = new ValueRef(value, queue);
+        while (true) {
+            ref = map.putIfAbsent(newRef, newRef);
+            if (ref == null) {
+                missCount.increment();
+                return value;
+            }
+            pooled = ref.get();
+            if (pooled != null) {
+                return hit(value, pooled);
+            }
+            // Cleared but not expunged yet; replace it.
+            map.remove(ref, ref);
+        }
+    }
+
+    private Object hit(Object value, Object pooled) {
+        hitCount.increment();
+        if (pooled != value) {
+            bytesSaved.add(estimateSize(value));
+        }
+        return pooled;
+    }
+
+    private void expungeStaleRefs() {
+        for (Object ref; (ref = queue.poll()) != null;) {
+            map.remove(ref, ref);
+        }
+    }
+
+    /**
+     * Returns the approximate number of bytes that an instance of a value
+     * takes on the heap, assuming compressed references.
+     */
+    static long estimateSize(Object value) {
+        if (value instanceof String s) {
+            return 40L + 2L * s.length();
+        }
+        if (value instanceof Long || value instanceof Double) {
+            return 24L;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 40L;
+        }
+        return 16L;
+    }
+
+    /**
+     * Returns the number of lookups that found a pooled value.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no pooled value.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the approximate number of bytes saved by returning a pooled
+     * value instead of an equal instance.
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        ValueRef ref = map.get(new ValueRef(key, null));
+        return ref == null ? null : ref.get();
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        Object pooled = get(key);
+        intern(value);
+        return pooled;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        Set<Entry<Object, Object>> entries = new HashSet<>();
+        for (ValueRef ref : map.keySet()) {
+            Object value = ref.get();
+            if (value != null) {
+                entries.add(new SimpleImmutableEntry<>(value, value));
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ValuePool{size=").append(size())
+            .append(", maxSize=").append(maxSize)
+            .append(", hits=").append(getHitCount())
+            .append(", misses=").append(getMissCount())
+            .append(", bytesSaved=").append(getBytesSaved())
+            .append('}').toString();
+    }
+
+    /**
+     * Weak reference to a pooled value, which is equal to another reference
+     * to an equal value. A cleared reference is equal only to itself.
+     */
+    private static class ValueRef extends WeakReference<Object> {
+        private final int hash;
+
+        ValueRef(Object value, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ValueRef that) || that.hash != hash) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(that.get());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor that runs each task on its own virtual thread, at most
+ * {@code maximumRunning} of them at the same time.
+ *
+ * The limit is a fair semaphore rather than the size of a pool: tasks
+ * beyond it wait, in the order they were submitted, on their virtual
+ * threads, which costs little even for thousands of tasks.
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    private final Semaphore permits;
+
+    private final int maximumRunning;
+
+    /**
+     * Creates a VirtualThreadExecutor.
+     *
+     * @param name           Prefix of the names of the threads
+     * @param maximumRunning Number of tasks that may run at the same time
+     */
+    public VirtualThreadExecutor(String name, int maximumRunning) {
+        this.maximumRunning = Math.max(1, maximumRunning);
+        this.permits = new Semaphore(this.maximumRunning, true);
+        this.delegate = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // Interrupted by shutdownNow before the task started.
+                if (command instanceof Future<?> future) {
+                    future.cancel(false);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                command.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Returns the number of tasks that are running.
+     */
+    public int getRunningCount() {
+        return maximumRunning - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of tasks that wait for a running one to end.
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException
+    {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.aggregator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.aggregator.Aggregator;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.DelegatingTupleList;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueUnknownCalc;
+import org.eclipse.daanse.olap.common.SystemWideProperties;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluatorRoot;
+import org.eclipse.daanse.rolap.element.RolapLevel;
+import org.eclipse.daanse.rolap.element.RolapStoredMeasure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PredicateAggregationTest {
+
+    private final RolapLevel level = level(false);
+    private final RolapEvaluatorRoot root = mock(RolapEvaluatorRoot.class);
+    private final Map<Object, Object> cache = new HashMap<>();
+
+    @AfterEach
+    void afterEach() {
+        SystemWideProperties.instance().populateInitial();
+    }
+
+    @Test
+    void additiveAggregators() {
+        assertThat(PredicateAggregation.isAdditive(
+            SumAggregator.INSTANCE, SumAggregator.INSTANCE)).isTrue();
+        assertThat(PredicateAggregation.isAdditive(
+            CountAggregator.INSTANCE, SumAggregator.INSTANCE)).isTrue();
+        assertThat(PredicateAggregation.isAdditive(
+            MinAggregator.INSTANCE, MinAggregator.INSTANCE)).isTrue();
+        assertThat(PredicateAggregation.isAdditive(
+            MaxAggregator.INSTANCE, MaxAggregator.INSTANCE)).isTrue();
+
+        assertThat(PredicateAggregation.isAdditive(
+            MaxAggregator.INSTANCE, SumAggregator.INSTANCE)).isFalse();
+        assertThat(PredicateAggregation.isAdditive(
+            SumAggregator.INSTANCE, MaxAggregator.INSTANCE)).isFalse();
+        assertThat(PredicateAggregation.isAdditive(
+            DistinctCountAggregator.INSTANCE, SumAggregator.INSTANCE))
+            .isFalse();
+        assertThat(PredicateAggregation.isAdditive(
+            AvgAggregator.INSTANCE, SumAggregator.INSTANCE)).isFalse();
+    }
+
+    @Test
+    void disjointTuples() {
+        assertThat(PredicateAggregation.isDisjoint(tuples(members(level, 5))))
+            .isTrue();
+    }
+
+    @Test
+    void repeatedTupleIsNotDisjoint() {
+        List<Member> members = members(level, 5);
+        members.add(members.get(2));
+
+        assertThat(PredicateAggregation.isDisjoint(tuples(members))).isFalse();
+    }
+
+    @Test
+    void membersOfDifferentLevelsAreNotDisjoint() {
+        List<Member> members = members(level, 3);
+        members.addAll(members(level(false), 1));
+
+        assertThat(PredicateAggregation.isDisjoint(tuples(members))).isFalse();
+    }
+
+    @Test
+    void parentChildOrCalculatedMembersAreNotDisjoint() {
+        assertThat(PredicateAggregation.isDisjoint(
+            tuples(members(level(true), 3)))).isFalse();
+
+        List<Member> members = members(level, 3);
+        when(members.get(1).isCalculated()).thenReturn(true);
+        assertThat(PredicateAggregation.isDisjoint(tuples(members))).isFalse();
+    }
+
+    @Test
+    void canAggregateAdditiveMeasureOverDisjointTuples() {
+        RolapEvaluator evaluator = evaluator(true, SumAggregator.INSTANCE);
+
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator, tuples(members(level, 10)), calc(),
+            SumAggregator.INSTANCE)).isTrue();
+    }
+
+    @Test
+    void cannotAggregateWhenDisabledOrNotAdditive() {
+        TupleList members = tuples(members(level, 10));
+
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator(false, SumAggregator.INSTANCE), members, calc(),
+            SumAggregator.INSTANCE)).isFalse();
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator(true, AvgAggregator.INSTANCE), members, calc(),
+            SumAggregator.INSTANCE)).isFalse();
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator(true, SumAggregator.INSTANCE), members, mock(Calc.class),
+            SumAggregator.INSTANCE)).isFalse();
+    }
+
+    @Test
+    void cannotAggregateBelowThresholdOrAboveMaxConstraints() {
+        RolapEvaluator evaluator = evaluator(true, SumAggregator.INSTANCE);
+        SystemWideProperties.instance().MaxConstraints = 20;
+
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator, tuples(members(level, 1)), calc(),
+            SumAggregator.INSTANCE)).isFalse();
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator, tuples(members(level, 20)), calc(),
+            SumAggregator.INSTANCE)).isTrue();
+        assertThat(PredicateAggregation.canAggregate(
+            evaluator, tuples(members(level, 21)), calc(),
+            SumAggregator.INSTANCE)).isFalse();
+    }
+
+    @Test
+    void disjointnessIsCheckedOncePerSet() {
+        RolapEvaluator evaluator = evaluator(true, SumAggregator.INSTANCE);
+        List<Member> list = members(level, 10);
+        TupleList members = tuples(list);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(PredicateAggregation.canAggregate(
+                evaluator, members, calc(), SumAggregator.INSTANCE)).isTrue();
+        }
+        verify(list.get(0), times(1)).isCalculated();
+        assertThat(cache).hasSize(1);
+    }
+
+    @Test
+    void setsBuiltPerCellDoNotAccumulateInTheCache() {
+        RolapEvaluator evaluator = evaluator(true, SumAggregator.INSTANCE);
+        for (int i = 0; i < 5; i++) {
+            assertThat(PredicateAggregation.canAggregate(
+                evaluator, tuples(members(level, 10)), calc(),
+                SumAggregator.INSTANCE)).isTrue();
+        }
+        assertThat(cache).hasSize(1);
+    }
+
+    /**
+     * The single cell request aggregates the facts of all tuples at once.
+     * Over disjoint tuples, that is what rolling up the value of each tuple
+     * gives; over tuples that share facts, which canAggregate rejects, it is
+     * not.
+     */
+    @Test
+    void aggregateOfFactsEqualsRollupOfTuplesIfDisjoint() {
+        List<Member> members = members(level, 6);
+        Map<Member, int[]> facts = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            facts.put(members.get(i), new int[] {i, 2 * i + 1, 7});
+        }
+
+        assertThat(factsSum(members, facts))
+            .isEqualTo(cellByCellSum(members, facts));
+        assertThat(factsMax(members, facts))
+            .isEqualTo(cellByCellMax(members, facts));
+
+        List<Member> repeated = new ArrayList<>(members);
+        repeated.add(members.get(3));
+        assertThat(PredicateAggregation.isDisjoint(tuples(repeated))).isFalse();
+        assertThat(factsSum(repeated, facts))
+            .isNotEqualTo(cellByCellSum(repeated, facts));
+    }
+
+    /** Sum of the facts that match the predicate on the members. */
+    private static int factsSum(List<Member> members, Map<Member, int[]> facts) {
+        int sum = 0;
+        for (Map.Entry<Member, int[]> entry : facts.entrySet()) {
+            if (members.contains(entry.getKey())) {
+                for (int fact : entry.getValue()) {
+                    sum += fact;
+                }
+            }
+        }
+        return sum;
+    }
+
+    /** Sum of the cells, one per member. */
+    private static int cellByCellSum(
+        List<Member> members, Map<Member, int[]> facts)
+    {
+        int sum = 0;
+        for (Member member : members) {
+            int cell = 0;
+            for (int fact : facts.get(member)) {
+                cell += fact;
+            }
+            sum += cell;
+        }
+        return sum;
+    }
+
+    private static int factsMax(List<Member> members, Map<Member, int[]> facts) {
+        int max = Integer.MIN_VALUE;
+        for (Map.Entry<Member, int[]> entry : facts.entrySet()) {
+            if (members.contains(entry.getKey())) {
+                for (int fact : entry.getValue()) {
+                    max = Math.max(max, fact);
+                }
+            }
+        }
+        return max;
+    }
+
+    private static int cellByCellMax(
+        List<Member> members, Map<Member, int[]> facts)
+    {
+        int max = Integer.MIN_VALUE;
+        for (Member member : members) {
+            int cell = Integer.MIN_VALUE;
+            for (int fact : facts.get(member)) {
+                cell = Math.max(cell, fact);
+            }
+            max = Math.max(max, cell);
+        }
+        return max;
+    }
+
+    private RolapEvaluator evaluator(boolean enabled, Aggregator aggregator) {
+        RolapEvaluator evaluator = mock(RolapEvaluator.class, RETURNS_DEEP_STUBS);
+        when(evaluator.getCatalogReader().getContext().getConfigValue(
+            eq(RolapConfigConstants.ENABLE_NATIVE_AGGREGATE), any(),
+            eq(Boolean.class))).thenReturn(enabled);
+        when(evaluator.getCatalogReader().getContext().getConfigValue(
+            eq(RolapConfigConstants.NATIVE_AGGREGATE_THRESHOLD), any(),
+            eq(Integer.class))).thenReturn(2);
+        RolapStoredMeasure measure = mock(RolapStoredMeasure.class);
+        when(measure.getAggregator()).thenReturn(aggregator);
+        when(evaluator.getMembers()).thenReturn(new Member[] {measure});
+        when(evaluator.getRoot()).thenReturn(root);
+        when(root.getCacheResult(any())).thenAnswer(
+            invocation -> cache.get(invocation.getArgument(0)));
+        doAnswer(invocation -> cache.put(
+                invocation.getArgument(0), invocation.getArgument(1)))
+            .when(root).putCacheResult(any(), any(), eq(true));
+        return evaluator;
+    }
+
+    private static Calc<?> calc() {
+        return mock(CurrentValueUnknownCalc.class);
+    }
+
+    private static RolapLevel level(boolean parentChild) {
+        RolapLevel level = mock(RolapLevel.class);
+        when(level.isParentChild()).thenReturn(parentChild);
+        return level;
+    }
+
+    private static List<Member> members(RolapLevel level, int count) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Member member = mock(Member.class);
+            when(member.getLevel()).thenReturn(level);
+            members.add(member);
+        }
+        return members;
+    }
+
+    private static TupleList tuples(List<Member> members) {
+        List<List<Member>> tuples = new ArrayList<>();
+        for (Member member : members) {
+            tuples.add(List.of(member));
+        }
+        return new DelegatingTupleList(1, tuples);
+    }
+}
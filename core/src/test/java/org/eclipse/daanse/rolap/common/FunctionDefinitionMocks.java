@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.olap.api.function.FunctionDefinition;
+import org.eclipse.daanse.olap.api.function.FunctionMetaData;
+
+/**
+ * Mocks of function definitions for the tests of the native evaluators.
+ */
+final class FunctionDefinitionMocks {
+
+    private FunctionDefinitionMocks() {
+    }
+
+    /**
+     * Returns a function definition whose operation is a function of the
+     * given name.
+     */
+    static FunctionDefinition mockFunctionDef(String name) {
+        FunctionDefinition funMock = mock(FunctionDefinition.class);
+        FunctionMetaData functionInformation = mock(FunctionMetaData.class);
+        OperationAtom functionAtom = new FunctionOperationAtom(name);
+
+        when(funMock.getFunctionMetaData()).thenReturn(functionInformation);
+        when(functionInformation.operationAtom()).thenReturn(functionAtom);
+
+        return funMock;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.daanse.rolap.common.FunctionDefinitionMocks.mockFunctionDef;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.type.EmptyType;
+import org.eclipse.daanse.olap.common.ConfigConstants;
+import org.eclipse.daanse.olap.query.component.NumericLiteralImpl;
+import org.eclipse.daanse.olap.query.component.ResolvedFunCallImpl;
+import org.eclipse.daanse.olap.util.type.TypeWrapperExp;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
+import org.eclipse.daanse.rolap.common.nativize.RolapNativeHeadTail;
+import org.eclipse.daanse.rolap.common.nativize.RolapNativeOrder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the cases in which no native evaluator is created for
+ * {@code ORDER}, {@code HEAD} and {@code TAIL}. The tuples the native
+ * evaluators return are compared with the interpreter's in
+ * {@code RolapNativeOrderTest}.
+ */
+class OrderNativeEvaluatorTest {
+
+    @Test
+    void nonNativeWhenExplicitlyDisabled() throws Exception {
+        assertThat(new RolapNativeOrder(false).createEvaluator(null, null, null, true)).isNull();
+        assertThat(new RolapNativeHeadTail(false).createEvaluator(null, null, null, true)).isNull();
+    }
+
+    @Test
+    void nonNativeWhenContextIsInvalid() throws Exception {
+        RolapNativeOrder nativeOrder = spy(new RolapNativeOrder(true));
+        doReturn(false).when(nativeOrder).isValidContext(any(RolapEvaluator.class));
+
+        assertThat(nativeOrder.createEvaluator(null, null, null, true)).isNull();
+    }
+
+    @Test
+    void nonNativeForOtherFunctions() throws Exception {
+        RolapNativeOrder nativeOrder = spy(new RolapNativeOrder(true));
+        doReturn(true).when(nativeOrder).isValidContext(any(RolapEvaluator.class));
+        RolapNativeHeadTail nativeHeadTail = spy(new RolapNativeHeadTail(true));
+        doReturn(true).when(nativeHeadTail).isValidContext(any(RolapEvaluator.class));
+
+        assertThat(nativeOrder.createEvaluator(null, mockFunctionDef("HEAD"), new Expression[0], true)).isNull();
+        assertThat(nativeHeadTail.createEvaluator(null, mockFunctionDef("ORDER"), new Expression[0], true)).isNull();
+    }
+
+    /**
+     * A count that is not positive yields an empty set, which the
+     * interpreter computes without reading anything.
+     */
+    @Test
+    void nonNativeWhenCountIsNotPositive() throws Exception {
+        RolapNativeHeadTail nativeHeadTail = spy(new RolapNativeHeadTail(true));
+        doReturn(true).when(nativeHeadTail).isValidContext(any(RolapEvaluator.class));
+
+        Expression[] arguments = new Expression[] {
+            new TypeWrapperExp(EmptyType.INSTANCE),
+            NumericLiteralImpl.create(BigDecimal.ZERO)
+        };
+
+        assertThat(nativeHeadTail.createEvaluator(null, mockFunctionDef("HEAD"), arguments, true)).isNull();
+        assertThat(nativeHeadTail.createEvaluator(null, mockFunctionDef("TAIL"), arguments, true)).isNull();
+    }
+
+    /**
+     * Reading the first members without joining the fact table would return
+     * members that a set of members with data does not have.
+     */
+    @Test
+    void nonNativeForHeadOfNonEmptySet() throws Exception {
+        RolapNativeHeadTail nativeHeadTail = spy(new RolapNativeHeadTail(true));
+        doReturn(true).when(nativeHeadTail).isValidContext(any(RolapEvaluator.class));
+        RolapEvaluator evaluator = mock(RolapEvaluator.class, RETURNS_DEEP_STUBS);
+        when(evaluator.getCatalogReader().getContext().getConfigValue(
+            eq(ConfigConstants.ALERT_NATIVE_EVALUATION_UNSUPPORTED), any(), eq(String.class)))
+            .thenReturn("OFF");
+
+        for (String function : new String[] {"NonEmptyCrossJoin", "NonEmpty", "Filter"}) {
+            Expression set = new ResolvedFunCallImpl(
+                mockFunctionDef(function),
+                new Expression[] {new TypeWrapperExp(EmptyType.INSTANCE)},
+                EmptyType.INSTANCE);
+            Expression[] arguments = new Expression[] {
+                set,
+                NumericLiteralImpl.create(BigDecimal.valueOf(2))
+            };
+
+            assertThat(nativeHeadTail.createEvaluator(evaluator, mockFunctionDef("HEAD"), arguments, true))
+                .as(function).isNull();
+            // also when the set is wrapped in braces
+            Expression braces = new ResolvedFunCallImpl(
+                mockFunctionDef("{}"), new Expression[] {set}, EmptyType.INSTANCE);
+            arguments[0] = braces;
+            assertThat(nativeHeadTail.createEvaluator(evaluator, mockFunctionDef("HEAD"), arguments, true))
+                .as(function).isNull();
+        }
+    }
+}
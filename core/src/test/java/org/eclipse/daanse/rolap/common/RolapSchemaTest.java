@@ -129,6 +129,7 @@ class RolapCatalogTest {
         when(contextMock.getConfigValue(ConfigConstants.ENABLE_NATIVE_CROSS_JOIN, ConfigConstants.ENABLE_NATIVE_CROSS_JOIN_DEFAULT_VALUE, Boolean.class)).thenReturn(true);
         when(contextMock.getConfigValue(ConfigConstants.ENABLE_NATIVE_TOP_COUNT, ConfigConstants.ENABLE_NATIVE_TOP_COUNT_DEFAULT_VALUE, Boolean.class)).thenReturn(true);
         when(contextMock.getConfigValue(ConfigConstants.ENABLE_NATIVE_FILTER, ConfigConstants.ENABLE_NATIVE_FILTER_DEFAULT_VALUE, Boolean.class)).thenReturn(true);
+        when(contextMock.getConfigValue(RolapConfigConstants.ENABLE_NATIVE_ORDER, RolapConfigConstants.ENABLE_NATIVE_ORDER_DEFAULT_VALUE, Boolean.class)).thenReturn(true);
         when(aggManagerMock.getCacheMgr(rolapConnectionMock)).thenReturn(scManagerMock);
         return new RolapCatalog(key,  rolapConnectionMock, contextMock);
     }
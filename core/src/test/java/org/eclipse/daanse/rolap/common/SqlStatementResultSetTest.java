@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+class SqlStatementResultSetTest {
+
+    @Test
+    void delegatesToStatementResultSet() throws SQLException {
+        SqlStatement statement = mock(SqlStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.getResultSet()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(2)).thenReturn(42);
+
+        ResultSet wrapped = new SqlStatementResultSet(statement);
+        assertThat(wrapped.next()).isTrue();
+        assertThat(wrapped.getInt(2)).isEqualTo(42);
+
+        wrapped.close();
+        verify(statement).close();
+    }
+
+    @Test
+    void failsOnceStatementIsClosed() {
+        SqlStatement statement = mock(SqlStatement.class);
+
+        ResultSet wrapped = new SqlStatementResultSet(statement);
+        assertThatThrownBy(wrapped::next)
+            .isInstanceOf(SQLException.class)
+            .hasMessageContaining("Statement is closed");
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.common.SystemWideProperties;
+import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+class StreamingTupleCursorTest {
+
+    private final Member[][] rows = {
+        {mock(Member.class), mock(Member.class)},
+        {mock(Member.class), mock(Member.class)},
+        null,
+        {mock(Member.class), mock(Member.class)},
+    };
+
+    @Test
+    void streamsTheSameTuplesAsReadingAllRows() throws SQLException {
+        List<List<Member>> materialized = new ArrayList<>();
+        for (Member[] row : rows) {
+            if (row != null) {
+                materialized.add(List.of(row));
+            }
+        }
+        SqlStatement stmt = statement(rows.length);
+        AtomicInteger exhausted = new AtomicInteger();
+
+        StreamingTupleCursor cursor = new StreamingTupleCursor(
+            2, stmt, mock(Execution.class), rowReader(),
+            exhausted::incrementAndGet);
+        List<List<Member>> streamed = new ArrayList<>();
+        while (cursor.forward()) {
+            streamed.add(cursor.current());
+        }
+
+        assertThat(streamed).isEqualTo(materialized);
+        assertThat(exhausted).hasValue(1);
+        verify(stmt).close();
+        assertThat(cursor.forward()).isFalse();
+    }
+
+    @Test
+    void closingEarlyClosesTheStatementOnce() throws SQLException {
+        SqlStatement stmt = statement(rows.length);
+        Execution execution = mock(Execution.class);
+        StreamingTupleCursor cursor = new StreamingTupleCursor(
+            2, stmt, execution, rowReader(), () -> { });
+
+        assertThat(cursor.forward()).isTrue();
+        cursor.close();
+        StreamingTupleCursor.closeAll(execution);
+
+        verify(stmt, times(1)).close();
+        assertThat(cursor.forward()).isFalse();
+    }
+
+    @Test
+    void endingTheExecutionClosesItsOpenCursors() throws SQLException {
+        SqlStatement stmt = statement(rows.length);
+        SqlStatement otherStmt = statement(rows.length);
+        Execution execution = mock(Execution.class);
+        StreamingTupleCursor cursor = new StreamingTupleCursor(
+            2, stmt, execution, rowReader(), () -> { });
+        StreamingTupleCursor other = new StreamingTupleCursor(
+            2, otherStmt, mock(Execution.class), rowReader(), () -> { });
+        assertThat(cursor.forward()).isTrue();
+        assertThat(other.forward()).isTrue();
+
+        StreamingTupleCursor.closeAll(execution);
+
+        verify(stmt).close();
+        verify(otherStmt, never()).close();
+        assertThat(cursor.forward()).isFalse();
+        assertThat(other.forward()).isTrue();
+        other.close();
+    }
+
+    @Test
+    void resultLimitEndsTheCursor() throws SQLException {
+        SystemWideProperties properties = SystemWideProperties.instance();
+        int resultLimit = properties.ResultLimit;
+        properties.ResultLimit = 1;
+        try {
+            SqlStatement stmt = statement(rows.length);
+            StreamingTupleCursor cursor = new StreamingTupleCursor(
+                2, stmt, mock(Execution.class), rowReader(), () -> { });
+
+            assertThat(cursor.forward()).isTrue();
+            assertThatThrownBy(cursor::forward)
+                .isInstanceOf(ResourceLimitExceededException.class);
+            verify(stmt).close();
+        } finally {
+            properties.ResultLimit = resultLimit;
+        }
+    }
+
+    private StreamingTupleCursor.RowReader rowReader() {
+        return stmt -> {
+            Member[] row = rows[stmt.rowCount - 1];
+            return row == null ? null : List.of(row);
+        };
+    }
+
+    private static SqlStatement statement(int rowCount) throws SQLException {
+        SqlStatement stmt = mock(SqlStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(stmt.getResultSet()).thenReturn(resultSet);
+        // true for each row, then false
+        Boolean[] more = new Boolean[rowCount];
+        for (int i = 0; i < rowCount - 1; i++) {
+            more[i] = true;
+        }
+        more[rowCount - 1] = false;
+        when(resultSet.next()).thenReturn(true, more);
+        return stmt;
+    }
+}
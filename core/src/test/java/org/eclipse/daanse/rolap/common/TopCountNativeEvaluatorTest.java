@@ -25,18 +25,14 @@
 package org.eclipse.daanse.rolap.common;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.daanse.rolap.common.FunctionDefinitionMocks.mockFunctionDef;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 
-import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
-import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
 import org.eclipse.daanse.olap.api.function.FunctionDefinition;
-import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.query.component.Expression;
 import org.eclipse.daanse.olap.api.type.EmptyType;
 import org.eclipse.daanse.olap.query.component.NumericLiteralImpl;
@@ -93,7 +89,7 @@ class TopCountNativeEvaluatorTest {
         };
 
         assertThat(nativeTopCount.createEvaluator(
-            null, mockFunctionDef(), arguments, true)).as("Native evaluator should not be created when "
+            null, mockFunctionDef("TOPCOUNT"), arguments, true)).as("Native evaluator should not be created when "
             + "two parameters are passed").isNull();
     }
 
@@ -102,15 +98,4 @@ class TopCountNativeEvaluatorTest {
         nativeTopCount = spy(nativeTopCount);
         return nativeTopCount;
     }
-
-    private FunctionDefinition mockFunctionDef() {
-        FunctionDefinition topCountFunMock = mock(FunctionDefinition.class);
-        FunctionMetaData functionInformation = mock(FunctionMetaData.class);
-        OperationAtom functionAtom = new FunctionOperationAtom("TOPCOUNT");
-
-        when(topCountFunMock.getFunctionMetaData()).thenReturn(functionInformation);
-        when(functionInformation.operationAtom()).thenReturn(functionAtom);
-
-        return topCountFunMock;
-    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common.agg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.rolap.common.star.RolapStar;
+import org.eclipse.daanse.rolap.common.star.StarPredicate;
+import org.junit.jupiter.api.Test;
+
+class CellRequestTest {
+
+    @Test
+    void aggregationKeyIsReusedUntilRequestChanges() {
+        RolapStar.Measure measure =
+            mock(RolapStar.Measure.class, RETURNS_DEEP_STUBS);
+        when(measure.getStar().getColumnCount()).thenReturn(4);
+        CellRequest request = new CellRequest(measure, false, false);
+
+        AggregationKey key = request.getAggregationKey();
+        assertThat(request.getAggregationKey()).isSameAs(key);
+
+        request.addAggregateList(
+            BitKey.Factory.makeBitKey(4), mock(StarPredicate.class));
+        AggregationKey compoundKey = request.getAggregationKey();
+        assertThat(compoundKey).isNotSameAs(key);
+        assertThat(compoundKey.getCompoundPredicateList()).hasSize(1);
+        assertThat(request.getAggregationKey()).isSameAs(compoundKey);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.agg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.QueryTiming;
+import org.junit.jupiter.api.Test;
+
+class FairSqlSchedulerTest {
+
+    @Test
+    void executionsTakeTurns() throws Exception {
+        Execution heavy = execution();
+        Execution light = execution();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FairSqlScheduler scheduler = new FairSqlScheduler(executor, 1, 1);
+            CountDownLatch blocked = new CountDownLatch(1);
+            List<String> order = new ArrayList<>();
+
+            Future<?> first = scheduler.submit(heavy, () -> {
+                blocked.await();
+                return null;
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                final String name = "heavy" + i;
+                futures.add(scheduler.submit(heavy, () -> order.add(name)));
+            }
+            futures.add(scheduler.submit(light, () -> order.add("light")));
+            assertThat(scheduler.getQueuedCount()).isEqualTo(4);
+
+            blocked.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(order).containsExactly("light", "heavy1", "heavy2", "heavy3");
+            assertThat(scheduler.getDispatchCount()).isEqualTo(5);
+            assertThat(scheduler.getQueuedCount()).isZero();
+            verify(heavy.getQueryTiming(), atLeast(1))
+                .markFull(eq(FairSqlScheduler.TIMING_NAME), any(Duration.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void executionLimitLeavesThreadsToOthers() throws Exception {
+        Execution heavy = execution();
+        Execution light = execution();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            FairSqlScheduler scheduler = new FairSqlScheduler(executor, 2, 1);
+            CountDownLatch blocked = new CountDownLatch(1);
+
+            Future<?> first = scheduler.submit(heavy, () -> {
+                blocked.await();
+                return null;
+            });
+            Future<?> second = scheduler.submit(heavy, () -> null);
+            Future<String> other = scheduler.submit(light, () -> "done");
+
+            assertThat(other.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+            assertThat(second.isDone()).isFalse();
+
+            blocked.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Execution execution() {
+        Execution execution = mock(Execution.class);
+        QueryTiming timing = mock(QueryTiming.class);
+        when(execution.getQueryTiming()).thenReturn(timing);
+        return execution;
+    }
+}
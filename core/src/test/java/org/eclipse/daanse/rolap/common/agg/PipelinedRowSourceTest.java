@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common.agg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PipelinedRowSourceTest {
+
+    private static final List<BestFitColumnType> TYPES =
+        List.of(BestFitColumnType.INT, BestFitColumnType.STRING);
+
+    private final ExecutorService executor =
+        Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void handsAllRowsOverInOrder() throws SQLException {
+        AtomicInteger row = new AtomicInteger();
+        ResultSet resultSet = resultSet(row, 10, null);
+
+        SegmentLoader.PipelinedRowSource rows =
+            new SegmentLoader.PipelinedRowSource(
+                resultSet, TYPES, 3, 0L, executor);
+        for (int i = 1; i <= 10; i++) {
+            assertThat(rows.next()).isTrue();
+            assertThat(rows.getInt(1)).isEqualTo(i);
+            assertThat(rows.wasNull()).isFalse();
+            assertThat(rows.getObject(2))
+                .isEqualTo(i % 3 == 0 ? null : "v" + i);
+            assertThat(rows.wasNull()).isEqualTo(i % 3 == 0);
+        }
+        assertThat(rows.getColumnName(1)).isEqualTo("c1");
+        assertThat(rows.getColumnName(2)).isEqualTo("c2");
+        assertThat(rows.next()).isFalse();
+        assertThat(rows.next()).isFalse();
+        rows.close();
+    }
+
+    @Test
+    void fetchFailureReachesTheLoaderAfterTheRowsBeforeIt()
+        throws SQLException
+    {
+        AtomicInteger row = new AtomicInteger();
+        SQLException failure = new SQLException("connection reset");
+        ResultSet resultSet = resultSet(row, 4, failure);
+
+        SegmentLoader.PipelinedRowSource rows =
+            new SegmentLoader.PipelinedRowSource(
+                resultSet, TYPES, 3, 0L, executor);
+        for (int i = 1; i <= 4; i++) {
+            assertThat(rows.next()).isTrue();
+            assertThat(rows.getInt(1)).isEqualTo(i);
+        }
+        assertThatThrownBy(rows::next).isSameAs(failure);
+        rows.close();
+    }
+
+    @Test
+    void closingStopsTheFetchingThread() throws SQLException {
+        AtomicInteger row = new AtomicInteger();
+        ResultSet resultSet = resultSet(row, Integer.MAX_VALUE, null);
+
+        SegmentLoader.PipelinedRowSource rows =
+            new SegmentLoader.PipelinedRowSource(
+                resultSet, TYPES, 3, 0L, executor);
+        assertThat(rows.next()).isTrue();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), rows::close);
+
+        // Three batches at most were fetched, and none after the close.
+        int fetched = row.get();
+        assertThat(fetched).isLessThanOrEqualTo(3 * 3 + 1);
+        assertThat(rows.next()).isFalse();
+        assertThat(row.get()).isEqualTo(fetched);
+    }
+
+    @Test
+    void batchesAreBoundedByBytes() throws SQLException {
+        AtomicInteger row = new AtomicInteger();
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = metaData();
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            row.incrementAndGet();
+            return true;
+        });
+        when(resultSet.getInt(1)).thenAnswer(invocation -> row.get());
+        // About 2 KB a row, so that a batch of 4 KB holds 2 rows.
+        when(resultSet.getObject(2)).thenReturn("x".repeat(1000));
+
+        SegmentLoader.PipelinedRowSource rows =
+            new SegmentLoader.PipelinedRowSource(
+                resultSet, TYPES, 1000, 4096L, executor);
+        assertThat(rows.next()).isTrue();
+        rows.close();
+
+        assertThat(row.get()).isLessThanOrEqualTo(3 * 2 + 1);
+    }
+
+    /**
+     * Returns a result set of rows whose first column is the row number and
+     * whose second is a string, or null for every third row. After the last
+     * row, next fails if there is a failure.
+     */
+    private static ResultSet resultSet(
+        AtomicInteger row, int rowCount, SQLException failure)
+        throws SQLException
+    {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = metaData();
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            if (row.get() >= rowCount) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return false;
+            }
+            row.incrementAndGet();
+            return true;
+        });
+        when(resultSet.getInt(anyInt())).thenAnswer(invocation -> row.get());
+        when(resultSet.getObject(2)).thenAnswer(
+            invocation -> row.get() % 3 == 0 ? null : "v" + row.get());
+        return resultSet;
+    }
+
+    private static ResultSetMetaData metaData() throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(TYPES.size());
+        when(metaData.getColumnName(anyInt())).thenAnswer(
+            invocation -> "c" + invocation.getArgument(0));
+        return metaData;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+
+package org.eclipse.daanse.rolap.common.agg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveValueCollectorTest {
+
+    @Test
+    void intValuesAreDistinctAndSorted() {
+        PrimitiveValueCollector collector =
+            new PrimitiveValueCollector(PrimitiveValueCollector.Kind.INT);
+        TreeSet<Comparable> expected = new TreeSet<>();
+        for (int i = 0; i < 10000; i++) {
+            int value = (i * 7919) % 1000 - 500;
+            collector.add(value);
+            expected.add(value);
+        }
+
+        SortedSet<Comparable> actual = collector.toSortedSet();
+        assertThat(collector.size()).isEqualTo(expected.size());
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(actual.first()).isInstanceOf(Integer.class);
+    }
+
+    @Test
+    void longValuesKeepTheirType() {
+        PrimitiveValueCollector collector =
+            new PrimitiveValueCollector(PrimitiveValueCollector.Kind.LONG);
+        collector.add(Long.MAX_VALUE);
+        collector.add(0L);
+        collector.add(Long.MIN_VALUE);
+        collector.add(0L);
+
+        assertThat(collector.toSortedSet())
+            .containsExactly(Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void doubleValuesAreOrderedLikeTreeSet() {
+        PrimitiveValueCollector collector =
+            new PrimitiveValueCollector(PrimitiveValueCollector.Kind.DOUBLE);
+        double[] values = {2.5, -0.0, 0.0, -1.25, 2.5, 1e10};
+        TreeSet<Comparable> expected = new TreeSet<>();
+        for (double value : values) {
+            collector.add(value);
+            expected.add(value);
+        }
+
+        assertThat(collector.toSortedSet()).containsExactlyElementsOf(expected);
+    }
+}
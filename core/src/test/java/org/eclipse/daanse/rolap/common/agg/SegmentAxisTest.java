@@ -14,6 +14,10 @@ package org.eclipse.daanse.rolap.common.agg;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.daanse.olap.common.Util;
 import org.junit.jupiter.api.Test;
 
 class SegmentAxisTest {
@@ -27,4 +31,39 @@ class SegmentAxisTest {
         assertThat(SegmentAxis.isSorted(new String[]{"a", "b", "d", "c"})).isFalse();
 
     }
+
+    @Test
+    void primitiveKeysAreFoundByBinarySearch() {
+        SegmentAxis ints = new SegmentAxis(
+            LiteralStarPredicate.TRUE,
+            new TreeSet<Comparable>(List.of(12, -3, 7, 0)), true);
+        assertThat(ints.getOffset(-3)).isZero();
+        assertThat(ints.getOffset(12)).isEqualTo(3);
+        assertThat(ints.getOffset(5)).isEqualTo(-1);
+        assertThat(ints.getOffset(Util.sqlNullValue)).isEqualTo(4);
+
+        SegmentAxis longs = new SegmentAxis(
+            LiteralStarPredicate.TRUE, new Comparable[] {1L, 1L << 40});
+        assertThat(longs.getOffset(1L << 40)).isEqualTo(1);
+        assertThat(longs.getOffset(2L)).isEqualTo(-1);
+
+        SegmentAxis doubles = new SegmentAxis(
+            LiteralStarPredicate.TRUE, new Comparable[] {-0.5d, 0d, 2.25d});
+        assertThat(doubles.getOffset(2.25d)).isEqualTo(2);
+        assertThat(doubles.getOffset(0d)).isEqualTo(1);
+        assertThat(doubles.getOffset(1d)).isEqualTo(-1);
+    }
+
+    @Test
+    void primitiveLookupFallsBackToTheKeyMap() {
+        // Keys of another type than the column are looked up boxed.
+        SegmentAxis longs = new SegmentAxis(
+            LiteralStarPredicate.TRUE, new Comparable[] {1L, 2L});
+        assertThat(longs.getOffset(2)).isEqualTo(-1);
+        assertThat(longs.getOffset(2L)).isEqualTo(1);
+
+        SegmentAxis strings = new SegmentAxis(
+            LiteralStarPredicate.TRUE, new Comparable[] {"a", "b"});
+        assertThat(strings.getOffset(1)).isEqualTo(-1);
+    }
 }
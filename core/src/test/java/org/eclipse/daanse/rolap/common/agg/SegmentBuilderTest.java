@@ -48,6 +48,8 @@ import org.eclipse.daanse.olap.spi.SegmentColumn;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
 import org.eclipse.daanse.olap.util.ByteString;
 import org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.aggregator.MaxAggregator;
+import org.eclipse.daanse.rolap.aggregator.MinAggregator;
 import org.eclipse.daanse.rolap.aggregator.SumAggregator;
 import org.eclipse.daanse.rolap.common.RolapUtil;
 import org.junit.jupiter.api.AfterEach;
@@ -364,6 +366,82 @@ class SegmentBuilderTest {
         }
     }
 
+    @Test
+    void rollupDenseDoubleBodyWithMinAndMax() {
+        //
+        //  We have the following data:
+        //
+        //    col2   4   2
+        //           1.5 _
+        //            col1
+        //   So, after rolling it up to col2, we expect to get
+        //   min 1.5 2 and max 1.5 4.
+        //
+        BitSet nulls = new BitSet();
+        nulls.set(2);
+        Map<SegmentHeader, SegmentBody> segmentsMap =
+            makeDenseSegmentMap(
+                new DenseDoubleSegmentBody(
+                    nulls, new double[] {1.5, 4, 0, 2}, denseAxes()));
+
+        Pair<SegmentHeader, SegmentBody> min =
+            SegmentBuilder.rollup(
+                segmentsMap, singleton("col2"),
+                null, MinAggregator.INSTANCE, Datatype.NUMERIC,
+                1000, 0.5);
+        assertThat(min.right).isInstanceOf(DenseDoubleSegmentBody.class);
+        assertArraysAreEqual(
+            new double[] {1.5, 2}, (double[]) min.right.getValueArray());
+
+        Pair<SegmentHeader, SegmentBody> max =
+            SegmentBuilder.rollup(
+                segmentsMap, singleton("col2"),
+                null, MaxAggregator.INSTANCE, Datatype.NUMERIC,
+                1000, 0.5);
+        assertArraysAreEqual(
+            new double[] {1.5, 4}, (double[]) max.right.getValueArray());
+    }
+
+    @Test
+    void rollupDenseIntBodyKeepsIntegerType() {
+        Map<SegmentHeader, SegmentBody> segmentsMap =
+            makeDenseSegmentMap(
+                new DenseIntSegmentBody(
+                    new BitSet(), new int[] {1, 2, 3, 4}, denseAxes()));
+
+        Pair<SegmentHeader, SegmentBody> rollup =
+            SegmentBuilder.rollup(
+                segmentsMap, singleton("col1"),
+                null, SumAggregator.INSTANCE, Datatype.INTEGER,
+                1000, 0.5);
+
+        assertThat(rollup.right).isInstanceOf(DenseIntSegmentBody.class);
+        assertThat((int[]) rollup.right.getValueArray())
+            .containsExactly(3, 7);
+        assertThat(rollup.right.getNullValueIndicators().isEmpty()).isTrue();
+    }
+
+    private List<Pair<SortedSet<Comparable>, Boolean>> denseAxes() {
+        String[][] colValues = dummyColumnValues(2, 2);
+        List<Pair<SortedSet<Comparable>, Boolean>> axes = new ArrayList<>();
+        for (String[] values : colValues) {
+            axes.add(of(toSortedSet(values), false));
+        }
+        return axes;
+    }
+
+    private Map<SegmentHeader, SegmentBody> makeDenseSegmentMap(
+            SegmentBody body) {
+        List<SegmentColumn> segmentColumns = new ArrayList<>();
+        for (int i = 0; i < body.getAxisValueSets().length; i++) {
+            segmentColumns.add(new SegmentColumn(
+                    "col" + (i + 1),
+                    body.getAxisValueSets()[i].size(),
+                    body.getAxisValueSets()[i]));
+        }
+        return singletonMap(makeDummySegmentHeader(segmentColumns), body);
+    }
+
 
     enum Order {
         FORWARD, REVERSE
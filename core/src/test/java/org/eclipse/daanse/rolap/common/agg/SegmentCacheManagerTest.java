@@ -26,6 +26,8 @@
 package org.eclipse.daanse.rolap.common.agg;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -34,8 +36,10 @@ import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.daanse.olap.api.cache.CacheCommand;
@@ -44,6 +48,9 @@ import org.eclipse.daanse.olap.api.execution.ExecutionContext;
 import org.eclipse.daanse.olap.common.ConfigConstants;
 import org.eclipse.daanse.olap.execution.ExecutionImpl;
 import org.eclipse.daanse.rolap.api.RolapContext;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
+import org.eclipse.daanse.rolap.common.cache.MemorySegmentCache;
+import org.eclipse.daanse.rolap.common.star.RolapStar;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -64,6 +71,12 @@ class SegmentCacheManagerTest {
     when(context.getConfigValue(ConfigConstants.DISABLE_LOCAL_SEGMENT_CACHE, ConfigConstants.DISABLE_LOCAL_SEGMENT_CACHE_DEFAULT_VALUE, Boolean.class)).thenReturn(false);
     when(context.getConfigValue(ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_CACHE_THREADS, ConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_CACHE_THREADS_DEFAULT_VALUE, Integer.class)).thenReturn(100);
     when(context.getConfigValue(ConfigConstants.DISABLE_CACHING, ConfigConstants.DISABLE_CACHING_DEFAULT_VALUE, Boolean.class)).thenReturn(false);
+    when(context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS, RolapConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS_DEFAULT_VALUE, Integer.class)).thenReturn(1);
+    when(context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_MAXIMUM_WEIGHT, RolapConfigConstants.SEGMENT_CACHE_MAXIMUM_WEIGHT_DEFAULT_VALUE, Long.class)).thenReturn(0L);
+    when(context.getConfigValue(RolapConfigConstants.OFF_HEAP_SEGMENT_CACHE_SIZE, RolapConfigConstants.OFF_HEAP_SEGMENT_CACHE_SIZE_DEFAULT_VALUE, Long.class)).thenReturn(0L);
+    when(context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_DIRECTORY, RolapConfigConstants.SEGMENT_CACHE_DIRECTORY_DEFAULT_VALUE, String.class)).thenReturn("");
+    when(context.getConfigValue(RolapConfigConstants.SQL_STATEMENTS_PER_EXECUTION, RolapConfigConstants.SQL_STATEMENTS_PER_EXECUTION_DEFAULT_VALUE, Integer.class)).thenReturn(0);
+    when(context.getConfigValue(RolapConfigConstants.ENABLE_VIRTUAL_THREADS, RolapConfigConstants.ENABLE_VIRTUAL_THREADS_DEFAULT_VALUE, Boolean.class)).thenReturn(false);
   }
 
   @Test
@@ -76,6 +89,18 @@ class SegmentCacheManagerTest {
       assertThat(latch.getCount()).isEqualTo(0);
   }
 
+  @Test
+  void localCacheStatisticsAreExposed() {
+    SegmentCacheManager man = new SegmentCacheManager( context );
+    MemorySegmentCache.Statistics statistics = man.getLocalCacheStatistics();
+    assertThat( statistics ).isNotNull();
+    assertThat( statistics.segmentCount() ).isZero();
+    assertThat( statistics.hitRate() ).isEqualTo( 1d );
+
+    when(context.getConfigValue(ConfigConstants.DISABLE_LOCAL_SEGMENT_CACHE, ConfigConstants.DISABLE_LOCAL_SEGMENT_CACHE_DEFAULT_VALUE, Boolean.class)).thenReturn(true);
+    assertThat( new SegmentCacheManager( context ).getLocalCacheStatistics() ).isNull();
+  }
+
   @Test
   void shutdownEndOfQueue() throws Exception {
     BlockingQueue execResults = new ArrayBlockingQueue( 10 );
@@ -117,6 +142,41 @@ class SegmentCacheManagerTest {
       assertThat(results.get(19)).isInstanceOf(OlapRuntimeException.class);
   }
 
+  @Test
+  void shardedCommandsForDifferentStarsRunConcurrently() throws Exception {
+    when(context.getConfigValue(RolapConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS, RolapConfigConstants.SEGMENT_CACHE_MANAGER_NUMBER_ACTOR_SHARDS_DEFAULT_VALUE, Integer.class)).thenReturn(2);
+    SegmentCacheManager man = new SegmentCacheManager( context );
+      assertThat(man.getShardCount()).isEqualTo(2);
+
+    // "a" and "b" hash to different shards. Each command waits for the
+    // other, so they only complete if both shards run at the same time.
+    CyclicBarrier barrier = new CyclicBarrier( 2 );
+    Future<Object> first = executor.submit( () ->
+      man.execute( new MockStarCommand( star( "a" ), () -> await( barrier ) ) ) );
+    Future<Object> second = executor.submit( () ->
+      man.execute( new MockStarCommand( star( "b" ), () -> await( barrier ) ) ) );
+      assertThat(first.get( 2000, TimeUnit.MILLISECONDS )).isEqualTo("done");
+      assertThat(second.get( 2000, TimeUnit.MILLISECONDS )).isEqualTo("done");
+
+    // A command that is not bound to a star parks all shards.
+      assertThat(man.execute( new MockCommand( () -> { } ) )).isEqualTo("done");
+    man.shutdown();
+  }
+
+  private RolapStar star( String factAlias ) {
+    RolapStar star = mock( RolapStar.class, RETURNS_DEEP_STUBS );
+    when( star.getFactTable().getAlias() ).thenReturn( factAlias );
+    return star;
+  }
+
+  private void await( CyclicBarrier barrier ) {
+    try {
+      barrier.await( 1000, TimeUnit.MILLISECONDS );
+    } catch ( Exception e ) {
+      throw new IllegalStateException( e );
+    }
+  }
+
   private void executeNtimes( BlockingQueue<Object> queue, SegmentCacheManager man, int n ) {
     for ( int i = 0; i < n; i++ ) {
       executor.submit( () ->
@@ -149,6 +209,20 @@ class SegmentCacheManagerTest {
     }
   }
 
+  private class MockStarCommand extends MockCommand
+    implements SegmentCacheManager.StarCacheCommand<Object> {
+    private final RolapStar star;
+
+    MockStarCommand( RolapStar star, Runnable runnable ) {
+      super( runnable );
+      this.star = star;
+    }
+
+    @Override public RolapStar getStar() {
+      return star;
+    }
+  }
+
   private class MockCommand implements CacheCommand<Object> {
     private final Runnable runnable;
 
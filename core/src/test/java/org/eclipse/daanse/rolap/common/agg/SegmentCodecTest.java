@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.agg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentColumn;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.eclipse.daanse.olap.util.Pair;
+import org.junit.jupiter.api.Test;
+
+class SegmentCodecTest {
+
+    private static final SortedSet<Comparable> YEARS =
+        new TreeSet<>(List.of(1997, 1998));
+    private static final SortedSet<Comparable> STATES =
+        new TreeSet<>(List.of("CA", "OR", "WA"));
+
+    @Test
+    void denseDoubleBodyRoundTrips() {
+        BitSet nulls = new BitSet();
+        nulls.set(4);
+        double[] values = {1.5, 2.5, 3.5, 4.5, 0d, 6.5};
+        SegmentBody copy = roundTrip(
+            new DenseDoubleSegmentBody(nulls, values, axes()));
+
+        assertThat(copy).isInstanceOf(DenseDoubleSegmentBody.class);
+        assertThat((double[]) copy.getValueArray()).containsExactly(values);
+        assertThat(copy.getNullValueIndicators()).isEqualTo(nulls);
+        assertAxes(copy);
+    }
+
+    @Test
+    void denseIntBodyRoundTrips() {
+        BitSet nulls = new BitSet();
+        nulls.set(0);
+        int[] values = {0, 2, 3, 4, 5, 6};
+        SegmentBody copy = roundTrip(
+            new DenseIntSegmentBody(nulls, values, axes()));
+
+        assertThat(copy).isInstanceOf(DenseIntSegmentBody.class);
+        assertThat((int[]) copy.getValueArray()).containsExactly(values);
+        assertThat(copy.getNullValueIndicators()).isEqualTo(nulls);
+        assertAxes(copy);
+    }
+
+    @Test
+    void denseObjectBodyRoundTrips() {
+        Object[] values = {
+            1, 2L, 3.5d, "CA", new BigDecimal("-12.345"), null
+        };
+        SegmentBody copy = roundTrip(
+            new DenseObjectSegmentBody(values, axes()));
+
+        assertThat(copy).isInstanceOf(DenseObjectSegmentBody.class);
+        assertThat((Object[]) copy.getValueArray()).containsExactly(values);
+        assertAxes(copy);
+    }
+
+    @Test
+    void sparseBodyRoundTrips() {
+        Map<CellKey, Object> cells = new HashMap<>();
+        cells.put(CellKey.Generator.newCellKey(new int[] {0, 2}), 7.5d);
+        cells.put(CellKey.Generator.newCellKey(new int[] {1, 0}), null);
+        cells.put(
+            CellKey.Generator.newCellKey(new int[] {1, 1}),
+            new Timestamp(1_000_000L));
+        SegmentBody copy = roundTrip(new SparseSegmentBody(cells, axes()));
+
+        assertThat(copy).isInstanceOf(SparseSegmentBody.class);
+        assertThat(copy.getValueMap()).isEqualTo(cells);
+        assertAxes(copy);
+    }
+
+    @Test
+    void headerRoundTrips() {
+        SegmentHeader header = new SegmentHeader(
+            "schema",
+            new ByteString(new byte[] {1, 2, 3}),
+            "cube",
+            "measure",
+            List.of(
+                new SegmentColumn("year", 2, YEARS),
+                new SegmentColumn("state", 3, null)),
+            List.of("compound"),
+            "fact",
+            BitKey.Factory.makeBitKey(new BitSet()),
+            Collections.emptyList());
+
+        SegmentHeader copy =
+            SegmentCodec.decodeHeader(SegmentCodec.encode(header));
+        assertThat(copy).isEqualTo(header);
+        assertThat(copy.hashCode()).isEqualTo(header.hashCode());
+        assertThat(copy.getConstrainedColumns().get(1).getValues()).isNull();
+    }
+
+    @Test
+    void otherVersionIsRejected() {
+        ByteBuffer buffer = SegmentCodec.encode(
+            new DenseIntSegmentBody(new BitSet(), new int[0], List.of()));
+        buffer.put(0, (byte) (SegmentCodec.VERSION + 1));
+
+        assertThatThrownBy(() -> SegmentCodec.decodeBody(buffer))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unsupportedBodyIsRejected() {
+        assertThatThrownBy(() -> SegmentCodec.encode(mock(SegmentBody.class)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Encodes and decodes a large body a number of times. The raw arrays
+     * dominate the encoding, and a sparse body takes less space than with
+     * Java serialization.
+     */
+    @Test
+    void largeBodiesEncodeCompactly() throws IOException {
+        int cells = 1 << 20;
+        double[] values = new double[cells];
+        for (int i = 0; i < cells; i++) {
+            values[i] = i * 0.5;
+        }
+        SortedSet<Comparable> ordinals = new TreeSet<>();
+        for (int i = 0; i < 1024; i++) {
+            ordinals.add(i);
+        }
+        List<Pair<SortedSet<Comparable>, Boolean>> axes = List.of(
+            Pair.of(ordinals, false), Pair.of(ordinals, false));
+        SegmentBody body = new DenseDoubleSegmentBody(new BitSet(), values, axes);
+
+        for (int i = 0; i < 5; i++) {
+            ByteBuffer buffer = SegmentCodec.encode(body);
+            assertThat(buffer.remaining())
+                .isLessThan(8 * cells + 2 * 5 * 1024 + 64);
+            assertThat((double[]) SegmentCodec.decodeBody(buffer).getValueArray())
+                .hasSize(cells);
+        }
+
+        Map<CellKey, Object> sparse = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            sparse.put(
+                CellKey.Generator.newCellKey(new int[] {i % 1024, i / 1024}),
+                (double) i);
+        }
+        SegmentBody sparseBody = new SparseSegmentBody(sparse, axes);
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(sparseBody);
+        }
+        assertThat(SegmentCodec.encode(sparseBody).remaining())
+            .isLessThan(serialized.size());
+    }
+
+    private static List<Pair<SortedSet<Comparable>, Boolean>> axes() {
+        return List.of(Pair.of(YEARS, false), Pair.of(STATES, true));
+    }
+
+    private static SegmentBody roundTrip(SegmentBody body) {
+        return SegmentCodec.decodeBody(SegmentCodec.encode(body));
+    }
+
+    private static void assertAxes(SegmentBody copy) {
+        assertThat(copy.getAxisValueSets()[0]).containsExactlyElementsOf(YEARS);
+        assertThat(copy.getAxisValueSets()[1]).containsExactlyElementsOf(STATES);
+        assertThat(copy.getNullAxisFlags()).containsExactly(false, true);
+    }
+}
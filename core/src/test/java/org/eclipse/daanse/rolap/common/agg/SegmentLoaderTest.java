@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.agg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.rolap.common.agg.SegmentLoader.RowList;
+import org.eclipse.daanse.rolap.common.star.RolapStar;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the datasets that {@link SegmentLoader} populates from the rows of
+ * a statement, one measure after another and one measure per task.
+ */
+class SegmentLoaderTest {
+
+    private static final String[] A_KEYS = {"a0", "a1", "a2", "a3"};
+    private static final String[] B_KEYS = {"b0", "b1", "b2"};
+
+    /** Measure columns: a double, an int and an object measure. */
+    private static final List<BestFitColumnType> MEASURE_TYPES = List.of(
+        BestFitColumnType.DOUBLE, BestFitColumnType.INT,
+        BestFitColumnType.OBJECT);
+
+    private static final int ARITY = 2;
+
+    private final SegmentAxis axisA = axis(A_KEYS);
+    private final SegmentAxis axisB = axis(B_KEYS);
+
+    private final BitKey detailKey = BitKey.Factory.makeBitKey(ARITY);
+    private final BitKey rollupKey = BitKey.Factory.makeBitKey(ARITY);
+
+    private final SegmentLoader loader =
+        new SegmentLoader(mock(SegmentCacheManager.class));
+
+    SegmentLoaderTest() {
+        rollupKey.set(0);
+    }
+
+    @Test
+    void parallelPopulationEqualsSerialPopulation() {
+        GroupingSetsList groupingSetsList = groupingSetsList(false);
+        RowList rows = rows(false);
+
+        Map<BitKey, GroupingSetsList.Cohort> serial = cohorts(false);
+        loader.loadDataToDataSets(groupingSetsList, rows, serial, false);
+        Map<BitKey, GroupingSetsList.Cohort> parallel = cohorts(false);
+        loader.loadDataToDataSets(groupingSetsList, rows, parallel, true);
+
+        assertSameContents(parallel, serial);
+        assertThat(contents(serial.get(BitKey.EMPTY).segmentDatasetList.get(0)))
+            .containsEntry(List.of(1, 2), 12d)
+            .containsEntry(List.of(3, 0), 30d);
+    }
+
+    @Test
+    void parallelPopulationOfGroupingSetsEqualsSerialPopulation() {
+        GroupingSetsList groupingSetsList = groupingSetsList(true);
+        RowList rows = rows(true);
+
+        Map<BitKey, GroupingSetsList.Cohort> serial = cohorts(true);
+        loader.loadDataToDataSets(groupingSetsList, rows, serial, false);
+        Map<BitKey, GroupingSetsList.Cohort> parallel = cohorts(true);
+        loader.loadDataToDataSets(groupingSetsList, rows, parallel, true);
+
+        assertSameContents(parallel, serial);
+        assertThat(contents(serial.get(detailKey).segmentDatasetList.get(1)))
+            .containsEntry(List.of(2, 1), 21);
+        // The rows rolled up over B are in the cohort with only axis A.
+        assertThat(contents(serial.get(rollupKey).segmentDatasetList.get(0)))
+            .containsEntry(List.of(2), 1000d + 2);
+        assertThat(contents(serial.get(rollupKey).segmentDatasetList.get(2)))
+            .containsEntry(List.of(3), "total a3");
+    }
+
+    private static void assertSameContents(
+        Map<BitKey, GroupingSetsList.Cohort> actual,
+        Map<BitKey, GroupingSetsList.Cohort> expected)
+    {
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        for (BitKey key : expected.keySet()) {
+            List<SegmentDataset> expectedDatasets =
+                expected.get(key).segmentDatasetList;
+            List<SegmentDataset> actualDatasets =
+                actual.get(key).segmentDatasetList;
+            for (int j = 0; j < expectedDatasets.size(); j++) {
+                assertThat(contents(actualDatasets.get(j)))
+                    .as("cohort %s, measure %s", key, j)
+                    .isNotEmpty()
+                    .isEqualTo(contents(expectedDatasets.get(j)));
+            }
+        }
+    }
+
+    /**
+     * Returns the values of a dataset by the ordinals of their cells.
+     */
+    private static Map<List<Integer>, Object> contents(SegmentDataset dataset) {
+        Map<List<Integer>, Object> contents = new HashMap<>();
+        for (Map.Entry<CellKey, Object> entry : dataset) {
+            List<Integer> ordinals = new ArrayList<>();
+            for (int ordinal : entry.getKey().getOrdinals()) {
+                ordinals.add(ordinal);
+            }
+            contents.put(ordinals, entry.getValue());
+        }
+        return contents;
+    }
+
+    /**
+     * Returns the rows of the statement: a row for each cell but (0, 1),
+     * and, with grouping sets, a row for each A rolled up over B.
+     */
+    private RowList rows(boolean groupingSets) {
+        List<BestFitColumnType> types = new ArrayList<>();
+        types.add(BestFitColumnType.OBJECT);
+        types.add(BestFitColumnType.OBJECT);
+        types.addAll(MEASURE_TYPES);
+        if (groupingSets) {
+            types.add(BestFitColumnType.OBJECT);
+        }
+        RowList rows = new RowList(types, 4);
+        for (int a = 0; a < A_KEYS.length; a++) {
+            for (int b = 0; b < B_KEYS.length; b++) {
+                if (a == 0 && b == 1) {
+                    continue;
+                }
+                rows.createRow();
+                rows.setObject(0, A_KEYS[a]);
+                rows.setObject(1, B_KEYS[b]);
+                rows.setDouble(2, a * 10 + b);
+                rows.setInt(3, a * 10 + b);
+                rows.setObject(4, A_KEYS[a] + B_KEYS[b]);
+                if (groupingSets) {
+                    rows.setObject(5, detailKey);
+                }
+            }
+            if (groupingSets) {
+                rows.createRow();
+                rows.setObject(0, A_KEYS[a]);
+                rows.setObject(1, null);
+                rows.setDouble(2, 1000d + a);
+                rows.setInt(3, 1000 + a);
+                rows.setObject(4, "total " + A_KEYS[a]);
+                rows.setObject(5, rollupKey);
+            }
+        }
+        return rows;
+    }
+
+    private GroupingSetsList groupingSetsList(boolean groupingSets) {
+        GroupingSetsList groupingSetsList = mock(GroupingSetsList.class);
+        when(groupingSetsList.getDefaultColumns()).thenReturn(
+            new RolapStar.Column[] {
+                mock(RolapStar.Column.class), mock(RolapStar.Column.class)});
+        List<Segment> segments = new ArrayList<>();
+        for (int j = 0; j < MEASURE_TYPES.size(); j++) {
+            segments.add(mock(Segment.class));
+        }
+        when(groupingSetsList.getDefaultSegments()).thenReturn(segments);
+        when(groupingSetsList.getDefaultAxes())
+            .thenReturn(new SegmentAxis[] {axisA, axisB});
+        when(groupingSetsList.useGroupingSets()).thenReturn(groupingSets);
+        if (groupingSets) {
+            when(groupingSetsList.getGroupingBitKeyIndex())
+                .thenReturn(ARITY + MEASURE_TYPES.size());
+            when(groupingSetsList.findGroupingFunctionIndex(1)).thenReturn(0);
+        }
+        return groupingSetsList;
+    }
+
+    private Map<BitKey, GroupingSetsList.Cohort> cohorts(boolean groupingSets) {
+        Map<BitKey, GroupingSetsList.Cohort> cohorts = new LinkedHashMap<>();
+        if (!groupingSets) {
+            cohorts.put(BitKey.EMPTY, cohort(axisA, axisB));
+            return cohorts;
+        }
+        cohorts.put(detailKey, cohort(axisA, axisB));
+        cohorts.put(rollupKey, cohort(axisA));
+        return cohorts;
+    }
+
+    private static GroupingSetsList.Cohort cohort(SegmentAxis... axes) {
+        int size = 1;
+        for (SegmentAxis axis : axes) {
+            size *= axis.getKeys().length;
+        }
+        List<SegmentDataset> datasets = Arrays.asList(
+            new DenseDoubleSegmentDataset(axes, size),
+            new DenseIntSegmentDataset(axes, size),
+            new DenseObjectSegmentDataset(axes, size));
+        return new GroupingSetsList.Cohort(datasets, axes);
+    }
+
+    private static SegmentAxis axis(String[] keys) {
+        return new SegmentAxis(LiteralStarPredicate.TRUE, keys);
+    }
+}
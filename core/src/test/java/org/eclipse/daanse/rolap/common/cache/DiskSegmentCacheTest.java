@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.daanse.olap.key.BitKey;
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentCache;
+import org.eclipse.daanse.olap.spi.SegmentColumn;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.ByteString;
+import org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.common.agg.DenseDoubleSegmentBody;
+import org.eclipse.daanse.rolap.common.agg.SegmentCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskSegmentCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void segmentsSurviveReopen() throws IOException {
+        SegmentHeader kept = header("Drink");
+        SegmentHeader removed = header("Food");
+
+        DiskSegmentCache cache = new DiskSegmentCache(directory);
+        assertThat(cache.put(kept, body(1.5))).isTrue();
+        assertThat(cache.put(removed, body(2.5))).isTrue();
+        assertThat(cache.remove(removed)).isTrue();
+        cache.tearDown();
+
+        DiskSegmentCache reopened = new DiskSegmentCache(directory);
+        assertThat(reopened.getSegmentHeaders()).containsExactly(kept);
+        SegmentBody copy = reopened.get(kept);
+        assertThat((double[]) copy.getValueArray()).containsExactly(1.5, 0d);
+        assertThat(copy.getNullValueIndicators().get(1)).isTrue();
+        assertThat(reopened.get(removed)).isNull();
+        reopened.tearDown();
+    }
+
+    @Test
+    void truncatedIndexRecordIsDropped() throws IOException {
+        SegmentHeader header = header("Drink");
+        DiskSegmentCache cache = new DiskSegmentCache(directory);
+        cache.put(header, body(1.5));
+        cache.tearDown();
+
+        Path index = directory.resolve(DiskSegmentCache.INDEX_FILE);
+        long size = Files.size(index);
+        // A second record of which only the type and length were written.
+        Files.write(index, new byte[] {1, 0, 0}, StandardOpenOption.APPEND);
+
+        DiskSegmentCache reopened = new DiskSegmentCache(directory);
+        assertThat(reopened.getSegmentHeaders()).containsExactly(header);
+        assertThat(Files.size(index)).isEqualTo(size);
+        reopened.tearDown();
+    }
+
+    @Test
+    void removedSegmentsAreCompactedAway() throws IOException {
+        DiskSegmentCache cache = new DiskSegmentCache(directory);
+        for (int i = 0; i < 10; i++) {
+            SegmentHeader header = header("Family" + i);
+            cache.put(header, body(i));
+            if (i > 0) {
+                cache.remove(header);
+            }
+        }
+        cache.tearDown();
+        Path data = directory.resolve(DiskSegmentCache.DATA_FILE);
+        long size = Files.size(data);
+
+        DiskSegmentCache reopened = new DiskSegmentCache(directory);
+        assertThat(Files.size(data)).isEqualTo(size / 10);
+        assertThat((double[]) reopened.get(header("Family0")).getValueArray())
+            .containsExactly(0d, 0d);
+        reopened.tearDown();
+    }
+
+    @Test
+    void leastRecentlyUsedSegmentsAreEvictedBeyondMaximumSize()
+        throws IOException
+    {
+        long bodySize = 1 + SegmentCodec.encode(body(0)).remaining();
+        DiskSegmentCache cache =
+            new DiskSegmentCache(directory, 2 * bodySize + bodySize / 2);
+        List<SegmentHeader> deleted = new ArrayList<>();
+        cache.addListener(event -> {
+            if (event.getEventType()
+                == SegmentCache.SegmentCacheListener.SegmentCacheEvent
+                    .EventType.ENTRY_DELETED)
+            {
+                assertThat(event.isLocal()).isFalse();
+                deleted.add(event.getSource());
+            }
+        });
+        cache.put(header("Drink"), body(1));
+        cache.put(header("Food"), body(2));
+        assertThat(cache.get(header("Drink"))).isNotNull();
+        cache.put(header("Non-Consumable"), body(3));
+
+        assertThat(deleted).containsExactly(header("Food"));
+        assertThat(cache.getSegmentHeaders())
+            .containsExactlyInAnyOrder(
+                header("Drink"), header("Non-Consumable"));
+        assertThat(cache.getUsedBytes()).isEqualTo(2 * bodySize);
+        cache.tearDown();
+
+        DiskSegmentCache reopened = new DiskSegmentCache(directory);
+        assertThat(reopened.getSegmentHeaders())
+            .containsExactlyInAnyOrder(
+                header("Drink"), header("Non-Consumable"));
+        reopened.tearDown();
+    }
+
+    @Test
+    void filesAreCompactedWhileOpen() throws IOException {
+        // Bodies of 800 KB, so that two removed ones pass the minimum.
+        double[] values = new double[100_000];
+        DiskSegmentCache cache = new DiskSegmentCache(directory);
+        cache.put(header("Drink"), largeBody(values));
+        for (int i = 0; i < 3; i++) {
+            cache.put(header("Family" + i), largeBody(values));
+            cache.remove(header("Family" + i));
+        }
+        Path data = directory.resolve(DiskSegmentCache.DATA_FILE);
+        assertThat(Files.size(data))
+            .isLessThanOrEqualTo(2 * cache.getUsedBytes());
+        assertThat((double[]) cache.get(header("Drink")).getValueArray())
+            .hasSize(values.length);
+        cache.tearDown();
+    }
+
+    @Test
+    void bodiesTheCodecCannotEncodeAreSkipped() throws IOException {
+        DiskSegmentCache cache = new DiskSegmentCache(directory);
+        assertThat(cache.put(header("Drink"), mock(SegmentBody.class)))
+            .isTrue();
+        assertThat(cache.getSegmentHeaders()).isEmpty();
+        assertThat(cache.get(header("Drink"))).isNull();
+        cache.tearDown();
+    }
+
+    private static SegmentBody largeBody(double[] values) {
+        SortedSet<Comparable> keys = new TreeSet<>();
+        for (int i = 0; i < values.length; i++) {
+            keys.add(i);
+        }
+        return new DenseDoubleSegmentBody(
+            new BitSet(), values, List.of(Pair.of(keys, false)));
+    }
+
+    private static SegmentBody body(double value) {
+        SortedSet<Comparable> years = new TreeSet<>(List.of(1997, 1998));
+        BitSet nulls = new BitSet();
+        nulls.set(1);
+        return new DenseDoubleSegmentBody(
+            nulls, new double[] {value, 0d}, List.of(Pair.of(years, false)));
+    }
+
+    private static SegmentHeader header(String family) {
+        return new SegmentHeader(
+            "schema",
+            new ByteString(new byte[0]),
+            "cube",
+            "measure",
+            List.of(
+                new SegmentColumn(
+                    "family", 50, new TreeSet<>(List.of(family)))),
+            Collections.emptyList(),
+            "fact",
+            BitKey.Factory.makeBitKey(1),
+            Collections.emptyList());
+    }
+}
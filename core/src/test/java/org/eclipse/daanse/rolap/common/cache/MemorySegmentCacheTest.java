@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentCache.SegmentCacheListener.SegmentCacheEvent;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.common.agg.DenseIntSegmentBody;
+import org.junit.jupiter.api.Test;
+
+class MemorySegmentCacheTest {
+
+    @Test
+    void weightIsTwelveBytesPerCellAndAxisValue() {
+        assertThat(MemorySegmentCache.weigh(body(10))).isEqualTo(20 * 12);
+    }
+
+    @Test
+    void evictionFiresNonLocalDeleteEvent() {
+        MemorySegmentCache cache =
+            new MemorySegmentCache(2 * 20 * 12, Runnable::run);
+        List<SegmentCacheEvent> deletions = new ArrayList<>();
+        cache.addListener(event -> {
+            if (event.getEventType()
+                == SegmentCacheEvent.EventType.ENTRY_DELETED)
+            {
+                deletions.add(event);
+            }
+        });
+
+        List<SegmentHeader> headers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SegmentHeader header = mock(SegmentHeader.class);
+            headers.add(header);
+            cache.put(header, body(10));
+        }
+
+        assertThat(cache.getSegmentHeaders()).hasSize(2);
+        assertThat(deletions).hasSize(1);
+        assertThat(deletions.getFirst().isLocal()).isFalse();
+        assertThat(headers).contains(deletions.getFirst().getSource());
+        assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+        assertThat(cache.getStatistics().weightedSize())
+            .isEqualTo(2 * 20 * 12);
+    }
+
+    @Test
+    void explicitRemoveFiresLocalDeleteEvent() {
+        MemorySegmentCache cache = new MemorySegmentCache();
+        List<SegmentCacheEvent> events = new ArrayList<>();
+        cache.addListener(events::add);
+        SegmentHeader header = mock(SegmentHeader.class);
+
+        cache.put(header, body(1));
+        assertThat(cache.get(header)).isNotNull();
+        assertThat(cache.remove(header)).isTrue();
+
+        assertThat(events).extracting(SegmentCacheEvent::getEventType)
+            .containsExactly(
+                SegmentCacheEvent.EventType.ENTRY_CREATED,
+                SegmentCacheEvent.EventType.ENTRY_DELETED);
+        assertThat(events).allMatch(SegmentCacheEvent::isLocal);
+        assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+    }
+
+    private static SegmentBody body(int cellCount) {
+        SortedSet<Comparable> axisValues = new TreeSet<>();
+        for (int i = 0; i < cellCount; i++) {
+            axisValues.add(i);
+        }
+        List<Pair<SortedSet<Comparable>, Boolean>> axes =
+            List.of(Pair.of(axisValues, false));
+        return new DenseIntSegmentBody(
+            new BitSet(), new int[cellCount], axes);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentCache.SegmentCacheListener.SegmentCacheEvent;
+import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.Pair;
+import org.eclipse.daanse.rolap.common.agg.DenseDoubleSegmentBody;
+import org.eclipse.daanse.rolap.common.agg.DenseIntSegmentBody;
+import org.junit.jupiter.api.Test;
+
+class OffHeapSegmentCacheTest {
+
+    @Test
+    void denseDoubleBodyRoundTrips() {
+        SortedSet<Comparable> years = new TreeSet<>(List.of(1997, 1998));
+        SortedSet<Comparable> states = new TreeSet<>(List.of("CA", "OR", "WA"));
+        BitSet nulls = new BitSet();
+        nulls.set(4);
+        double[] values = {1.5, 2.5, 3.5, 4.5, 0d, 6.5};
+        SegmentBody body = new DenseDoubleSegmentBody(
+            nulls, values,
+            List.of(Pair.of(years, false), Pair.of(states, true)));
+
+        OffHeapSegmentCache cache = new OffHeapSegmentCache(1 << 20);
+        SegmentHeader header = mock(SegmentHeader.class);
+        assertThat(cache.put(header, body)).isTrue();
+
+        SegmentBody copy = cache.get(header);
+        assertThat(copy).isInstanceOf(DenseDoubleSegmentBody.class);
+        assertThat((double[]) copy.getValueArray()).containsExactly(values);
+        assertThat(copy.getNullValueIndicators()).isEqualTo(nulls);
+        assertThat(copy.getAxisValueSets()[0]).containsExactlyElementsOf(years);
+        assertThat(copy.getAxisValueSets()[1]).containsExactlyElementsOf(states);
+        assertThat(copy.getNullAxisFlags()).containsExactly(false, true);
+    }
+
+    @Test
+    void unsupportedBodyIsSkipped() {
+        OffHeapSegmentCache cache = new OffHeapSegmentCache(1 << 20);
+        assertThat(cache.put(mock(SegmentHeader.class), mock(SegmentBody.class)))
+            .isTrue();
+        assertThat(cache.getSegmentHeaders()).isEmpty();
+    }
+
+    @Test
+    void leastRecentlyUsedSegmentIsEvictedWhenFull() {
+        SegmentBody body = intBody(100);
+        int size = OffHeapSegmentCache.encode(body).remaining();
+        OffHeapSegmentCache cache = new OffHeapSegmentCache(2L * size);
+        List<SegmentCacheEvent> deletions = new ArrayList<>();
+        cache.addListener(event -> {
+            if (event.getEventType() == SegmentCacheEvent.EventType.ENTRY_DELETED) {
+                deletions.add(event);
+            }
+        });
+
+        SegmentHeader first = mock(SegmentHeader.class);
+        SegmentHeader second = mock(SegmentHeader.class);
+        cache.put(first, body);
+        cache.put(second, body);
+        // Reading the first segment makes the second the least recently
+        // used one.
+        assertThat(cache.get(first)).isNotNull();
+        cache.put(mock(SegmentHeader.class), body);
+
+        assertThat(cache.contains(first)).isTrue();
+        assertThat(cache.contains(second)).isFalse();
+        assertThat(cache.getSegmentHeaders()).hasSize(2);
+        assertThat(cache.getUsedBytes()).isEqualTo(2L * size);
+        assertThat(deletions).hasSize(1);
+        assertThat(deletions.getFirst().getSource()).isSameAs(second);
+        assertThat(deletions.getFirst().isLocal()).isFalse();
+    }
+
+    @Test
+    void memoryIsFreedOnRemoveAndEviction() {
+        SegmentBody body = intBody(100);
+        int size = OffHeapSegmentCache.encode(body).remaining();
+        OffHeapSegmentCache cache = new OffHeapSegmentCache(2L * size);
+
+        SegmentHeader first = mock(SegmentHeader.class);
+        cache.put(first, body);
+        cache.put(mock(SegmentHeader.class), body);
+        cache.put(mock(SegmentHeader.class), body);
+        assertThat(cache.getAllocatedBytes()).isEqualTo(2L * size);
+
+        cache.remove(cache.getSegmentHeaders().getFirst());
+        assertThat(cache.getAllocatedBytes()).isEqualTo(size);
+        assertThat(cache.get(first)).isNull();
+
+        cache.tearDown();
+        assertThat(cache.getAllocatedBytes()).isZero();
+    }
+
+    private static SegmentBody intBody(int cellCount) {
+        SortedSet<Comparable> axisValues = new TreeSet<>();
+        int[] values = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            axisValues.add((long) i);
+            values[i] = i * 3;
+        }
+        return new DenseIntSegmentBody(
+            new BitSet(), values, List.of(Pair.of(axisValues, false)));
+    }
+}
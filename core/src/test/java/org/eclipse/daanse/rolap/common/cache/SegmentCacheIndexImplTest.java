@@ -24,10 +24,25 @@
 
 package org.eclipse.daanse.rolap.common.cache;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.daanse.olap.key.BitKey;
 import org.eclipse.daanse.olap.spi.SegmentBody;
+import org.eclipse.daanse.olap.spi.SegmentColumn;
 import org.eclipse.daanse.olap.spi.SegmentHeader;
+import org.eclipse.daanse.olap.util.ByteString;
 import org.junit.jupiter.api.Test;
 
 class SegmentCacheIndexImplTest {
@@ -42,4 +57,113 @@ class SegmentCacheIndexImplTest {
         // This should not fail.
         index.loadSucceeded(header, body);
     }
+
+    @Test
+    void locateFindsMatchingHeadersAmongMany() {
+        final SegmentCacheIndexImpl index =
+            new SegmentCacheIndexImpl(Thread.currentThread());
+        final List<SegmentHeader> headers = new ArrayList<>();
+        for (int family = 0; family < 50; family++) {
+            for (int month = 1; month <= 12; month++) {
+                final SegmentHeader header = header(family, month);
+                headers.add(header);
+                index.add(header, null, false);
+            }
+        }
+        // A segment covering all months of family 7.
+        final SegmentHeader wildcard = header(7, null);
+        index.add(wildcard, null, false);
+
+        assertThat(locate(index, "family7", 3))
+            .containsExactly(headers.get(7 * 12 + 2), wildcard);
+        assertThat(locate(index, "family8", 3))
+            .containsExactly(headers.get(8 * 12 + 2));
+        assertThat(locate(index, "family99", 3)).isEmpty();
+
+        index.remove(headers.get(7 * 12 + 2));
+        assertThat(locate(index, "family7", 3)).containsExactly(wildcard);
+        for (SegmentHeader header : headers) {
+            index.remove(header);
+        }
+        assertThat(locate(index, "family7", 3)).containsExactly(wildcard);
+    }
+
+    @Test
+    void locateConcurrentlyReadsIndexWhileOwnerModifiesIt() throws Exception {
+        final SegmentCacheIndexImpl index =
+            new SegmentCacheIndexImpl(Thread.currentThread());
+        final SegmentHeader wildcard = header(7, null);
+        index.add(wildcard, null, false);
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Another thread keeps looking up a cell that the wildcard
+            // header always contains, while this thread adds and removes
+            // other headers.
+            final Future<Integer> reader = executor.submit(() -> {
+                int lookups = 0;
+                while (!done.get() || lookups == 0) {
+                    assertThat(locateConcurrently(index, "family7", 3))
+                        .contains(wildcard);
+                    ++lookups;
+                }
+                return lookups;
+            });
+            for (int round = 0; round < 20; round++) {
+                final List<SegmentHeader> headers = new ArrayList<>();
+                for (int month = 1; month <= 12; month++) {
+                    final SegmentHeader header = header(round, month);
+                    headers.add(header);
+                    index.add(header, null, false);
+                }
+                for (SegmentHeader header : headers) {
+                    index.remove(header);
+                }
+            }
+            done.set(true);
+            assertThat(reader.get(10, TimeUnit.SECONDS)).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(locateConcurrently(index, "family7", 3))
+            .containsExactly(wildcard);
+    }
+
+    private static List<SegmentHeader> locateConcurrently(
+        SegmentCacheIndexImpl index, String family, int month)
+    {
+        return index.locateConcurrently(
+            "schema", new ByteString(new byte[0]), "cube", "measure",
+            "fact", BitKey.Factory.makeBitKey(2),
+            Map.of("family", family, "month", month),
+            Collections.emptyList());
+    }
+
+    private static List<SegmentHeader> locate(
+        SegmentCacheIndexImpl index, String family, int month)
+    {
+        return index.locate(
+            "schema", new ByteString(new byte[0]), "cube", "measure",
+            "fact", BitKey.Factory.makeBitKey(2),
+            Map.of("family", family, "month", month),
+            Collections.emptyList());
+    }
+
+    private static SegmentHeader header(int family, Integer month) {
+        return new SegmentHeader(
+            "schema",
+            new ByteString(new byte[0]),
+            "cube",
+            "measure",
+            List.of(
+                new SegmentColumn(
+                    "family", 50, new TreeSet<>(List.of("family" + family))),
+                new SegmentColumn(
+                    "month", 12,
+                    month == null ? null : new TreeSet<>(List.of(month)))),
+            Collections.emptyList(),
+            "fact",
+            BitKey.Factory.makeBitKey(2),
+            Collections.emptyList());
+    }
 }
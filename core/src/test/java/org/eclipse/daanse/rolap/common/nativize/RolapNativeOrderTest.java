@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.nativize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.DelegatingTupleList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the tuples that native Order, Head and Tail return with those
+ * the interpreter returns.
+ *
+ * The native tuples are those of the SQL statement, which orders by the
+ * value and then by the level keys. The interpreter sorts the set, which is
+ * in key order, stably by value.
+ */
+class RolapNativeOrderTest {
+
+    /** Values of the members, in key order; several are tied. */
+    private static final int[] VALUES = {5, 3, 5, 1, 3, 5, 2, 1};
+
+    private final List<Member> members = new ArrayList<>();
+    private final Map<Member, Integer> values = new HashMap<>();
+    private final Map<Member, Integer> keys = new HashMap<>();
+
+    RolapNativeOrderTest() {
+        for (int i = 0; i < VALUES.length; i++) {
+            Member member = mock(Member.class);
+            when(member.getName()).thenReturn("m" + i);
+            members.add(member);
+            values.put(member, VALUES[i]);
+            keys.put(member, i);
+        }
+    }
+
+    @Test
+    void tailKeepsTheOrderOfTiedTuples() {
+        for (boolean descending : new boolean[] {false, true}) {
+            List<Member> ordered = interpretedOrder(descending);
+            for (int count = 1; count <= VALUES.length + 1; count++) {
+                List<Member> expected = ordered.subList(
+                    Math.max(0, ordered.size() - count), ordered.size());
+
+                TupleList tail = RolapNativeOrder.lastTuples(
+                    tuples(sqlOrder(descending)), count);
+
+                assertThat(tail.slice(0))
+                    .as("Tail, descending %s, count %s", descending, count)
+                    .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void headKeepsTheOrderOfTiedTuples() {
+        for (boolean descending : new boolean[] {false, true}) {
+            List<Member> ordered = interpretedOrder(descending);
+            for (int count = 1; count <= VALUES.length; count++) {
+                assertThat(sqlOrder(descending).subList(0, count))
+                    .as("Head, descending %s, count %s", descending, count)
+                    .containsExactlyElementsOf(ordered.subList(0, count));
+            }
+        }
+    }
+
+    /**
+     * Reading the reverse order, and reversing it, would also reverse the
+     * tied tuples, which the interpreter does not.
+     */
+    @Test
+    void reversingTheReverseOrderReversesTiedTuples() {
+        List<Member> reversed = new ArrayList<>(sqlOrder(true));
+        Collections.reverse(reversed);
+
+        assertThat(reversed).isNotEqualTo(interpretedOrder(false));
+    }
+
+    private List<Member> interpretedOrder(boolean descending) {
+        Comparator<Member> byValue =
+            Comparator.comparing(values::get);
+        List<Member> ordered = new ArrayList<>(members);
+        ordered.sort(descending ? byValue.reversed() : byValue);
+        return ordered;
+    }
+
+    /**
+     * Returns the members in the order of {@code ORDER BY value, key}.
+     */
+    private List<Member> sqlOrder(boolean descending) {
+        Comparator<Member> byValue =
+            Comparator.comparing(values::get);
+        List<Member> ordered = new ArrayList<>(members);
+        ordered.sort(
+            (descending ? byValue.reversed() : byValue)
+                .thenComparing(keys::get));
+        return ordered;
+    }
+
+    private static TupleList tuples(List<Member> members) {
+        List<List<Member>> tuples = new ArrayList<>();
+        for (Member member : members) {
+            tuples.add(List.of(member));
+        }
+        return new DelegatingTupleList(1, tuples);
+    }
+}
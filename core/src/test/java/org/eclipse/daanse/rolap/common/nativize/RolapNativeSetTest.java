@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.nativize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.DelegatingTupleList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the list of tuples that native sets return when their tuples may be
+ * counted in SQL rather than read.
+ */
+class RolapNativeSetTest {
+
+    private final TupleList tuples = tuples(5);
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    void sizeIsCountedWithoutReadingTheTuples() {
+        TupleList list = countableList(5);
+
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(counts.get()).isEqualTo(1);
+        assertThat(reads.get()).isZero();
+    }
+
+    @Test
+    void tuplesAreReadOnceWhenAccessed() {
+        TupleList list = countableList(5);
+
+        assertThat(list.get(2)).isEqualTo(tuples.get(2));
+        assertThat(list).containsExactlyElementsOf(tuples);
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(counts.get()).isZero();
+    }
+
+    @Test
+    void tuplesAreReadIfTheyCannotBeCounted() {
+        TupleList list = countableList(-1);
+
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(counts.get()).isEqualTo(1);
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    private TupleList countableList(int count) {
+        return new DelegatingTupleList(1, new RolapNativeSet.CountableList(
+            () -> {
+                counts.incrementAndGet();
+                return count;
+            },
+            () -> {
+                reads.incrementAndGet();
+                return tuples;
+            }));
+    }
+
+    private static TupleList tuples(int size) {
+        List<List<Member>> tuples = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tuples.add(List.of(mock(Member.class)));
+        }
+        return new DelegatingTupleList(1, tuples);
+    }
+}
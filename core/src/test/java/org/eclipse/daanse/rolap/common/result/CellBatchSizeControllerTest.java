@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.eclipse.daanse.rolap.common.result.CellBatchSizeController.Decision;
+import org.eclipse.daanse.rolap.common.result.CellBatchSizeController.Reason;
+import org.eclipse.daanse.rolap.util.MemoryMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CellBatchSizeControllerTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+
+    private MemoryMonitor memoryMonitor;
+
+    @BeforeEach
+    void beforeEach() {
+        memoryMonitor = mock(MemoryMonitor.class);
+        when(memoryMonitor.getMaxMemory()).thenReturn(1000L);
+        when(memoryMonitor.getUsedMemory()).thenReturn(100L);
+        when(memoryMonitor.getLiveMemory()).thenReturn(100L);
+    }
+
+    @Test
+    void fullFastBatchGrows() {
+        CellBatchSizeController controller = new CellBatchSizeController(1000, memoryMonitor);
+
+        Decision decision = controller.batchLoaded(1000, 50, 1000, FAST);
+        assertThat(decision.reason()).isEqualTo(Reason.GROWTH);
+        assertThat(controller.size()).isEqualTo(2000);
+
+        controller.batchLoaded(2000, 19000, 2000, FAST);
+        assertThat(controller.size()).isEqualTo(8000);
+    }
+
+    @Test
+    void partialBatchKeepsSize() {
+        CellBatchSizeController controller = new CellBatchSizeController(1000, memoryMonitor);
+
+        assertThat(controller.batchLoaded(10, 0, 10, FAST).reason()).isEqualTo(Reason.NONE);
+        assertThat(controller.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void slowBatchShrinks() {
+        CellBatchSizeController controller = new CellBatchSizeController(1000, memoryMonitor);
+
+        Decision decision = controller.batchLoaded(
+            1000, 0, 1000, CellBatchSizeController.TARGET_DURATION.plusSeconds(1));
+        assertThat(decision.reason()).isEqualTo(Reason.LATENCY);
+        assertThat(decision.previous()).isEqualTo(1000);
+        assertThat(controller.size()).isEqualTo(500);
+    }
+
+    @Test
+    void fullHeapShrinksDownToMinimum() {
+        when(memoryMonitor.getUsedMemory()).thenReturn(950L);
+        when(memoryMonitor.getLiveMemory()).thenReturn(950L);
+        CellBatchSizeController controller = new CellBatchSizeController(1600, memoryMonitor);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(controller.batchLoaded(1600, 0, 1600, FAST).reason())
+                .isEqualTo(Reason.HEAP);
+        }
+        assertThat(controller.size()).isEqualTo(100);
+    }
+
+    @Test
+    void garbageDoesNotShrink() {
+        when(memoryMonitor.getUsedMemory()).thenReturn(950L);
+        CellBatchSizeController controller = new CellBatchSizeController(1000, memoryMonitor);
+
+        assertThat(controller.batchLoaded(1000, 0, 1000, FAST).reason())
+            .isEqualTo(Reason.GROWTH);
+    }
+
+    @Test
+    void growthIsBounded() {
+        CellBatchSizeController controller = new CellBatchSizeController(1000, memoryMonitor);
+
+        for (int i = 0; i < 10; i++) {
+            controller.batchLoaded(controller.size(), 0, controller.size(), FAST);
+        }
+        assertThat(controller.size()).isEqualTo(16000);
+    }
+}
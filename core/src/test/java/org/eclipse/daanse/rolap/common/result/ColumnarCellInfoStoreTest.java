@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.rolap.common.result.RolapResult.CellInfo;
+import org.eclipse.daanse.rolap.common.result.RolapResult.ColumnarCellInfoStore;
+import org.junit.jupiter.api.Test;
+
+class ColumnarCellInfoStoreTest {
+
+    @Test
+    void storedCellsAreReconstructed() {
+        ColumnarCellInfoStore cellInfos = new ColumnarCellInfoStore(new int[] {3, 4});
+
+        store(cellInfos, new int[] {0, 0}, 1.5d, "#,##0.00");
+        store(cellInfos, new int[] {2, 3}, "Drink", null);
+        store(cellInfos, new int[] {1, 2}, Util.nullValue, "#,##0.00");
+
+        assertThat(cellInfos.size()).isEqualTo(3);
+        CellInfo number = cellInfos.lookup(new int[] {0, 0});
+        assertThat(number.value).isEqualTo(1.5d);
+        assertThat(number.formatString).isEqualTo("#,##0.00");
+        CellInfo string = cellInfos.lookup(new int[] {2, 3});
+        assertThat(string.value).isEqualTo("Drink");
+        assertThat(string.formatString).isNull();
+        assertThat(cellInfos.lookup(new int[] {1, 2}).value).isSameAs(Util.nullValue);
+        assertThat(cellInfos.lookup(new int[] {2, 0}).value).isNull();
+    }
+
+    @Test
+    void overwrittenCellKeepsLastValue() {
+        ColumnarCellInfoStore cellInfos = new ColumnarCellInfoStore(new int[] {2});
+
+        store(cellInfos, new int[] {1}, "Food", null);
+        store(cellInfos, new int[] {1}, 7d, null);
+
+        assertThat(cellInfos.size()).isEqualTo(1);
+        assertThat(cellInfos.lookup(new int[] {1}).value).isEqualTo(7d);
+
+        cellInfos.clear();
+        assertThat(cellInfos.size()).isZero();
+        assertThat(cellInfos.lookup(new int[] {1}).value).isNull();
+    }
+
+    @Test
+    void oversizedGridDoesNotFit() {
+        assertThat(ColumnarCellInfoStore.fits(new int[] {1000, 1000})).isTrue();
+        assertThat(ColumnarCellInfoStore.fits(new int[] {100000, 100000})).isFalse();
+        assertThat(ColumnarCellInfoStore.fits(new int[0])).isTrue();
+    }
+
+    private static void store(
+        ColumnarCellInfoStore cellInfos, int[] pos, Object value, String formatString) {
+        CellInfo ci = cellInfos.create(pos);
+        ci.value = value;
+        ci.formatString = formatString;
+        cellInfos.store(ci);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.daanse.rolap.common.result.RolapResult.CellInfo;
+import org.eclipse.daanse.rolap.common.result.RolapResult.ConcurrentCellInfoMap;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCellInfoMapTest {
+
+    @Test
+    void createdCellsAreSharedAcrossThreads() throws Exception {
+        ConcurrentCellInfoMap cellInfos = new ConcurrentCellInfoMap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    int[] pos = new int[5];
+                    for (int i = 0; i < 100; i++) {
+                        pos[0] = i;
+                        pos[4] = i % 10;
+                        cellInfos.create(pos).value = thread;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cellInfos.size()).isEqualTo(100);
+        CellInfo cell = cellInfos.lookup(new int[] {42, 0, 0, 0, 2});
+        assertThat(cell.value).isNotNull();
+        assertThat(cellInfos.size()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.Statement;
+import org.junit.jupiter.api.Test;
+
+class ExecutionWatcherTest {
+
+    @Test
+    void taskIsCanceledAtDeadline() throws Exception {
+        // The polling period is far longer than the timeout, so only the
+        // check at the deadline can cancel the task in time.
+        ExecutionWatcher watcher = new ExecutionWatcher("test", 60_000);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+            Execution execution = execution(50);
+            when(execution.isCancelOrTimeout())
+                .thenAnswer(invocation -> System.nanoTime() >= deadline);
+            CompletableFuture<Void> task = new CompletableFuture<>();
+
+            ExecutionWatcher.Watch watch = watcher.watch(execution, task);
+            assertThat(watcher.watchOf(execution)).isSameAs(watch);
+
+            long start = System.nanoTime();
+            while (!task.isDone()
+                && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10))
+            {
+                Thread.sleep(5);
+            }
+            assertThat(task.isCancelled()).isTrue();
+            assertThat(watch.isStopped()).isTrue();
+
+            watcher.unwatch(watch);
+            assertThat(watcher.watchOf(execution)).isNull();
+        } finally {
+            watcher.shutdown();
+        }
+    }
+
+    @Test
+    void rowsAreCheckedAtInterval() {
+        ExecutionWatcher watcher = new ExecutionWatcher("test", 60_000);
+        try {
+            Execution execution = execution(0);
+            when(execution.isCancelOrTimeout()).thenReturn(false);
+            ExecutionWatcher.Watch watch =
+                watcher.watch(execution, new CompletableFuture<Void>());
+
+            RowCancellationChecker checker =
+                new RowCancellationChecker(execution, watch, 100);
+            for (int row = 1; row <= 400; row++) {
+                checker.check(row);
+            }
+            verify(execution, times(4)).isCancelOrTimeout();
+            verify(execution, never()).checkCancelOrTimeout();
+            watcher.unwatch(watch);
+        } finally {
+            watcher.shutdown();
+        }
+    }
+
+    @Test
+    void cancelIsSeenBeforeTheWatcherChecks() {
+        // The watcher would only notice the cancel after a minute.
+        ExecutionWatcher watcher = new ExecutionWatcher("test", 60_000);
+        try {
+            Execution execution = execution(0);
+            when(execution.isCancelOrTimeout()).thenReturn(false);
+            ExecutionWatcher.Watch watch =
+                watcher.watch(execution, new CompletableFuture<Void>());
+            RowCancellationChecker checker =
+                new RowCancellationChecker(execution, watch, 100);
+            checker.check(100);
+
+            when(execution.isCancelOrTimeout()).thenReturn(true);
+            checker.check(150);
+            verify(execution, never()).checkCancelOrTimeout();
+            checker.check(200);
+            assertThat(watch.isStopped()).isFalse();
+            verify(execution, times(1)).checkCancelOrTimeout();
+            watcher.unwatch(watch);
+        } finally {
+            watcher.shutdown();
+        }
+    }
+
+    @Test
+    void watchesAreKeptPerWatcher() {
+        ExecutionWatcher watcher = new ExecutionWatcher("test", 60_000);
+        ExecutionWatcher other = new ExecutionWatcher("other", 60_000);
+        try {
+            Execution execution = execution(0);
+            ExecutionWatcher.Watch watch =
+                watcher.watch(execution, new CompletableFuture<Void>());
+
+            assertThat(watcher.watchOf(execution)).isSameAs(watch);
+            assertThat(other.watchOf(execution)).isNull();
+            watcher.unwatch(watch);
+        } finally {
+            watcher.shutdown();
+            other.shutdown();
+        }
+    }
+
+    private static Execution execution(long timeoutMillis) {
+        Statement statement = mock(Statement.class);
+        when(statement.getQueryTimeoutMillis()).thenReturn(timeoutMillis);
+        Execution execution = mock(Execution.class);
+        when(execution.getDaanseStatement()).thenReturn(statement);
+        when(execution.getElapsedMillis()).thenReturn(Duration.ZERO);
+        return execution;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.common.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.daanse.olap.api.exception.CellRequestQuantumExceededException;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.ExecutionContext;
+import org.eclipse.daanse.olap.common.ConfigConstants;
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.execution.ExecutionImpl;
+import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.rolap.common.RolapConfigConstants;
+import org.eclipse.daanse.rolap.common.agg.AggregationManager;
+import org.eclipse.daanse.rolap.common.agg.CellRequest;
+import org.eclipse.daanse.rolap.common.evaluator.RolapEvaluator;
+import org.eclipse.daanse.rolap.common.result.RolapResult.CellInfo;
+import org.eclipse.daanse.rolap.common.result.RolapResult.CellInfoContainer;
+import org.eclipse.daanse.rolap.common.result.RolapResult.ColumnarCellInfoStore;
+import org.eclipse.daanse.rolap.common.result.RolapResult.ConcurrentCellInfoMap;
+import org.eclipse.daanse.rolap.element.RolapCube;
+import org.eclipse.daanse.rolap.util.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Evaluates the cells of a query grid as {@link RolapResult} does, once on
+ * the calling thread and once in ranges of the outermost axis on an
+ * executor, and compares the results.
+ *
+ * The first pass records a cell request for each cell, as the batching
+ * reader does before the aggregations are loaded; the second pass stores
+ * the values.
+ */
+class ParallelCellEvaluationTest {
+
+    private static final int[] AXIS_SIZES = {6, 11, 37};
+
+    private static final int CELL_BATCH_SIZE = 50;
+
+    private static final int CELL_COUNT = 6 * 11 * 37;
+
+    private final CellRequest request = mock(CellRequest.class);
+
+    @Test
+    void parallelEvaluationGivesTheCellsOfSerialEvaluation() {
+        Evaluation serial = evaluate(false);
+        Evaluation parallel = evaluate(true);
+
+        assertThat(serial.reader().getMissCount()).isEqualTo(CELL_COUNT);
+        assertThat(parallel.reader().getMissCount())
+            .isEqualTo(serial.reader().getMissCount());
+        assertThat(parallel.reader().isDirty()).isTrue();
+        assertThat(parallel.quanta()).isEqualTo(serial.quanta())
+            .isEqualTo(CELL_COUNT / CELL_BATCH_SIZE);
+
+        assertThat(parallel.cells().size()).isEqualTo(CELL_COUNT);
+        assertThat(serial.cells().size()).isEqualTo(CELL_COUNT);
+        int[] pos = new int[AXIS_SIZES.length];
+        for (pos[2] = 0; pos[2] < AXIS_SIZES[2]; pos[2]++) {
+            for (pos[1] = 0; pos[1] < AXIS_SIZES[1]; pos[1]++) {
+                for (pos[0] = 0; pos[0] < AXIS_SIZES[0]; pos[0]++) {
+                    assertThat(parallel.cells().lookup(pos).value)
+                        .as("cell %s %s %s", pos[0], pos[1], pos[2])
+                        .isEqualTo(serial.cells().lookup(pos).value)
+                        .isEqualTo(value(pos));
+                }
+            }
+        }
+    }
+
+    @Test
+    void failureOfARangeIsRethrown() {
+        ExecutorService executor = new VirtualThreadExecutor("test", 4);
+        AtomicInteger evaluated = new AtomicInteger();
+        try {
+            assertThatThrownBy(() -> RolapResult.executeRanges(
+                executor, 1, 100, 8, new AtomicReference<>(),
+                (start, end) -> () -> {
+                    for (int i = start; i < end; i++) {
+                        if (i == 50) {
+                            throw new IllegalStateException("cell " + i);
+                        }
+                        evaluated.incrementAndGet();
+                    }
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("cell 50");
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(evaluated.get()).isLessThan(99);
+    }
+
+    /**
+     * Each range gets its own evaluator, pushed on the calling thread, and its
+     * own cell position; the loaded segments are registered and the range is
+     * evaluated in the execution's context on the thread of the task.
+     */
+    @Test
+    void rangeTasksEvaluateWithTheirOwnEvaluatorOnTheExecutor() {
+        Thread caller = Thread.currentThread();
+        RolapEvaluator evaluator = mock(RolapEvaluator.class);
+        Set<Thread> pushThreads = ConcurrentHashMap.newKeySet();
+        when(evaluator.push()).thenAnswer(invocation -> {
+            pushThreads.add(Thread.currentThread());
+            return mock(RolapEvaluator.class);
+        });
+        FastBatchingCellReader reader = spy(reader());
+        Set<Thread> registerThreads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            registerThreads.add(Thread.currentThread());
+            return null;
+        }).when(reader).registerLoadedSegments();
+        ExecutionImpl execution = new ExecutionImpl(null, Optional.empty());
+        CellKey point = CellKey.Generator.newCellKey(AXIS_SIZES.length);
+
+        Map<Integer, RolapEvaluator> evaluators = new ConcurrentHashMap<>();
+        List<CellKey> points = new CopyOnWriteArrayList<>();
+        Set<Thread> evaluationThreads = ConcurrentHashMap.newKeySet();
+        AtomicInteger evaluated = new AtomicInteger();
+        ExecutorService executor = new VirtualThreadExecutor("test", 4);
+        try {
+            RolapResult.executeRanges(
+                executor, 1, AXIS_SIZES[2], 8, new AtomicReference<>(),
+                RolapResult.rangeTasks(
+                    evaluator, point, reader, execution.asContext(),
+                    (rangeEvaluator, rangePoint, start, end) -> {
+                        assertThat(ExecutionContext.current().getExecution())
+                            .isSameAs(execution);
+                        evaluators.put(start, rangeEvaluator);
+                        points.add(rangePoint);
+                        evaluationThreads.add(Thread.currentThread());
+                        evaluated.addAndGet(end - start);
+                    }));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(evaluated.get()).isEqualTo(AXIS_SIZES[2] - 1);
+        assertThat(evaluators).hasSize(8);
+        assertThat(Set.copyOf(evaluators.values())).hasSize(8)
+            .doesNotContain(evaluator);
+        Set<CellKey> distinctPoints =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctPoints.addAll(points);
+        assertThat(distinctPoints).hasSize(8).doesNotContain(point);
+        verify(evaluator, times(8)).push();
+        assertThat(pushThreads).containsExactly(caller);
+        verify(reader, times(8)).registerLoadedSegments();
+        assertThat(registerThreads).doesNotContain(caller);
+        assertThat(evaluationThreads).doesNotContain(caller);
+    }
+
+    private record Evaluation(
+        FastBatchingCellReader reader, CellInfoContainer cells, int quanta)
+    {
+    }
+
+    private Evaluation evaluate(boolean parallel) {
+        FastBatchingCellReader reader = reader();
+        CellInfoContainer cells = parallel
+            ? new ConcurrentCellInfoMap()
+            : new ColumnarCellInfoStore(AXIS_SIZES);
+        AtomicInteger quanta = new AtomicInteger();
+        ExecutorService executor = new VirtualThreadExecutor("test", 4);
+        try {
+            for (boolean loaded : new boolean[] {false, true}) {
+                int outermost = AXIS_SIZES[AXIS_SIZES.length - 1];
+                if (parallel) {
+                    evaluatePositions(reader, cells, quanta, loaded, 0, 1);
+                    RolapResult.executeRanges(
+                        executor, 1, outermost, 8, new AtomicReference<>(),
+                        (start, end) -> () -> evaluatePositions(
+                            reader, cells, quanta, loaded, start, end));
+                } else {
+                    evaluatePositions(
+                        reader, cells, quanta, loaded, 0, outermost);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new Evaluation(reader, cells, quanta.get());
+    }
+
+    /**
+     * Evaluates the cells at the positions from {@code start} to
+     * {@code end} of the outermost axis.
+     */
+    private void evaluatePositions(
+        FastBatchingCellReader reader, CellInfoContainer cells,
+        AtomicInteger quanta, boolean loaded, int start, int end)
+    {
+        int[] pos = new int[AXIS_SIZES.length];
+        for (pos[2] = start; pos[2] < end; pos[2]++) {
+            for (pos[1] = 0; pos[1] < AXIS_SIZES[1]; pos[1]++) {
+                for (pos[0] = 0; pos[0] < AXIS_SIZES[0]; pos[0]++) {
+                    CellInfo ci = cells.create(pos);
+                    if (loaded) {
+                        ci.value = value(pos);
+                    } else {
+                        try {
+                            reader.recordCellRequest(request);
+                        } catch (CellRequestQuantumExceededException e) {
+                            quanta.incrementAndGet();
+                        }
+                        ci.value = Util.valueNotReadyException;
+                    }
+                    cells.store(ci);
+                }
+            }
+        }
+    }
+
+    private static Object value(int[] pos) {
+        return (double) (pos[0] * 1000 + pos[1] * 10 + pos[2] % 7);
+    }
+
+    private static FastBatchingCellReader reader() {
+        Execution execution = mock(Execution.class, RETURNS_DEEP_STUBS);
+        RolapCube cube = mock(RolapCube.class, RETURNS_DEEP_STUBS);
+        when(cube.getCatalog().getInternalConnection().getContext()
+            .getConfigValue(eq(ConfigConstants.DISABLE_CACHING), any(),
+                eq(Boolean.class))).thenReturn(false);
+        when(cube.getCatalog().getInternalConnection().getContext()
+            .getConfigValue(eq(ConfigConstants.CELL_BATCH_SIZE), any(),
+                eq(Integer.class))).thenReturn(CELL_BATCH_SIZE);
+        when(cube.getCatalog().getInternalConnection().getContext()
+            .getConfigValue(
+                eq(RolapConfigConstants.ENABLE_ADAPTIVE_CELL_BATCH_SIZE),
+                any(), eq(Boolean.class))).thenReturn(false);
+        return new FastBatchingCellReader(
+            execution, cube, mock(AggregationManager.class));
+    }
+}
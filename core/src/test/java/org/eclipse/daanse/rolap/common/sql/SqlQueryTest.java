@@ -14,11 +14,17 @@ package org.eclipse.daanse.rolap.common.sql;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.daanse.jdbc.db.dialect.api.Dialect;
 import org.eclipse.daanse.jdbc.db.dialect.api.type.BestFitColumnType;
+import org.eclipse.daanse.jdbc.db.dialect.api.type.Datatype;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -202,4 +208,57 @@ class SqlQueryTest {
         sqlQuery.addFromTable("schema", "table", null, null, null, false);
         // No exception should be thrown
     }
+
+    @Test
+    void testParameterizedQueryBindsLiterals() {
+        doAnswer(invocation -> {
+            StringBuilder buf = invocation.getArgument(0);
+            buf.append('\'').append((Object) invocation.getArgument(1)).append('\'');
+            return null;
+        }).when(dialect).quote(any(StringBuilder.class), any(), any(Datatype.class));
+        sqlQuery.setParameterized(true);
+        sqlQuery.addSelect("x", BestFitColumnType.INT, "c0");
+        sqlQuery.addFromQuery("select 1", "t", false);
+        for (Object value : new Object[] {"a", 5, "a"}) {
+            StringBuilder buf = new StringBuilder("x = ");
+            sqlQuery.appendLiteral(
+                buf, value, value instanceof String ? Datatype.VARCHAR : Datatype.INTEGER);
+            sqlQuery.addWhere(buf.toString());
+        }
+
+        assertThat(sqlQuery.toString()).contains("where x = 'a' and x = '5'");
+
+        List<SqlQuery.BindValue> bindValues = new ArrayList<>();
+        String sql = sqlQuery.toSqlAndTypes(bindValues).left;
+        assertThat(sql).contains("where x = ? and x = ?");
+        assertThat(bindValues).extracting(SqlQuery.BindValue::value)
+            .containsExactly("a", 5);
+    }
+
+    @Test
+    void testTooManyBindParametersAreInlined() {
+        doAnswer(invocation -> {
+            StringBuilder buf = invocation.getArgument(0);
+            buf.append((Object) invocation.getArgument(1));
+            return null;
+        }).when(dialect).quote(any(StringBuilder.class), any(), any(Datatype.class));
+        when(dialect.name()).thenReturn("mssql");
+        sqlQuery.setParameterized(true);
+        sqlQuery.addSelect("x", BestFitColumnType.INT, "c0");
+        sqlQuery.addFromQuery("select 1", "t", false);
+        int count = SqlQuery.maxBindParameters(dialect) + 1;
+        StringBuilder buf = new StringBuilder("x in (");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            sqlQuery.appendLiteral(buf, i, Datatype.INTEGER);
+        }
+        sqlQuery.addWhere(buf.append(')').toString());
+
+        List<SqlQuery.BindValue> bindValues = new ArrayList<>();
+        String sql = sqlQuery.toSqlAndTypes(bindValues).left;
+        assertThat(bindValues).isEmpty();
+        assertThat(sql).doesNotContain("?").contains("x in (0, 1, 2, ");
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.element;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.daanse.cwm.model.cwm.resource.relational.RelationalFactory;
+import org.eclipse.daanse.cwm.model.cwm.resource.relational.Table;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.rolap.common.AbstractRolapContext;
+import org.eclipse.daanse.rolap.common.ConnectionKey;
+import org.eclipse.daanse.rolap.common.agg.AggregationManager;
+import org.eclipse.daanse.rolap.common.agg.SegmentCacheManager;
+import org.eclipse.daanse.rolap.common.catalog.RolapCatalogContentKey;
+import org.eclipse.daanse.rolap.common.catalog.RolapCatalogKey;
+import org.eclipse.daanse.rolap.mapping.model.catalog.Catalog;
+import org.eclipse.daanse.rolap.mapping.model.catalog.CatalogFactory;
+import org.eclipse.daanse.rolap.mapping.model.database.source.SourceFactory;
+import org.eclipse.daanse.rolap.mapping.model.database.source.TableSource;
+import org.eclipse.daanse.rolap.mapping.model.olap.cube.Cube;
+import org.eclipse.daanse.rolap.mapping.model.olap.cube.CubeFactory;
+import org.eclipse.daanse.rolap.mapping.model.olap.cube.PhysicalCube;
+import org.eclipse.daanse.rolap.mapping.model.olap.cube.VirtualCube;
+import org.junit.jupiter.api.Test;
+
+class RolapCatalogParallelLoadTest {
+
+    private static final int FACTS = 8;
+    private static final int CUBES_PER_FACT = 3;
+    private static final int VIRTUAL_CUBES = 4;
+
+    @Test
+    void parallelLoadCreatesTheSameCubesAsSerialLoad() {
+        Catalog mappingCatalog = mappingCatalog();
+
+        Load serial = load(mappingCatalog, false);
+        Load parallel = load(mappingCatalog, true);
+
+        assertThat(serial.cubes()).hasSize(
+            FACTS * CUBES_PER_FACT + VIRTUAL_CUBES);
+        assertThat(parallel.cubes()).isEqualTo(serial.cubes());
+        assertThat(parallel.failures()).isEmpty();
+        assertThat(serial.failures()).isEmpty();
+    }
+
+    /**
+     * Cubes of a catalog by name, with the fact of each physical cube, and
+     * the ordering violations seen while they were created.
+     */
+    private record Load(Map<String, String> cubes, List<String> failures) {
+    }
+
+    /**
+     * Loads the cubes of a catalog mapping, reading the cubes of the catalog
+     * while they are added, as queries on a shared catalog would.
+     */
+    private static Load load(Catalog mappingCatalog, boolean parallel) {
+        RolapCatalog catalog = spy(createCatalog());
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        // Whether a cube on a fact is being created, by fact
+        Map<String, AtomicBoolean> busyFacts = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Cube cubeMapping = invocation.getArgument(1);
+            RolapCube cube = mock(RolapCube.class);
+            when(cube.getName()).thenReturn(cubeMapping.getName());
+            if (cubeMapping instanceof PhysicalCube physicalCube) {
+                String fact = ((TableSource) physicalCube.getQuery())
+                    .getTable().getName();
+                AtomicBoolean busy = busyFacts.computeIfAbsent(
+                    fact, f -> new AtomicBoolean());
+                if (!busy.compareAndSet(false, true)) {
+                    failures.add(fact + " shared by concurrent cubes");
+                }
+                Thread.sleep(5);
+                busy.set(false);
+            } else {
+                for (Cube baseCube : mappingCatalog.getCubes()) {
+                    if (baseCube instanceof PhysicalCube
+                        && catalog.lookupCube(baseCube) == null)
+                    {
+                        failures.add(cubeMapping.getName()
+                            + " created before " + baseCube.getName());
+                    }
+                }
+            }
+            // Iterate the cubes as another thread would while adding.
+            catalog.getCubeList();
+            catalog.getCubes();
+            catalog.lookupCube("no such cube");
+            catalog.addCube(cubeMapping, cube);
+            return null;
+        }).when(catalog).createCube(any(), any());
+
+        catalog.createCubes(mappingCatalog, parallel);
+
+        Map<String, String> cubes = new TreeMap<>();
+        for (Cube cubeMapping : mappingCatalog.getCubes()) {
+            RolapCube cube = catalog.lookupCube(cubeMapping);
+            if (cube != null) {
+                cubes.put(cube.getName(),
+                    cubeMapping instanceof PhysicalCube physicalCube
+                        ? ((TableSource) physicalCube.getQuery())
+                            .getTable().getName()
+                        : "virtual");
+            }
+        }
+        assertThat(catalog.getCubeList()).hasSize(cubes.size());
+        return new Load(cubes, new ArrayList<>(failures));
+    }
+
+    private static Catalog mappingCatalog() {
+        Catalog mappingCatalog = CatalogFactory.eINSTANCE.createCatalog();
+        mappingCatalog.setName("catalog");
+        for (int i = 0; i < FACTS; i++) {
+            Table table = RelationalFactory.eINSTANCE.createTable();
+            table.setName("fact" + i);
+            for (int j = 0; j < CUBES_PER_FACT; j++) {
+                TableSource fact = SourceFactory.eINSTANCE.createTableSource();
+                fact.setTable(table);
+                PhysicalCube cube = CubeFactory.eINSTANCE.createPhysicalCube();
+                cube.setName("cube" + i + "_" + j);
+                cube.setQuery(fact);
+                mappingCatalog.getCubes().add(cube);
+            }
+        }
+        for (int i = 0; i < VIRTUAL_CUBES; i++) {
+            VirtualCube cube = CubeFactory.eINSTANCE.createVirtualCube();
+            cube.setName("virtual" + i);
+            mappingCatalog.getCubes().add(cube);
+        }
+        return mappingCatalog;
+    }
+
+    private static RolapCatalog createCatalog() {
+        RolapCatalogKey key = new RolapCatalogKey(
+            new RolapCatalogContentKey("test", 1), new ConnectionKey(1, "1"));
+        AbstractRolapContext contextMock = mock(AbstractRolapContext.class);
+        Connection connectionMock = mock(Connection.class);
+        AggregationManager aggManagerMock = mock(AggregationManager.class);
+        when(connectionMock.getContext()).thenReturn(contextMock);
+        when(contextMock.getAggregationManager()).thenReturn(aggManagerMock);
+        when(aggManagerMock.getCacheMgr(connectionMock))
+            .thenReturn(mock(SegmentCacheManager.class));
+        return new RolapCatalog(key, connectionMock, contextMock);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testcase for {@link ValuePool}.
+ */
+class ValuePoolTest {
+
+    @Test
+    void equalValuesShareOneInstance() {
+        ValuePool pool = new ValuePool(10);
+        String first = new String("SKU-4711");
+        String second = new String("SKU-4711");
+
+        assertThat(pool.intern(first)).isSameAs(first);
+        assertThat(pool.intern(second)).isSameAs(first);
+        BigDecimal amount = new BigDecimal("1.50");
+        assertThat(pool.intern(amount)).isSameAs(amount);
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.getHitCount()).isEqualTo(1);
+        assertThat(pool.getMissCount()).isEqualTo(2);
+        assertThat(pool.getBytesSaved()).isEqualTo(ValuePool.estimateSize(second));
+    }
+
+    @Test
+    void fullPoolReturnsNewValuesAsTheyAre() {
+        ValuePool pool = new ValuePool(1);
+        String first = new String("a");
+        String second = new String("b");
+
+        pool.intern(first);
+
+        assertThat(pool.intern(second)).isSameAs(second);
+        assertThat(pool.intern(new String("a"))).isSameAs(first);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void mutableValuesAreNotPooled() {
+        ValuePool pool = new ValuePool(10);
+        Date date = new Date(0);
+
+        assertThat(pool.intern(date)).isSameAs(date);
+        assertThat(pool.intern(new Date(0))).isNotSameAs(date);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void internUsesOtherMapsAsValuePools() {
+        Map<Object, Object> map = new HashMap<>();
+        String first = new String("x");
+
+        assertThat(ValuePool.intern(Optional.of(map), first)).isSameAs(first);
+        assertThat(ValuePool.intern(Optional.of(map), new String("x"))).isSameAs(first);
+        assertThat(ValuePool.intern(Optional.empty(), first)).isSameAs(first);
+    }
+}
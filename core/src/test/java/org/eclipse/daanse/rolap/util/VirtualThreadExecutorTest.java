@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.rolap.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadExecutorTest {
+
+    @Test
+    void runningTasksAreLimited() throws Exception {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test", 2);
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maximum = new AtomicInteger();
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> {
+                    maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        return Thread.currentThread().isVirtual()
+                            && release.await(10, TimeUnit.SECONDS);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }));
+            }
+            while (executor.getWaitingCount() < 998) {
+                Thread.sleep(10);
+            }
+            assertThat(executor.getRunningCount()).isEqualTo(2);
+
+            release.countDown();
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(maximum.get()).isEqualTo(2);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}